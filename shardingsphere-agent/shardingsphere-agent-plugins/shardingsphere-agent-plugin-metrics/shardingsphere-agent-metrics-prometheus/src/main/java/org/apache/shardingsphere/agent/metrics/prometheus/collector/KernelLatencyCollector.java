@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.statistics.KernelLatencyRecorder;
+import org.apache.shardingsphere.infra.statistics.KernelLatencyStatistics;
+import org.apache.shardingsphere.infra.statistics.LatencyHistogramSnapshot;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Kernel latency collector.
+ */
+public final class KernelLatencyCollector extends Collector {
+    
+    private static final String COUNT = "count";
+    
+    private static final String MEAN_SECONDS = "mean_seconds";
+    
+    private static final String P50_SECONDS = "p50_seconds";
+    
+    private static final String P90_SECONDS = "p90_seconds";
+    
+    private static final String P99_SECONDS = "p99_seconds";
+    
+    private static final String P999_SECONDS = "p999_seconds";
+    
+    private static final String MAX_SECONDS = "max_seconds";
+    
+    private static final String KERNEL_LATENCY_RECORDER_CLASS = "org.apache.shardingsphere.infra.statistics.KernelLatencyRecorder";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        Optional<GaugeMetricFamily> kernelLatencyInfo = FACTORY.createGaugeMetricFamily(MetricIds.KERNEL_LATENCY_INFO);
+        if (!kernelLatencyInfo.isPresent() || !MetricsUtil.isClassExisted(KERNEL_LATENCY_RECORDER_CLASS)) {
+            return Collections.emptyList();
+        }
+        for (KernelLatencyStatistics each : KernelLatencyRecorder.getStatistics()) {
+            addMetric(kernelLatencyInfo.get(), each);
+        }
+        return Collections.singletonList(kernelLatencyInfo.get());
+    }
+    
+    private void addMetric(final GaugeMetricFamily metricFamily, final KernelLatencyStatistics statistics) {
+        String stage = statistics.getStage().name();
+        String scope = statistics.getScope();
+        LatencyHistogramSnapshot snapshot = statistics.getSnapshot();
+        metricFamily.addMetric(Arrays.asList(stage, scope, COUNT), snapshot.getCount());
+        metricFamily.addMetric(Arrays.asList(stage, scope, MEAN_SECONDS), snapshot.getMeanNanos() / NANOSECONDS_PER_SECOND);
+        metricFamily.addMetric(Arrays.asList(stage, scope, P50_SECONDS), snapshot.getValueAtPercentile(50D) / NANOSECONDS_PER_SECOND);
+        metricFamily.addMetric(Arrays.asList(stage, scope, P90_SECONDS), snapshot.getValueAtPercentile(90D) / NANOSECONDS_PER_SECOND);
+        metricFamily.addMetric(Arrays.asList(stage, scope, P99_SECONDS), snapshot.getValueAtPercentile(99D) / NANOSECONDS_PER_SECOND);
+        metricFamily.addMetric(Arrays.asList(stage, scope, P999_SECONDS), snapshot.getValueAtPercentile(99.9D) / NANOSECONDS_PER_SECOND);
+        metricFamily.addMetric(Arrays.asList(stage, scope, MAX_SECONDS), snapshot.getMaxNanos() / NANOSECONDS_PER_SECOND);
+    }
+}
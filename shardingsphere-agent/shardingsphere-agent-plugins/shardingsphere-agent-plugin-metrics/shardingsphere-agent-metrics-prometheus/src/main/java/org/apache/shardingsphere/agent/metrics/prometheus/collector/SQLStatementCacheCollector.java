@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheStatistics;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL statement cache collector.
+ */
+public final class SQLStatementCacheCollector extends Collector {
+    
+    private static final String HIT_COUNT = "hit_count";
+    
+    private static final String MISS_COUNT = "miss_count";
+    
+    private static final String EVICTION_COUNT = "eviction_count";
+    
+    private static final String TOTAL_LOAD_TIME_SECONDS = "total_load_time_seconds";
+    
+    private static final String ENTRY_COUNT = "entry_count";
+    
+    private static final String WEIGHTED_SIZE = "weighted_size";
+    
+    private static final String PARSER_ENGINE_FACTORY_CLASS = "org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        Optional<GaugeMetricFamily> sqlStatementCacheInfo = FACTORY.createGaugeMetricFamily(MetricIds.SQL_STATEMENT_CACHE_INFO);
+        if (!sqlStatementCacheInfo.isPresent() || !MetricsUtil.isClassExisted(PARSER_ENGINE_FACTORY_CLASS)) {
+            return Collections.emptyList();
+        }
+        for (SQLStatementCacheStatistics each : SQLStatementParserEngineFactory.getSQLStatementCacheStatistics()) {
+            addMetric(sqlStatementCacheInfo.get(), each);
+        }
+        return Collections.singletonList(sqlStatementCacheInfo.get());
+    }
+    
+    private void addMetric(final GaugeMetricFamily metricFamily, final SQLStatementCacheStatistics statistics) {
+        String databaseType = statistics.getDatabaseType();
+        metricFamily.addMetric(Arrays.asList(databaseType, HIT_COUNT), statistics.getHitCount());
+        metricFamily.addMetric(Arrays.asList(databaseType, MISS_COUNT), statistics.getMissCount());
+        metricFamily.addMetric(Arrays.asList(databaseType, EVICTION_COUNT), statistics.getEvictionCount());
+        metricFamily.addMetric(Arrays.asList(databaseType, TOTAL_LOAD_TIME_SECONDS), statistics.getTotalLoadTime() / NANOSECONDS_PER_SECOND);
+        metricFamily.addMetric(Arrays.asList(databaseType, ENTRY_COUNT), statistics.getEntryCount());
+        metricFamily.addMetric(Arrays.asList(databaseType, WEIGHTED_SIZE), statistics.getWeightedSize());
+    }
+}
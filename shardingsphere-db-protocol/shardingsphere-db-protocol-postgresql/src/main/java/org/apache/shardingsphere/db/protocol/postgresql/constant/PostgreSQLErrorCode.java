@@ -50,10 +50,15 @@ public enum PostgreSQLErrorCode {
     DUPLICATE_DATABASE("42P04", "Database '%s' already exists"),
     INVALID_AUTHORIZATION_SPECIFICATION("28000", "invalid_authorization_specification"),
     INVALID_PARAMETER_VALUE("22023", "invalid_parameter_value"),
+    NULL_VALUE_NOT_ALLOWED("22004", "null_value_not_allowed"),
+    BAD_COPY_FILE_FORMAT("22P04", "bad_copy_file_format"),
+    ACTIVE_SQL_TRANSACTION("25001", "active_sql_transaction"),
     INVALID_PASSWORD("28P01", "invalid_password"),
     INVALID_CATALOG_NAME("3D000", "invalid_catalog_name"),
     INVALID_SCHEMA_NAME("3F000", "invalid_schema_name"),
     UNDEFINED_COLUMN("42703", "undefined_column"),
+    UNDEFINED_TABLE("42P01", "undefined_table"),
+    QUERY_CANCELED("57014", "query_canceled"),
     SYSTEM_ERROR("58000", "system_error");
     
     private final String errorCode;
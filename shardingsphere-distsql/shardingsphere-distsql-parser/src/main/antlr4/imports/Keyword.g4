@@ -183,6 +183,18 @@ SQL_PARSER
     : S Q L UL_ P A R S E R
     ;
 
+STATISTICS
+    : S T A T I S T I C S
+    ;
+
+KERNEL_LATENCY
+    : K E R N E L UL_ L A T E N C Y
+    ;
+
+SQL_DIGEST
+    : S Q L UL_ D I G E S T
+    ;
+
 AUTHORITY
     : A U T H O R I T Y
     ;
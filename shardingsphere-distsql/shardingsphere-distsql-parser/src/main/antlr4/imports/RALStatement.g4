@@ -75,6 +75,18 @@ showSQLParserRule
     : SHOW SQL_PARSER RULE
     ;
 
+showSQLParserStatistics
+    : SHOW SQL_PARSER STATISTICS
+    ;
+
+showKernelLatencyStatistics
+    : SHOW KERNEL_LATENCY STATISTICS
+    ;
+
+showSQLDigestStatistics
+    : SHOW SQL_DIGEST STATISTICS
+    ;
+
 alterSQLParserRule
     : ALTER SQL_PARSER RULE sqlParserRuleDefinition
     ;
@@ -49,6 +49,9 @@ execute
     | refreshTableMetadata
     | showTableMetadata
     | showSQLParserRule
+    | showSQLParserStatistics
+    | showKernelLatencyStatistics
+    | showSQLDigestStatistics
     | alterSQLParserRule
     | showAuthorityRule
     | showTransactionRule
@@ -62,9 +62,12 @@ import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementPa
 import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementParser.ShowAuthorityRuleContext;
 import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementParser.ShowInstanceContext;
 import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementParser.ShowInstanceModeContext;
+import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementParser.ShowKernelLatencyStatisticsContext;
+import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementParser.ShowSQLDigestStatisticsContext;
 import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementParser.ShowResourcesContext;
 import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementParser.ShowRulesUsedResourceContext;
 import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementParser.ShowSQLParserRuleContext;
+import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementParser.ShowSQLParserStatisticsContext;
 import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementParser.ShowSingleTableContext;
 import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementParser.ShowSingleTableRulesContext;
 import org.apache.shardingsphere.distsql.parser.autogen.CommonDistSQLStatementParser.ShowTableMetadataContext;
@@ -87,7 +90,10 @@ import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.E
 import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowAuthorityRuleStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowInstanceModeStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowInstanceStatement;
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowKernelLatencyStatisticsStatement;
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowSQLDigestStatisticsStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowSQLParserRuleStatement;
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowSQLParserStatisticsStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowTableMetadataStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowTrafficRulesStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowTransactionRuleStatement;
@@ -357,6 +363,21 @@ public final class CommonDistSQLStatementVisitor extends CommonDistSQLStatementB
         return new ShowSQLParserRuleStatement();
     }
     
+    @Override
+    public ASTNode visitShowSQLParserStatistics(final ShowSQLParserStatisticsContext ctx) {
+        return new ShowSQLParserStatisticsStatement();
+    }
+    
+    @Override
+    public ASTNode visitShowKernelLatencyStatistics(final ShowKernelLatencyStatisticsContext ctx) {
+        return new ShowKernelLatencyStatisticsStatement();
+    }
+    
+    @Override
+    public ASTNode visitShowSQLDigestStatistics(final ShowSQLDigestStatisticsContext ctx) {
+        return new ShowSQLDigestStatisticsStatement();
+    }
+    
     @Override
     public ASTNode visitAlterSQLParserRule(final AlterSQLParserRuleContext ctx) {
         return super.visit(ctx.sqlParserRuleDefinition());
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.cipher;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Thread local cipher pool.
+ *
+ * <p>Cipher is not thread safe and creating it costs a provider lookup and a key schedule, so initialized ciphers are cached per thread, per pool and per mode.
+ * Ciphers of all pools share static thread locals whose maps hold pools weakly, so a discarded algorithm does not leave its ciphers behind on pooled threads.
+ * Cipher resets to its initialized state after {@code doFinal}, the cached one is discarded only if {@code doFinal} fails.</p>
+ */
+@RequiredArgsConstructor
+public final class ThreadLocalCipherPool {
+    
+    private static final ThreadLocal<Map<ThreadLocalCipherPool, Cipher>> ENCRYPT_CIPHERS = ThreadLocal.withInitial(WeakHashMap::new);
+    
+    private static final ThreadLocal<Map<ThreadLocalCipherPool, Cipher>> DECRYPT_CIPHERS = ThreadLocal.withInitial(WeakHashMap::new);
+    
+    private final CipherFactory cipherFactory;
+    
+    /**
+     * Encrypt or decrypt with cipher of current thread.
+     *
+     * @param mode cipher mode, {@code Cipher.ENCRYPT_MODE} or {@code Cipher.DECRYPT_MODE}
+     * @param input input bytes
+     * @return output bytes
+     * @throws GeneralSecurityException general security exception
+     */
+    public byte[] doFinal(final int mode, final byte[] input) throws GeneralSecurityException {
+        Map<ThreadLocalCipherPool, Cipher> ciphers = Cipher.ENCRYPT_MODE == mode ? ENCRYPT_CIPHERS.get() : DECRYPT_CIPHERS.get();
+        Cipher cipher = ciphers.get(this);
+        if (null == cipher) {
+            cipher = cipherFactory.create(mode);
+            ciphers.put(this, cipher);
+        }
+        try {
+            return cipher.doFinal(input);
+        } catch (final GeneralSecurityException | IllegalStateException ex) {
+            ciphers.remove(this);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Cipher factory.
+     */
+    public interface CipherFactory {
+        
+        /**
+         * Create initialized cipher.
+         *
+         * @param mode cipher mode
+         * @return initialized cipher
+         * @throws GeneralSecurityException general security exception
+         */
+        Cipher create(int mode) throws GeneralSecurityException;
+    }
+}
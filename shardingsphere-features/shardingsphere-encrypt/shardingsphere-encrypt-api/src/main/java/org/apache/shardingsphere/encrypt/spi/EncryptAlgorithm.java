@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.spi;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm.
  * 
@@ -45,4 +48,19 @@ public interface EncryptAlgorithm<I, O> extends ShardingSphereAlgorithm {
      * @return plain value
      */
     I decrypt(O cipherValue, EncryptContext encryptContext);
+    
+    /**
+     * Encode values in batch.
+     *
+     * @param plainValues plain values
+     * @param encryptContext encrypt context
+     * @return cipher values, null plain value is kept as null
+     */
+    default List<O> batchEncrypt(final List<I> plainValues, final EncryptContext encryptContext) {
+        List<O> result = new ArrayList<>(plainValues.size());
+        for (I each : plainValues) {
+            result.add(null == each ? null : encrypt(each, encryptContext));
+        }
+        return result;
+    }
 }
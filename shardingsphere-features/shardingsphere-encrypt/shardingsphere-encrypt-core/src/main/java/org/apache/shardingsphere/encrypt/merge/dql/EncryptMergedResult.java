@@ -71,4 +71,9 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void terminate() throws SQLException {
+        mergedResult.terminate();
+    }
 }
@@ -37,7 +37,6 @@ import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -190,22 +189,12 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      * @param originalValues original values
      * @return encrypt values
      */
-    @SuppressWarnings("rawtypes")
+    @SuppressWarnings({"rawtypes", "unchecked"})
     public List<Object> getEncryptValues(final String databaseName, final String schemaName, final String logicTable, final String logicColumn, final List<Object> originalValues) {
         Optional<EncryptAlgorithm> encryptor = findEncryptor(logicTable, logicColumn);
         EncryptContext encryptContext = EncryptContextBuilder.build(databaseName, schemaName, logicTable, logicColumn);
         Preconditions.checkArgument(encryptor.isPresent(), "Can not find EncryptAlgorithm by %s.%s.", logicTable, logicColumn);
-        return getEncryptValues(encryptor.get(), originalValues, encryptContext);
-    }
-    
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private List<Object> getEncryptValues(final EncryptAlgorithm encryptor, final List<Object> originalValues, final EncryptContext encryptContext) {
-        List<Object> result = new LinkedList<>();
-        for (Object each : originalValues) {
-            Object encryptValue = null == each ? null : encryptor.encrypt(each, encryptContext);
-            result.add(encryptValue);
-        }
-        return result;
+        return encryptor.get().batchEncrypt(originalValues, encryptContext);
     }
     
     /**
@@ -262,21 +251,12 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      * @param originalValues original values
      * @return assisted query values
      */
-    @SuppressWarnings("rawtypes")
+    @SuppressWarnings({"rawtypes", "unchecked"})
     public List<Object> getEncryptAssistedQueryValues(final String databaseName, final String schemaName, final String logicTable, final String logicColumn, final List<Object> originalValues) {
         Optional<EncryptAlgorithm> encryptor = findAssistedQueryEncryptor(logicTable, logicColumn);
         EncryptContext encryptContext = EncryptContextBuilder.build(databaseName, schemaName, logicTable, logicColumn);
         Preconditions.checkArgument(encryptor.isPresent(), "Can not find assist encryptor by %s.%s.", logicTable, logicColumn);
-        return getEncryptAssistedQueryValues(encryptor.get(), originalValues, encryptContext);
-    }
-    
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private List<Object> getEncryptAssistedQueryValues(final EncryptAlgorithm encryptor, final List<Object> originalValues, final EncryptContext encryptContext) {
-        List<Object> result = new LinkedList<>();
-        for (Object each : originalValues) {
-            result.add(null == each ? null : encryptor.encrypt(each, encryptContext));
-        }
-        return result;
+        return encryptor.get().batchEncrypt(originalValues, encryptContext);
     }
     
     /**
@@ -24,11 +24,22 @@ import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmC
 import org.junit.Before;
 import org.junit.Test;
 
+import javax.crypto.IllegalBlockSizeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class AESEncryptAlgorithmTest {
@@ -72,4 +83,38 @@ public final class AESEncryptAlgorithmTest {
     public void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
     }
+    
+    @Test
+    public void assertBatchEncrypt() {
+        assertThat(encryptAlgorithm.batchEncrypt(Arrays.asList("test", null, "test"), mock(EncryptContext.class)), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    public void assertDecryptAfterFailure() {
+        try {
+            encryptAlgorithm.decrypt("dGVzdA==", mock(EncryptContext.class));
+            fail("Expected IllegalBlockSizeException");
+        } catch (final Exception ex) {
+            assertThat(ex, instanceOf(IllegalBlockSizeException.class));
+        }
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(EncryptContext.class)).toString(), is("test"));
+    }
+    
+    @Test
+    public void assertEncryptAndDecryptWithMultipleThreads() throws ExecutionException, InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Collection<Future<Object>> futures = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            String plainValue = "test_" + i;
+            futures.add(executor.submit(() -> encryptAlgorithm.decrypt(encryptAlgorithm.encrypt(plainValue, mock(EncryptContext.class)), mock(EncryptContext.class))));
+        }
+        List<Object> actual = new ArrayList<>(100);
+        for (Future<Object> each : futures) {
+            actual.add(each.get());
+        }
+        executor.shutdown();
+        for (int i = 0; i < 100; i++) {
+            assertThat(actual.get(i), is("test_" + i));
+        }
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.encrypt.sm.algorithm;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.encrypt.cipher.ThreadLocalCipherPool;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
@@ -29,6 +30,7 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Security;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -70,6 +72,8 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     
     private String sm4ModePadding;
     
+    private ThreadLocalCipherPool cipherPool;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -78,6 +82,7 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         sm4ModePadding = "SM4/" + sm4Mode + "/" + sm4Padding;
         sm4Key = createSm4Key(props);
         sm4Iv = createSm4Iv(props, sm4Mode);
+        cipherPool = new ThreadLocalCipherPool(this::createCipher);
     }
     
     private String createSm4Mode(final Properties props) {
@@ -131,17 +136,21 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         return handle(cipherValue, Cipher.DECRYPT_MODE);
     }
     
-    @SneakyThrows
+    @SneakyThrows(GeneralSecurityException.class)
     private byte[] handle(final byte[] input, final int mode) {
-        Cipher cipher = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
+        return cipherPool.doFinal(mode, input);
+    }
+    
+    private Cipher createCipher(final int mode) throws GeneralSecurityException {
+        Cipher result = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
         SecretKeySpec secretKeySpec = new SecretKeySpec(sm4Key, "SM4");
         Optional<byte[]> sm4Iv = Optional.ofNullable(this.sm4Iv);
         if (sm4Iv.isPresent()) {
-            cipher.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv.get()));
+            result.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv.get()));
         } else {
-            cipher.init(mode, secretKeySpec);
+            result.init(mode, secretKeySpec);
         }
-        return cipher.doFinal(input);
+        return result;
     }
     
     @Override
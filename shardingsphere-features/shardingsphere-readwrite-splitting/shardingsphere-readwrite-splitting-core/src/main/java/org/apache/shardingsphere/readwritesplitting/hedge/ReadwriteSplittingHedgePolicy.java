@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hedge;
+
+import org.apache.shardingsphere.infra.route.context.HedgedRead;
+import org.apache.shardingsphere.infra.statistics.LatencyHistogram;
+import org.apache.shardingsphere.infra.statistics.LatencyHistogramSnapshot;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Readwrite-splitting hedge policy.
+ *
+ * <p>Hedge delay of replica is the configured percentile of its first response latencies, hedging is paused until enough latencies are recorded.
+ * Hedging budget is a token bucket, every executed read which is eligible to be hedged adds {@code hedge-budget-percent} percent of a token,
+ * every fired hedge takes one token.</p>
+ */
+public final class ReadwriteSplittingHedgePolicy {
+    
+    public static final String DELAY_PERCENTILE_KEY = "hedge-delay-percentile";
+    
+    public static final String BUDGET_PERCENT_KEY = "hedge-budget-percent";
+    
+    private static final String DEFAULT_BUDGET_PERCENT = "5";
+    
+    private static final long TOKEN = 10000L;
+    
+    private static final long MAX_TOKENS = 10L * TOKEN;
+    
+    private static final long MIN_SAMPLES = 100L;
+    
+    private static final long REFRESH_INTERVAL = 64L;
+    
+    private static final long WINDOW_SIZE = 10000L;
+    
+    private final double delayPercentile;
+    
+    private final long tokensPerRead;
+    
+    private final AtomicLong tokens = new AtomicLong();
+    
+    private final Map<String, ReplicaLatency> replicaLatencies = new ConcurrentHashMap<>();
+    
+    public ReadwriteSplittingHedgePolicy(final Properties props) {
+        delayPercentile = Double.parseDouble(props.getProperty(DELAY_PERCENTILE_KEY, "0"));
+        tokensPerRead = Math.round(Double.parseDouble(props.getProperty(BUDGET_PERCENT_KEY, DEFAULT_BUDGET_PERCENT)) * TOKEN / 100D);
+    }
+    
+    /**
+     * Judge whether hedging is enabled.
+     *
+     * @return hedging is enabled or not
+     */
+    public boolean isEnabled() {
+        return delayPercentile > 0D && tokensPerRead > 0L;
+    }
+    
+    /**
+     * Create hedged read.
+     *
+     * @param routedDataSourceName routed data source name
+     * @param replicaDataSourceNames enabled replica data source names
+     * @return created hedged read, empty if routed data source is not a replica or there is no other replica
+     */
+    public Optional<HedgedRead> createHedgedRead(final String routedDataSourceName, final List<String> replicaDataSourceNames) {
+        if (!isEnabled() || replicaDataSourceNames.size() < 2) {
+            return Optional.empty();
+        }
+        int index = replicaDataSourceNames.indexOf(routedDataSourceName);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new ReadwriteSplittingHedgedRead(this, routedDataSourceName, replicaDataSourceNames.get((index + 1) % replicaDataSourceNames.size())));
+    }
+    
+    void addTokens() {
+        long current = tokens.get();
+        while (current < MAX_TOKENS && !tokens.compareAndSet(current, Math.min(current + tokensPerRead, MAX_TOKENS))) {
+            current = tokens.get();
+        }
+    }
+    
+    boolean tryAcquire() {
+        long current = tokens.get();
+        while (current >= TOKEN) {
+            if (tokens.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+            current = tokens.get();
+        }
+        return false;
+    }
+    
+    long getDelayNanos(final String dataSourceName) {
+        ReplicaLatency replicaLatency = replicaLatencies.get(dataSourceName);
+        return null == replicaLatency ? -1L : replicaLatency.delayNanos;
+    }
+    
+    void recordFirstResponse(final String dataSourceName, final long nanos) {
+        ReplicaLatency replicaLatency = replicaLatencies.get(dataSourceName);
+        if (null == replicaLatency) {
+            replicaLatency = replicaLatencies.computeIfAbsent(dataSourceName, key -> new ReplicaLatency());
+        }
+        replicaLatency.record(nanos, delayPercentile);
+    }
+    
+    private static final class ReplicaLatency {
+        
+        private final AtomicLong recordCount = new AtomicLong();
+        
+        private volatile LatencyHistogram histogram = new LatencyHistogram();
+        
+        private volatile long delayNanos = -1L;
+        
+        private void record(final long nanos, final double percentile) {
+            histogram.record(nanos);
+            if (0L != recordCount.incrementAndGet() % REFRESH_INTERVAL) {
+                return;
+            }
+            LatencyHistogramSnapshot snapshot = histogram.snapshot();
+            if (snapshot.getCount() >= MIN_SAMPLES) {
+                delayNanos = snapshot.getValueAtPercentile(percentile);
+            }
+            if (snapshot.getCount() >= WINDOW_SIZE) {
+                histogram = new LatencyHistogram();
+            }
+        }
+    }
+}
@@ -21,8 +21,11 @@ import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.context.HedgedRead;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRouteStageContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteStageContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingOrder;
 import org.apache.shardingsphere.readwritesplitting.route.impl.ReadwriteSplittingDataSourceRouter;
@@ -31,6 +34,7 @@ import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Optional;
 
@@ -45,6 +49,7 @@ public final class ReadwriteSplittingSQLRouter implements SQLRouter<ReadwriteSpl
         ReadwriteSplittingDataSourceRule singleDataSourceRule = rule.getSingleDataSourceRule();
         String dataSourceName = new ReadwriteSplittingDataSourceRouter(singleDataSourceRule).route(logicSQL.getSqlStatementContext());
         result.getRouteUnits().add(new RouteUnit(new RouteMapper(singleDataSourceRule.getName(), dataSourceName), Collections.emptyList()));
+        prepareHedgedRead(result, singleDataSourceRule, dataSourceName);
         return result;
     }
     
@@ -60,12 +65,24 @@ public final class ReadwriteSplittingSQLRouter implements SQLRouter<ReadwriteSpl
                 toBeRemoved.add(each);
                 String actualDataSourceName = new ReadwriteSplittingDataSourceRouter(dataSourceRule.get()).route(logicSQL.getSqlStatementContext());
                 toBeAdded.add(new RouteUnit(new RouteMapper(each.getDataSourceMapper().getLogicName(), actualDataSourceName), each.getTableMappers()));
+                prepareHedgedRead(routeContext, dataSourceRule.get(), actualDataSourceName);
             }
         }
         routeContext.getRouteUnits().removeAll(toBeRemoved);
         routeContext.getRouteUnits().addAll(toBeAdded);
     }
     
+    private void prepareHedgedRead(final RouteContext routeContext, final ReadwriteSplittingDataSourceRule dataSourceRule, final String actualDataSourceName) {
+        if (!dataSourceRule.getHedgePolicy().isEnabled()) {
+            return;
+        }
+        Optional<HedgedRead> hedgedRead = dataSourceRule.getHedgePolicy().createHedgedRead(actualDataSourceName, dataSourceRule.getEnabledReplicaDataSources());
+        if (hedgedRead.isPresent()) {
+            RouteStageContext routeStageContext = routeContext.getRouteStageContexts().computeIfAbsent(ReadwriteSplittingRule.class, key -> new HedgedReadRouteStageContext(new HashMap<>()));
+            ((HedgedReadRouteStageContext) routeStageContext).getHedgedReads().put(actualDataSourceName, hedgedRead.get());
+        }
+    }
+    
     @Override
     public int getOrder() {
         return ReadwriteSplittingOrder.ORDER;
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.hedge;
+
+import org.apache.shardingsphere.infra.route.context.HedgedRead;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReadwriteSplittingHedgePolicyTest {
+    
+    private final List<String> replicaDataSourceNames = Arrays.asList("read_ds_0", "read_ds_1");
+    
+    @Test
+    public void assertCreateHedgedReadWhenDisabled() {
+        ReadwriteSplittingHedgePolicy policy = new ReadwriteSplittingHedgePolicy(new Properties());
+        assertFalse(policy.isEnabled());
+        assertFalse(policy.createHedgedRead("read_ds_0", replicaDataSourceNames).isPresent());
+    }
+    
+    @Test
+    public void assertCreateHedgedRead() {
+        ReadwriteSplittingHedgePolicy policy = new ReadwriteSplittingHedgePolicy(createProperties("95", "5"));
+        assertTrue(policy.isEnabled());
+        Optional<HedgedRead> actual = policy.createHedgedRead("read_ds_1", replicaDataSourceNames);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getHedgeDataSourceName(), is("read_ds_0"));
+        assertThat(actual.get().getDelayNanos(), is(-1L));
+    }
+    
+    @Test
+    public void assertCreateHedgedReadWithoutOtherReplica() {
+        ReadwriteSplittingHedgePolicy policy = new ReadwriteSplittingHedgePolicy(createProperties("95", "5"));
+        assertFalse(policy.createHedgedRead("read_ds_0", Collections.singletonList("read_ds_0")).isPresent());
+        assertFalse(policy.createHedgedRead("write_ds", replicaDataSourceNames).isPresent());
+    }
+    
+    @Test
+    public void assertGetDelayNanos() {
+        ReadwriteSplittingHedgePolicy policy = new ReadwriteSplittingHedgePolicy(createProperties("50", "5"));
+        HedgedRead hedgedRead = policy.createHedgedRead("read_ds_0", replicaDataSourceNames).orElseThrow(IllegalStateException::new);
+        for (int i = 0; i < 64; i++) {
+            hedgedRead.recordFirstResponse("read_ds_0", 50000L);
+        }
+        assertThat(hedgedRead.getDelayNanos(), is(-1L));
+        for (int i = 0; i < 64; i++) {
+            hedgedRead.recordFirstResponse("read_ds_0", 50000L);
+        }
+        assertThat(hedgedRead.getDelayNanos(), is(50000L));
+    }
+    
+    @Test
+    public void assertTryAcquire() {
+        ReadwriteSplittingHedgePolicy policy = new ReadwriteSplittingHedgePolicy(createProperties("95", "50"));
+        HedgedRead hedgedRead = policy.createHedgedRead("read_ds_0", replicaDataSourceNames).orElseThrow(IllegalStateException::new);
+        policy.createHedgedRead("read_ds_0", replicaDataSourceNames);
+        hedgedRead.addBudget();
+        assertFalse(hedgedRead.tryAcquire());
+        hedgedRead.addBudget();
+        assertTrue(hedgedRead.tryAcquire());
+        assertFalse(hedgedRead.tryAcquire());
+    }
+    
+    private Properties createProperties(final String delayPercentile, final String budgetPercent) {
+        Properties result = new Properties();
+        result.setProperty(ReadwriteSplittingHedgePolicy.DELAY_PERCENTILE_KEY, delayPercentile);
+        result.setProperty(ReadwriteSplittingHedgePolicy.BUDGET_PERCENT_KEY, budgetPercent);
+        return result;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.algorithm.InstanceAwareAlgorithm;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent snowflake key generate algorithm.
+ *
+ * <pre>
+ *     Layout of key is same as snowflake key generate algorithm.
+ *     The 12 bits sequence is split into 2 bits stripe and 10 bits auto increment offset in one mills.
+ *     Stripe is chosen by current thread, each stripe advances its own state by CAS instead of lock.
+ *     Batch generation reserves a range of auto increment offset in one CAS.
+ * </pre>
+ */
+public final class ConcurrentSnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceAwareAlgorithm {
+    
+    private static final String MAX_VIBRATION_OFFSET_KEY = "max-vibration-offset";
+    
+    private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY = "max-tolerate-time-difference-milliseconds";
+    
+    private static final long SEQUENCE_BITS = 12L;
+    
+    private static final long STRIPE_BITS = 2L;
+    
+    private static final long STRIPE_SEQUENCE_BITS = SEQUENCE_BITS - STRIPE_BITS;
+    
+    private static final long STRIPE_SEQUENCE_MASK = (1L << STRIPE_SEQUENCE_BITS) - 1;
+    
+    private static final int STRIPE_MASK = (1 << STRIPE_BITS) - 1;
+    
+    private static final int STRIPE_PADDING = 8;
+    
+    private static final long WORKER_ID_BITS = 10L;
+    
+    private static final long WORKER_ID_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
+    
+    private static final long WORKER_ID_MAX_VALUE = 1L << WORKER_ID_BITS;
+    
+    private static final int DEFAULT_VIBRATION_VALUE = 1;
+    
+    private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
+    
+    private static final long DEFAULT_WORKER_ID = 0;
+    
+    @Setter
+    private static TimeService timeService = new TimeService();
+    
+    @Getter
+    private Properties props;
+    
+    private int maxVibrationOffset;
+    
+    private int maxTolerateTimeDifferenceMilliseconds;
+    
+    private final AtomicLongArray stripeStates = new AtomicLongArray((STRIPE_MASK + 1) * STRIPE_PADDING);
+    
+    @Setter
+    private InstanceContext instanceContext;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        maxVibrationOffset = getMaxVibrationOffset(props);
+        maxTolerateTimeDifferenceMilliseconds = getMaxTolerateTimeDifferenceMilliseconds(props);
+    }
+    
+    private int getMaxVibrationOffset(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_VIBRATION_OFFSET_KEY, DEFAULT_VIBRATION_VALUE).toString());
+        Preconditions.checkArgument(result >= 0 && result <= STRIPE_SEQUENCE_MASK, "Illegal max vibration offset.");
+        return result;
+    }
+    
+    private int getMaxTolerateTimeDifferenceMilliseconds(final Properties props) {
+        return Integer.parseInt(props.getOrDefault(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY, MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS).toString());
+    }
+    
+    @Override
+    public Long generateKey() {
+        Reservation reservation = reserve(1);
+        return toKey(reservation.getMilliseconds(), reservation.getFirstSequence(), getWorkerId());
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        long workerId = getWorkerId();
+        while (result.size() < count) {
+            Reservation reservation = reserve(count - result.size());
+            for (int i = 0; i < reservation.getCount(); i++) {
+                result.add(toKey(reservation.getMilliseconds(), reservation.getFirstSequence() + i, workerId));
+            }
+        }
+        return result;
+    }
+    
+    private Reservation reserve(final int count) {
+        int stripe = (int) Thread.currentThread().getId() & STRIPE_MASK;
+        int stateIndex = stripe * STRIPE_PADDING;
+        while (true) {
+            long state = stripeStates.get(stateIndex);
+            long lastMilliseconds = state >>> STRIPE_SEQUENCE_BITS;
+            long lastSequence = state & STRIPE_SEQUENCE_MASK;
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (currentMilliseconds < lastMilliseconds) {
+                waitTolerateTimeDifference(lastMilliseconds, currentMilliseconds);
+                continue;
+            }
+            if (currentMilliseconds == lastMilliseconds && STRIPE_SEQUENCE_MASK == lastSequence) {
+                continue;
+            }
+            long firstSequence = currentMilliseconds == lastMilliseconds ? lastSequence + 1 : (currentMilliseconds - SnowflakeKeyGenerateAlgorithm.EPOCH) % (maxVibrationOffset + 1);
+            int reservedCount = (int) Math.min(count, STRIPE_SEQUENCE_MASK - firstSequence + 1);
+            if (stripeStates.compareAndSet(stateIndex, state, currentMilliseconds << STRIPE_SEQUENCE_BITS | firstSequence + reservedCount - 1)) {
+                return new Reservation(currentMilliseconds, (long) stripe << STRIPE_SEQUENCE_BITS | firstSequence, reservedCount);
+            }
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void waitTolerateTimeDifference(final long lastMilliseconds, final long currentMilliseconds) {
+        long timeDifferenceMilliseconds = lastMilliseconds - currentMilliseconds;
+        Preconditions.checkState(timeDifferenceMilliseconds < maxTolerateTimeDifferenceMilliseconds,
+                "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds, currentMilliseconds);
+        Thread.sleep(timeDifferenceMilliseconds);
+    }
+    
+    private long toKey(final long milliseconds, final long sequence, final long workerId) {
+        return ((milliseconds - SnowflakeKeyGenerateAlgorithm.EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long getWorkerId() {
+        if (null == instanceContext) {
+            return DEFAULT_WORKER_ID;
+        }
+        long result = instanceContext.getWorkerId();
+        Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE, "Illegal worker id.");
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "CONCURRENT_SNOWFLAKE";
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Reservation {
+        
+        private final long milliseconds;
+        
+        private final long firstSequence;
+        
+        private final int count;
+    }
+}
@@ -55,4 +55,12 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
         }
         return hasNext;
     }
+    
+    @Override
+    public void terminate() throws SQLException {
+        getCurrentQueryResult().cancel();
+        while (queryResults.hasNext()) {
+            queryResults.next().cancel();
+        }
+    }
 }
@@ -80,4 +80,11 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
         setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
         return true;
     }
+    
+    @Override
+    public void terminate() throws SQLException {
+        while (!orderByValuesQueue.isEmpty()) {
+            orderByValuesQueue.poll().getQueryResult().cancel();
+        }
+    }
 }
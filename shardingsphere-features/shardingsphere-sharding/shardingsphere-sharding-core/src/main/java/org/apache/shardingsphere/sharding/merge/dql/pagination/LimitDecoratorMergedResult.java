@@ -34,6 +34,8 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     
     private int rowNumber;
     
+    private boolean terminated;
+    
     public LimitDecoratorMergedResult(final MergedResult mergedResult, final PaginationContext pagination) throws SQLException {
         super(mergedResult);
         this.pagination = pagination;
@@ -41,7 +43,7 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     }
     
     private boolean skipOffset() throws SQLException {
-        for (int i = 0; i < pagination.getActualOffset(); i++) {
+        for (int i = 0; i < pagination.getMergeOffset(); i++) {
             if (!getMergedResult().next()) {
                 return true;
             }
@@ -58,6 +60,14 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         if (!pagination.getActualRowCount().isPresent()) {
             return getMergedResult().next();
         }
-        return ++rowNumber <= pagination.getActualRowCount().get() && getMergedResult().next();
+        return ++rowNumber <= pagination.getActualRowCount().get() ? getMergedResult().next() : terminateRest();
+    }
+    
+    private boolean terminateRest() throws SQLException {
+        if (!terminated) {
+            terminated = true;
+            terminate();
+        }
+        return false;
     }
 }
@@ -34,6 +34,8 @@ public final class RowNumberDecoratorMergedResult extends DecoratorMergedResult
     
     private long rowNumber;
     
+    private boolean terminated;
+    
     public RowNumberDecoratorMergedResult(final MergedResult mergedResult, final PaginationContext pagination) throws SQLException {
         super(mergedResult);
         this.pagination = pagination;
@@ -59,6 +61,14 @@ public final class RowNumberDecoratorMergedResult extends DecoratorMergedResult
         if (!pagination.getActualRowCount().isPresent()) {
             return getMergedResult().next();
         }
-        return rowNumber++ < pagination.getActualRowCount().get() && getMergedResult().next();
+        return rowNumber++ < pagination.getActualRowCount().get() ? getMergedResult().next() : terminateRest();
+    }
+    
+    private boolean terminateRest() throws SQLException {
+        if (!terminated) {
+            terminated = true;
+            terminate();
+        }
+        return false;
     }
 }
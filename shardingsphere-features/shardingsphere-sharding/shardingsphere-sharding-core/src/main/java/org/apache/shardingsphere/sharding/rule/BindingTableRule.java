@@ -64,7 +64,7 @@ public final class BindingTableRule {
         }
         Optional<TableRule> tableRule = Optional.ofNullable(tableRules.get(logicTable.toLowerCase()));
         if (tableRule.isPresent()) {
-            return tableRule.get().getActualDataNodes().get(index).getTableName();
+            return tableRule.get().getActualTableName(index);
         }
         throw new ShardingSphereConfigurationException("Cannot find binding actual table, data source: %s, logic table: %s, other actual table: %s", dataSource, logicTable, otherActualTable);
     }
@@ -584,12 +584,26 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys of logic table.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys
+     * @return generated keys
+     */
+    public Collection<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(count);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        KeyGenerateAlgorithm keyGenerator = null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
-        return keyGenerator.generateKey();
+        return null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
     }
     
     /**
@@ -665,12 +679,12 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     }
     
     private Collection<String> getAllActualTables() {
-        return tableRules.values().stream().flatMap(each -> each.getActualDataNodes().stream().map(DataNode::getTableName)).collect(Collectors.toSet());
+        return tableRules.values().stream().flatMap(each -> each.getActualTables().stream()).collect(Collectors.toSet());
     }
     
     @Override
     public Optional<String> findFirstActualTable(final String logicTable) {
-        return findTableRule(logicTable).map(optional -> optional.getActualDataNodes().get(0).getTableName());
+        return findTableRule(logicTable).map(optional -> optional.getActualTableName(0));
     }
     
     @Override
@@ -690,6 +704,28 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return result;
     }
     
+    @Override
+    public Collection<String> getAlteredTables(final TableContainedRule originalRule) {
+        if (!(originalRule instanceof ShardingRule)) {
+            return TableContainedRule.super.getAlteredTables(originalRule);
+        }
+        ShardingRule originalShardingRule = (ShardingRule) originalRule;
+        Collection<String> result = new LinkedHashSet<>();
+        for (TableRule each : tableRules.values()) {
+            if (!originalShardingRule.findTableRule(each.getLogicTable()).filter(optional -> isSameTableMetaData(optional, each)).isPresent()) {
+                result.add(each.getLogicTable());
+            }
+        }
+        originalShardingRule.getTableRules().values().stream().filter(each -> !findTableRule(each.getLogicTable()).isPresent()).forEach(each -> result.add(each.getLogicTable()));
+        broadcastTables.stream().filter(each -> !originalShardingRule.isBroadcastTable(each)).forEach(result::add);
+        originalShardingRule.getBroadcastTables().stream().filter(each -> !isBroadcastTable(each)).forEach(result::add);
+        return result;
+    }
+    
+    private boolean isSameTableMetaData(final TableRule originalTableRule, final TableRule tableRule) {
+        return originalTableRule.getActualDataNodes().equals(tableRule.getActualDataNodes()) && originalTableRule.getGenerateKeyColumn().equals(tableRule.getGenerateKeyColumn());
+    }
+    
     @Override
     public Optional<String> findActualTableByCatalog(final String catalog, final String logicTable) {
         return findTableRule(logicTable).flatMap(optional -> findActualTableFromActualDataNode(catalog, optional.getActualDataNodes()));
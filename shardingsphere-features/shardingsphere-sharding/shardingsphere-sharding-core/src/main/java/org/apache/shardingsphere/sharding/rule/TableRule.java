@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.sharding.rule;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableSet;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
+import org.apache.shardingsphere.infra.datanode.CompactDataNodes;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.datanode.DataNodeUtil;
@@ -34,25 +36,24 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShard
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Table rule.
  */
 @Getter
-@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualTablePrefix", "actualDatasourceNames", "datasourceToTablesMap", "dataSourceDataNode", "tableDataNode"})
+@ToString(exclude = {"actualTablePrefix", "actualDatasourceNames", "datasourceToTablesMap", "dataSourceDataNode", "tableDataNode"})
 public final class TableRule {
     
     private static final Pattern DATA_NODE_SUFFIX_PATTERN = Pattern.compile("\\d+$");
@@ -61,15 +62,10 @@ public final class TableRule {
     
     private final String logicTable;
     
-    private final List<DataNode> actualDataNodes;
-    
-    private final String actualTablePrefix;
-    
     @Getter(AccessLevel.NONE)
-    private final Set<String> actualTables;
+    private final CompactDataNodes actualDataNodes;
     
-    @Getter(AccessLevel.NONE)
-    private final Map<DataNode, Integer> dataNodeIndexMap;
+    private final String actualTablePrefix;
     
     private final ShardingStrategyConfiguration databaseShardingStrategyConfig;
     
@@ -90,10 +86,8 @@ public final class TableRule {
     
     public TableRule(final Collection<String> dataSourceNames, final String logicTableName) {
         logicTable = logicTableName;
-        dataNodeIndexMap = new HashMap<>(dataSourceNames.size(), 1);
         actualTablePrefix = null;
         actualDataNodes = generateDataNodes(logicTableName, dataSourceNames, null);
-        actualTables = getActualTables();
         databaseShardingStrategyConfig = null;
         tableShardingStrategyConfig = null;
         generateKeyColumn = null;
@@ -105,11 +99,9 @@ public final class TableRule {
     public TableRule(final ShardingTableRuleConfiguration tableRuleConfig, final Collection<String> dataSourceNames, final String defaultGenerateKeyColumn) {
         logicTable = tableRuleConfig.getLogicTable();
         List<String> dataNodes = new InlineExpressionParser(tableRuleConfig.getActualDataNodes()).splitAndEvaluate();
-        dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
         actualTablePrefix = tableRuleConfig.getActualTablePrefix();
         actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames, actualTablePrefix)
                 : generateDataNodes(dataNodes, dataSourceNames, actualTablePrefix);
-        actualTables = getActualTables();
         databaseShardingStrategyConfig = tableRuleConfig.getDatabaseShardingStrategy();
         tableShardingStrategyConfig = tableRuleConfig.getTableShardingStrategy();
         KeyGenerateStrategyConfiguration keyGeneratorConfig = tableRuleConfig.getKeyGenerateStrategy();
@@ -126,11 +118,9 @@ public final class TableRule {
         databaseShardingStrategyConfig = new NoneShardingStrategyConfiguration();
         tableShardingStrategyConfig = tableRuleConfig.getShardingStrategy();
         List<String> dataNodes = getDataNodes(tableRuleConfig, shardingAutoTableAlgorithm, dataSourceNames);
-        dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
         actualTablePrefix = tableRuleConfig.getActualTablePrefix();
         actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames, actualTablePrefix)
                 : generateDataNodes(dataNodes, dataSourceNames, actualTablePrefix);
-        actualTables = getActualTables();
         KeyGenerateStrategyConfiguration keyGeneratorConfig = tableRuleConfig.getKeyGenerateStrategy();
         generateKeyColumn = null != keyGeneratorConfig && !Strings.isNullOrEmpty(keyGeneratorConfig.getColumn()) ? keyGeneratorConfig.getColumn() : defaultGenerateKeyColumn;
         keyGeneratorName = null == keyGeneratorConfig ? null : keyGeneratorConfig.getKeyGeneratorName();
@@ -163,47 +153,39 @@ public final class TableRule {
         return DataNodeUtil.getFormatDataNodes(shardingAlgorithm.getAutoTablesAmount(), logicTable, dataSources);
     }
     
-    private Set<String> getActualTables() {
-        return actualDataNodes.stream().map(DataNode::getTableName).collect(Collectors.toCollection(() -> new TreeSet<>(String.CASE_INSENSITIVE_ORDER)));
-    }
-    
-    private void addActualTable(final String datasourceName, final String tableName) {
-        datasourceToTablesMap.computeIfAbsent(datasourceName, key -> new LinkedHashSet<>()).add(tableName);
-    }
-    
     private boolean isEmptyDataNodes(final List<String> dataNodes) {
         return null == dataNodes || dataNodes.isEmpty();
     }
     
-    private List<DataNode> generateDataNodes(final String logicTable, final Collection<String> dataSourceNames, final String actualTablePrefix) {
-        List<DataNode> result = new LinkedList<>();
-        int index = 0;
+    private CompactDataNodes generateDataNodes(final String logicTable, final Collection<String> dataSourceNames, final String actualTablePrefix) {
+        List<DataNode> result = new ArrayList<>(dataSourceNames.size());
         for (String each : dataSourceNames) {
             String actualTable = Strings.isNullOrEmpty(actualTablePrefix) ? logicTable : actualTablePrefix + logicTable;
-            DataNode dataNode = new DataNode(each, actualTable);
-            result.add(dataNode);
-            dataNodeIndexMap.put(dataNode, index);
-            actualDatasourceNames.add(each);
-            addActualTable(dataNode.getDataSourceName(), dataNode.getTableName());
-            index++;
+            result.add(new DataNode(each, actualTable));
         }
-        return result;
+        return createCompactDataNodes(result);
     }
     
-    private List<DataNode> generateDataNodes(final List<String> actualDataNodes, final Collection<String> dataSourceNames, final String actualTablePrefix) {
-        List<DataNode> result = new LinkedList<>();
-        int index = 0;
+    private CompactDataNodes generateDataNodes(final List<String> actualDataNodes, final Collection<String> dataSourceNames, final String actualTablePrefix) {
+        List<DataNode> result = new ArrayList<>(actualDataNodes.size());
         for (String each : actualDataNodes) {
             DataNode dataNode = generateDataNode(each, actualTablePrefix);
             if (!dataSourceNames.contains(dataNode.getDataSourceName())) {
                 throw new ShardingSphereException("Cannot find data source in sharding rule, invalid actual data node is: '%s'", each);
             }
             result.add(dataNode);
-            dataNodeIndexMap.put(dataNode, index);
-            actualDatasourceNames.add(dataNode.getDataSourceName());
-            addActualTable(dataNode.getDataSourceName(), dataNode.getTableName());
-            index++;
         }
+        return createCompactDataNodes(result);
+    }
+    
+    private CompactDataNodes createCompactDataNodes(final List<DataNode> dataNodes) {
+        CompactDataNodes result = new CompactDataNodes(dataNodes);
+        Map<String, Collection<String>> actualTables = new LinkedHashMap<>();
+        for (DataNode each : result) {
+            actualDatasourceNames.add(each.getDataSourceName());
+            actualTables.computeIfAbsent(each.getDataSourceName(), key -> new LinkedHashSet<>()).add(each.getTableName());
+        }
+        actualTables.forEach((key, value) -> datasourceToTablesMap.put(key, ImmutableSet.copyOf(value)));
         return result;
     }
     
@@ -215,6 +197,34 @@ public final class TableRule {
         return new DataNode(result.getDataSourceName(), actualTablePrefix + result.getTableName());
     }
     
+    /**
+     * Get actual data nodes.
+     *
+     * @return actual data nodes
+     */
+    public List<DataNode> getActualDataNodes() {
+        return actualDataNodes;
+    }
+    
+    /**
+     * Get actual table name of data node.
+     *
+     * @param index index of actual data node
+     * @return actual table name
+     */
+    public String getActualTableName(final int index) {
+        return actualDataNodes.getTableName(index);
+    }
+    
+    /**
+     * Get distinct actual table names.
+     *
+     * @return distinct actual table names
+     */
+    public Collection<String> getActualTables() {
+        return actualDataNodes.getTableNames();
+    }
+    
     /**
      * Get data node groups.
      *
@@ -244,11 +254,11 @@ public final class TableRule {
     }
     
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
-        return dataNodeIndexMap.getOrDefault(new DataNode(dataSourceName, actualTableName), -1);
+        return actualDataNodes.findLastIndex(dataSourceName, actualTableName);
     }
     
     boolean isExisted(final String actualTableName) {
-        return actualTables.contains(actualTableName);
+        return actualDataNodes.containsTable(actualTableName);
     }
     
     private void checkRule(final List<String> dataNodes) {
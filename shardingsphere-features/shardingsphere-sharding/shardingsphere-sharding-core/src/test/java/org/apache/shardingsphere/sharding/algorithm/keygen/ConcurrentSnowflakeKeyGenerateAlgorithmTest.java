@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.sharding.algorithm.keygen.fixture.FixedTimeService;
+import org.apache.shardingsphere.sharding.factory.KeyGenerateAlgorithmFactory;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConcurrentSnowflakeKeyGenerateAlgorithmTest {
+    
+    private static final long STRIPE_SEQUENCE_MASK = (1L << 10) - 1;
+    
+    @After
+    public void tearDown() {
+        ConcurrentSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+    }
+    
+    @Test
+    public void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("CONCURRENT_SNOWFLAKE", new Properties()));
+        int taskNumber = threadNumber * 4;
+        Collection<Future<Collection<Comparable<?>>>> futures = new LinkedList<>();
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> {
+                Collection<Comparable<?>> result = new LinkedList<>(algorithm.generateKeys(1000));
+                result.add(algorithm.generateKey());
+                return result;
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<Collection<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * 1001));
+    }
+    
+    @Test
+    public void assertGenerateKeysInSameMillisecond() {
+        ConcurrentSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(2));
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("CONCURRENT_SNOWFLAKE", new Properties()));
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(5));
+        assertThat(actual.size(), is(5));
+        long first = (Long) actual.get(0);
+        for (int i = 1; i < actual.size(); i++) {
+            assertThat(actual.get(i), is(first + i));
+        }
+    }
+    
+    @Test
+    public void assertGenerateKeysAcrossMilliseconds() {
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("CONCURRENT_SNOWFLAKE", new Properties()));
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(5000));
+        assertThat(actual.size(), is(5000));
+        for (int i = 1; i < actual.size(); i++) {
+            assertTrue((Long) actual.get(i) > (Long) actual.get(i - 1));
+        }
+    }
+    
+    @Test
+    public void assertLastDigitalOfGenerateKeyDifferentMillisecond() {
+        ConcurrentSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(0));
+        Properties props = new Properties();
+        props.setProperty("max-vibration-offset", "3");
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("CONCURRENT_SNOWFLAKE", props));
+        List<Long> actual = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            actual.add((Long) algorithm.generateKey() & STRIPE_SEQUENCE_MASK);
+        }
+        assertThat(actual, is(Arrays.asList(1L, 2L, 3L, 0L)));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyWithClockCallBackBeyondTolerateTime() {
+        ConcurrentSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService() {
+            
+            private boolean called;
+            
+            @Override
+            public long getCurrentMillis() {
+                long result = called ? SnowflakeKeyGenerateAlgorithm.EPOCH : SnowflakeKeyGenerateAlgorithm.EPOCH + 10L;
+                called = true;
+                return result;
+            }
+        });
+        Properties props = new Properties();
+        props.setProperty("max-tolerate-time-difference-milliseconds", String.valueOf(0));
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("CONCURRENT_SNOWFLAKE", props));
+        algorithm.generateKey();
+        algorithm.generateKey();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetMaxVibrationOffsetFailureWhenOutOfRange() {
+        Properties props = new Properties();
+        props.setProperty("max-vibration-offset", String.valueOf(1024));
+        KeyGenerateAlgorithmFactory.newInstance(new ShardingSphereAlgorithmConfiguration("CONCURRENT_SNOWFLAKE", props));
+    }
+}
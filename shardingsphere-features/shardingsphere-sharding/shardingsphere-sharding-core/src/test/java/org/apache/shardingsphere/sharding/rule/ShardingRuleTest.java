@@ -54,6 +54,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -380,6 +381,13 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(String.class));
     }
     
+    @Test
+    public void assertGenerateKeysWithDefaultKeyGenerator() {
+        Collection<Comparable<?>> actual = createMinimumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(new HashSet<>(actual).size(), is(3));
+    }
+    
     @Test
     public void assertGetDataNodeByLogicTable() {
         assertThat(createMaximumShardingRule().getDataNode("logic_table"), is(new DataNode("ds_0.table_0")));
@@ -411,6 +419,16 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().getTables(), is(new LinkedHashSet<>(Arrays.asList("LOGIC_TABLE", "SUB_LOGIC_TABLE", "BROADCAST_TABLE"))));
     }
     
+    @Test
+    public void assertGetAlteredTablesWithSameRule() {
+        assertTrue(createMaximumShardingRule().getAlteredTables(createMaximumShardingRule()).isEmpty());
+    }
+    
+    @Test
+    public void assertGetAlteredTablesWithDifferentRule() {
+        assertThat(createMinimumShardingRule().getAlteredTables(createMaximumShardingRule()), is(new LinkedHashSet<>(Arrays.asList("LOGIC_TABLE", "SUB_LOGIC_TABLE", "BROADCAST_TABLE"))));
+    }
+    
     @Test
     public void assertGetDataSourceNamesWithShardingAutoTables() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
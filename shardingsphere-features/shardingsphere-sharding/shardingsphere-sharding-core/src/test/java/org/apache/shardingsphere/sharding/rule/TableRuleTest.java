@@ -129,6 +129,13 @@ public final class TableRuleTest {
         assertThat(actual.findActualTableIndex("ds1", "table_1"), is(4));
     }
     
+    @Test
+    public void assertGetActualTableName() {
+        TableRule actual = new TableRule(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), Arrays.asList("ds0", "ds1"), null);
+        assertThat(actual.getActualTableName(4), is("table_1"));
+        assertThat(actual.getActualTables(), is(Arrays.asList("table_0", "table_1", "table_2")));
+    }
+    
     @Test
     public void assertNotFindActualTableIndex() {
         TableRule actual = new TableRule(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), Arrays.asList("ds0", "ds1"), null);
@@ -61,6 +61,8 @@ import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementConte
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.statistics.KernelLatencyRecorder;
+import org.apache.shardingsphere.infra.statistics.KernelStage;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.AnalyzeTableStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
@@ -139,6 +141,16 @@ public final class SQLStatementContextFactory {
      */
     public static SQLStatementContext<?> newInstance(final Map<String, ShardingSphereDatabase> databases,
                                                      final List<Object> parameters, final SQLStatement sqlStatement, final String defaultDatabaseName) {
+        long startTime = System.nanoTime();
+        try {
+            return createSQLStatementContext(databases, parameters, sqlStatement, defaultDatabaseName);
+        } finally {
+            KernelLatencyRecorder.record(KernelStage.BIND, defaultDatabaseName, System.nanoTime() - startTime);
+        }
+    }
+    
+    private static SQLStatementContext<?> createSQLStatementContext(final Map<String, ShardingSphereDatabase> databases,
+                                                                    final List<Object> parameters, final SQLStatement sqlStatement, final String defaultDatabaseName) {
         if (sqlStatement instanceof DMLStatement) {
             return getDMLStatementContext(databases, parameters, (DMLStatement) sqlStatement, defaultDatabaseName);
         }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.binder.segment.select.pagination;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.NumberLiteralPaginationValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.PaginationValueSegment;
@@ -43,6 +44,9 @@ public final class PaginationContext {
     
     private final Long actualRowCount;
     
+    @Setter
+    private volatile Long seekedOffset;
+    
     public PaginationContext(final PaginationValueSegment offsetSegment, final PaginationValueSegment rowCountSegment, final List<Object> parameters) {
         hasPagination = null != offsetSegment || null != rowCountSegment;
         this.offsetSegment = offsetSegment;
@@ -90,6 +94,17 @@ public final class PaginationContext {
         return offsetSegment.isBoundOpened() ? actualOffset - 1 : actualOffset;
     }
     
+    /**
+     * Get offset to be skipped while merging.
+     * 
+     * <p>Equals to actual offset unless shard queries have been sought to a boundary before the requested page.</p>
+     *
+     * @return offset to be skipped while merging
+     */
+    public long getMergeOffset() {
+        return null == seekedOffset ? getActualOffset() : seekedOffset;
+    }
+    
     /**
      * Get actual row count.
      *
@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.infra.binder.statement.dml;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
@@ -84,11 +87,14 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
     
     private final TablesContext tablesContext;
     
-    private final ProjectionsContext projectionsContext;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<ProjectionsContext> projectionsContext;
     
-    private final GroupByContext groupByContext;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<GroupByContext> groupByContext = Suppliers.memoize(() -> new GroupByContextEngine().createGroupByContext(getSqlStatement()));
     
-    private final OrderByContext orderByContext;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<OrderByContext> orderByContext = Suppliers.memoize(() -> new OrderByContextEngine().createOrderBy(getSqlStatement(), getGroupByContext()));
     
     private final Map<Integer, SelectStatementContext> subqueryContexts;
     
@@ -100,7 +106,9 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
     
     private boolean needAggregateRewrite;
     
-    private PaginationContext paginationContext;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Supplier<PaginationContext> paginationContext;
     
     public SelectStatementContext(final Map<String, ShardingSphereDatabase> databases, final List<Object> parameters, final SelectStatement sqlStatement, final String defaultDatabaseName) {
         super(sqlStatement);
@@ -108,12 +116,8 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
         ColumnExtractor.extractColumnSegments(columnSegments, whereSegments);
         subqueryContexts = createSubqueryContexts(databases, parameters, defaultDatabaseName);
         tablesContext = new TablesContext(getAllTableSegments(), subqueryContexts, getDatabaseType());
-        String databaseName = tablesContext.getDatabaseName().orElse(defaultDatabaseName);
-        groupByContext = new GroupByContextEngine().createGroupByContext(sqlStatement);
-        orderByContext = new OrderByContextEngine().createOrderBy(sqlStatement, groupByContext);
-        projectionsContext = new ProjectionsContextEngine(databaseName, getSchemas(databases, databaseName), getDatabaseType())
-                .createProjectionsContext(getSqlStatement().getFrom(), getSqlStatement().getProjections(), groupByContext, orderByContext);
-        paginationContext = new PaginationContextEngine().createPaginationContext(sqlStatement, projectionsContext, parameters, whereSegments);
+        projectionsContext = Suppliers.memoize(() -> createProjectionsContext(databases, tablesContext.getDatabaseName().orElse(defaultDatabaseName)));
+        paginationContext = createPaginationContext(parameters);
     }
     
     private Map<Integer, SelectStatementContext> createSubqueryContexts(final Map<String, ShardingSphereDatabase> databases, final List<Object> parameters, final String defaultDatabaseName) {
@@ -127,6 +131,15 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
         return result;
     }
     
+    private ProjectionsContext createProjectionsContext(final Map<String, ShardingSphereDatabase> databases, final String databaseName) {
+        return new ProjectionsContextEngine(databaseName, getSchemas(databases, databaseName), getDatabaseType())
+                .createProjectionsContext(getSqlStatement().getFrom(), getSqlStatement().getProjections(), getGroupByContext(), getOrderByContext());
+    }
+    
+    private Supplier<PaginationContext> createPaginationContext(final List<Object> parameters) {
+        return Suppliers.memoize(() -> new PaginationContextEngine().createPaginationContext(getSqlStatement(), getProjectionsContext(), parameters, whereSegments));
+    }
+    
     private Map<String, ShardingSphereSchema> getSchemas(final Map<String, ShardingSphereDatabase> databases, final String databaseName) {
         ShardingSphereDatabase database = databases.get(databaseName);
         if (null == database) {
@@ -139,6 +152,42 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
         return database.getSchemas();
     }
     
+    /**
+     * Get projections context.
+     *
+     * @return projections context
+     */
+    public ProjectionsContext getProjectionsContext() {
+        return projectionsContext.get();
+    }
+    
+    /**
+     * Get group by context.
+     *
+     * @return group by context
+     */
+    public GroupByContext getGroupByContext() {
+        return groupByContext.get();
+    }
+    
+    /**
+     * Get order by context.
+     *
+     * @return order by context
+     */
+    public OrderByContext getOrderByContext() {
+        return orderByContext.get();
+    }
+    
+    /**
+     * Get pagination context.
+     *
+     * @return pagination context
+     */
+    public PaginationContext getPaginationContext() {
+        return paginationContext.get();
+    }
+    
     /**
      * Judge whether contains join query or not.
      *
@@ -181,7 +230,7 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
      * @return whether contains dollar parameter marker or not
      */
     public boolean isContainsDollarParameterMarker() {
-        for (Projection each : projectionsContext.getProjections()) {
+        for (Projection each : getProjectionsContext().getProjections()) {
             if (each instanceof ParameterMarkerProjection && ParameterMarkerType.DOLLAR == ((ParameterMarkerProjection) each).getParameterMarkerType()) {
                 return true;
             }
@@ -208,8 +257,8 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
      * @return whether contains partial distinct aggregation
      */
     public boolean isContainsPartialDistinctAggregation() {
-        Collection<Projection> aggregationProjections = projectionsContext.getProjections().stream().filter(each -> each instanceof AggregationProjection).collect(Collectors.toList());
-        Collection<AggregationDistinctProjection> aggregationDistinctProjections = projectionsContext.getAggregationDistinctProjections();
+        Collection<Projection> aggregationProjections = getProjectionsContext().getProjections().stream().filter(each -> each instanceof AggregationProjection).collect(Collectors.toList());
+        Collection<AggregationDistinctProjection> aggregationDistinctProjections = getProjectionsContext().getAggregationDistinctProjections();
         return aggregationProjections.size() > 1 && !aggregationDistinctProjections.isEmpty() && aggregationProjections.size() != aggregationDistinctProjections.size();
     }
     
@@ -220,12 +269,12 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
      */
     public void setIndexes(final Map<String, Integer> columnLabelIndexMap) {
         setIndexForAggregationProjection(columnLabelIndexMap);
-        setIndexForOrderItem(columnLabelIndexMap, orderByContext.getItems());
-        setIndexForOrderItem(columnLabelIndexMap, groupByContext.getItems());
+        setIndexForOrderItem(columnLabelIndexMap, getOrderByContext().getItems());
+        setIndexForOrderItem(columnLabelIndexMap, getGroupByContext().getItems());
     }
     
     private void setIndexForAggregationProjection(final Map<String, Integer> columnLabelIndexMap) {
-        for (AggregationProjection each : projectionsContext.getAggregationProjections()) {
+        for (AggregationProjection each : getProjectionsContext().getAggregationProjections()) {
             String columnLabel = SQLUtil.getExactlyValue(each.getColumnLabel());
             Preconditions.checkState(columnLabelIndexMap.containsKey(columnLabel), "Can't find index: %s, please add alias for aggregate selections", each);
             each.setIndex(columnLabelIndexMap.get(columnLabel));
@@ -244,7 +293,7 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
                 continue;
             }
             if (each.getSegment() instanceof ColumnOrderByItemSegment && ((ColumnOrderByItemSegment) each.getSegment()).getColumn().getOwner().isPresent()) {
-                Optional<Integer> itemIndex = projectionsContext.findProjectionIndex(((ColumnOrderByItemSegment) each.getSegment()).getText());
+                Optional<Integer> itemIndex = getProjectionsContext().findProjectionIndex(((ColumnOrderByItemSegment) each.getSegment()).getText());
                 if (itemIndex.isPresent()) {
                     each.setIndex(itemIndex.get());
                     continue;
@@ -259,11 +308,11 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
     }
     
     private Optional<String> getAlias(final OrderByItemSegment orderByItem) {
-        if (projectionsContext.isUnqualifiedShorthandProjection()) {
+        if (getProjectionsContext().isUnqualifiedShorthandProjection()) {
             return Optional.empty();
         }
         String rawName = SQLUtil.getExactlyValue(((TextOrderByItemSegment) orderByItem).getText());
-        for (Projection each : projectionsContext.getProjections()) {
+        for (Projection each : getProjectionsContext().getProjections()) {
             if (SQLUtil.getExactlyExpression(rawName).equalsIgnoreCase(SQLUtil.getExactlyExpression(SQLUtil.getExactlyValue(each.getExpression())))) {
                 return each.getAlias();
             }
@@ -294,7 +343,7 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
      * @return group by and order by sequence is same or not
      */
     public boolean isSameGroupByAndOrderByItems() {
-        return !groupByContext.getItems().isEmpty() && groupByContext.getItems().equals(orderByContext.getItems());
+        return !getGroupByContext().getItems().isEmpty() && getGroupByContext().getItems().equals(getOrderByContext().getItems());
     }
     
     @Override
@@ -332,6 +381,9 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
     
     @Override
     public void setUpParameters(final List<Object> parameters) {
-        paginationContext = new PaginationContextEngine().createPaginationContext(getSqlStatement(), projectionsContext, parameters, whereSegments);
+        paginationContext = createPaginationContext(parameters);
+        for (SelectStatementContext each : subqueryContexts.values()) {
+            each.setUpParameters(parameters);
+        }
     }
 }
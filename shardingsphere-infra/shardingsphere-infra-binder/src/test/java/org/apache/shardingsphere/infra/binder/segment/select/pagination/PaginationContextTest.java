@@ -83,6 +83,14 @@ public final class PaginationContextTest {
         assertThat(new PaginationContext(null, getRowCountSegment(), getParameters()).getActualOffset(), is(0L));
     }
     
+    @Test
+    public void assertGetMergeOffset() {
+        PaginationContext paginationContext = new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters());
+        assertThat(paginationContext.getMergeOffset(), is(30L));
+        paginationContext.setSeekedOffset(5L);
+        assertThat(paginationContext.getMergeOffset(), is(5L));
+    }
+    
     @Test
     public void assertGetActualRowCount() {
         assertThat(new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters()).getActualRowCount().orElse(null), is(20L));
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.binder.statement.impl;
 
+import org.apache.shardingsphere.infra.binder.segment.select.projection.ProjectionsContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -37,6 +38,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBy
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.AliasSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
@@ -247,6 +250,21 @@ public final class SelectStatementContextTest {
         assertTrue(selectStatementContext.isSameGroupByAndOrderByItems());
     }
     
+    @Test
+    public void assertSetUpParameters() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(createProjectionsSegment());
+        selectStatement.setLimit(new LimitSegment(0, 0, new ParameterMarkerLimitValueSegment(0, 0, 0), new ParameterMarkerLimitValueSegment(0, 0, 1)));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class)),
+                Arrays.asList(1L, 10L), selectStatement, DefaultDatabase.LOGIC_NAME);
+        ProjectionsContext projectionsContext = selectStatementContext.getProjectionsContext();
+        assertThat(selectStatementContext.getPaginationContext().getActualOffset(), is(1L));
+        selectStatementContext.setUpParameters(Arrays.asList(2L, 20L));
+        assertThat(selectStatementContext.getPaginationContext().getActualOffset(), is(2L));
+        assertThat(selectStatementContext.getPaginationContext().getActualRowCount(), is(Optional.of(20L)));
+        assertThat(selectStatementContext.getProjectionsContext(), is(projectionsContext));
+    }
+    
     private SelectStatementContext createSelectStatementContext(final SelectStatement selectStatement) {
         return new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class)),
                 Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
@@ -132,7 +132,42 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Proxy Netty backlog size.
      */
-    PROXY_NETTY_BACKLOG("proxy-netty-backlog", "1024", int.class, false);
+    PROXY_NETTY_BACKLOG("proxy-netty-backlog", "1024", int.class, false),
+    
+    /**
+     * Whether replace literals of text protocol DML with parameter markers, to let SQL differing only in literals hit SQL statement cache.
+     */
+    PROXY_SQL_PARAMETERIZE_ENABLED("proxy-sql-parameterize-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Default query timeout in milliseconds, statements still running on other data sources are cancelled when it expires, 0 means no timeout.
+     */
+    QUERY_TIMEOUT_MILLISECONDS("query-timeout-milliseconds", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Max concurrent executions on each data source, the actual limit adapts to observed latency below it, 0 means no limit.
+     */
+    DATA_SOURCE_MAX_CONCURRENCY("data-source-max-concurrency", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max count of executions waiting for concurrency limit of each data source, executions beyond it are rejected at once.
+     */
+    DATA_SOURCE_CONCURRENCY_QUEUE_SIZE("data-source-concurrency-queue-size", String.valueOf(128), int.class, false),
+    
+    /**
+     * Whether choose connection mode by historical result size and connection pool utilization, instead of by max connections size per query only.
+     */
+    ADAPTIVE_CONNECTION_MODE_ENABLED("adaptive-connection-mode-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Minimum offset of cross shards pagination ordered by primary key to seek shards to a boundary key before fetching, 0 means disabled.
+     */
+    SEEK_PAGINATION_OFFSET_THRESHOLD("seek-pagination-offset-threshold", String.valueOf(0), long.class, false),
+    
+    /**
+     * Whether recognize simple point select and insert SQL by fast path parser, instead of by full grammar parser.
+     */
+    SQL_FAST_PATH_PARSE_ENABLED("sql-fast-path-parse-enabled", String.valueOf(Boolean.FALSE), boolean.class, true);
     
     private final String key;
     
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datanode;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Compact data nodes.
+ * 
+ * <p>Data source names and table names are interned into dictionaries, every data node is encoded as an int id of the two dictionaries,
+ * and lookups are backed by sorted primitive arrays, so that a large amount of data nodes only takes a few arrays of heap.
+ * Data node is created on every {@link #get(int)}, use name accessors of index to avoid the allocation.</p>
+ */
+public final class CompactDataNodes extends AbstractList<DataNode> implements RandomAccess {
+    
+    private static final Interner<String> NAME_INTERNER = Interners.newWeakInterner();
+    
+    private final String[] dataSourceNames;
+    
+    private final String[] tableNames;
+    
+    private final int[] dataNodeIds;
+    
+    private final int[] sortedDataSourceIds;
+    
+    private final int[] sortedTableIds;
+    
+    private final long[] sortedDataNodeIdAndIndexes;
+    
+    public CompactDataNodes(final Collection<DataNode> dataNodes) {
+        Map<String, Integer> dataSourceDictionary = new LinkedHashMap<>();
+        Map<String, Integer> tableDictionary = new LinkedHashMap<>();
+        for (DataNode each : dataNodes) {
+            dataSourceDictionary.putIfAbsent(NAME_INTERNER.intern(each.getDataSourceName()), dataSourceDictionary.size());
+            tableDictionary.putIfAbsent(NAME_INTERNER.intern(each.getTableName()), tableDictionary.size());
+        }
+        dataSourceNames = dataSourceDictionary.keySet().toArray(new String[0]);
+        tableNames = tableDictionary.keySet().toArray(new String[0]);
+        dataNodeIds = new int[dataNodes.size()];
+        sortedDataNodeIdAndIndexes = new long[dataNodes.size()];
+        int index = 0;
+        for (DataNode each : dataNodes) {
+            dataNodeIds[index] = encode(dataSourceDictionary.get(each.getDataSourceName()), tableDictionary.get(each.getTableName()));
+            sortedDataNodeIdAndIndexes[index] = (long) dataNodeIds[index] << 32 | index;
+            index++;
+        }
+        Arrays.sort(sortedDataNodeIdAndIndexes);
+        sortedDataSourceIds = sortIgnoreCase(dataSourceNames);
+        sortedTableIds = sortIgnoreCase(tableNames);
+    }
+    
+    private int encode(final int dataSourceId, final int tableId) {
+        return Math.addExact(Math.multiplyExact(dataSourceId, tableNames.length), tableId);
+    }
+    
+    private static int[] sortIgnoreCase(final String[] names) {
+        return IntStream.range(0, names.length).boxed().sorted(Comparator.comparing(each -> names[each], String.CASE_INSENSITIVE_ORDER)).mapToInt(Integer::intValue).toArray();
+    }
+    
+    @Override
+    public DataNode get(final int index) {
+        return new DataNode(getDataSourceName(index), getTableName(index));
+    }
+    
+    /**
+     * Get data source name of data node.
+     *
+     * @param index index of data node
+     * @return data source name
+     */
+    public String getDataSourceName(final int index) {
+        return dataSourceNames[dataNodeIds[index] / tableNames.length];
+    }
+    
+    /**
+     * Get table name of data node.
+     *
+     * @param index index of data node
+     * @return table name
+     */
+    public String getTableName(final int index) {
+        return tableNames[dataNodeIds[index] % tableNames.length];
+    }
+    
+    /**
+     * Get distinct table names.
+     *
+     * @return distinct table names
+     */
+    public Collection<String> getTableNames() {
+        return Collections.unmodifiableList(Arrays.asList(tableNames));
+    }
+    
+    @Override
+    public int size() {
+        return dataNodeIds.length;
+    }
+    
+    /**
+     * Judge whether contains table name with case insensitive.
+     *
+     * @param tableName table name
+     * @return contains table name or not
+     */
+    public boolean containsTable(final String tableName) {
+        int position = findFirstIgnoreCase(tableNames, sortedTableIds, tableName);
+        return position < sortedTableIds.length && tableNames[sortedTableIds[position]].equalsIgnoreCase(tableName);
+    }
+    
+    /**
+     * Find last index of data node with case insensitive.
+     *
+     * @param dataSourceName data source name
+     * @param tableName table name
+     * @return last index of data node, -1 if not found
+     */
+    public int findLastIndex(final String dataSourceName, final String tableName) {
+        int result = -1;
+        for (int i = findFirstIgnoreCase(dataSourceNames, sortedDataSourceIds, dataSourceName); i < sortedDataSourceIds.length && dataSourceNames[sortedDataSourceIds[i]].equalsIgnoreCase(dataSourceName); i++) {
+            for (int j = findFirstIgnoreCase(tableNames, sortedTableIds, tableName); j < sortedTableIds.length && tableNames[sortedTableIds[j]].equalsIgnoreCase(tableName); j++) {
+                result = Math.max(result, findLastIndex(encode(sortedDataSourceIds[i], sortedTableIds[j])));
+            }
+        }
+        return result;
+    }
+    
+    private int findLastIndex(final int dataNodeId) {
+        int position = Arrays.binarySearch(sortedDataNodeIdAndIndexes, (long) dataNodeId << 32 | Integer.MAX_VALUE);
+        int lastPosition = -position - 2;
+        return lastPosition >= 0 && (int) (sortedDataNodeIdAndIndexes[lastPosition] >>> 32) == dataNodeId ? (int) sortedDataNodeIdAndIndexes[lastPosition] : -1;
+    }
+    
+    private static int findFirstIgnoreCase(final String[] names, final int[] sortedIds, final String name) {
+        int low = 0;
+        int high = sortedIds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(names[sortedIds[middle]], name) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
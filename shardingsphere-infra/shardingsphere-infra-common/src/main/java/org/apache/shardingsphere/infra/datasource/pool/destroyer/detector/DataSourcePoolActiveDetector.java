@@ -36,4 +36,14 @@ public interface DataSourcePoolActiveDetector extends TypedSPI, RequiredSPI {
      * @return contains active connection or not
      */
     boolean containsActiveConnection(DataSource dataSource);
+    
+    /**
+     * Get ratio of active connections to max pool size.
+     *
+     * @param dataSource data source pool to be detected
+     * @return ratio of active connections to max pool size, negative if unknown
+     */
+    default double getActiveConnectionRatio(final DataSource dataSource) {
+        return -1D;
+    }
 }
@@ -38,6 +38,20 @@ public final class HikariDataSourcePoolActiveDetector implements DataSourcePoolA
         return null == hikariPoolMXBean ? 0 : (int) hikariPoolMXBean.getClass().getMethod("getActiveConnections").invoke(hikariPoolMXBean);
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Override
+    public double getActiveConnectionRatio(final DataSource dataSource) {
+        Object hikariPoolMXBean = dataSource.getClass().getMethod("getHikariPoolMXBean").invoke(dataSource);
+        if (null == hikariPoolMXBean) {
+            return 0D;
+        }
+        if (0 != (int) hikariPoolMXBean.getClass().getMethod("getThreadsAwaitingConnection").invoke(hikariPoolMXBean)) {
+            return 1D;
+        }
+        int maximumPoolSize = (int) dataSource.getClass().getMethod("getMaximumPoolSize").invoke(dataSource);
+        return maximumPoolSize <= 0 ? -1D : (double) (int) hikariPoolMXBean.getClass().getMethod("getActiveConnections").invoke(hikariPoolMXBean) / maximumPoolSize;
+    }
+    
     @Override
     public String getType() {
         return "com.zaxxer.hikari.HikariDataSource";
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.rule.identifier.type;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
 
 /**
  * ShardingSphere rule which contains table.
@@ -32,4 +33,16 @@ public interface TableContainedRule extends ShardingSphereRule {
      * @return tables
      */
     Collection<String> getTables();
+    
+    /**
+     * Get altered tables compared with original rule of the same type.
+     *
+     * @param originalRule original rule
+     * @return altered tables
+     */
+    default Collection<String> getAlteredTables(final TableContainedRule originalRule) {
+        Collection<String> result = new LinkedHashSet<>(originalRule.getTables());
+        result.addAll(getTables());
+        return result;
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kernel latency recorder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KernelLatencyRecorder {
+    
+    private static final String UNKNOWN_SCOPE = "unknown";
+    
+    private static final Map<KernelStage, Map<String, LatencyHistogram>> HISTOGRAMS = new EnumMap<>(KernelStage.class);
+    
+    static {
+        for (KernelStage each : KernelStage.values()) {
+            HISTOGRAMS.put(each, new ConcurrentHashMap<>());
+        }
+    }
+    
+    /**
+     * Record latency of kernel stage.
+     *
+     * @param stage kernel stage
+     * @param scope database type, logic database name or data source name, depends on kernel stage
+     * @param nanos latency in nanoseconds
+     */
+    public static void record(final KernelStage stage, final String scope, final long nanos) {
+        getHistogram(stage, null == scope ? UNKNOWN_SCOPE : scope).record(nanos);
+    }
+    
+    private static LatencyHistogram getHistogram(final KernelStage stage, final String scope) {
+        Map<String, LatencyHistogram> histograms = HISTOGRAMS.get(stage);
+        LatencyHistogram result = histograms.get(scope);
+        return null == result ? histograms.computeIfAbsent(scope, key -> new LatencyHistogram()) : result;
+    }
+    
+    /**
+     * Get kernel latency statistics.
+     *
+     * @return kernel latency statistics ordered by kernel stage
+     */
+    public static Collection<KernelLatencyStatistics> getStatistics() {
+        Collection<KernelLatencyStatistics> result = new LinkedList<>();
+        for (Entry<KernelStage, Map<String, LatencyHistogram>> entry : HISTOGRAMS.entrySet()) {
+            for (Entry<String, LatencyHistogram> each : entry.getValue().entrySet()) {
+                result.add(new KernelLatencyStatistics(entry.getKey(), each.getKey(), each.getValue().snapshot()));
+            }
+        }
+        return result;
+    }
+}
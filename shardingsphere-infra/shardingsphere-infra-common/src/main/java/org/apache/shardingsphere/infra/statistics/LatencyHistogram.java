@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histogram.
+ *
+ * <p>Log-linear buckets in the style of HDR histogram: values below 16 nanoseconds are recorded exactly,
+ * every power of two above is split into 16 linear sub buckets, which bounds the relative error to 1/16.
+ * Values from 2^41 nanoseconds on are recorded into the last bucket. Recording is lock-free and allocation-free.</p>
+ */
+public final class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 4;
+    
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    
+    private static final int MAX_EXPONENT = 40;
+    
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+    
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    
+    private final AtomicLong totalNanos = new AtomicLong();
+    
+    private final AtomicLong maxNanos = new AtomicLong();
+    
+    /**
+     * Record latency.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public void record(final long nanos) {
+        long value = Math.max(nanos, 0L);
+        bucketCounts.incrementAndGet(Math.min(getBucketIndex(value), BUCKET_COUNT - 1));
+        totalNanos.addAndGet(value);
+        long currentMax = maxNanos.get();
+        while (value > currentMax && !maxNanos.compareAndSet(currentMax, value)) {
+            currentMax = maxNanos.get();
+        }
+    }
+    
+    /**
+     * Take snapshot.
+     *
+     * @return latency histogram snapshot
+     */
+    public LatencyHistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = bucketCounts.get(i);
+            count += counts[i];
+        }
+        return new LatencyHistogramSnapshot(counts, count, totalNanos.get(), maxNanos.get());
+    }
+    
+    static int getBucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+    
+    static long getBucketUpperBound(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1L;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Latency histogram snapshot.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class LatencyHistogramSnapshot {
+    
+    private final long[] bucketCounts;
+    
+    @Getter
+    private final long count;
+    
+    @Getter
+    private final long totalNanos;
+    
+    @Getter
+    private final long maxNanos;
+    
+    /**
+     * Get mean latency.
+     *
+     * @return mean latency in nanoseconds
+     */
+    public long getMeanNanos() {
+        return 0L == count ? 0L : totalNanos / count;
+    }
+    
+    /**
+     * Get latency at percentile.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return upper bound of the bucket which contains the percentile in nanoseconds, not greater than max latency
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (0L == count) {
+            return 0L;
+        }
+        long rank = Math.max((long) Math.ceil(Math.min(percentile, 100D) / 100D * count), 1L);
+        long accumulated = 0L;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            accumulated += bucketCounts[i];
+            if (accumulated >= rank) {
+                return Math.min(LatencyHistogram.getBucketUpperBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+    
+    /**
+     * Get counts of non empty buckets.
+     *
+     * @return bucket index and count map of non empty buckets
+     */
+    public Map<Integer, Long> getNonEmptyBucketCounts() {
+        Map<Integer, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < bucketCounts.length; i++) {
+            if (0L != bucketCounts[i]) {
+                result.put(i, bucketCounts[i]);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Merge with another latency histogram snapshot.
+     *
+     * @param other other latency histogram snapshot
+     * @return merged latency histogram snapshot
+     */
+    public LatencyHistogramSnapshot merge(final LatencyHistogramSnapshot other) {
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = bucketCounts[i] + other.bucketCounts[i];
+        }
+        return new LatencyHistogramSnapshot(counts, count + other.count, totalNanos + other.totalNanos, Math.max(maxNanos, other.maxNanos));
+    }
+    
+    /**
+     * Create latency histogram snapshot from counts of non empty buckets.
+     *
+     * @param nonEmptyBucketCounts bucket index and count map of non empty buckets
+     * @param totalNanos total latency in nanoseconds
+     * @param maxNanos max latency in nanoseconds
+     * @return latency histogram snapshot
+     */
+    public static LatencyHistogramSnapshot valueOf(final Map<Integer, Long> nonEmptyBucketCounts, final long totalNanos, final long maxNanos) {
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        long count = 0L;
+        for (Entry<Integer, Long> entry : nonEmptyBucketCounts.entrySet()) {
+            if (entry.getKey() >= 0 && entry.getKey() < counts.length) {
+                counts[entry.getKey()] += entry.getValue();
+                count += entry.getValue();
+            }
+        }
+        return new LatencyHistogramSnapshot(counts, count, totalNanos, maxNanos);
+    }
+}
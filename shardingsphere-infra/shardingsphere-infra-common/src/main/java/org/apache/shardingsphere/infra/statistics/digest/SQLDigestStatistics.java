@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.digest;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.statistics.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL digest statistics, counters are updated lock-free.
+ */
+public final class SQLDigestStatistics {
+    
+    @Getter
+    private final SQLDigestKey key;
+    
+    @Getter
+    private final long overestimation;
+    
+    private final LongAdder count = new LongAdder();
+    
+    private final LongAdder errorCount = new LongAdder();
+    
+    private final LongAdder rowCount = new LongAdder();
+    
+    private final LongAdder shardCount = new LongAdder();
+    
+    private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+    
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    
+    /**
+     * Create SQL digest statistics.
+     *
+     * @param key SQL digest key
+     * @param overestimation count inherited from evicted digests, the real count is between count minus overestimation and count
+     */
+    public SQLDigestStatistics(final SQLDigestKey key, final long overestimation) {
+        this.key = key;
+        this.overestimation = overestimation;
+        count.add(overestimation);
+    }
+    
+    /**
+     * Record execution.
+     *
+     * @param elapsedNanos elapsed time in nanoseconds
+     * @param rows returned or affected rows
+     * @param shards count of touched shards
+     * @param failed whether execution failed
+     */
+    public void record(final long elapsedNanos, final long rows, final int shards, final boolean failed) {
+        count.increment();
+        if (failed) {
+            errorCount.increment();
+        }
+        rowCount.add(rows);
+        shardCount.add(shards);
+        latencyHistogram.record(elapsedNanos);
+        long currentMin = minNanos.get();
+        while (elapsedNanos < currentMin && !minNanos.compareAndSet(currentMin, elapsedNanos)) {
+            currentMin = minNanos.get();
+        }
+    }
+    
+    /**
+     * Get count including overestimation.
+     *
+     * @return count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+    
+    /**
+     * Take snapshot.
+     *
+     * @return SQL digest statistics snapshot
+     */
+    public SQLDigestStatisticsSnapshot snapshot() {
+        long min = minNanos.get();
+        return new SQLDigestStatisticsSnapshot(key.getDatabaseName(), key.getDigest(), count.sum(), overestimation, errorCount.sum(), rowCount.sum(), shardCount.sum(),
+                Long.MAX_VALUE == min ? 0L : min, latencyHistogram.snapshot());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.digest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * SQL digest statistics collector.
+ *
+ * <p>Memory is bounded by the space saving algorithm: when capacity is reached, the least frequent digests are evicted in batch,
+ * new digests start from the max evicted count and carry it as overestimation, so the heavy hitters are always kept.
+ * Recording holds the read lock and eviction holds the write lock, so no execution is recorded into an evicted digest.</p>
+ */
+public final class SQLDigestStatisticsCollector {
+    
+    private static final int DEFAULT_CAPACITY = 1000;
+    
+    private static final SQLDigestStatisticsCollector INSTANCE = new SQLDigestStatisticsCollector(DEFAULT_CAPACITY);
+    
+    private final Map<SQLDigestKey, SQLDigestStatistics> statistics = new ConcurrentHashMap<>();
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final int capacity;
+    
+    private final int evictionBatchSize;
+    
+    private volatile long evictedCountFloor;
+    
+    SQLDigestStatisticsCollector(final int capacity) {
+        this.capacity = capacity;
+        evictionBatchSize = Math.max(capacity / 10, 1);
+    }
+    
+    /**
+     * Get SQL digest statistics collector.
+     *
+     * @return SQL digest statistics collector
+     */
+    public static SQLDigestStatisticsCollector getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record SQL execution.
+     *
+     * @param databaseName database name
+     * @param digest SQL digest, which is SQL with literals replaced by parameter markers
+     * @param elapsedNanos elapsed time in nanoseconds
+     * @param rows returned or affected rows
+     * @param shards count of touched shards
+     * @param failed whether execution failed
+     */
+    public void record(final String databaseName, final String digest, final long elapsedNanos, final long rows, final int shards, final boolean failed) {
+        if (null == digest || digest.isEmpty()) {
+            return;
+        }
+        SQLDigestKey key = new SQLDigestKey(null == databaseName ? "" : databaseName, digest);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            SQLDigestStatistics existed = statistics.get(key);
+            if (null != existed) {
+                existed.record(elapsedNanos, rows, shards, failed);
+                return;
+            }
+        } finally {
+            readLock.unlock();
+        }
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            SQLDigestStatistics result = statistics.get(key);
+            if (null == result) {
+                if (statistics.size() >= capacity) {
+                    evict();
+                }
+                result = new SQLDigestStatistics(key, evictedCountFloor);
+                statistics.put(key, result);
+            }
+            result.record(elapsedNanos, rows, shards, failed);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    private void evict() {
+        List<SQLDigestStatistics> candidates = new ArrayList<>(statistics.values());
+        candidates.sort(Comparator.comparingLong(SQLDigestStatistics::getCount));
+        long maxEvictedCount = evictedCountFloor;
+        for (SQLDigestStatistics each : candidates.subList(0, Math.min(evictionBatchSize, candidates.size()))) {
+            statistics.remove(each.getKey());
+            maxEvictedCount = Math.max(maxEvictedCount, each.getCount());
+        }
+        evictedCountFloor = maxEvictedCount;
+    }
+    
+    /**
+     * Get SQL digest statistics snapshots.
+     *
+     * @return SQL digest statistics snapshots
+     */
+    public Collection<SQLDigestStatisticsSnapshot> getStatistics() {
+        Collection<SQLDigestStatisticsSnapshot> result = new LinkedList<>();
+        for (SQLDigestStatistics each : statistics.values()) {
+            result.add(each.snapshot());
+        }
+        return result;
+    }
+    
+    /**
+     * Get top SQL digest statistics snapshots ordered by count descending.
+     *
+     * @param limit max size of result
+     * @return top SQL digest statistics snapshots
+     */
+    public List<SQLDigestStatisticsSnapshot> getTopStatistics(final int limit) {
+        List<SQLDigestStatisticsSnapshot> result = new ArrayList<>(getStatistics());
+        result.sort(Comparator.comparingLong(SQLDigestStatisticsSnapshot::getCount).reversed());
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+    
+    /**
+     * Clear SQL digest statistics.
+     */
+    public void clear() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            statistics.clear();
+            evictedCountFloor = 0L;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.digest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.statistics.LatencyHistogramSnapshot;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * SQL digest statistics snapshot.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SQLDigestStatisticsSnapshot {
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private final String databaseName;
+    
+    private final String digest;
+    
+    private final long count;
+    
+    private final long overestimation;
+    
+    private final long errorCount;
+    
+    private final long rowCount;
+    
+    private final long shardCount;
+    
+    private final long minNanos;
+    
+    private final LatencyHistogramSnapshot latency;
+    
+    /**
+     * Get digest ID, which is stable across compute nodes.
+     *
+     * @return hex string of FNV-1a 64 hash of digest
+     */
+    public String getDigestId() {
+        long result = FNV_OFFSET_BASIS;
+        for (byte each : digest.getBytes(StandardCharsets.UTF_8)) {
+            result ^= each & 0xff;
+            result *= FNV_PRIME;
+        }
+        return String.format("%016x", result);
+    }
+    
+    /**
+     * Merge with snapshot of same digest, usually from another compute node.
+     *
+     * @param other other SQL digest statistics snapshot
+     * @return merged SQL digest statistics snapshot
+     */
+    public SQLDigestStatisticsSnapshot merge(final SQLDigestStatisticsSnapshot other) {
+        long min = 0L == count ? other.minNanos : 0L == other.count ? minNanos : Math.min(minNanos, other.minNanos);
+        return new SQLDigestStatisticsSnapshot(databaseName, digest, count + other.count, overestimation + other.overestimation, errorCount + other.errorCount,
+                rowCount + other.rowCount, shardCount + other.shardCount, min, latency.merge(other.latency));
+    }
+}
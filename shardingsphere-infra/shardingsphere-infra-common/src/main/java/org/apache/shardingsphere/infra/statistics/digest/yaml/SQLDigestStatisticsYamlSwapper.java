@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.digest.yaml;
+
+import org.apache.shardingsphere.infra.statistics.LatencyHistogramSnapshot;
+import org.apache.shardingsphere.infra.statistics.digest.SQLDigestStatisticsSnapshot;
+import org.apache.shardingsphere.infra.yaml.config.swapper.YamlConfigurationSwapper;
+
+import java.util.Collections;
+
+/**
+ * SQL digest statistics YAML swapper.
+ */
+public final class SQLDigestStatisticsYamlSwapper implements YamlConfigurationSwapper<YamlSQLDigestStatistics, SQLDigestStatisticsSnapshot> {
+    
+    @Override
+    public YamlSQLDigestStatistics swapToYamlConfiguration(final SQLDigestStatisticsSnapshot data) {
+        YamlSQLDigestStatistics result = new YamlSQLDigestStatistics();
+        result.setDatabaseName(data.getDatabaseName());
+        result.setDigest(data.getDigest());
+        result.setCount(data.getCount());
+        result.setOverestimation(data.getOverestimation());
+        result.setErrorCount(data.getErrorCount());
+        result.setRowCount(data.getRowCount());
+        result.setShardCount(data.getShardCount());
+        result.setMinNanos(data.getMinNanos());
+        result.setMaxNanos(data.getLatency().getMaxNanos());
+        result.setTotalNanos(data.getLatency().getTotalNanos());
+        result.setLatencyBuckets(data.getLatency().getNonEmptyBucketCounts());
+        return result;
+    }
+    
+    @Override
+    public SQLDigestStatisticsSnapshot swapToObject(final YamlSQLDigestStatistics yamlConfig) {
+        LatencyHistogramSnapshot latency = LatencyHistogramSnapshot.valueOf(
+                null == yamlConfig.getLatencyBuckets() ? Collections.emptyMap() : yamlConfig.getLatencyBuckets(), yamlConfig.getTotalNanos(), yamlConfig.getMaxNanos());
+        return new SQLDigestStatisticsSnapshot(yamlConfig.getDatabaseName(), yamlConfig.getDigest(), yamlConfig.getCount(), yamlConfig.getOverestimation(),
+                yamlConfig.getErrorCount(), yamlConfig.getRowCount(), yamlConfig.getShardCount(), yamlConfig.getMinNanos(), latency);
+    }
+}
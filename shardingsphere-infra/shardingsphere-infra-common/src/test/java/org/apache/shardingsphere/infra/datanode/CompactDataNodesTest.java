@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datanode;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompactDataNodesTest {
+    
+    private final List<DataNode> dataNodes = Arrays.asList(new DataNode("ds_0.t_order_0"), new DataNode("ds_0.t_order_1"), new DataNode("ds_1.t_order_0"), new DataNode("ds_1.t_order_1"));
+    
+    @Test
+    public void assertGet() {
+        CompactDataNodes actual = new CompactDataNodes(dataNodes);
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(2).getDataSourceName(), is("ds_1"));
+        assertThat(actual.get(2).getTableName(), is("t_order_0"));
+        assertThat(actual, is(dataNodes));
+    }
+    
+    @Test
+    public void assertGetNames() {
+        CompactDataNodes actual = new CompactDataNodes(dataNodes);
+        assertThat(actual.getDataSourceName(3), is("ds_1"));
+        assertThat(actual.getTableName(3), is("t_order_1"));
+        assertThat(actual.getTableNames(), is(Arrays.asList("t_order_0", "t_order_1")));
+    }
+    
+    @Test
+    public void assertContainsTable() {
+        CompactDataNodes actual = new CompactDataNodes(dataNodes);
+        assertTrue(actual.containsTable("t_order_1"));
+        assertTrue(actual.containsTable("T_ORDER_1"));
+        assertFalse(actual.containsTable("t_order_2"));
+    }
+    
+    @Test
+    public void assertFindLastIndex() {
+        CompactDataNodes actual = new CompactDataNodes(dataNodes);
+        assertThat(actual.findLastIndex("ds_1", "t_order_0"), is(2));
+        assertThat(actual.findLastIndex("DS_1", "T_ORDER_1"), is(3));
+        assertThat(actual.findLastIndex("ds_2", "t_order_0"), is(-1));
+        assertThat(actual.findLastIndex("ds_0", "t_order_2"), is(-1));
+    }
+    
+    @Test
+    public void assertFindLastIndexWithDuplicatedDataNodes() {
+        CompactDataNodes actual = new CompactDataNodes(Arrays.asList(new DataNode("ds_0.t_order_0"), new DataNode("ds_0.t_order_1"), new DataNode("ds_0.t_order_0")));
+        assertThat(actual.findLastIndex("ds_0", "t_order_0"), is(2));
+    }
+    
+    @Test
+    public void assertEmpty() {
+        CompactDataNodes actual = new CompactDataNodes(Collections.emptyList());
+        assertTrue(actual.isEmpty());
+        assertFalse(actual.containsTable("t_order"));
+        assertThat(actual.findLastIndex("ds_0", "t_order"), is(-1));
+    }
+}
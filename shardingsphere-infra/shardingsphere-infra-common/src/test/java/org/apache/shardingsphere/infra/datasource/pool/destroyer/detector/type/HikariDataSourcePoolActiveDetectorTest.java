@@ -25,7 +25,9 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public final class HikariDataSourcePoolActiveDetectorTest {
@@ -48,12 +50,26 @@ public final class HikariDataSourcePoolActiveDetectorTest {
         }
     }
     
+    @Test
+    public void assertGetActiveConnectionRatioWhenEmptyPool() {
+        assertThat(new HikariDataSourcePoolActiveDetector().getActiveConnectionRatio(new HikariDataSource()), is(0D));
+    }
+    
+    @Test
+    public void assertGetActiveConnectionRatio() throws SQLException {
+        DataSource dataSource = createHikariDataSource();
+        try (Connection ignored = dataSource.getConnection()) {
+            assertThat(new HikariDataSourcePoolActiveDetector().getActiveConnectionRatio(dataSource), is(0.25D));
+        }
+    }
+    
     private HikariDataSource createHikariDataSource() {
         HikariConfig config = new HikariConfig();
         config.setDriverClassName("org.h2.Driver");
         config.setJdbcUrl("jdbc:h2:mem:foo_ds;DB_CLOSE_DELAY=-1");
         config.setUsername("root");
         config.setPassword("root");
+        config.setMaximumPoolSize(4);
         return new HikariDataSource(config);
     }
 }
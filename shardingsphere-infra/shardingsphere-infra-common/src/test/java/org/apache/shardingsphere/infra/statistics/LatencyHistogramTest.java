@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LatencyHistogramTest {
+    
+    @Test
+    public void assertBucketBounds() {
+        for (long value = 0L; value < 1L << 20; value++) {
+            int index = LatencyHistogram.getBucketIndex(value);
+            assertTrue(value <= LatencyHistogram.getBucketUpperBound(index));
+            assertTrue(0 == index || value > LatencyHistogram.getBucketUpperBound(index - 1));
+        }
+    }
+    
+    @Test
+    public void assertSnapshot() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1L; value <= 1000L; value++) {
+            histogram.record(value * 1000L);
+        }
+        LatencyHistogramSnapshot actual = histogram.snapshot();
+        assertThat(actual.getCount(), is(1000L));
+        assertThat(actual.getMeanNanos(), is(500500L));
+        assertThat(actual.getMaxNanos(), is(1000000L));
+        assertWithinRelativeError(actual.getValueAtPercentile(50D), 500000L);
+        assertWithinRelativeError(actual.getValueAtPercentile(99D), 990000L);
+        assertThat(actual.getValueAtPercentile(100D), is(1000000L));
+    }
+    
+    @Test
+    public void assertSnapshotWithSmallAndHugeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1L);
+        histogram.record(7L);
+        histogram.record(Long.MAX_VALUE);
+        LatencyHistogramSnapshot actual = histogram.snapshot();
+        assertThat(actual.getCount(), is(3L));
+        assertThat(actual.getValueAtPercentile(10D), is(0L));
+        assertThat(actual.getValueAtPercentile(50D), is(7L));
+        assertThat(actual.getMaxNanos(), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void assertEmptySnapshot() {
+        LatencyHistogramSnapshot actual = new LatencyHistogram().snapshot();
+        assertThat(actual.getCount(), is(0L));
+        assertThat(actual.getMeanNanos(), is(0L));
+        assertThat(actual.getValueAtPercentile(99D), is(0L));
+    }
+    
+    private void assertWithinRelativeError(final long actual, final long expected) {
+        assertTrue(actual >= expected && actual <= expected + expected / 16);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.statistics.digest;
+
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLDigestStatisticsCollectorTest {
+    
+    @Test
+    public void assertRecord() {
+        SQLDigestStatisticsCollector collector = new SQLDigestStatisticsCollector(10);
+        collector.record("foo_db", "SELECT * FROM t_order WHERE order_id = ?", 2000L, 1L, 2, false);
+        collector.record("foo_db", "SELECT * FROM t_order WHERE order_id = ?", 1000L, 0L, 2, true);
+        collector.record("bar_db", "SELECT * FROM t_order WHERE order_id = ?", 3000L, 1L, 1, false);
+        Collection<SQLDigestStatisticsSnapshot> actual = collector.getStatistics();
+        assertThat(actual.size(), is(2));
+        SQLDigestStatisticsSnapshot fooStatistics = actual.stream().filter(each -> "foo_db".equals(each.getDatabaseName())).findFirst().orElseThrow(IllegalStateException::new);
+        assertThat(fooStatistics.getDigest(), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(fooStatistics.getCount(), is(2L));
+        assertThat(fooStatistics.getOverestimation(), is(0L));
+        assertThat(fooStatistics.getErrorCount(), is(1L));
+        assertThat(fooStatistics.getRowCount(), is(1L));
+        assertThat(fooStatistics.getShardCount(), is(4L));
+        assertThat(fooStatistics.getMinNanos(), is(1000L));
+        assertThat(fooStatistics.getLatency().getMaxNanos(), is(2000L));
+        assertThat(fooStatistics.getLatency().getTotalNanos(), is(3000L));
+    }
+    
+    @Test
+    public void assertEvictLeastFrequentDigests() {
+        SQLDigestStatisticsCollector collector = new SQLDigestStatisticsCollector(10);
+        for (int i = 0; i < 100; i++) {
+            collector.record("foo_db", "SELECT * FROM t_heavy", 1000L, 1L, 1, false);
+        }
+        for (int i = 0; i < 50; i++) {
+            collector.record("foo_db", "SELECT * FROM t_light_" + i, 1000L, 1L, 1, false);
+        }
+        Collection<SQLDigestStatisticsSnapshot> actual = collector.getStatistics();
+        assertTrue(actual.size() <= 10);
+        assertTrue(actual.stream().anyMatch(each -> "SELECT * FROM t_heavy".equals(each.getDigest()) && 100L == each.getCount() && 0L == each.getOverestimation()));
+        assertFalse(actual.stream().anyMatch(each -> "SELECT * FROM t_light_0".equals(each.getDigest())));
+        assertTrue(actual.stream().filter(each -> !"SELECT * FROM t_heavy".equals(each.getDigest())).allMatch(each -> each.getCount() - each.getOverestimation() == 1L));
+    }
+    
+    @Test
+    public void assertClear() {
+        SQLDigestStatisticsCollector collector = new SQLDigestStatisticsCollector(1);
+        collector.record("foo_db", "SELECT * FROM t_order", 1000L, 1L, 1, false);
+        collector.record("foo_db", "SELECT * FROM t_user", 1000L, 1L, 1, false);
+        collector.clear();
+        collector.record("foo_db", "SELECT * FROM t_item", 1000L, 1L, 1, false);
+        Collection<SQLDigestStatisticsSnapshot> actual = collector.getStatistics();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getOverestimation(), is(0L));
+    }
+    
+    @Test
+    public void assertGetTopStatistics() {
+        SQLDigestStatisticsCollector collector = new SQLDigestStatisticsCollector(10);
+        collector.record("foo_db", "SELECT * FROM t_order", 1000L, 1L, 1, false);
+        collector.record("foo_db", "SELECT * FROM t_user", 1000L, 1L, 1, false);
+        collector.record("foo_db", "SELECT * FROM t_user", 1000L, 1L, 1, false);
+        List<SQLDigestStatisticsSnapshot> actual = collector.getTopStatistics(1);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getDigest(), is("SELECT * FROM t_user"));
+    }
+    
+    @Test
+    public void assertMergeSnapshots() {
+        SQLDigestStatisticsCollector collector = new SQLDigestStatisticsCollector(10);
+        collector.record("foo_db", "SELECT * FROM t_order", 1000L, 1L, 1, false);
+        collector.record("bar_db", "SELECT * FROM t_order", 3000L, 2L, 2, true);
+        List<SQLDigestStatisticsSnapshot> snapshots = collector.getTopStatistics(2);
+        SQLDigestStatisticsSnapshot actual = snapshots.get(0).merge(snapshots.get(1));
+        assertThat(actual.getCount(), is(2L));
+        assertThat(actual.getErrorCount(), is(1L));
+        assertThat(actual.getRowCount(), is(3L));
+        assertThat(actual.getShardCount(), is(3L));
+        assertThat(actual.getMinNanos(), is(1000L));
+        assertThat(actual.getLatency().getCount(), is(2L));
+        assertThat(actual.getLatency().getMaxNanos(), is(3000L));
+        assertThat(actual.getDigestId(), is(snapshots.get(0).getDigestId()));
+    }
+}
@@ -26,14 +26,21 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Executor engine.
@@ -98,6 +105,9 @@ public final class ExecutorEngine implements AutoCloseable {
     /**
      * Execute.
      *
+     * <p>If query timeout of execution group context is set, execution fails with {@code SQLTimeoutException} when the deadline expires.
+     * On the first failure or on expiry, execution groups which are still running in other threads are cancelled.</p>
+     *
      * @param executionGroupContext execution group context
      * @param firstCallback first executor callback
      * @param callback other executor callback
@@ -112,54 +122,101 @@ public final class ExecutorEngine implements AutoCloseable {
         if (executionGroupContext.getInputGroups().isEmpty()) {
             return Collections.emptyList();
         }
-        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
-                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+        long deadlineNanos = executionGroupContext.getQueryTimeoutMillis() > 0L ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(executionGroupContext.getQueryTimeoutMillis()) : 0L;
+        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback, deadlineNanos)
+                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback, deadlineNanos);
     }
     
-    private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+    private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups,
+                                         final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final long deadlineNanos) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
         while (executionGroups.hasNext()) {
+            if (0L != deadlineNanos && System.nanoTime() - deadlineNanos >= 0L) {
+                throw new SQLTimeoutException("Query execution exceeded the deadline.");
+            }
             result.addAll(syncExecute(executionGroups.next(), callback));
         }
         return result;
     }
     
-    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups,
+                                           final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final long deadlineNanos) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
-        return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        if (!executionGroups.hasNext()) {
+            return new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        }
+        CompletionService<Collection<O>> completionService = new ExecutorCompletionService<>(executorServiceManager.getExecutorService());
+        Map<Future<Collection<O>>, ExecutionGroup<I>> restFutures = asyncExecute(completionService, executionGroups, callback);
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, null == firstCallback ? callback : firstCallback);
+        } catch (final SQLException | RuntimeException ex) {
+            cancel(restFutures, callback);
+            throw ex;
+        }
+        return getGroupResults(firstResults, completionService, restFutures, callback, deadlineNanos);
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
         return callback.execute(executionGroup.getInputs(), true, ExecutorDataMap.getValue());
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
+    private <I, O> Map<Future<Collection<O>>, ExecutionGroup<I>> asyncExecute(final CompletionService<Collection<O>> completionService,
+                                                                           final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        Map<Future<Collection<O>>, ExecutionGroup<I>> result = new LinkedHashMap<>();
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
+            ExecutionGroup<I> executionGroup = executionGroups.next();
+            result.put(completionService.submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap)), executionGroup);
         }
         return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
-        Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
-    }
-    
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
-        for (Future<Collection<O>> each : restFutures) {
+    private <I, O> List<O> getGroupResults(final Collection<O> firstResults, final CompletionService<Collection<O>> completionService,
+                                           final Map<Future<Collection<O>>, ExecutionGroup<I>> restFutures, final ExecutorCallback<I, O> callback, final long deadlineNanos) throws SQLException {
+        Collection<Future<Collection<O>>> pendingFutures = new HashSet<>(restFutures.keySet());
+        while (!pendingFutures.isEmpty()) {
             try {
-                result.addAll(each.get());
+                Future<Collection<O>> completed = 0L == deadlineNanos ? completionService.take() : completionService.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (null == completed) {
+                    cancel(restFutures, callback);
+                    throw new SQLTimeoutException("Query execution exceeded the deadline.");
+                }
+                completed.get();
+                pendingFutures.remove(completed);
             } catch (final InterruptedException | ExecutionException ex) {
+                cancel(restFutures, callback);
+                if (ex instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
                 return throwException(ex);
             }
         }
+        List<O> result = new LinkedList<>(firstResults);
+        for (Future<Collection<O>> each : restFutures.keySet()) {
+            result.addAll(getDoneResult(each));
+        }
         return result;
     }
     
+    private <O> Collection<O> getDoneResult(final Future<Collection<O>> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException | ExecutionException ex) {
+            return throwException(ex);
+        }
+    }
+    
+    private <I, O> void cancel(final Map<Future<Collection<O>>, ExecutionGroup<I>> futures, final ExecutorCallback<I, O> callback) {
+        for (Entry<Future<Collection<O>>, ExecutionGroup<I>> entry : futures.entrySet()) {
+            if (!entry.getKey().isDone()) {
+                callback.cancel(entry.getValue().getInputs());
+                entry.getKey().cancel(true);
+            }
+        }
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
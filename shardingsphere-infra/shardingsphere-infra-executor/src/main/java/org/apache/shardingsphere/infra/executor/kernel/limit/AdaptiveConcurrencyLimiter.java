@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.limit;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive concurrency limiter.
+ *
+ * <p>The limit follows the gradient between the minimum and the observed latency, it shrinks when latency grows or execution times out,
+ * and grows back to the max limit while latency stays close to the minimum. Executions beyond the limit wait in first in first out order,
+ * and are rejected at once when the waiting queue is full.</p>
+ */
+public final class AdaptiveConcurrencyLimiter {
+    
+    private static final double LATENCY_TOLERANCE = 2D;
+    
+    private static final double MIN_GRADIENT = 0.5D;
+    
+    private static final double SMOOTHING = 0.2D;
+    
+    private static final double BACKOFF_RATIO = 0.9D;
+    
+    private static final int MIN_LATENCY_WINDOW_SIZE = 1000;
+    
+    private final String name;
+    
+    private final ReentrantLock lock = new ReentrantLock(true);
+    
+    private final Condition available = lock.newCondition();
+    
+    private volatile int maxLimit;
+    
+    private volatile int queueSize;
+    
+    private volatile double limit;
+    
+    private int inFlight;
+    
+    private int queued;
+    
+    private long minLatencyNanos = Long.MAX_VALUE;
+    
+    private long windowMinLatencyNanos = Long.MAX_VALUE;
+    
+    private int windowSamples;
+    
+    public AdaptiveConcurrencyLimiter(final String name, final int maxLimit, final int queueSize) {
+        this.name = name;
+        this.maxLimit = maxLimit;
+        this.queueSize = queueSize;
+        limit = maxLimit;
+    }
+    
+    /**
+     * Configure max limit and queue size.
+     *
+     * @param maxLimit max concurrency limit
+     * @param queueSize max count of executions waiting for the limit
+     */
+    public void configure(final int maxLimit, final int queueSize) {
+        if (this.maxLimit == maxLimit && this.queueSize == queueSize) {
+            return;
+        }
+        lock.lock();
+        try {
+            this.maxLimit = maxLimit;
+            this.queueSize = queueSize;
+            limit = Math.min(limit, maxLimit);
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Acquire permits to execute.
+     *
+     * <p>Permits more than current limit are never granted, so an execution which needs more permits than the limit is admitted with the limit.</p>
+     *
+     * @param permits count of permits to acquire
+     * @param deadlineNanos deadline of waiting by {@code System.nanoTime()}, 0 means waiting without deadline
+     * @return count of acquired permits
+     * @throws SQLException SQL exception if waiting queue is full, deadline expires or waiting is interrupted
+     */
+    public int acquire(final int permits, final long deadlineNanos) throws SQLException {
+        lock.lock();
+        try {
+            if (0 == queued && inFlight + getGrantablePermits(permits) <= getCurrentLimit()) {
+                return grant(permits);
+            }
+            if (queued >= queueSize) {
+                throw new SQLTransientException(String.format("Concurrency limit %d of data source `%s` exceeded and %d executions are already waiting.", getCurrentLimit(), name, queued));
+            }
+            queued++;
+            try {
+                await(permits, deadlineNanos);
+            } finally {
+                queued--;
+            }
+            int result = grant(permits);
+            if (inFlight < getCurrentLimit()) {
+                available.signal();
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private int getGrantablePermits(final int permits) {
+        return Math.max(1, Math.min(permits, getCurrentLimit()));
+    }
+    
+    private int grant(final int permits) {
+        int result = getGrantablePermits(permits);
+        inFlight += result;
+        return result;
+    }
+    
+    private void await(final int permits, final long deadlineNanos) throws SQLException {
+        try {
+            while (inFlight + getGrantablePermits(permits) > getCurrentLimit()) {
+                if (0L == deadlineNanos) {
+                    available.await();
+                } else if (available.awaitNanos(deadlineNanos - System.nanoTime()) <= 0L && inFlight + getGrantablePermits(permits) > getCurrentLimit()) {
+                    throw new SQLTimeoutException(String.format("Waiting for concurrency limit of data source `%s` exceeded the deadline.", name));
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(String.format("Waiting for concurrency limit of data source `%s` is interrupted.", name), ex);
+        }
+    }
+    
+    /**
+     * Release permits and adapt limit by execution latency.
+     *
+     * @param permits count of acquired permits
+     * @param latencyNanos latency of execution in nanoseconds
+     * @param overloaded whether execution failed because data source is overloaded
+     */
+    public void release(final int permits, final long latencyNanos, final boolean overloaded) {
+        lock.lock();
+        try {
+            inFlight -= permits;
+            int previousLimit = getCurrentLimit();
+            if (overloaded) {
+                limit = Math.max(1D, limit * BACKOFF_RATIO);
+            } else {
+                adapt(Math.max(latencyNanos, 1L));
+            }
+            if (getCurrentLimit() > previousLimit || permits > 1) {
+                available.signalAll();
+            } else {
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Release permits of execution which does not start without adapting limit.
+     *
+     * @param permits count of acquired permits
+     */
+    public void abandon(final int permits) {
+        lock.lock();
+        try {
+            inFlight -= permits;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void adapt(final long latencyNanos) {
+        windowMinLatencyNanos = Math.min(windowMinLatencyNanos, latencyNanos);
+        minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+        if (++windowSamples >= MIN_LATENCY_WINDOW_SIZE) {
+            minLatencyNanos = windowMinLatencyNanos;
+            windowMinLatencyNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1D, LATENCY_TOLERANCE * minLatencyNanos / latencyNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(1D, Math.min(maxLimit, limit * (1D - SMOOTHING) + newLimit * SMOOTHING));
+    }
+    
+    /**
+     * Get current concurrency limit.
+     *
+     * @return current concurrency limit
+     */
+    public int getCurrentLimit() {
+        return Math.max(1, (int) limit);
+    }
+    
+    /**
+     * Get count of executions in flight.
+     *
+     * @return count of executions in flight
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
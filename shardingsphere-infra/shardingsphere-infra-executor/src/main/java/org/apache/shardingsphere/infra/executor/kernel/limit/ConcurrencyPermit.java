@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.limit;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Concurrency permit acquired from limiter.
+ *
+ * <p>Permit is reference counted, it is released to limiter with the average latency of recorded executions when the last reference is released.</p>
+ */
+@RequiredArgsConstructor
+public final class ConcurrencyPermit {
+    
+    private final AdaptiveConcurrencyLimiter limiter;
+    
+    private final int permits;
+    
+    private int references = 1;
+    
+    private long totalLatencyNanos;
+    
+    private int executionCount;
+    
+    private boolean overloaded;
+    
+    /**
+     * Retain permit.
+     */
+    public synchronized void retain() {
+        references++;
+    }
+    
+    /**
+     * Record executions.
+     *
+     * @param latencyNanos total latency of executions in nanoseconds
+     * @param executionCount count of executions
+     * @param overloaded whether executions failed because data source is overloaded
+     */
+    public synchronized void record(final long latencyNanos, final int executionCount, final boolean overloaded) {
+        totalLatencyNanos += latencyNanos;
+        this.executionCount += executionCount;
+        this.overloaded |= overloaded;
+    }
+    
+    /**
+     * Release permit.
+     */
+    public synchronized void release() {
+        if (--references > 0) {
+            return;
+        }
+        if (0 == executionCount) {
+            limiter.abandon(permits);
+        } else {
+            limiter.release(permits, totalLatencyNanos / executionCount, overloaded);
+        }
+    }
+}
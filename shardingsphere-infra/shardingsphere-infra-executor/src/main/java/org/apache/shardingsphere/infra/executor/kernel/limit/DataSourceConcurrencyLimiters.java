@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.limit;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source concurrency limiters.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceConcurrencyLimiters {
+    
+    private static final Map<String, AdaptiveConcurrencyLimiter> LIMITERS = new ConcurrentHashMap<>();
+    
+    /**
+     * Get concurrency limiter of data source.
+     *
+     * @param databaseName database name, null if unknown
+     * @param dataSourceName data source name
+     * @param maxLimit max concurrency limit
+     * @param queueSize max count of executions waiting for the limit
+     * @return concurrency limiter
+     */
+    public static AdaptiveConcurrencyLimiter getLimiter(final String databaseName, final String dataSourceName, final int maxLimit, final int queueSize) {
+        String name = null == databaseName ? dataSourceName : databaseName + "." + dataSourceName;
+        AdaptiveConcurrencyLimiter result = LIMITERS.get(name);
+        if (null == result) {
+            result = LIMITERS.computeIfAbsent(name, key -> new AdaptiveConcurrencyLimiter(key, maxLimit, queueSize));
+        }
+        result.configure(maxLimit, queueSize);
+        return result;
+    }
+}
@@ -43,4 +43,10 @@ public final class ExecutionGroupContext<T> {
     private volatile String databaseName;
     
     private volatile Grantee grantee;
+    
+    private volatile long queryTimeoutMillis;
+    
+    private volatile int dataSourceMaxConcurrency;
+    
+    private volatile int dataSourceConcurrencyQueueSize;
 }
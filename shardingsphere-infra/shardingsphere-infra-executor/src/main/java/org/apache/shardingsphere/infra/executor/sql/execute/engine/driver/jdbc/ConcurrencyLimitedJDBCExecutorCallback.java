@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.limit.ConcurrencyPermit;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * JDBC executor callback which records executions into concurrency permits of data sources.
+ *
+ * <p>Permits are acquired before execution groups are submitted. If stream query results are closed by caller,
+ * permit of data source is retained by every stream query result until it is consumed or closed.</p>
+ *
+ * @param <T> class type of return value
+ */
+@RequiredArgsConstructor
+final class ConcurrencyLimitedJDBCExecutorCallback<T> implements ExecutorCallback<JDBCExecutionUnit, T> {
+    
+    private final JDBCExecutorCallback<T> delegate;
+    
+    private final Map<String, ConcurrencyPermit> permits;
+    
+    @Override
+    public Collection<T> execute(final Collection<JDBCExecutionUnit> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
+        ConcurrencyPermit permit = inputs.isEmpty() ? null : permits.get(inputs.iterator().next().getExecutionUnit().getDataSourceName());
+        if (null == permit) {
+            return delegate.execute(inputs, isTrunkThread, dataMap);
+        }
+        long startTime = System.nanoTime();
+        boolean overloaded = false;
+        try {
+            Collection<T> result = delegate.execute(inputs, isTrunkThread, dataMap);
+            if (delegate.isStreamQueryResultClosedByCaller()) {
+                retain(permit, result);
+            }
+            return result;
+        } catch (final SQLTimeoutException | SQLTransientConnectionException ex) {
+            overloaded = true;
+            throw ex;
+        } finally {
+            permit.record(System.nanoTime() - startTime, inputs.size(), overloaded);
+        }
+    }
+    
+    private void retain(final ConcurrencyPermit permit, final Collection<T> results) {
+        for (T each : results) {
+            if (each instanceof JDBCStreamQueryResult) {
+                permit.retain();
+                ((JDBCStreamQueryResult) each).setCompletionListener(permit::release);
+            }
+        }
+    }
+    
+    @Override
+    public void cancel(final Collection<JDBCExecutionUnit> inputs) {
+        delegate.cancel(inputs);
+    }
+}
@@ -19,9 +19,11 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.QueryResultSizeKey;
 
 import java.sql.Statement;
 
@@ -37,4 +39,10 @@ public final class JDBCExecutionUnit implements DriverExecutionUnit<Statement> {
     private final ConnectionMode connectionMode;
     
     private final Statement storageResource;
+    
+    @Setter
+    private volatile JDBCHedgedRead hedgedRead;
+    
+    @Setter
+    private volatile QueryResultSizeKey resultSizeKey;
 }
@@ -19,12 +19,23 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.limit.AdaptiveConcurrencyLimiter;
+import org.apache.shardingsphere.infra.executor.kernel.limit.ConcurrencyPermit;
+import org.apache.shardingsphere.infra.executor.kernel.limit.DataSourceConcurrencyLimiters;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JDBC executor.
@@ -62,10 +73,62 @@ public final class JDBCExecutor {
     public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
         try {
-            return executorEngine.execute(executionGroupContext, firstCallback, callback, serial);
+            setQueryTimeout(executionGroupContext);
+            if (executionGroupContext.getDataSourceMaxConcurrency() <= 0) {
+                return executorEngine.execute(executionGroupContext, firstCallback, callback, serial);
+            }
+            Map<String, ConcurrencyPermit> permits = acquirePermits(executionGroupContext);
+            try {
+                return executorEngine.execute(executionGroupContext, limitConcurrency(firstCallback, permits), limitConcurrency(callback, permits), serial);
+            } finally {
+                permits.values().forEach(ConcurrencyPermit::release);
+            }
         } catch (final SQLException ex) {
             SQLExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
         }
     }
+    
+    private Map<String, ConcurrencyPermit> acquirePermits(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        long deadlineNanos = executionGroupContext.getQueryTimeoutMillis() > 0L ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(executionGroupContext.getQueryTimeoutMillis()) : 0L;
+        Map<String, Integer> groupCounts = new TreeMap<>();
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            if (!each.getInputs().isEmpty()) {
+                groupCounts.merge(each.getInputs().get(0).getExecutionUnit().getDataSourceName(), 1, Integer::sum);
+            }
+        }
+        Map<String, ConcurrencyPermit> result = new LinkedHashMap<>(groupCounts.size(), 1);
+        try {
+            for (Entry<String, Integer> entry : groupCounts.entrySet()) {
+                AdaptiveConcurrencyLimiter limiter = DataSourceConcurrencyLimiters.getLimiter(executionGroupContext.getDatabaseName(), entry.getKey(),
+                        executionGroupContext.getDataSourceMaxConcurrency(), executionGroupContext.getDataSourceConcurrencyQueueSize());
+                result.put(entry.getKey(), new ConcurrencyPermit(limiter, limiter.acquire(entry.getValue(), deadlineNanos)));
+            }
+        } catch (final SQLException ex) {
+            result.values().forEach(ConcurrencyPermit::release);
+            throw ex;
+        }
+        return result;
+    }
+    
+    private <T> ExecutorCallback<JDBCExecutionUnit, T> limitConcurrency(final JDBCExecutorCallback<T> callback, final Map<String, ConcurrencyPermit> permits) {
+        return null == callback ? null : new ConcurrencyLimitedJDBCExecutorCallback<>(callback, permits);
+    }
+    
+    private void setQueryTimeout(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        long queryTimeoutMillis = executionGroupContext.getQueryTimeoutMillis();
+        if (queryTimeoutMillis <= 0L) {
+            return;
+        }
+        int queryTimeoutSeconds = (int) Math.min(Integer.MAX_VALUE, TimeUnit.MILLISECONDS.toSeconds(queryTimeoutMillis + 999L));
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit executionUnit : each.getInputs()) {
+                Statement statement = executionUnit.getStorageResource();
+                int currentQueryTimeoutSeconds = statement.getQueryTimeout();
+                if (0 == currentQueryTimeoutSeconds || currentQueryTimeoutSeconds > queryTimeoutSeconds) {
+                    statement.setQueryTimeout(queryTimeoutSeconds);
+                }
+            }
+        }
+    }
 }
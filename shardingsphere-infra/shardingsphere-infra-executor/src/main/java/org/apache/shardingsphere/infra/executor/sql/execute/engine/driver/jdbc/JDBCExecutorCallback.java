@@ -26,10 +26,16 @@ import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.QueryResultSizeKey;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.QueryResultSizeRecorder;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.statistics.KernelLatencyRecorder;
+import org.apache.shardingsphere.infra.statistics.KernelStage;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.DatabaseMetaData;
@@ -40,6 +46,7 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 /**
  * JDBC executor callback.
@@ -63,7 +70,13 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         // TODO It is better to judge whether need sane result before execute, can avoid exception thrown
         Collection<T> result = new LinkedList<>();
         for (JDBCExecutionUnit each : executionUnits) {
-            T executeResult = execute(each, isTrunkThread, dataMap);
+            long startTime = System.nanoTime();
+            T executeResult;
+            try {
+                executeResult = execute(each, isTrunkThread, dataMap);
+            } finally {
+                KernelLatencyRecorder.record(KernelStage.EXECUTE, each.getExecutionUnit().getDataSourceName(), System.nanoTime() - startTime);
+            }
             if (null != executeResult) {
                 result.add(executeResult);
             }
@@ -83,14 +96,15 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
-            T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+            Optional<ExecutorService> hedgedReadExecutorService = findHedgedReadExecutorService(jdbcExecutionUnit);
+            T result = hedgedReadExecutorService.isPresent()
+                    ? new JDBCHedgedReadExecutor<T>(jdbcExecutionUnit, hedgedReadExecutorService.get(), statement -> executeSQL(sqlUnit.getSql(), statement, jdbcExecutionUnit.getConnectionMode())).execute()
+                    : executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+            recordResultSize(jdbcExecutionUnit.getResultSizeKey(), result);
             sqlExecutionHook.finishSuccess();
             finishReport(dataMap, jdbcExecutionUnit);
             return result;
         } catch (final SQLException ex) {
-            if (!isTrunkThread) {
-                return null;
-            }
             Optional<T> saneResult = getSaneResult(sqlStatement);
             if (saneResult.isPresent()) {
                 return saneResult.get();
@@ -101,6 +115,31 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    private Optional<ExecutorService> findHedgedReadExecutorService(final JDBCExecutionUnit jdbcExecutionUnit) throws SQLException {
+        if (null == jdbcExecutionUnit.getHedgedRead() || !jdbcExecutionUnit.getStorageResource().getConnection().getAutoCommit()) {
+            return Optional.empty();
+        }
+        return getHedgedReadExecutorService();
+    }
+    
+    private void recordResultSize(final QueryResultSizeKey resultSizeKey, final T result) throws SQLException {
+        if (null == resultSizeKey) {
+            return;
+        }
+        if (result instanceof AbstractMemoryQueryResult) {
+            QueryResultSizeRecorder.record(resultSizeKey, ((AbstractMemoryQueryResult) result).getRowCount(), ((AbstractMemoryQueryResult) result).getMetaData());
+        } else if (result instanceof JDBCStreamQueryResult) {
+            ((JDBCStreamQueryResult) result).setResultSizeKey(resultSizeKey);
+        }
+    }
+    
+    @Override
+    public final void cancel(final Collection<JDBCExecutionUnit> executionUnits) {
+        for (JDBCExecutionUnit each : executionUnits) {
+            JDBCStatementCanceller.cancelQuietly(each.getStorageResource());
+        }
+    }
+    
     private DataSourceMetaData getDataSourceMetaData(final DatabaseMetaData databaseMetaData) throws SQLException {
         String url = databaseMetaData.getURL();
         if (CACHED_DATASOURCE_METADATA.containsKey(url)) {
@@ -120,4 +159,26 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode) throws SQLException;
     
     protected abstract Optional<T> getSaneResult(SQLStatement sqlStatement);
+    
+    /**
+     * Get executor service to execute routed statement of hedged read.
+     *
+     * <p>Result of hedged read may come from statement which is not routed, only callbacks which track every executed statement and result set support it.</p>
+     *
+     * @return executor service to execute routed statement of hedged read, empty if hedged read is not supported
+     */
+    protected Optional<ExecutorService> getHedgedReadExecutorService() {
+        return Optional.empty();
+    }
+    
+    /**
+     * Judge whether stream query results are closed by caller.
+     *
+     * <p>Concurrency permit of data source is held until stream query results are consumed or closed if they are closed by caller, otherwise it is released after execution.</p>
+     *
+     * @return stream query results are closed by caller or not
+     */
+    protected boolean isStreamQueryResultClosedByCaller() {
+        return false;
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.route.context.HedgedRead;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * JDBC hedged read executor.
+ *
+ * <p>Routed statement is executed by executor service, current thread waits for it until delay.
+ * If it has not responded and hedging budget is available, current thread creates hedge statement and executes it,
+ * so connection manager is only used by current thread. Whichever responds first wins, the other one is cancelled by {@link JDBCStatementCanceller}
+ * where the database cancels safely, otherwise it runs to completion.</p>
+ *
+ * @param <T> class type of return value
+ */
+@RequiredArgsConstructor
+final class JDBCHedgedReadExecutor<T> {
+    
+    private final JDBCExecutionUnit executionUnit;
+    
+    private final ExecutorService executorService;
+    
+    private final StatementExecutor<T> statementExecutor;
+    
+    private boolean finished;
+    
+    private Statement hedgeStatement;
+    
+    /**
+     * Execute.
+     *
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    T execute() throws SQLException {
+        HedgedRead hedgedRead = executionUnit.getHedgedRead().getHedgedRead();
+        hedgedRead.addBudget();
+        long delayNanos = hedgedRead.getDelayNanos();
+        if (delayNanos < 0L) {
+            return executeRouted(hedgedRead);
+        }
+        Future<T> routedFuture = executorService.submit(() -> executeRouted(hedgedRead));
+        try {
+            return routedFuture.get(delayNanos, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException ignored) {
+            return hedgedRead.tryAcquire() ? executeHedge(hedgedRead, routedFuture) : getRoutedResult(routedFuture);
+        } catch (final InterruptedException | ExecutionException ex) {
+            return throwRoutedException(ex);
+        }
+    }
+    
+    private T executeRouted(final HedgedRead hedgedRead) throws SQLException {
+        long startTime = System.nanoTime();
+        try {
+            T result = statementExecutor.execute(executionUnit.getStorageResource());
+            finishRouted();
+            return result;
+        } finally {
+            hedgedRead.recordFirstResponse(executionUnit.getExecutionUnit().getDataSourceName(), System.nanoTime() - startTime);
+        }
+    }
+    
+    private T executeHedge(final HedgedRead hedgedRead, final Future<T> routedFuture) throws SQLException {
+        Statement statement;
+        try {
+            statement = executionUnit.getHedgedRead().getHedgeStatementCreator().call();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            return getRoutedResult(routedFuture);
+        }
+        if (!registerHedgeStatement(statement)) {
+            statement.close();
+            return getRoutedResult(routedFuture);
+        }
+        long startTime = System.nanoTime();
+        T result;
+        try {
+            result = statementExecutor.execute(statement);
+        } catch (final SQLException ex) {
+            return getRoutedResult(routedFuture);
+        }
+        hedgedRead.recordFirstResponse(hedgedRead.getHedgeDataSourceName(), System.nanoTime() - startTime);
+        return finishHedge() ? result : getRoutedResult(routedFuture);
+    }
+    
+    private synchronized boolean registerHedgeStatement(final Statement statement) throws SQLException {
+        if (finished) {
+            return false;
+        }
+        statement.setQueryTimeout(executionUnit.getStorageResource().getQueryTimeout());
+        hedgeStatement = statement;
+        return true;
+    }
+    
+    private synchronized void finishRouted() {
+        if (!finished) {
+            finished = true;
+            cancel(hedgeStatement);
+        }
+    }
+    
+    private synchronized boolean finishHedge() {
+        if (finished) {
+            return false;
+        }
+        finished = true;
+        cancel(executionUnit.getStorageResource());
+        return true;
+    }
+    
+    private T getRoutedResult(final Future<T> routedFuture) throws SQLException {
+        try {
+            return routedFuture.get();
+        } catch (final InterruptedException | ExecutionException ex) {
+            return throwRoutedException(ex);
+        }
+    }
+    
+    private T throwRoutedException(final Exception ex) throws SQLException {
+        if (ex instanceof InterruptedException) {
+            cancel(executionUnit.getStorageResource());
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+        throw ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause());
+    }
+    
+    private void cancel(final Statement statement) {
+        if (null != statement) {
+            JDBCStatementCanceller.cancelQuietly(statement);
+        }
+    }
+    
+    /**
+     * Statement executor.
+     *
+     * @param <T> class type of return value
+     */
+    interface StatementExecutor<T> {
+        
+        /**
+         * Execute statement.
+         *
+         * @param statement statement
+         * @return execute result
+         * @throws SQLException SQL exception
+         */
+        T execute(Statement statement) throws SQLException;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * JDBC statement canceller.
+ *
+ * <p>Cancel is only issued to PostgreSQL, whose cancel request carries the backend process id and secret key of the connection.
+ * Other drivers, such as MySQL Connector/J, cancel by killing whatever the connection runs when the kill arrives, which may be a later query,
+ * so their statements are left to run to completion.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JDBCStatementCanceller {
+    
+    private static final String CANCELLABLE_DATABASE_PRODUCT_NAME = "PostgreSQL";
+    
+    /**
+     * Judge whether statement can be cancelled without affecting later queries of the same connection.
+     *
+     * @param statement statement
+     * @return can be cancelled or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isCancellable(final Statement statement) throws SQLException {
+        return CANCELLABLE_DATABASE_PRODUCT_NAME.equals(statement.getConnection().getMetaData().getDatabaseProductName());
+    }
+    
+    /**
+     * Cancel statement if it can be cancelled, failure of cancel is ignored.
+     *
+     * @param statement statement to be cancelled
+     */
+    public static void cancelQuietly(final Statement statement) {
+        try {
+            if (isCancellable(statement)) {
+                statement.cancel();
+            }
+        } catch (final SQLException ignored) {
+        }
+    }
+}
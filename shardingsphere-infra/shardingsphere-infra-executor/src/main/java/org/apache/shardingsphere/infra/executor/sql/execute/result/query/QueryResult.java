@@ -82,6 +82,17 @@ public interface QueryResult extends ExecuteResult {
      */
     QueryResultMetaData getMetaData();
     
+    /**
+     * Cancel query whose rest rows are not needed any more.
+     * 
+     * <p>Query result should not be iterated after cancelled, and should be closed as usual.
+     * Cancel is ignored if the query can not be cancelled without affecting other queries on the same connection.</p>
+     *
+     * @throws SQLException SQL exception
+     */
+    default void cancel() throws SQLException {
+    }
+    
     /**
      * Close.
      *
@@ -18,8 +18,12 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
 
 import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCStatementCanceller;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.QueryResultSizeKey;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.QueryResultSizeRecorder;
 
 import java.io.InputStream;
 import java.math.BigDecimal;
@@ -29,18 +33,33 @@ import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
 
 /**
  * JDBC query result for stream loading.
+ *
+ * <p>Cancel is only issued where {@link JDBCStatementCanceller} judges the statement cancellable.</p>
  */
 public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Getter
     private final ResultSet resultSet;
     
+    @Setter
+    private QueryResultSizeKey resultSizeKey;
+    
+    @Setter
+    private Runnable completionListener;
+    
+    private long fetchedRowCount;
+    
+    private boolean exhausted;
+    
+    private boolean cancelled;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
@@ -48,7 +67,26 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        boolean result = resultSet.next();
+        if (result) {
+            fetchedRowCount++;
+            return true;
+        }
+        exhausted = true;
+        if (null != resultSizeKey) {
+            QueryResultSizeRecorder.record(resultSizeKey, fetchedRowCount, getMetaData());
+            resultSizeKey = null;
+        }
+        complete();
+        return false;
+    }
+    
+    private void complete() {
+        if (null != completionListener) {
+            Runnable listener = completionListener;
+            completionListener = null;
+            listener.run();
+        }
     }
     
     @Override
@@ -124,8 +162,29 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
         return resultSet.wasNull();
     }
     
+    @Override
+    public void cancel() throws SQLException {
+        if (exhausted || cancelled) {
+            return;
+        }
+        Statement statement = resultSet.getStatement();
+        if (null == statement || !JDBCStatementCanceller.isCancellable(statement)) {
+            return;
+        }
+        cancelled = true;
+        statement.cancel();
+    }
+    
     @Override
     public void close() throws SQLException {
-        resultSet.close();
+        try {
+            resultSet.close();
+        } catch (final SQLException ex) {
+            if (!cancelled) {
+                throw ex;
+            }
+        } finally {
+            complete();
+        }
     }
 }
@@ -23,16 +23,21 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveConnectionModeSelector;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ConnectionModeDecision;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.QueryResultSizeKey;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.UnaryOperator;
 
 /**
  * Abstract execution prepare engine.
@@ -43,11 +48,22 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
     
     private final int maxConnectionsSizePerQuery;
     
+    private final boolean adaptiveConnectionModeEnabled;
+    
+    private final UnaryOperator<String> sqlFingerprinter;
+    
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, ExecutionPrepareDecorator> decorators;
     
     protected AbstractExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
+        this(maxConnectionsSizePerQuery, false, UnaryOperator.identity(), rules);
+    }
+    
+    protected AbstractExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final boolean adaptiveConnectionModeEnabled, final UnaryOperator<String> sqlFingerprinter,
+                                             final Collection<ShardingSphereRule> rules) {
         this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
+        this.adaptiveConnectionModeEnabled = adaptiveConnectionModeEnabled;
+        this.sqlFingerprinter = sqlFingerprinter;
         decorators = ExecutionPrepareDecoratorFactory.getInstance(rules);
     }
     
@@ -57,20 +73,46 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         for (Entry<String, List<SQLUnit>> entry : aggregateSQLUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
             List<SQLUnit> sqlUnits = entry.getValue();
-            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits);
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
-            result.addAll(group(dataSourceName, sqlUnitGroups, connectionMode));
+            if (!adaptiveConnectionModeEnabled) {
+                ConnectionModeDecision decision = AdaptiveConnectionModeSelector.select(sqlUnits.size(), maxConnectionsSizePerQuery);
+                result.addAll(group(dataSourceName, group(sqlUnits, decision.getConnectionSize()), decision.getConnectionMode()));
+                continue;
+            }
+            List<QueryResultSizeKey> resultSizeKeys = getResultSizeKeys(dataSourceName, sqlUnits);
+            ConnectionModeDecision decision = AdaptiveConnectionModeSelector.select(resultSizeKeys, maxConnectionsSizePerQuery, () -> getPoolUtilization(dataSourceName));
+            List<ExecutionGroup<T>> executionGroups = group(dataSourceName, group(sqlUnits, decision.getConnectionSize()), decision.getConnectionMode());
+            prepareResultSizeKeys(executionGroups, resultSizeKeys);
+            result.addAll(executionGroups);
         }
+        prepareHedgedReads(routeContext, result);
         return decorate(routeContext, result);
     }
     
-    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits, final int connectionSize) {
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % connectionSize ? sqlUnits.size() / connectionSize : sqlUnits.size() / connectionSize + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
     }
     
+    private List<QueryResultSizeKey> getResultSizeKeys(final String dataSourceName, final List<SQLUnit> sqlUnits) {
+        List<QueryResultSizeKey> result = new ArrayList<>(sqlUnits.size());
+        for (SQLUnit each : sqlUnits) {
+            result.add(new QueryResultSizeKey(dataSourceName, sqlFingerprinter.apply(each.getSql())));
+        }
+        return result;
+    }
+    
     protected abstract List<ExecutionGroup<T>> group(String dataSourceName, List<List<SQLUnit>> sqlUnitGroups, ConnectionMode connectionMode) throws SQLException;
     
+    protected void prepareHedgedReads(final RouteContext routeContext, final Collection<ExecutionGroup<T>> executionGroups) {
+    }
+    
+    protected double getPoolUtilization(final String dataSourceName) {
+        return -1D;
+    }
+    
+    protected void prepareResultSizeKeys(final List<ExecutionGroup<T>> executionGroups, final List<QueryResultSizeKey> resultSizeKeys) {
+    }
+    
     private Map<String, List<SQLUnit>> aggregateSQLUnitGroups(final Collection<ExecutionUnit> executionUnits) {
         Map<String, List<SQLUnit>> result = new LinkedHashMap<>(executionUnits.size(), 1);
         for (ExecutionUnit each : executionUnits) {
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Adaptive connection mode selector.
+ *
+ * <p>Small historical results are loaded in memory over fewer connections, only one connection is used when the pool is under pressure.
+ * Large historical results are streamed over up to twice max connections size per query while less than half of the pool is in use,
+ * otherwise they fall back to the choice by max connections size per query as SQL without history does.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AdaptiveConnectionModeSelector {
+    
+    private static final long SMALL_RESULT_BYTES = 1024L * 1024L;
+    
+    private static final int SQL_SIZE_PER_CONNECTION_FOR_SMALL_RESULT = 4;
+    
+    private static final double POOL_HEADROOM_UTILIZATION = 0.5D;
+    
+    private static final int HEADROOM_CONNECTIONS_SIZE_FACTOR = 2;
+    
+    private static final double POOL_PRESSURE_UTILIZATION = 0.8D;
+    
+    /**
+     * Select connection mode by max connections size per query.
+     *
+     * @param sqlSize size of SQL to be executed on data source
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @return connection mode decision
+     */
+    public static ConnectionModeDecision select(final int sqlSize, final int maxConnectionsSizePerQuery) {
+        return new ConnectionModeDecision(maxConnectionsSizePerQuery < sqlSize ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY, Math.max(Math.min(maxConnectionsSizePerQuery, sqlSize), 1));
+    }
+    
+    /**
+     * Select connection mode by historical result size and pool utilization.
+     *
+     * @param resultSizeKeys keys of SQL to be executed on data source
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @param poolUtilization supplier of ratio of active connections to max pool size, negative if unknown
+     * @return connection mode decision
+     */
+    public static ConnectionModeDecision select(final List<QueryResultSizeKey> resultSizeKeys, final int maxConnectionsSizePerQuery, final DoubleSupplier poolUtilization) {
+        int sqlSize = resultSizeKeys.size();
+        if (sqlSize <= 1) {
+            return select(sqlSize, maxConnectionsSizePerQuery);
+        }
+        long bytes = 0L;
+        for (QueryResultSizeKey each : resultSizeKeys) {
+            Optional<QueryResultSize> resultSize = QueryResultSizeRecorder.find(each);
+            if (!resultSize.isPresent()) {
+                return select(sqlSize, maxConnectionsSizePerQuery);
+            }
+            bytes += resultSize.get().getBytes();
+        }
+        if (bytes <= SMALL_RESULT_BYTES) {
+            int connectionSize = poolUtilization.getAsDouble() >= POOL_PRESSURE_UTILIZATION ? 1 : (sqlSize + SQL_SIZE_PER_CONNECTION_FOR_SMALL_RESULT - 1) / SQL_SIZE_PER_CONNECTION_FOR_SMALL_RESULT;
+            return new ConnectionModeDecision(ConnectionMode.CONNECTION_STRICTLY, Math.max(Math.min(connectionSize, maxConnectionsSizePerQuery), 1));
+        }
+        double utilization = poolUtilization.getAsDouble();
+        if (sqlSize > maxConnectionsSizePerQuery && utilization >= 0D && utilization < POOL_HEADROOM_UTILIZATION) {
+            return select(sqlSize, maxConnectionsSizePerQuery * HEADROOM_CONNECTIONS_SIZE_FACTOR);
+        }
+        return select(sqlSize, maxConnectionsSizePerQuery);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Query result size, moving average of historical results.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class QueryResultSize {
+    
+    private static final double NEW_SAMPLE_WEIGHT = 0.3D;
+    
+    private final long rowCount;
+    
+    private final long bytes;
+    
+    /**
+     * Merge with size of new result.
+     *
+     * @param rowCount row count of new result
+     * @param bytes estimated bytes of new result
+     * @return merged query result size
+     */
+    public QueryResultSize merge(final long rowCount, final long bytes) {
+        return new QueryResultSize(average(this.rowCount, rowCount), average(this.bytes, bytes));
+    }
+    
+    private long average(final long history, final long sample) {
+        return (long) (history * (1D - NEW_SAMPLE_WEIGHT) + sample * NEW_SAMPLE_WEIGHT);
+    }
+}
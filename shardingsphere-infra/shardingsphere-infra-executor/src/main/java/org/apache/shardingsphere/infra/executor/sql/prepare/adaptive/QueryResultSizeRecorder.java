@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Query result size recorder.
+ *
+ * <p>Sizes are kept per data source and SQL fingerprint, the least used sizes are evicted when the count of keys reaches the limit.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueryResultSizeRecorder {
+    
+    private static final int MAX_KEY_COUNT = 10000;
+    
+    private static final int MAX_ESTIMATED_COLUMN_BYTES = 1024;
+    
+    private static final Cache<QueryResultSizeKey, QueryResultSize> SIZES = Caffeine.newBuilder().maximumSize(MAX_KEY_COUNT).build();
+    
+    /**
+     * Find historical query result size.
+     *
+     * @param key query result size key
+     * @return historical query result size
+     */
+    public static Optional<QueryResultSize> find(final QueryResultSizeKey key) {
+        return Optional.ofNullable(SIZES.getIfPresent(key));
+    }
+    
+    /**
+     * Record query result size.
+     *
+     * @param key query result size key
+     * @param rowCount row count of result
+     * @param metaData meta data of result
+     * @throws SQLException SQL exception
+     */
+    public static void record(final QueryResultSizeKey key, final long rowCount, final QueryResultMetaData metaData) throws SQLException {
+        long bytes = rowCount * getEstimatedRowBytes(metaData);
+        SIZES.asMap().compute(key, (unused, value) -> null == value ? new QueryResultSize(rowCount, bytes) : value.merge(rowCount, bytes));
+    }
+    
+    private static long getEstimatedRowBytes(final QueryResultMetaData metaData) throws SQLException {
+        long result = 0L;
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            result += Math.min(Math.max(metaData.getColumnLength(i), 1), MAX_ESTIMATED_COLUMN_BYTES);
+        }
+        return result;
+    }
+}
@@ -22,15 +22,27 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCHedgedRead;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.QueryResultSizeKey;
+import org.apache.shardingsphere.infra.route.context.HedgedRead;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRouteStageContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteStageContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.statistics.KernelLatencyRecorder;
+import org.apache.shardingsphere.infra.statistics.KernelStage;
 
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
 /**
  * Driver execution prepare engine.
@@ -54,7 +66,13 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     
     public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final ExecutorConnectionManager<C> connectionManager,
                                         final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules) {
-        super(maxConnectionsSizePerQuery, rules);
+        this(type, maxConnectionsSizePerQuery, false, UnaryOperator.identity(), connectionManager, statementManager, option, rules);
+    }
+    
+    public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final boolean adaptiveConnectionModeEnabled, final UnaryOperator<String> sqlFingerprinter,
+                                        final ExecutorConnectionManager<C> connectionManager, final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option,
+                                        final Collection<ShardingSphereRule> rules) {
+        super(maxConnectionsSizePerQuery, adaptiveConnectionModeEnabled, sqlFingerprinter, rules);
         this.connectionManager = connectionManager;
         this.statementManager = statementManager;
         this.option = option;
@@ -78,13 +96,65 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     
     @Override
     protected List<ExecutionGroup<T>> group(final String dataSourceName, final List<List<SQLUnit>> sqlUnitGroups, final ConnectionMode connectionMode) throws SQLException {
-        List<ExecutionGroup<T>> result = new LinkedList<>();
-        List<C> connections = connectionManager.getConnections(dataSourceName, sqlUnitGroups.size(), connectionMode);
-        int count = 0;
-        for (List<SQLUnit> each : sqlUnitGroups) {
-            result.add(createExecutionGroup(dataSourceName, each, connections.get(count++), connectionMode));
+        long startTime = System.nanoTime();
+        try {
+            List<ExecutionGroup<T>> result = new LinkedList<>();
+            List<C> connections = connectionManager.getConnections(dataSourceName, sqlUnitGroups.size(), connectionMode);
+            int count = 0;
+            for (List<SQLUnit> each : sqlUnitGroups) {
+                result.add(createExecutionGroup(dataSourceName, each, connections.get(count++), connectionMode));
+            }
+            return result;
+        } finally {
+            KernelLatencyRecorder.record(KernelStage.PREPARE, dataSourceName, System.nanoTime() - startTime);
         }
-        return result;
+    }
+    
+    @Override
+    protected void prepareHedgedReads(final RouteContext routeContext, final Collection<ExecutionGroup<T>> executionGroups) {
+        if (!routeContext.isSingleRouting() || 1 != executionGroups.size()) {
+            return;
+        }
+        List<T> inputs = executionGroups.iterator().next().getInputs();
+        if (1 != inputs.size() || !(inputs.get(0) instanceof JDBCExecutionUnit)) {
+            return;
+        }
+        JDBCExecutionUnit executionUnit = (JDBCExecutionUnit) inputs.get(0);
+        for (RouteStageContext each : routeContext.getRouteStageContexts().values()) {
+            if (each instanceof HedgedReadRouteStageContext) {
+                HedgedRead hedgedRead = ((HedgedReadRouteStageContext) each).getHedgedReads().get(executionUnit.getExecutionUnit().getDataSourceName());
+                if (null != hedgedRead) {
+                    executionUnit.setHedgedRead(new JDBCHedgedRead(hedgedRead, () -> createHedgeStatement(executionUnit, hedgedRead.getHedgeDataSourceName())));
+                    return;
+                }
+            }
+        }
+    }
+    
+    @Override
+    protected double getPoolUtilization(final String dataSourceName) {
+        return connectionManager.getPoolUtilization(dataSourceName);
+    }
+    
+    @Override
+    protected void prepareResultSizeKeys(final List<ExecutionGroup<T>> executionGroups, final List<QueryResultSizeKey> resultSizeKeys) {
+        Iterator<QueryResultSizeKey> resultSizeKeyIterator = resultSizeKeys.iterator();
+        for (ExecutionGroup<T> each : executionGroups) {
+            for (T executionUnit : each.getInputs()) {
+                QueryResultSizeKey resultSizeKey = resultSizeKeyIterator.next();
+                if (executionUnit instanceof JDBCExecutionUnit) {
+                    ((JDBCExecutionUnit) executionUnit).setResultSizeKey(resultSizeKey);
+                }
+            }
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Statement createHedgeStatement(final JDBCExecutionUnit executionUnit, final String hedgeDataSourceName) throws SQLException {
+        ConnectionMode connectionMode = executionUnit.getConnectionMode();
+        C connection = connectionManager.getConnections(hedgeDataSourceName, 1, connectionMode).get(0);
+        ExecutionUnit hedgeExecutionUnit = new ExecutionUnit(hedgeDataSourceName, executionUnit.getExecutionUnit().getSqlUnit());
+        return ((JDBCExecutionUnit) sqlExecutionUnitBuilder.build(hedgeExecutionUnit, statementManager, connection, connectionMode, option)).getStorageResource();
     }
     
     @SuppressWarnings("unchecked")
@@ -39,4 +39,14 @@ public interface ExecutorConnectionManager<C> {
      * @throws SQLException SQL exception
      */
     List<C> getConnections(String dataSourceName, int connectionSize, ConnectionMode connectionMode) throws SQLException;
+    
+    /**
+     * Get utilization of connection pool.
+     *
+     * @param dataSourceName data source name
+     * @return ratio of active connections to max pool size, negative if unknown
+     */
+    default double getPoolUtilization(final String dataSourceName) {
+        return -1D;
+    }
 }
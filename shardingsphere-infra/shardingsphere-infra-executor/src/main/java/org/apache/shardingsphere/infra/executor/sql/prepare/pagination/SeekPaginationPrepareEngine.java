@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.pagination;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ShorthandProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Seek pagination prepare engine.
+ * 
+ * <p>
+ * For {@code ORDER BY primary_key LIMIT offset, n} across N shards, each shard is rewritten to {@code LIMIT 0, offset + n} and the merger discards {@code offset} rows.
+ * This engine probes the key at {@code offset / N} of each shard, takes the first of them as boundary, counts rows before the boundary on each shard,
+ * and rewrites each shard to fetch only {@code skip + n} rows from the boundary, so that merger discards {@code skip} rows only.
+ * Orderings which are not unique, not totally ordered by database and Java, or not plain trailing limit clauses keep the original execution units.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SeekPaginationPrepareEngine {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final long offsetThreshold;
+    
+    private final ExecutorJDBCConnectionManager connectionManager;
+    
+    /**
+     * Prepare execution units.
+     *
+     * @param executionContext execution context
+     * @return sought execution units, or original execution units if seek pagination is not applicable
+     * @throws SQLException SQL exception
+     */
+    public Collection<ExecutionUnit> prepare(final ExecutionContext executionContext) throws SQLException {
+        Collection<ExecutionUnit> executionUnits = executionContext.getExecutionUnits();
+        if (offsetThreshold <= 0 || executionUnits.size() <= 1 || !(executionContext.getSqlStatementContext() instanceof SelectStatementContext)) {
+            return executionUnits;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) executionContext.getSqlStatementContext();
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        if (!isSupportedDatabaseType() || !isSeekable(selectStatementContext) || paginationContext.getActualOffset() < offsetThreshold || !paginationContext.getActualRowCount().isPresent()) {
+            return executionUnits;
+        }
+        ColumnOrderByItemSegment orderByItem = (ColumnOrderByItemSegment) selectStatementContext.getOrderByContext().getItems().iterator().next().getSegment();
+        Optional<String> seekLabel = findSeekLabel(selectStatementContext.getProjectionsContext(), orderByItem.getColumn());
+        if (!seekLabel.isPresent()) {
+            return executionUnits;
+        }
+        List<SeekPaginationUnit> seekUnits = new ArrayList<>(executionUnits.size());
+        for (ExecutionUnit each : executionUnits) {
+            Optional<SeekPaginationBaseSQL> baseSQL = SeekPaginationSQLBuilder.findBaseSQL(each.getSqlUnit().getSql());
+            if (!baseSQL.isPresent() || baseSQL.get().getRemovedParameterCount() > each.getSqlUnit().getParameters().size()) {
+                return executionUnits;
+            }
+            seekUnits.add(new SeekPaginationUnit(each, baseSQL.get()));
+        }
+        boolean descending = OrderDirection.DESC == orderByItem.getOrderDirection();
+        SeekPaginationSQLBuilder sqlBuilder = new SeekPaginationSQLBuilder(isMySQLDialect(), seekLabel.get(), descending);
+        Optional<Collection<ExecutionUnit>> result = seek(seekUnits, sqlBuilder, descending, paginationContext);
+        return result.isPresent() ? result.get() : executionUnits;
+    }
+    
+    private boolean isSupportedDatabaseType() {
+        String trunkDatabaseName = DatabaseTypeEngine.getTrunkDatabaseType(database.getResource().getDatabaseType().getType()).getType();
+        return "MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName) || "openGauss".equals(trunkDatabaseName);
+    }
+    
+    private boolean isMySQLDialect() {
+        return "MySQL".equals(DatabaseTypeEngine.getTrunkDatabaseType(database.getResource().getDatabaseType().getType()).getType());
+    }
+    
+    private boolean isSeekable(final SelectStatementContext selectStatementContext) {
+        if (selectStatementContext.isContainsSubquery() || selectStatementContext.isContainsJoinQuery() || selectStatementContext.isContainsCombine()
+                || selectStatementContext.isContainsHaving() || selectStatementContext.isContainsDollarParameterMarker()) {
+            return false;
+        }
+        if (!selectStatementContext.getGroupByContext().getItems().isEmpty() || !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()
+                || selectStatementContext.getProjectionsContext().isDistinctRow()) {
+            return false;
+        }
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        if (selectStatementContext.getOrderByContext().isGenerated() || 1 != orderByItems.size() || !(orderByItems.iterator().next().getSegment() instanceof ColumnOrderByItemSegment)) {
+            return false;
+        }
+        return isUniqueKey(selectStatementContext, ((ColumnOrderByItemSegment) orderByItems.iterator().next().getSegment()).getColumn());
+    }
+    
+    private boolean isUniqueKey(final SelectStatementContext selectStatementContext, final ColumnSegment column) {
+        Collection<String> tableNames = selectStatementContext.getTablesContext().getTableNames();
+        if (1 != tableNames.size()) {
+            return false;
+        }
+        String defaultSchemaName = DatabaseTypeEngine.getDefaultSchemaName(selectStatementContext.getDatabaseType(), database.getName());
+        ShardingSphereSchema schema = selectStatementContext.getTablesContext().getSchemaName().map(optional -> database.getSchemas().get(optional))
+                .orElseGet(() -> database.getSchemas().get(defaultSchemaName));
+        if (null == schema || !schema.containsTable(tableNames.iterator().next())) {
+            return false;
+        }
+        ShardingSphereTable table = schema.get(tableNames.iterator().next());
+        return 1 == table.getPrimaryKeyColumns().size() && table.getPrimaryKeyColumns().get(0).equalsIgnoreCase(column.getIdentifier().getValue());
+    }
+    
+    private Optional<String> findSeekLabel(final ProjectionsContext projectionsContext, final ColumnSegment column) {
+        String columnName = column.getIdentifier().getValue();
+        for (String each : new String[]{column.getQualifiedName(), columnName}) {
+            Optional<String> alias = projectionsContext.findAlias(each);
+            if (alias.isPresent()) {
+                return alias;
+            }
+        }
+        if (projectionsContext.findProjectionIndex(column.getQualifiedName()).isPresent() || projectionsContext.findProjectionIndex(columnName).isPresent()) {
+            return Optional.of(column.getIdentifier().getValueWithQuoteCharacters());
+        }
+        for (Projection each : projectionsContext.getProjections()) {
+            if (each instanceof ShorthandProjection && ((ShorthandProjection) each).getActualColumns().containsKey(columnName.toLowerCase())) {
+                return Optional.of(column.getIdentifier().getValueWithQuoteCharacters());
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<Collection<ExecutionUnit>> seek(final List<SeekPaginationUnit> seekUnits, final SeekPaginationSQLBuilder sqlBuilder,
+                                                     final boolean descending, final PaginationContext paginationContext) throws SQLException {
+        long offset = paginationContext.getActualOffset();
+        long probeOffset = offset / seekUnits.size();
+        Object boundaryKey = null;
+        for (SeekPaginationUnit each : seekUnits) {
+            Optional<Object> probedKey = probe(each, sqlBuilder.buildProbeSQL(each.getBaseSQL(), probeOffset));
+            if (probedKey.isPresent()) {
+                if (!isComparable(probedKey.get()) || null != boundaryKey && !isComparable(boundaryKey, probedKey.get())) {
+                    return Optional.empty();
+                }
+                each.setProbedKey(probedKey.get());
+                if (null == boundaryKey || isBefore(probedKey.get(), boundaryKey, descending)) {
+                    boundaryKey = probedKey.get();
+                }
+            }
+        }
+        if (null == boundaryKey) {
+            return Optional.empty();
+        }
+        long precedingRowCount = 0L;
+        for (SeekPaginationUnit each : seekUnits) {
+            if (null == each.getProbedKey()) {
+                precedingRowCount += count(each, sqlBuilder.buildPrecedingCountSQL(each.getBaseSQL()), boundaryKey);
+            } else if (0 == compare(each.getProbedKey(), boundaryKey)) {
+                precedingRowCount += probeOffset;
+            } else {
+                precedingRowCount += probeOffset - count(each, sqlBuilder.buildRangeCountSQL(each.getBaseSQL()), boundaryKey, each.getProbedKey());
+            }
+        }
+        long skippedRowCount = offset - precedingRowCount;
+        if (skippedRowCount < 0L) {
+            return Optional.empty();
+        }
+        long fetchedRowCount = skippedRowCount + paginationContext.getActualRowCount().orElse(0L);
+        Collection<ExecutionUnit> result = new LinkedList<>();
+        for (SeekPaginationUnit each : seekUnits) {
+            SQLUnit sqlUnit = each.getExecutionUnit().getSqlUnit();
+            result.add(new ExecutionUnit(each.getExecutionUnit().getDataSourceName(),
+                    new SQLUnit(sqlBuilder.buildFetchSQL(each.getBaseSQL(), fetchedRowCount), each.getParameters(boundaryKey), sqlUnit.getTableRouteMappers())));
+        }
+        paginationContext.setSeekedOffset(skippedRowCount);
+        return Optional.of(result);
+    }
+    
+    private Optional<Object> probe(final SeekPaginationUnit seekUnit, final String sql) throws SQLException {
+        try (
+                PreparedStatement preparedStatement = getConnection(seekUnit).prepareStatement(sql);
+                ResultSet resultSet = executeQuery(preparedStatement, seekUnit.getParameters())) {
+            return resultSet.next() ? Optional.ofNullable(resultSet.getObject(1)) : Optional.empty();
+        }
+    }
+    
+    private long count(final SeekPaginationUnit seekUnit, final String sql, final Object... keys) throws SQLException {
+        try (
+                PreparedStatement preparedStatement = getConnection(seekUnit).prepareStatement(sql);
+                ResultSet resultSet = executeQuery(preparedStatement, seekUnit.getParameters(keys))) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+    
+    private Connection getConnection(final SeekPaginationUnit seekUnit) throws SQLException {
+        return connectionManager.getConnections(seekUnit.getExecutionUnit().getDataSourceName(), 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+    }
+    
+    private ResultSet executeQuery(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
+        int index = 0;
+        for (Object each : parameters) {
+            preparedStatement.setObject(++index, each);
+        }
+        return preparedStatement.executeQuery();
+    }
+    
+    private boolean isComparable(final Object key) {
+        return key instanceof Number || key instanceof Date;
+    }
+    
+    private boolean isComparable(final Object key1, final Object key2) {
+        return key1 instanceof Number == key2 instanceof Number;
+    }
+    
+    private boolean isBefore(final Object key, final Object anotherKey, final boolean descending) {
+        int result = compare(key, anotherKey);
+        return descending ? result > 0 : result < 0;
+    }
+    
+    private int compare(final Object key, final Object anotherKey) {
+        if (key instanceof Number) {
+            return new BigDecimal(key.toString()).compareTo(new BigDecimal(anotherKey.toString()));
+        }
+        return toTimestamp((Date) key).compareTo(toTimestamp((Date) anotherKey));
+    }
+    
+    private Timestamp toTimestamp(final Date date) {
+        return date instanceof Timestamp ? (Timestamp) date : new Timestamp(date.getTime());
+    }
+}
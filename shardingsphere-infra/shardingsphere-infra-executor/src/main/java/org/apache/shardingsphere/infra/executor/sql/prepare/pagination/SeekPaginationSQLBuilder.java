@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.pagination;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Seek pagination SQL builder.
+ */
+@RequiredArgsConstructor
+public final class SeekPaginationSQLBuilder {
+    
+    private static final Pattern TRAILING_LIMIT_PATTERN = Pattern.compile("\\s+LIMIT\\s+(\\?|\\d+)(\\s*,\\s*(\\?|\\d+)|\\s+OFFSET\\s+(\\?|\\d+))?\\s*;?\\s*$", Pattern.CASE_INSENSITIVE);
+    
+    private static final String DERIVED_TABLE_ALIAS = "seek_t";
+    
+    private final boolean mySQLDialect;
+    
+    private final String seekLabel;
+    
+    private final boolean descending;
+    
+    /**
+     * Find SQL without trailing limit clause.
+     *
+     * @param sql SQL ends with limit clause
+     * @return SQL without trailing limit clause and count of parameter markers removed with it
+     */
+    public static Optional<SeekPaginationBaseSQL> findBaseSQL(final String sql) {
+        Matcher matcher = TRAILING_LIMIT_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        String limitClause = matcher.group();
+        int limitParameterCount = (int) limitClause.chars().filter(each -> '?' == each).count();
+        return Optional.of(new SeekPaginationBaseSQL(sql.substring(0, matcher.start()), limitParameterCount));
+    }
+    
+    /**
+     * Build probe SQL, which fetches the seek key at offset.
+     *
+     * @param baseSQL base SQL
+     * @param offset offset of the probed row
+     * @return probe SQL
+     */
+    public String buildProbeSQL(final String baseSQL, final long offset) {
+        String result = String.format("SELECT %s FROM (%s) %s ORDER BY %s %s", getQualifiedLabel(), baseSQL, DERIVED_TABLE_ALIAS, getQualifiedLabel(), getOrderDirection());
+        return mySQLDialect ? String.format("%s LIMIT %d, 1", result, offset) : String.format("%s LIMIT 1 OFFSET %d", result, offset);
+    }
+    
+    /**
+     * Build range count SQL, which counts rows between boundary key (inclusive) and probed key (exclusive).
+     *
+     * @param baseSQL base SQL
+     * @return range count SQL, with boundary key and probed key as the last two parameters
+     */
+    public String buildRangeCountSQL(final String baseSQL) {
+        return descending ? buildCountSQL(baseSQL, "<= ? AND " + getQualifiedLabel() + " > ?") : buildCountSQL(baseSQL, ">= ? AND " + getQualifiedLabel() + " < ?");
+    }
+    
+    /**
+     * Build preceding count SQL, which counts rows ordered before boundary key.
+     *
+     * @param baseSQL base SQL
+     * @return preceding count SQL, with boundary key as the last parameter
+     */
+    public String buildPrecedingCountSQL(final String baseSQL) {
+        return buildCountSQL(baseSQL, descending ? "> ?" : "< ?");
+    }
+    
+    private String buildCountSQL(final String baseSQL, final String predicate) {
+        return String.format("SELECT COUNT(*) FROM (%s) %s WHERE %s %s", baseSQL, DERIVED_TABLE_ALIAS, getQualifiedLabel(), predicate);
+    }
+    
+    /**
+     * Build fetch SQL, which fetches rows from boundary key (inclusive).
+     *
+     * @param baseSQL base SQL
+     * @param rowCount row count to be fetched
+     * @return fetch SQL, with boundary key as the last parameter
+     */
+    public String buildFetchSQL(final String baseSQL, final long rowCount) {
+        return String.format("SELECT * FROM (%s) %s WHERE %s %s ? ORDER BY %s %s LIMIT %d",
+                baseSQL, DERIVED_TABLE_ALIAS, getQualifiedLabel(), descending ? "<=" : ">=", getQualifiedLabel(), getOrderDirection(), rowCount);
+    }
+    
+    private String getOrderDirection() {
+        return descending ? "DESC" : "ASC";
+    }
+    
+    private String getQualifiedLabel() {
+        return DERIVED_TABLE_ALIAS + "." + seekLabel;
+    }
+}
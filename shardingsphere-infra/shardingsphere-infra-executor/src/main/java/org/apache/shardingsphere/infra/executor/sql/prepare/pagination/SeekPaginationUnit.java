@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Seek pagination unit.
+ */
+@RequiredArgsConstructor
+@Getter
+final class SeekPaginationUnit {
+    
+    private final ExecutionUnit executionUnit;
+    
+    private final SeekPaginationBaseSQL seekPaginationBaseSQL;
+    
+    @Setter
+    private Object probedKey;
+    
+    /**
+     * Get base SQL.
+     *
+     * @return base SQL
+     */
+    public String getBaseSQL() {
+        return seekPaginationBaseSQL.getSql();
+    }
+    
+    /**
+     * Get parameters of base SQL followed by seek keys.
+     *
+     * @param seekKeys seek keys
+     * @return parameters
+     */
+    public List<Object> getParameters(final Object... seekKeys) {
+        List<Object> parameters = executionUnit.getSqlUnit().getParameters();
+        List<Object> result = new ArrayList<>(parameters.subList(0, parameters.size() - seekPaginationBaseSQL.getRemovedParameterCount()));
+        result.addAll(Arrays.asList(seekKeys));
+        return result;
+    }
+}
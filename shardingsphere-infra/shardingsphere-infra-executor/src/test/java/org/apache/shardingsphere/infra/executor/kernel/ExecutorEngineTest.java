@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.executor.kernel.fixture.BlockingExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -25,6 +26,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -33,6 +35,7 @@ import java.util.concurrent.CountDownLatch;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -103,4 +106,29 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    public void assertParallelExecuteTimeoutWithCancelPendingInputs() throws SQLException {
+        executionGroupContext = createMockedExecutionGroups(3, 2);
+        executionGroupContext.setQueryTimeoutMillis(50L);
+        BlockingExecutorCallbackFixture callback = new BlockingExecutorCallbackFixture(false);
+        try {
+            executorEngine.execute(executionGroupContext, callback);
+            fail("SQLTimeoutException should be thrown.");
+        } catch (final SQLTimeoutException ignored) {
+        }
+        assertThat(callback.getCancelledInputs().size(), is(4));
+    }
+    
+    @Test
+    public void assertParallelExecuteFailureWithCancelPendingInputs() {
+        BlockingExecutorCallbackFixture callback = new BlockingExecutorCallbackFixture(true);
+        try {
+            executorEngine.execute(executionGroupContext, callback);
+            fail("SQLException should be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("Trunk thread failed."));
+        }
+        assertThat(callback.getCancelledInputs().size(), is(2));
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.limit;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AdaptiveConcurrencyLimiterTest {
+    
+    @Test
+    public void assertAcquireWithinLimit() throws SQLException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("ds_0", 2, 0);
+        limiter.acquire(1, 0L);
+        limiter.acquire(1, 0L);
+        assertThat(limiter.getInFlight(), is(2));
+        limiter.release(1, 1000L, false);
+        assertThat(limiter.getInFlight(), is(1));
+    }
+    
+    @Test(expected = SQLTransientException.class)
+    public void assertAcquireWhenQueueIsFull() throws SQLException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("ds_0", 1, 0);
+        limiter.acquire(1, 0L);
+        limiter.acquire(1, 0L);
+    }
+    
+    @Test(expected = SQLTimeoutException.class)
+    public void assertAcquireWhenDeadlineExpires() throws SQLException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("ds_0", 1, 1);
+        limiter.acquire(1, 0L);
+        limiter.acquire(1, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10L));
+    }
+    
+    @Test
+    public void assertAcquireAfterRelease() throws SQLException, InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("ds_0", 1, 1);
+        limiter.acquire(1, 0L);
+        CountDownLatch acquired = new CountDownLatch(1);
+        AtomicBoolean failed = new AtomicBoolean();
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire(1, 0L);
+                acquired.countDown();
+            } catch (final SQLException ex) {
+                failed.set(true);
+            }
+        });
+        waiter.start();
+        assertFalse(acquired.await(50L, TimeUnit.MILLISECONDS));
+        limiter.release(1, 1000L, false);
+        assertTrue(acquired.await(1L, TimeUnit.SECONDS));
+        assertFalse(failed.get());
+        assertThat(limiter.getInFlight(), is(1));
+    }
+    
+    @Test
+    public void assertReleaseWhenOverloaded() throws SQLException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("ds_0", 10, 0);
+        limiter.acquire(1, 0L);
+        limiter.release(1, 1000L, true);
+        assertThat(limiter.getCurrentLimit(), is(9));
+    }
+    
+    @Test
+    public void assertReleaseWhenLatencyGrows() throws SQLException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("ds_0", 100, 0);
+        limiter.acquire(1, 0L);
+        limiter.release(1, 1000L, false);
+        assertThat(limiter.getCurrentLimit(), is(100));
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(1, 0L);
+            limiter.release(1, 100000L, false);
+        }
+        assertTrue(limiter.getCurrentLimit() < 100);
+        for (int i = 0; i < 200; i++) {
+            limiter.acquire(1, 0L);
+            limiter.release(1, 1000L, false);
+        }
+        assertThat(limiter.getCurrentLimit(), is(100));
+    }
+    
+    @Test
+    public void assertAcquireMorePermitsThanLimit() throws SQLException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("ds_0", 2, 0);
+        assertThat(limiter.acquire(5, 0L), is(2));
+        assertThat(limiter.getInFlight(), is(2));
+        limiter.abandon(2);
+        assertThat(limiter.getInFlight(), is(0));
+        assertThat(limiter.getCurrentLimit(), is(2));
+    }
+    
+    @Test
+    public void assertConfigure() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("ds_0", 100, 0);
+        limiter.configure(10, 0);
+        assertThat(limiter.getCurrentLimit(), is(10));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class JDBCStatementCancellerTest {
+    
+    @Test
+    public void assertIsCancellable() throws SQLException {
+        assertTrue(JDBCStatementCanceller.isCancellable(mockStatement("PostgreSQL")));
+        assertFalse(JDBCStatementCanceller.isCancellable(mockStatement("MySQL")));
+    }
+    
+    @Test
+    public void assertCancelQuietlyWithPostgreSQL() throws SQLException {
+        Statement statement = mockStatement("PostgreSQL");
+        JDBCStatementCanceller.cancelQuietly(statement);
+        verify(statement).cancel();
+    }
+    
+    @Test
+    public void assertCancelQuietlyWithMySQL() throws SQLException {
+        Statement statement = mockStatement("MySQL");
+        JDBCStatementCanceller.cancelQuietly(statement);
+        verify(statement, never()).cancel();
+    }
+    
+    @Test
+    public void assertCancelQuietlyWithCancelFailure() throws SQLException {
+        Statement statement = mockStatement("PostgreSQL");
+        doThrow(SQLException.class).when(statement).cancel();
+        JDBCStatementCanceller.cancelQuietly(statement);
+        verify(statement).cancel();
+    }
+    
+    private Statement mockStatement(final String databaseProductName) throws SQLException {
+        Statement result = mock(Statement.class, RETURNS_DEEP_STUBS);
+        when(result.getConnection().getMetaData().getDatabaseProductName()).thenReturn(databaseProductName);
+        return result;
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCHedgedRead;
+import org.apache.shardingsphere.infra.route.context.HedgedRead;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.junit.Before;
@@ -42,11 +44,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -96,4 +103,60 @@ public final class JDBCExecutorCallbackTest {
         jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
         assertThat(cachedDataSourceMetaData.size(), is(1));
     }
+    
+    @Test
+    public void assertExecuteWithHedgedRead() throws SQLException {
+        CountDownLatch cancelLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            cancelLatch.countDown();
+            return null;
+        }).when(preparedStatement).cancel();
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        PreparedStatement hedgeStatement = mock(PreparedStatement.class);
+        when(hedgeStatement.executeUpdate()).thenReturn(2);
+        HedgedRead hedgedRead = mock(HedgedRead.class);
+        when(hedgedRead.getDelayNanos()).thenReturn(0L);
+        when(hedgedRead.tryAcquire()).thenReturn(true);
+        JDBCExecutionUnit unit = units.iterator().next();
+        unit.setHedgedRead(new JDBCHedgedRead(hedgedRead, () -> hedgeStatement));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        JDBCExecutorCallback<Integer> jdbcExecutorCallback = new JDBCExecutorCallback<Integer>(DatabaseTypeFactory.getInstance("MySQL"), mock(SelectStatement.class), true) {
+            
+            @Override
+            protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                if (preparedStatement == statement) {
+                    awaitCancel(cancelLatch);
+                    throw new SQLException("Cancelled.");
+                }
+                return ((PreparedStatement) statement).executeUpdate();
+            }
+            
+            @Override
+            protected Optional<Integer> getSaneResult(final SQLStatement sqlStatement) {
+                return Optional.empty();
+            }
+            
+            @Override
+            protected Optional<ExecutorService> getHedgedReadExecutorService() {
+                return Optional.of(executorService);
+            }
+        };
+        try {
+            assertThat(jdbcExecutorCallback.execute(units, true, Collections.emptyMap()), is(Collections.singletonList(2)));
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(preparedStatement).cancel();
+        verify(hedgedRead).addBudget();
+        verify(hedgedRead).tryAcquire();
+    }
+    
+    private void awaitCancel(final CountDownLatch cancelLatch) {
+        try {
+            cancelLatch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -18,14 +18,21 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.jdbc;
 
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.limit.AdaptiveConcurrencyLimiter;
+import org.apache.shardingsphere.infra.executor.kernel.limit.DataSourceConcurrencyLimiters;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collections;
 import java.util.List;
 
@@ -52,6 +59,21 @@ public final class JDBCExecutorTest {
         assertThat(actual2, is(Collections.singletonList("test")));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteWithConcurrencyLimit() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        JDBCExecutionUnit executionUnit = new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class));
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(executionUnit))));
+        context.setDatabaseName("limited_db");
+        context.setDataSourceMaxConcurrency(1);
+        AdaptiveConcurrencyLimiter limiter = DataSourceConcurrencyLimiters.getLimiter("limited_db", "ds_0", 1, 0);
+        when(executorEngine.execute(any(), any(), any(), anyBoolean())).thenAnswer(invocation -> Collections.singletonList(limiter.getInFlight()));
+        List<Integer> actual = new JDBCExecutor(executorEngine, false).execute(context, mock(JDBCExecutorCallback.class));
+        assertThat(actual, is(Collections.singletonList(1)));
+        assertThat(limiter.getInFlight(), is(0));
+    }
+    
     @Test
     public void assertExecuteSQLException() {
         try {
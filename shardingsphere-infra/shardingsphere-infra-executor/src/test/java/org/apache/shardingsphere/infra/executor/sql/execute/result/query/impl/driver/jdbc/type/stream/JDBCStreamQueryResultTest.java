@@ -26,6 +26,7 @@ import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
@@ -35,7 +36,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -256,6 +260,69 @@ public final class JDBCStreamQueryResultTest {
         assertTrue(actual.wasNull());
     }
     
+    @Test
+    public void assertCancel() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = getStatement("PostgreSQL");
+        when(resultSet.getStatement()).thenReturn(statement);
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(resultSet);
+        assertTrue(queryResult.next());
+        queryResult.cancel();
+        queryResult.cancel();
+        verify(statement).cancel();
+    }
+    
+    @Test
+    public void assertCancelWithoutStatementScopedCancel() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = getStatement("MySQL");
+        when(resultSet.getStatement()).thenReturn(statement);
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(resultSet);
+        assertTrue(queryResult.next());
+        queryResult.cancel();
+        verify(statement, never()).cancel();
+    }
+    
+    @Test
+    public void assertCancelAfterExhausted() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(resultSet);
+        assertTrue(queryResult.next());
+        assertFalse(queryResult.next());
+        queryResult.cancel();
+        verify(resultSet, never()).getStatement();
+    }
+    
+    @Test
+    public void assertCloseAfterCancelled() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = getStatement("PostgreSQL");
+        when(resultSet.getStatement()).thenReturn(statement);
+        doThrow(SQLException.class).when(resultSet).close();
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(resultSet);
+        queryResult.cancel();
+        queryResult.close();
+        verify(resultSet).close();
+    }
+    
+    @Test
+    public void assertCompletionListenerRunsOnce() throws SQLException {
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(getResultSet());
+        Runnable completionListener = mock(Runnable.class);
+        queryResult.setCompletionListener(completionListener);
+        assertTrue(queryResult.next());
+        verify(completionListener, never()).run();
+        assertFalse(queryResult.next());
+        queryResult.close();
+        verify(completionListener).run();
+    }
+    
+    private Statement getStatement(final String databaseProductName) throws SQLException {
+        Statement result = mock(Statement.class, RETURNS_DEEP_STUBS);
+        when(result.getConnection().getMetaData().getDatabaseProductName()).thenReturn(databaseProductName);
+        return result;
+    }
+    
     private ResultSet getResultSet() throws SQLException {
         ResultSet result = mock(ResultSet.class);
         when(result.next()).thenReturn(true).thenReturn(false);
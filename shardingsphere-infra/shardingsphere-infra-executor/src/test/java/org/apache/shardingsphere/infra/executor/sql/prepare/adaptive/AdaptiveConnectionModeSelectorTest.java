@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class AdaptiveConnectionModeSelectorTest {
+    
+    @Mock
+    private QueryResultMetaData metaData;
+    
+    @Test
+    public void assertSelectWithoutHistory() {
+        ConnectionModeDecision actual = AdaptiveConnectionModeSelector.select(Arrays.asList(new QueryResultSizeKey("no_history_ds", "SELECT 1"), new QueryResultSizeKey("no_history_ds", "SELECT 2")), 1, () -> 0D);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(1));
+    }
+    
+    @Test
+    public void assertSelectWithSmallResult() throws SQLException {
+        List<QueryResultSizeKey> resultSizeKeys = recordResultSizes("small_ds", 8, 10L);
+        ConnectionModeDecision actual = AdaptiveConnectionModeSelector.select(resultSizeKeys, 8, () -> 0D);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(2));
+    }
+    
+    @Test
+    public void assertSelectWithSmallResultUnderPoolPressure() throws SQLException {
+        List<QueryResultSizeKey> resultSizeKeys = recordResultSizes("small_pressure_ds", 8, 10L);
+        ConnectionModeDecision actual = AdaptiveConnectionModeSelector.select(resultSizeKeys, 8, () -> 0.9D);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(1));
+    }
+    
+    @Test
+    public void assertSelectWithLargeResult() throws SQLException {
+        List<QueryResultSizeKey> resultSizeKeys = recordResultSizes("large_ds", 4, 100000L);
+        ConnectionModeDecision actual = AdaptiveConnectionModeSelector.select(resultSizeKeys, 8, () -> 0.1D);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(4));
+    }
+    
+    @Test
+    public void assertSelectWithLargeResultUnderPoolHeadroom() throws SQLException {
+        List<QueryResultSizeKey> resultSizeKeys = recordResultSizes("large_headroom_ds", 4, 100000L);
+        ConnectionModeDecision actual = AdaptiveConnectionModeSelector.select(resultSizeKeys, 2, () -> 0.1D);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(4));
+    }
+    
+    @Test
+    public void assertSelectWithLargeResultUnderPoolHeadroomCappedByTwiceMaxConnectionsSizePerQuery() throws SQLException {
+        List<QueryResultSizeKey> resultSizeKeys = recordResultSizes("large_headroom_capped_ds", 4, 100000L);
+        ConnectionModeDecision actual = AdaptiveConnectionModeSelector.select(resultSizeKeys, 1, () -> 0.1D);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(2));
+    }
+    
+    @Test
+    public void assertSelectWithLargeResultWithoutPoolHeadroom() throws SQLException {
+        List<QueryResultSizeKey> resultSizeKeys = recordResultSizes("large_busy_ds", 4, 100000L);
+        ConnectionModeDecision actual = AdaptiveConnectionModeSelector.select(resultSizeKeys, 2, () -> 0.6D);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(2));
+    }
+    
+    @Test
+    public void assertSelectWithLargeResultWithUnknownPoolUtilization() throws SQLException {
+        List<QueryResultSizeKey> resultSizeKeys = recordResultSizes("large_unknown_ds", 4, 100000L);
+        ConnectionModeDecision actual = AdaptiveConnectionModeSelector.select(resultSizeKeys, 2, () -> -1D);
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getConnectionSize(), is(2));
+    }
+    
+    private List<QueryResultSizeKey> recordResultSizes(final String dataSourceName, final int sqlSize, final long rowCount) throws SQLException {
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLength(1)).thenReturn(100);
+        QueryResultSizeKey[] result = new QueryResultSizeKey[sqlSize];
+        for (int i = 0; i < sqlSize; i++) {
+            result[i] = new QueryResultSizeKey(dataSourceName, "SELECT * FROM t_order_" + i + " WHERE order_id > 10");
+            QueryResultSizeRecorder.record(result[i], rowCount, metaData);
+        }
+        return Arrays.asList(result);
+    }
+}
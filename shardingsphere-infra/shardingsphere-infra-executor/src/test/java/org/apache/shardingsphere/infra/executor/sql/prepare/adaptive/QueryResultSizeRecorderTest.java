@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QueryResultSizeRecorderTest {
+    
+    @Mock
+    private QueryResultMetaData metaData;
+    
+    @Test
+    public void assertFindWithoutHistory() {
+        assertFalse(QueryResultSizeRecorder.find(new QueryResultSizeKey("ds_0", "SELECT * FROM t_no_history")).isPresent());
+    }
+    
+    @Test
+    public void assertRecord() throws SQLException {
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLength(1)).thenReturn(10);
+        when(metaData.getColumnLength(2)).thenReturn(Integer.MAX_VALUE);
+        QueryResultSizeKey key = new QueryResultSizeKey("ds_0", "SELECT * FROM t_record");
+        QueryResultSizeRecorder.record(key, 10L, metaData);
+        Optional<QueryResultSize> actual = QueryResultSizeRecorder.find(new QueryResultSizeKey("ds_0", "SELECT * FROM t_record"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRowCount(), is(10L));
+        assertThat(actual.get().getBytes(), is(10340L));
+        QueryResultSizeRecorder.record(key, 20L, metaData);
+        assertThat(QueryResultSizeRecorder.find(key).get().getRowCount(), is(13L));
+    }
+}
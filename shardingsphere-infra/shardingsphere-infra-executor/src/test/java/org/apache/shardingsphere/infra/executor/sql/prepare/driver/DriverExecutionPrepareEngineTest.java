@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class DriverExecutionPrepareEngineTest {
+    
+    @Mock
+    private ExecutorConnectionManager<Connection> connectionManager;
+    
+    @Mock
+    private ExecutorJDBCStatementManager statementManager;
+    
+    @Test
+    public void assertPrepareWithSQLFingerprint() throws SQLException {
+        when(connectionManager.getConnections(anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(mock(Connection.class)));
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> engine = new DriverExecutionPrepareEngine<>(
+                JDBCDriverType.STATEMENT, 1, true, sql -> sql.replace("1", "?"), connectionManager, statementManager, new StatementOption(false), Collections.emptyList());
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order WHERE order_id = 1", Collections.emptyList()));
+        ExecutionGroupContext<JDBCExecutionUnit> actual = engine.prepare(new RouteContext(), Collections.singletonList(executionUnit));
+        JDBCExecutionUnit actualExecutionUnit = actual.getInputGroups().iterator().next().getInputs().get(0);
+        assertThat(actualExecutionUnit.getResultSizeKey().getDataSourceName(), is("ds_0"));
+        assertThat(actualExecutionUnit.getResultSizeKey().getSqlFingerprint(), is("SELECT * FROM t_order WHERE order_id = ?"));
+    }
+}
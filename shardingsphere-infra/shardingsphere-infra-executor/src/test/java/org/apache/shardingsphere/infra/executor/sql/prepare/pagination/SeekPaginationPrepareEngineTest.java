@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.pagination;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class SeekPaginationPrepareEngineTest {
+    
+    private static final String BASE_SQL = "SELECT order_id FROM %s ORDER BY order_id";
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ShardingSphereDatabase database;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private SelectStatementContext selectStatementContext;
+    
+    @Mock
+    private ExecutorJDBCConnectionManager connectionManager;
+    
+    private PaginationContext paginationContext;
+    
+    @Before
+    public void setUp() {
+        paginationContext = new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 10L), new NumberLiteralLimitValueSegment(0, 0, 5L), Collections.emptyList());
+    }
+    
+    @Test
+    public void assertPrepareWhenDisabled() throws SQLException {
+        ExecutionContext executionContext = createExecutionContext();
+        assertThat(new SeekPaginationPrepareEngine(database, 0L, connectionManager).prepare(executionContext), is(executionContext.getExecutionUnits()));
+        assertThat(paginationContext.getMergeOffset(), is(10L));
+    }
+    
+    @Test
+    public void assertPrepareWhenOffsetBelowThreshold() throws SQLException {
+        mockSeekableStatement();
+        ExecutionContext executionContext = createExecutionContext();
+        assertThat(new SeekPaginationPrepareEngine(database, 100L, connectionManager).prepare(executionContext), is(executionContext.getExecutionUnits()));
+        assertThat(paginationContext.getMergeOffset(), is(10L));
+    }
+    
+    @Test
+    public void assertPrepareWithSeek() throws SQLException {
+        mockSeekableStatement();
+        Connection connection0 = mockConnection("ds_0");
+        Connection connection1 = mockConnection("ds_1");
+        String baseSQL0 = String.format(BASE_SQL, "t_order_0");
+        String baseSQL1 = String.format(BASE_SQL, "t_order_1");
+        PreparedStatement probeStatement0 = mockQuery(connection0, "SELECT seek_t.order_id FROM (" + baseSQL0 + ") seek_t ORDER BY seek_t.order_id ASC LIMIT 5, 1");
+        when(probeStatement0.executeQuery().getObject(1)).thenReturn(100L);
+        PreparedStatement probeStatement1 = mockQuery(connection1, "SELECT seek_t.order_id FROM (" + baseSQL1 + ") seek_t ORDER BY seek_t.order_id ASC LIMIT 5, 1");
+        when(probeStatement1.executeQuery().getObject(1)).thenReturn(120L);
+        PreparedStatement countStatement1 = mockQuery(connection1, "SELECT COUNT(*) FROM (" + baseSQL1 + ") seek_t WHERE seek_t.order_id >= ? AND seek_t.order_id < ?");
+        when(countStatement1.executeQuery().getLong(1)).thenReturn(2L);
+        Collection<ExecutionUnit> actual = new SeekPaginationPrepareEngine(database, 10L, connectionManager).prepare(createExecutionContext());
+        verify(countStatement1).setObject(1, 100L);
+        verify(countStatement1).setObject(2, 120L);
+        assertThat(paginationContext.getMergeOffset(), is(2L));
+        Iterator<ExecutionUnit> iterator = actual.iterator();
+        assertFetchUnit(iterator.next(), "ds_0", baseSQL0);
+        assertFetchUnit(iterator.next(), "ds_1", baseSQL1);
+    }
+    
+    private void assertFetchUnit(final ExecutionUnit actual, final String dataSourceName, final String baseSQL) {
+        assertThat(actual.getDataSourceName(), is(dataSourceName));
+        assertThat(actual.getSqlUnit().getSql(), is("SELECT * FROM (" + baseSQL + ") seek_t WHERE seek_t.order_id >= ? ORDER BY seek_t.order_id ASC LIMIT 7"));
+        assertThat(actual.getSqlUnit().getParameters(), is(Collections.singletonList(100L)));
+    }
+    
+    private void mockSeekableStatement() {
+        when(database.getResource().getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        when(selectStatementContext.getPaginationContext()).thenReturn(paginationContext);
+        when(selectStatementContext.getGroupByContext().getItems()).thenReturn(Collections.emptyList());
+        when(selectStatementContext.getProjectionsContext()).thenReturn(new ProjectionsContext(0, 0, false, Collections.singletonList(new ColumnProjection(null, "order_id", null))));
+        ColumnOrderByItemSegment orderByItemSegment = new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("order_id")), OrderDirection.ASC);
+        when(selectStatementContext.getOrderByContext().getItems()).thenReturn(Collections.singletonList(new OrderByItem(orderByItemSegment)));
+        when(selectStatementContext.getTablesContext().getTableNames()).thenReturn(Collections.singletonList("t_order"));
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.empty());
+        when(selectStatementContext.getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        when(database.getName()).thenReturn("foo_db");
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", 0, true, false, false), new ShardingSphereColumn("user_id", 0, false, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+        when(database.getSchemas()).thenReturn(Collections.singletonMap("foo_db", new ShardingSphereSchema(Collections.singletonMap("t_order", table))));
+    }
+    
+    private Connection mockConnection(final String dataSourceName) throws SQLException {
+        Connection result = mock(Connection.class);
+        when(connectionManager.getConnections(dataSourceName, 1, ConnectionMode.MEMORY_STRICTLY)).thenReturn(Collections.singletonList(result));
+        return result;
+    }
+    
+    private PreparedStatement mockQuery(final Connection connection, final String sql) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class, Answers.RETURNS_DEEP_STUBS);
+        when(connection.prepareStatement(sql)).thenReturn(result);
+        when(result.executeQuery().next()).thenReturn(true);
+        return result;
+    }
+    
+    private ExecutionContext createExecutionContext() {
+        LogicSQL logicSQL = new LogicSQL(selectStatementContext, "SELECT order_id FROM t_order ORDER BY order_id LIMIT 10, 5", Collections.emptyList());
+        Collection<ExecutionUnit> executionUnits = Arrays.asList(createExecutionUnit("ds_0", "t_order_0"), createExecutionUnit("ds_1", "t_order_1"));
+        return new ExecutionContext(logicSQL, executionUnits, new RouteContext());
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final String actualTableName) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(String.format(BASE_SQL, actualTableName) + " LIMIT 0, 15", Collections.emptyList()));
+    }
+}
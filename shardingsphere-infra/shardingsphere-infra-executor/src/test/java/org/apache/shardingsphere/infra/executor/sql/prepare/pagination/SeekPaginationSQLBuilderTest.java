@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.pagination;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SeekPaginationSQLBuilderTest {
+    
+    private static final String BASE_SQL = "SELECT order_id, user_id FROM t_order_0 WHERE user_id = ? ORDER BY order_id";
+    
+    @Test
+    public void assertFindBaseSQLWithMySQLLimit() {
+        Optional<SeekPaginationBaseSQL> actual = SeekPaginationSQLBuilder.findBaseSQL(BASE_SQL + " LIMIT ?, ?");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is(BASE_SQL));
+        assertThat(actual.get().getRemovedParameterCount(), is(2));
+    }
+    
+    @Test
+    public void assertFindBaseSQLWithPostgreSQLLimit() {
+        Optional<SeekPaginationBaseSQL> actual = SeekPaginationSQLBuilder.findBaseSQL(BASE_SQL + " limit 10010 offset 0;");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is(BASE_SQL));
+        assertThat(actual.get().getRemovedParameterCount(), is(0));
+    }
+    
+    @Test
+    public void assertFindBaseSQLWithoutTrailingLimit() {
+        assertFalse(SeekPaginationSQLBuilder.findBaseSQL(BASE_SQL + " LIMIT 0, 10010 FOR UPDATE").isPresent());
+    }
+    
+    @Test
+    public void assertBuildMySQLProbeSQL() {
+        assertThat(new SeekPaginationSQLBuilder(true, "order_id", false).buildProbeSQL(BASE_SQL, 5000L),
+                is("SELECT seek_t.order_id FROM (" + BASE_SQL + ") seek_t ORDER BY seek_t.order_id ASC LIMIT 5000, 1"));
+    }
+    
+    @Test
+    public void assertBuildPostgreSQLProbeSQL() {
+        assertThat(new SeekPaginationSQLBuilder(false, "order_id", true).buildProbeSQL(BASE_SQL, 5000L),
+                is("SELECT seek_t.order_id FROM (" + BASE_SQL + ") seek_t ORDER BY seek_t.order_id DESC LIMIT 1 OFFSET 5000"));
+    }
+    
+    @Test
+    public void assertBuildRangeCountSQL() {
+        assertThat(new SeekPaginationSQLBuilder(true, "order_id", false).buildRangeCountSQL(BASE_SQL),
+                is("SELECT COUNT(*) FROM (" + BASE_SQL + ") seek_t WHERE seek_t.order_id >= ? AND seek_t.order_id < ?"));
+        assertThat(new SeekPaginationSQLBuilder(true, "order_id", true).buildRangeCountSQL(BASE_SQL),
+                is("SELECT COUNT(*) FROM (" + BASE_SQL + ") seek_t WHERE seek_t.order_id <= ? AND seek_t.order_id > ?"));
+    }
+    
+    @Test
+    public void assertBuildPrecedingCountSQL() {
+        assertThat(new SeekPaginationSQLBuilder(true, "order_id", false).buildPrecedingCountSQL(BASE_SQL),
+                is("SELECT COUNT(*) FROM (" + BASE_SQL + ") seek_t WHERE seek_t.order_id < ?"));
+    }
+    
+    @Test
+    public void assertBuildFetchSQL() {
+        assertThat(new SeekPaginationSQLBuilder(true, "order_id", false).buildFetchSQL(BASE_SQL, 30L),
+                is("SELECT * FROM (" + BASE_SQL + ") seek_t WHERE seek_t.order_id >= ? ORDER BY seek_t.order_id ASC LIMIT 30"));
+    }
+}
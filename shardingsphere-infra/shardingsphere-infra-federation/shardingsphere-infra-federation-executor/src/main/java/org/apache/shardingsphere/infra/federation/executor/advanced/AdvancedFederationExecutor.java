@@ -36,8 +36,6 @@ import org.apache.shardingsphere.infra.federation.optimizer.ShardingSphereOptimi
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.enumerable.EnumerableMergedResult;
-import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
-import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.Connection;
@@ -70,18 +68,16 @@ public final class AdvancedFederationExecutor implements FederationExecutor {
     public ResultSet executeQuery(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
                                   final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext) throws SQLException {
         String sql = federationContext.getLogicSQL().getSql();
-        ShardingSphereSQLParserEngine parserEngine = new ShardingSphereSQLParserEngine(
-                federationContext.getDatabases().get(databaseName).getProtocolType().getType(), new CacheOption(1, 1), new CacheOption(1, 1), false);
-        SQLStatement sqlStatement = parserEngine.parse(sql, false);
-        Enumerable<Object[]> enumerableResult = execute(sqlStatement);
+        SQLStatement sqlStatement = federationContext.getLogicSQL().getSqlStatementContext().getSqlStatement();
+        Enumerable<Object[]> enumerableResult = execute(sql, sqlStatement);
         MergedResult mergedResult = new EnumerableMergedResult(enumerableResult);
         federationResultSet = new FederationResultSet(mergedResult);
         return federationResultSet;
     }
     
-    private Enumerable<Object[]> execute(final SQLStatement sqlStatement) {
+    private Enumerable<Object[]> execute(final String sql, final SQLStatement sqlStatement) {
         // TODO
-        return execute(optimizer.optimize(databaseName, schemaName, sqlStatement));
+        return execute(optimizer.optimize(databaseName, schemaName, sql, sqlStatement));
     }
     
     private Enumerable<Object[]> execute(final RelNode bestPlan) {
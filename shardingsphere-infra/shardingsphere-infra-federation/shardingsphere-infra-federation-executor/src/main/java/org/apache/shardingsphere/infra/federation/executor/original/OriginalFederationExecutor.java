@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.federation.executor.original;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.jdbc.CalciteConnection;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.runtime.Hook;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -31,6 +33,7 @@ import org.apache.shardingsphere.infra.federation.executor.original.database.Fil
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutorContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.federation.optimizer.planner.rule.ShardingSphereHashJoinRule;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
@@ -41,6 +44,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Original federation executor.
@@ -78,12 +82,18 @@ public final class OriginalFederationExecutor implements FederationExecutor {
     public ResultSet executeQuery(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
                                   final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext) throws SQLException {
         Connection connection = createConnection(prepareEngine, callback, federationContext);
-        PreparedStatement preparedStatement = connection.prepareStatement(SQLUtil.trimSemicolon(federationContext.getLogicSQL().getSql()));
+        PreparedStatement preparedStatement = prepareStatement(connection, SQLUtil.trimSemicolon(federationContext.getLogicSQL().getSql()));
         setParameters(preparedStatement, federationContext.getLogicSQL().getParameters());
         this.statement = preparedStatement;
         return preparedStatement.executeQuery();
     }
     
+    private PreparedStatement prepareStatement(final Connection connection, final String sql) throws SQLException {
+        try (Hook.Closeable ignored = Hook.PLANNER.addThread((Consumer<RelOptPlanner>) planner -> planner.addRule(ShardingSphereHashJoinRule.INSTANCE))) {
+            return connection.prepareStatement(sql);
+        }
+    }
+    
     private Connection createConnection(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
                                         final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext) throws SQLException {
         Connection result = DriverManager.getConnection(CONNECTION_URL, optimizerContext.getParserContexts().get(databaseName).getDialectProps());
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.exchange;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.DialectJDBCRowsLoaderFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.JDBCRowsLoader;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exchange query result.
+ *
+ * <p>Consumes shard query results on exchange threads in parallel and hands rows over to the single federation consumer through a bounded queue,
+ * so fast shards do not wait for slow ones and at most {@code capacity} rows are buffered in memory.
+ * Exchange threads come from one process wide pool bounded by {@code MAX_EXCHANGE_THREADS}, and each exchange uses at most {@code parallelism} of them,
+ * every exchange thread keeps taking shards until all are drained.
+ * If no exchange thread is available, shards are consumed by the federation consumer itself one by one, so an exchange never waits for others to finish.</p>
+ */
+public final class ExchangeQueryResult implements QueryResult {
+    
+    private static final MemoryQueryResultDataRow END_OF_ROWS = new MemoryQueryResultDataRow(new ArrayList<>(0));
+    
+    private static final int MAX_EXCHANGE_THREADS = Runtime.getRuntime().availableProcessors() * 4;
+    
+    private static final long CLOSE_TIMEOUT_MILLISECONDS = 5000L;
+    
+    private static final ExecutorService EXCHANGE_EXECUTOR = new ThreadPoolExecutor(
+            0, MAX_EXCHANGE_THREADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), ExecutorThreadFactoryBuilder.build("Federation-Exchange-%d"));
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final List<QueryResult> queryResults;
+    
+    private final JDBCRowsLoader rowsLoader;
+    
+    private final Queue<QueryResult> pendingQueryResults;
+    
+    private final BlockingQueue<MemoryQueryResultDataRow> rows;
+    
+    private final AtomicInteger remainingProducers = new AtomicInteger(1);
+    
+    private final CountDownLatch producersFinished;
+    
+    private final Collection<Thread> producerThreads = new HashSet<>();
+    
+    private final boolean inline;
+    
+    private volatile Exception failure;
+    
+    private volatile boolean closed;
+    
+    private QueryResult inlineQueryResult;
+    
+    private MemoryQueryResultDataRow currentRow;
+    
+    private Object currentValue;
+    
+    private boolean finished;
+    
+    public ExchangeQueryResult(final List<QueryResult> queryResults, final DatabaseType databaseType, final int capacity, final int parallelism) {
+        metaData = queryResults.get(0).getMetaData();
+        this.queryResults = queryResults;
+        rowsLoader = DialectJDBCRowsLoaderFactory.getInstance(databaseType);
+        pendingQueryResults = new ConcurrentLinkedQueue<>(queryResults);
+        rows = new ArrayBlockingQueue<>(capacity);
+        int producerCount = Math.min(queryResults.size(), parallelism);
+        producersFinished = new CountDownLatch(producerCount);
+        int submittedCount = 0;
+        for (int i = 0; i < producerCount; i++) {
+            remainingProducers.incrementAndGet();
+            try {
+                EXCHANGE_EXECUTOR.execute(this::produce);
+                submittedCount++;
+            } catch (final RejectedExecutionException ex) {
+                remainingProducers.decrementAndGet();
+                producersFinished.countDown();
+            }
+        }
+        inline = 0 == submittedCount;
+        if (0 == remainingProducers.decrementAndGet() && !inline) {
+            putEndOfRows();
+        }
+    }
+    
+    private void produce() {
+        synchronized (producerThreads) {
+            producerThreads.add(Thread.currentThread());
+        }
+        try {
+            QueryResult queryResult;
+            while (!closed && null != (queryResult = pendingQueryResults.poll())) {
+                int columnCount = queryResult.getMetaData().getColumnCount();
+                while (!closed && queryResult.next()) {
+                    rows.put(loadRow(queryResult, columnCount));
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            if (!closed) {
+                failure = ex;
+            }
+        } finally {
+            if (0 == remainingProducers.decrementAndGet() && !closed) {
+                putEndOfRows();
+            }
+            synchronized (producerThreads) {
+                producerThreads.remove(Thread.currentThread());
+                Thread.interrupted();
+            }
+            producersFinished.countDown();
+        }
+    }
+    
+    private MemoryQueryResultDataRow loadRow(final QueryResult queryResult, final int columnCount) throws SQLException {
+        if (queryResult instanceof JDBCStreamQueryResult) {
+            ResultSet resultSet = ((JDBCStreamQueryResult) queryResult).getResultSet();
+            return rowsLoader.loadRow(columnCount, resultSet);
+        }
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(queryResult.getValue(columnIndex, Object.class));
+        }
+        return new MemoryQueryResultDataRow(result);
+    }
+    
+    private void putEndOfRows() {
+        try {
+            rows.put(END_OF_ROWS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (finished) {
+            return false;
+        }
+        if (inline) {
+            return nextInline();
+        }
+        checkFailure();
+        try {
+            currentRow = rows.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+        currentValue = null;
+        if (END_OF_ROWS == currentRow) {
+            currentRow = null;
+            finished = true;
+            checkFailure();
+            return false;
+        }
+        return true;
+    }
+    
+    private boolean nextInline() throws SQLException {
+        while (null != inlineQueryResult || null != (inlineQueryResult = pendingQueryResults.poll())) {
+            if (inlineQueryResult.next()) {
+                currentRow = loadRow(inlineQueryResult, inlineQueryResult.getMetaData().getColumnCount());
+                currentValue = null;
+                return true;
+            }
+            inlineQueryResult = null;
+        }
+        currentRow = null;
+        finished = true;
+        return false;
+    }
+    
+    private void checkFailure() throws SQLException {
+        if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        }
+        if (null != failure) {
+            throw new SQLException(failure);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        currentValue = currentRow.getValue().get(columnIndex - 1);
+        return currentValue;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        currentValue = currentRow.getValue().get(columnIndex - 1);
+        return currentValue;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        currentValue = currentRow.getValue().get(columnIndex - 1);
+        return getInputStream(currentValue);
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return null == currentValue;
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        if (!finished) {
+            cancelQueryResults();
+        }
+        synchronized (producerThreads) {
+            producerThreads.forEach(Thread::interrupt);
+        }
+        rows.clear();
+        try {
+            producersFinished.await(CLOSE_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void cancelQueryResults() {
+        for (QueryResult each : queryResults) {
+            try {
+                each.cancel();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.federation.executor.original.row;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
@@ -37,6 +38,8 @@ public final class FilterableRowEnumerator implements Enumerator<Object[]> {
     
     private final QueryResultMetaData metaData;
     
+    private final Collection<QueryResult> queryResults;
+    
     private final Collection<Statement> statements;
     
     private Object[] currentRow;
@@ -77,6 +80,9 @@ public final class FilterableRowEnumerator implements Enumerator<Object[]> {
     @Override
     public void close() {
         try {
+            for (QueryResult each : queryResults) {
+                each.close();
+            }
             for (Statement each : statements) {
                 each.close();
             }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.federation.executor.original.table;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.AbstractEnumerable;
@@ -46,22 +47,25 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
+import org.apache.shardingsphere.infra.federation.executor.original.exchange.ExchangeQueryResult;
 import org.apache.shardingsphere.infra.federation.executor.original.SQLDialectFactory;
 import org.apache.shardingsphere.infra.federation.executor.original.row.EmptyRowEnumerator;
 import org.apache.shardingsphere.infra.federation.executor.original.row.FilterableRowEnumerator;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.FilterableTableScanPlan;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.FilterableTableScanPlanKey;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
-import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.Connection;
@@ -82,6 +86,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public final class FilterableTableScanExecutor {
     
+    private static final int EXCHANGE_CAPACITY = 1024;
+    
+    private static final int EXCHANGE_PARALLELISM = Runtime.getRuntime().availableProcessors() * 2;
+    
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
     private final JDBCExecutor jdbcExecutor;
@@ -105,10 +113,12 @@ public final class FilterableTableScanExecutor {
         String databaseName = executorContext.getDatabaseName();
         String schemaName = executorContext.getSchemaName();
         DatabaseType databaseType = DatabaseTypeEngine.getTrunkDatabaseType(optimizerContext.getParserContexts().get(databaseName).getDatabaseType().getType());
-        SqlString sqlString = createSQLString(tableMetaData, scanContext, SQLDialectFactory.getSQLDialect(databaseType));
+        FilterableTableScanPlanKey scanPlanKey = new FilterableTableScanPlanKey(tableMetaData.getName(), tableMetaData.getColumnNames(), scanContext.getProjects(), String.valueOf(scanContext.getFilters()));
+        Cache<FilterableTableScanPlanKey, FilterableTableScanPlan> scanPlanCache = optimizerContext.getPlannerContexts().get(databaseName).getScanPlanCaches().get(schemaName);
         // TODO replace sql parse with sql convert
+        FilterableTableScanPlan scanPlan = scanPlanCache.get(scanPlanKey, unused -> createScanPlan(tableMetaData, scanContext, databaseType));
         FederationContext federationContext = executorContext.getFederationContext();
-        LogicSQL logicSQL = createLogicSQL(federationContext.getDatabases(), sqlString, databaseType);
+        LogicSQL logicSQL = createLogicSQL(federationContext.getDatabases(), scanPlan);
         ShardingSphereDatabase database = federationContext.getDatabases().get(databaseName);
         ExecutionContext context = new KernelProcessor().generateExecutionContext(logicSQL, database, globalRuleMetaData, executorContext.getProps());
         if (federationContext.isPreview() || databaseType.getSystemSchemas().contains(schemaName)) {
@@ -128,7 +138,7 @@ public final class FilterableTableScanExecutor {
             MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps());
             MergedResult mergedResult = mergeEngine.merge(queryResults, logicSQL.getSqlStatementContext());
             Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-            return createEnumerable(mergedResult, queryResults.get(0).getMetaData(), statements);
+            return createEnumerable(mergedResult, queryResults, statements);
         } catch (final SQLException ex) {
             throw new ShardingSphereException(ex);
         } finally {
@@ -137,7 +147,10 @@ public final class FilterableTableScanExecutor {
     }
     
     private List<QueryResult> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final DatabaseType databaseType) throws SQLException {
-        Collection<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
+        List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
+        if (queryResults.stream().filter(each -> each instanceof JDBCStreamQueryResult).count() > 1) {
+            return Collections.singletonList(new ExchangeQueryResult(queryResults, databaseType, EXCHANGE_CAPACITY, EXCHANGE_PARALLELISM));
+        }
         List<QueryResult> result = new LinkedList<>();
         for (QueryResult each : queryResults) {
             QueryResult queryResult = each instanceof JDBCStreamQueryResult
@@ -201,31 +214,37 @@ public final class FilterableTableScanExecutor {
         return result;
     }
     
-    private AbstractEnumerable<Object[]> createEnumerable(final MergedResult mergedResult, final QueryResultMetaData metaData, final Collection<Statement> statements) {
+    private AbstractEnumerable<Object[]> createEnumerable(final MergedResult mergedResult, final List<QueryResult> queryResults, final Collection<Statement> statements) {
         return new AbstractEnumerable<Object[]>() {
             
             @Override
             public Enumerator<Object[]> enumerator() {
-                return new FilterableRowEnumerator(mergedResult, metaData, statements);
+                return new FilterableRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), queryResults, statements);
             }
         };
     }
     
-    private LogicSQL createLogicSQL(final Map<String, ShardingSphereDatabase> databases, final SqlString sqlString, final DatabaseType databaseType) {
+    private FilterableTableScanPlan createScanPlan(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext, final DatabaseType databaseType) {
+        SqlString sqlString = createSQLString(tableMetaData, scanContext, SQLDialectFactory.getSQLDialect(databaseType));
         String sql = sqlString.getSql().replace("\n", " ");
-        SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType.getType(),
-                optimizerContext.getSqlParserRule().getSqlStatementCache(), optimizerContext.getSqlParserRule().getParseTreeCache(),
-                optimizerContext.getSqlParserRule().isSqlCommentParseEnabled()).parse(sql, false);
-        List<Object> parameters = getParameters(sqlString.getDynamicParameters());
-        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(databases, parameters, sqlStatement, executorContext.getDatabaseName());
-        return new LogicSQL(sqlStatementContext, sql, parameters);
+        SQLParserRule sqlParserRule = optimizerContext.getSqlParserRule();
+        SQLStatement sqlStatement = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType.getType(),
+                sqlParserRule.getSqlStatementCache(), sqlParserRule.getParseTreeCache(), sqlParserRule.isSqlCommentParseEnabled(), sqlParserRule.isSqlFastPathParseEnabled()).parse(sql, false);
+        List<Integer> parameterIndexes = null == sqlString.getDynamicParameters() ? Collections.emptyList() : new ArrayList<>(sqlString.getDynamicParameters());
+        return new FilterableTableScanPlan(sql, sqlStatement, parameterIndexes);
+    }
+    
+    private LogicSQL createLogicSQL(final Map<String, ShardingSphereDatabase> databases, final FilterableTableScanPlan scanPlan) {
+        List<Object> parameters = getParameters(scanPlan.getParameterIndexes());
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(databases, parameters, scanPlan.getSqlStatement(), executorContext.getDatabaseName());
+        return new LogicSQL(sqlStatementContext, scanPlan.getSql(), parameters);
     }
     
     private List<Object> getParameters(final List<Integer> parameterIndexes) {
-        if (null == parameterIndexes) {
+        if (parameterIndexes.isEmpty()) {
             return Collections.emptyList();
         }
-        List<Object> result = new ArrayList<>();
+        List<Object> result = new ArrayList<>(parameterIndexes.size());
         for (Integer each : parameterIndexes) {
             result.add(executorContext.getFederationContext().getLogicSQL().getParameters().get(each));
         }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.exchange;
+
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ExchangeQueryResultTest {
+    
+    @Test
+    public void assertNextWithAllShardRows() throws SQLException {
+        ExchangeQueryResult actual = new ExchangeQueryResult(Arrays.asList(mockQueryResult(0, 100), mockQueryResult(100, 100), mockQueryResult(200, 100)), new H2DatabaseType(), 4, 2);
+        Set<Object> values = new HashSet<>();
+        while (actual.next()) {
+            values.add(actual.getValue(1, Object.class));
+        }
+        assertThat(values.size(), is(300));
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    public void assertWasNull() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(queryResult.getMetaData()).thenReturn(metaData);
+        when(queryResult.next()).thenReturn(true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(null);
+        when(queryResult.getValue(2, Object.class)).thenReturn("foo");
+        ExchangeQueryResult actual = new ExchangeQueryResult(Arrays.asList(queryResult, mockQueryResult(0, 1)), new H2DatabaseType(), 4, 2);
+        boolean nullValueFound = false;
+        while (actual.next()) {
+            Object value = actual.getValue(1, Object.class);
+            assertThat(actual.wasNull(), is(null == value));
+            nullValueFound |= null == value;
+        }
+        assertTrue(nullValueFound);
+        actual.close();
+    }
+    
+    @Test
+    public void assertNextWithoutExchangeThread() throws SQLException {
+        ExchangeQueryResult actual = new ExchangeQueryResult(Arrays.asList(mockQueryResult(0, 100), mockQueryResult(100, 100)), new H2DatabaseType(), 4, 0);
+        Set<Object> values = new HashSet<>();
+        while (actual.next()) {
+            values.add(actual.getValue(1, Object.class));
+        }
+        assertThat(values.size(), is(200));
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertCloseStopsProducers() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(queryResult.getMetaData()).thenReturn(metaData);
+        when(queryResult.next()).thenReturn(true);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1);
+        ExchangeQueryResult actual = new ExchangeQueryResult(Arrays.asList(queryResult, mockQueryResult(0, 10)), new H2DatabaseType(), 4, 2);
+        assertTrue(actual.next());
+        actual.close();
+        verify(queryResult).cancel();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithShardFailure() throws SQLException {
+        QueryResult failedQueryResult = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(failedQueryResult.getMetaData()).thenReturn(metaData);
+        when(failedQueryResult.next()).thenThrow(new SQLException("shard failed"));
+        ExchangeQueryResult actual = new ExchangeQueryResult(Arrays.asList(mockQueryResult(0, 10), failedQueryResult), new H2DatabaseType(), 4, 2);
+        try {
+            while (actual.next()) {
+                actual.getValue(1, Object.class);
+            }
+        } finally {
+            actual.close();
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithShardRuntimeException() throws SQLException {
+        QueryResult failedQueryResult = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(failedQueryResult.getMetaData()).thenReturn(metaData);
+        when(failedQueryResult.next()).thenReturn(true);
+        when(failedQueryResult.getValue(1, Object.class)).thenThrow(new IllegalStateException("load row failed"));
+        ExchangeQueryResult actual = new ExchangeQueryResult(Arrays.asList(mockQueryResult(0, 10), failedQueryResult), new H2DatabaseType(), 4, 2);
+        try {
+            while (actual.next()) {
+                actual.getValue(1, Object.class);
+            }
+        } finally {
+            actual.close();
+        }
+    }
+    
+    private QueryResult mockQueryResult(final int start, final int count) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(result.getMetaData()).thenReturn(metaData);
+        Boolean[] hasNext = new Boolean[count];
+        Arrays.fill(hasNext, true);
+        hasNext[count - 1] = false;
+        when(result.next()).thenReturn(true, hasNext);
+        Integer[] values = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = start + i;
+        }
+        when(result.getValue(1, Object.class)).thenReturn(values[0], Arrays.copyOfRange(values, 1, count));
+        return result;
+    }
+}
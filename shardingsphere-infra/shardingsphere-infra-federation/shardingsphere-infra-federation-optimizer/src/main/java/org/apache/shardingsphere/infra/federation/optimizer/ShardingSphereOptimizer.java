@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.adapter.enumerable.EnumerableConvention;
 import org.apache.calcite.plan.RelOptPlanner;
@@ -60,6 +61,23 @@ public final class ShardingSphereOptimizer {
         }
     }
     
+    /**
+     * Optimize query execution plan with plan cache.
+     * 
+     * <p>Plans are cached by SQL per schema, parameter markers are kept as dynamic parameters in cached plan.
+     * Plan cache is discarded together with optimizer planner context when meta data changed.</p>
+     * 
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     * @return optimized relational node
+     */
+    public RelNode optimize(final String databaseName, final String schemaName, final String sql, final SQLStatement sqlStatement) {
+        Cache<String, RelNode> planCache = context.getPlannerContexts().get(databaseName).getPlanCaches().get(schemaName);
+        return planCache.get(sql, unused -> optimize(databaseName, schemaName, sqlStatement));
+    }
+    
     private RelNode optimize(final SqlToRelConverter converter, final RelRoot relRoot) {
         RelOptPlanner planner = converter.getCluster().getPlanner();
         RelTraitSet desiredTraitSet = relRoot.rel.getTraitSet().replace(EnumerableConvention.INSTANCE).simplify();
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.context.planner;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Filterable table scan plan key.
+ *
+ * <p>Plans are cached per database and schema in optimizer planner context, which is rebuilt when meta data changes.
+ * Column names are part of the key as well, so plans built before a table structure change are never reused after it.</p>
+ */
+@RequiredArgsConstructor
+@EqualsAndHashCode
+public final class FilterableTableScanPlanKey {
+    
+    private final String tableName;
+    
+    private final List<String> columnNames;
+    
+    private final int[] projects;
+    
+    private final String filters;
+}
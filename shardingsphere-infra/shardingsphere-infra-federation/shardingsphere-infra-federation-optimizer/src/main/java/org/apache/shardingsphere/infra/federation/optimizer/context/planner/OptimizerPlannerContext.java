@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer.context.planner;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 
@@ -34,4 +36,8 @@ public final class OptimizerPlannerContext {
     private final Map<String, SqlValidator> validators;
     
     private final Map<String, SqlToRelConverter> converters;
+    
+    private final Map<String, Cache<String, RelNode>> planCaches;
+    
+    private final Map<String, Cache<FilterableTableScanPlanKey, FilterableTableScanPlan>> scanPlanCaches;
 }
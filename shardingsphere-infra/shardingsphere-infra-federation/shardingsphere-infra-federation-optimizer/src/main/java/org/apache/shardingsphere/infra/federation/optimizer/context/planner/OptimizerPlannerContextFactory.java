@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer.context.planner;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.calcite.config.CalciteConnectionConfig;
@@ -27,6 +29,7 @@ import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable.ViewExpander;
 import org.apache.calcite.prepare.CalciteCatalogReader;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.schema.Schema;
@@ -54,6 +57,10 @@ import java.util.Properties;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class OptimizerPlannerContextFactory {
     
+    private static final int PLAN_CACHE_INITIAL_CAPACITY = 128;
+    
+    private static final long PLAN_CACHE_MAXIMUM_SIZE = 1024L;
+    
     /**
      * Create optimizer planner context map.
      *
@@ -77,6 +84,8 @@ public final class OptimizerPlannerContextFactory {
     public static OptimizerPlannerContext create(final FederationDatabaseMetaData schemaMetaData) {
         Map<String, SqlValidator> validators = new LinkedHashMap<>();
         Map<String, SqlToRelConverter> converters = new LinkedHashMap<>();
+        Map<String, Cache<String, RelNode>> planCaches = new LinkedHashMap<>();
+        Map<String, Cache<FilterableTableScanPlanKey, FilterableTableScanPlan>> scanPlanCaches = new LinkedHashMap<>();
         FederationDatabase federationDatabase = new FederationDatabase(schemaMetaData);
         for (Entry<String, Schema> entry : federationDatabase.getSubSchemaMap().entrySet()) {
             CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(createConnectionProperties());
@@ -86,8 +95,10 @@ public final class OptimizerPlannerContextFactory {
             SqlToRelConverter converter = createConverter(catalogReader, validator, relDataTypeFactory);
             validators.put(entry.getKey(), validator);
             converters.put(entry.getKey(), converter);
+            planCaches.put(entry.getKey(), Caffeine.newBuilder().initialCapacity(PLAN_CACHE_INITIAL_CAPACITY).maximumSize(PLAN_CACHE_MAXIMUM_SIZE).build());
+            scanPlanCaches.put(entry.getKey(), Caffeine.newBuilder().initialCapacity(PLAN_CACHE_INITIAL_CAPACITY).maximumSize(PLAN_CACHE_MAXIMUM_SIZE).build());
         }
-        return new OptimizerPlannerContext(validators, converters);
+        return new OptimizerPlannerContext(validators, converters, planCaches, scanPlanCaches);
     }
     
     private static Properties createConnectionProperties() {
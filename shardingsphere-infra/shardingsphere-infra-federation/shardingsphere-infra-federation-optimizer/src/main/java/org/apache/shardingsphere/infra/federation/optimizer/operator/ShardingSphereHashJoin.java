@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.operator;
+
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.ParameterExpression;
+import org.apache.calcite.linq4j.tree.Primitive;
+import org.apache.calcite.linq4j.tree.Types;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.CorrelationId;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.shardingsphere.infra.federation.optimizer.operator.join.ShardingSphereEnumerables;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ShardingSphere hash join.
+ *
+ * <p>Implements inner equi join by {@link ShardingSphereEnumerables#hashJoin}, which builds hash table from the smaller input within memory budget
+ * and spills to local disk instead of materializing both inputs on heap. Other join types are implemented by {@link EnumerableHashJoin}.</p>
+ */
+public final class ShardingSphereHashJoin extends EnumerableHashJoin {
+    
+    public static final long DEFAULT_MEMORY_BUDGET_BYTES = 64L * 1024L * 1024L;
+    
+    private static final double COST_FACTOR = 0.9D;
+    
+    private static final Method HASH_JOIN_METHOD = Types.lookupMethod(ShardingSphereEnumerables.class, "hashJoin",
+            Enumerable.class, Enumerable.class, Function1.class, Function1.class, Function2.class, boolean.class, long.class);
+    
+    private final long memoryBudget;
+    
+    public ShardingSphereHashJoin(final RelOptCluster cluster, final RelTraitSet traits, final RelNode left, final RelNode right,
+                                  final RexNode condition, final Set<CorrelationId> variablesSet, final JoinRelType joinType, final long memoryBudget) {
+        super(cluster, traits, left, right, condition, variablesSet, joinType);
+        this.memoryBudget = memoryBudget;
+    }
+    
+    @Override
+    public EnumerableHashJoin copy(final RelTraitSet traitSet, final RexNode condition, final RelNode left, final RelNode right, final JoinRelType joinType, final boolean semiJoinDone) {
+        return new ShardingSphereHashJoin(getCluster(), traitSet, left, right, condition, getVariablesSet(), joinType, memoryBudget);
+    }
+    
+    @Override
+    public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
+        RelOptCost result = super.computeSelfCost(planner, mq);
+        return null == result ? null : result.multiplyBy(COST_FACTOR);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter pw) {
+        return super.explainTerms(pw).item("memoryBudget", memoryBudget);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        JoinInfo joinInfo = analyzeCondition();
+        if (JoinRelType.INNER != getJoinType() || !joinInfo.isEqui() || joinInfo.leftKeys.isEmpty()) {
+            return super.implement(implementor, pref);
+        }
+        BlockBuilder builder = new BlockBuilder();
+        Result leftResult = implementor.visitChild(this, 0, (EnumerableRel) getLeft(), pref);
+        Expression leftExpression = builder.append("left", leftResult.block);
+        Result rightResult = implementor.visitChild(this, 1, (EnumerableRel) getRight(), pref);
+        Expression rightExpression = builder.append("right", rightResult.block);
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), pref.preferArray());
+        Expression resultSelector = createResultSelector(physType, leftResult.physType, rightResult.physType);
+        return implementor.result(physType, builder.append(Expressions.call(HASH_JOIN_METHOD, leftExpression, rightExpression,
+                leftResult.physType.generateAccessor(joinInfo.leftKeys), rightResult.physType.generateAccessor(joinInfo.rightKeys),
+                resultSelector, Expressions.constant(isBuildLeft()), Expressions.constant(memoryBudget))).toBlock());
+    }
+    
+    private Expression createResultSelector(final PhysType physType, final PhysType leftPhysType, final PhysType rightPhysType) {
+        ParameterExpression leftRow = Expressions.parameter(Primitive.box(leftPhysType.getJavaRowType()), "left");
+        ParameterExpression rightRow = Expressions.parameter(Primitive.box(rightPhysType.getJavaRowType()), "right");
+        List<Expression> fields = new ArrayList<>(physType.getRowType().getFieldCount());
+        addFieldReferences(fields, leftRow, leftPhysType);
+        addFieldReferences(fields, rightRow, rightPhysType);
+        return Expressions.lambda(Function2.class, physType.record(fields), leftRow, rightRow);
+    }
+    
+    private void addFieldReferences(final List<Expression> fields, final ParameterExpression row, final PhysType physType) {
+        for (int i = 0; i < physType.getRowType().getFieldCount(); i++) {
+            fields.add(physType.fieldReference(row, i));
+        }
+    }
+    
+    private boolean isBuildLeft() {
+        RelMetadataQuery mq = getCluster().getMetadataQuery();
+        Double leftRowCount = mq.getRowCount(getLeft());
+        Double rightRowCount = mq.getRowCount(getRight());
+        return null != leftRowCount && null != rightRowCount && leftRowCount < rightRowCount;
+    }
+}
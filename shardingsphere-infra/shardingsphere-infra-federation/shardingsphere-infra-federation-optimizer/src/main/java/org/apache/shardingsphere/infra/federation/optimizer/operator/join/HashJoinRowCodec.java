@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.federation.optimizer.operator.join;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Codec of hash join rows spilled to local disk.
+ *
+ * <p>Row is either an array of column values or a single column value, each value is written as a type tag followed by its content.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HashJoinRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte ARRAY = 1;
+    
+    private static final byte STRING = 2;
+    
+    private static final byte INTEGER = 3;
+    
+    private static final byte LONG = 4;
+    
+    private static final byte SHORT = 5;
+    
+    private static final byte BYTE = 6;
+    
+    private static final byte BOOLEAN = 7;
+    
+    private static final byte DOUBLE = 8;
+    
+    private static final byte FLOAT = 9;
+    
+    private static final byte BIG_DECIMAL = 10;
+    
+    private static final byte BIG_INTEGER = 11;
+    
+    private static final byte BYTES = 12;
+    
+    private static final byte CHARACTER = 13;
+    
+    private static final byte DATE = 14;
+    
+    private static final byte TIME = 15;
+    
+    private static final byte TIMESTAMP = 16;
+    
+    private static final byte UTIL_DATE = 17;
+    
+    private static final byte LOCAL_DATE = 18;
+    
+    private static final byte LOCAL_TIME = 19;
+    
+    private static final byte LOCAL_DATE_TIME = 20;
+    
+    /**
+     * Write row.
+     *
+     * @param output data output
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public static void write(final DataOutput output, final Object row) throws IOException {
+        if (null == row) {
+            output.writeByte(NULL);
+        } else if (row instanceof Object[]) {
+            Object[] values = (Object[]) row;
+            output.writeByte(ARRAY);
+            output.writeInt(values.length);
+            for (Object each : values) {
+                write(output, each);
+            }
+        } else if (row instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) row).getBytes(StandardCharsets.UTF_8));
+        } else if (row instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) row);
+        } else if (row instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) row);
+        } else if (row instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) row);
+        } else if (row instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) row);
+        } else if (row instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) row);
+        } else if (row instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) row);
+        } else if (row instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) row);
+        } else if (row instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) row).scale());
+            writeBytes(output, ((BigDecimal) row).unscaledValue().toByteArray());
+        } else if (row instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) row).toByteArray());
+        } else if (row instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) row);
+        } else if (row instanceof Character) {
+            output.writeByte(CHARACTER);
+            output.writeChar((Character) row);
+        } else {
+            writeTemporal(output, row);
+        }
+    }
+    
+    private static void writeTemporal(final DataOutput output, final Object value) throws IOException {
+        if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Time) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (value instanceof Timestamp) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof java.util.Date) {
+            output.writeByte(UTIL_DATE);
+            output.writeLong(((java.util.Date) value).getTime());
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else {
+            throw new ShardingSphereException("Can not spill value of type `%s` for hash join.", value.getClass().getName());
+        }
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    /**
+     * Read row.
+     *
+     * @param input data input
+     * @return read row
+     * @throws IOException IO exception
+     */
+    public static Object read(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case ARRAY:
+                Object[] result = new Object[input.readInt()];
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = read(input);
+                }
+                return result;
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case BOOLEAN:
+                return input.readBoolean();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BYTES:
+                return readBytes(input);
+            case CHARACTER:
+                return input.readChar();
+            default:
+                return readTemporal(input, type);
+        }
+    }
+    
+    private static Object readTemporal(final DataInput input, final byte type) throws IOException {
+        switch (type) {
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case TIMESTAMP:
+                Timestamp result = new Timestamp(input.readLong());
+                result.setNanos(input.readInt());
+                return result;
+            case UTIL_DATE:
+                return new java.util.Date(input.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()));
+            default:
+                throw new IOException(String.format("Unknown hash join spill value type `%s`.", type));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.operator.join;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Local disk file of hash join rows spilled out of memory budget.
+ *
+ * <p>Rows are encoded by {@link HashJoinRowCodec}. Once writing finished, the file can be read from the beginning any number of times until it is closed.</p>
+ */
+public final class HashJoinSpillFile implements AutoCloseable {
+    
+    private final Path path;
+    
+    private final DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    @Getter
+    private int rowCount;
+    
+    @Getter
+    private long estimatedBytes;
+    
+    public HashJoinSpillFile() throws IOException {
+        path = Files.createTempFile("shardingsphere-hash-join-", ".spill");
+        output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row
+     * @throws IOException IO exception
+     */
+    public void write(final Object row) throws IOException {
+        HashJoinRowCodec.write(output, row);
+        rowCount++;
+        estimatedBytes += RowSizeEstimator.estimate(row);
+    }
+    
+    /**
+     * Finish writing and read rows from the beginning.
+     *
+     * @return row iterator
+     * @throws IOException IO exception
+     */
+    public Iterator<Object> read() throws IOException {
+        output.close();
+        if (null != input) {
+            input.close();
+        }
+        DataInputStream currentInput = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        input = currentInput;
+        return new Iterator<Object>() {
+            
+            private int readCount;
+            
+            @Override
+            public boolean hasNext() {
+                return readCount < rowCount;
+            }
+            
+            @SneakyThrows(IOException.class)
+            @Override
+            public Object next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                readCount++;
+                return HashJoinRowCodec.read(currentInput);
+            }
+        };
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            output.close();
+            if (null != input) {
+                input.close();
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
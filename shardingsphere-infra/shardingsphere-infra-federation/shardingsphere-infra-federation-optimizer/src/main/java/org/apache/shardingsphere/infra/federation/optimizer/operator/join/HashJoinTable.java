@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.operator.join;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hash join table.
+ *
+ * <p>Integral keys are stored in {@link LongKeyRowIndex}, so the same number matches regardless of its boxed type. Other keys fall back to hash map.</p>
+ */
+public final class HashJoinTable {
+    
+    private final LongKeyRowIndex longKeyRows = new LongKeyRowIndex();
+    
+    private final Map<Object, List<Object>> objectKeyRows = new HashMap<>();
+    
+    /**
+     * Put row.
+     *
+     * @param key join key
+     * @param row row
+     */
+    public void put(final Object key, final Object row) {
+        if (isIntegral(key)) {
+            longKeyRows.put(((Number) key).longValue(), row);
+        } else {
+            objectKeyRows.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(row);
+        }
+    }
+    
+    /**
+     * Find rows.
+     *
+     * @param key join key
+     * @return found rows
+     */
+    public List<Object> find(final Object key) {
+        if (isIntegral(key)) {
+            return longKeyRows.find(((Number) key).longValue());
+        }
+        return objectKeyRows.getOrDefault(key, Collections.emptyList());
+    }
+    
+    /**
+     * Visit all rows.
+     *
+     * @param consumer row consumer
+     */
+    public void forEachRow(final Consumer<Object> consumer) {
+        longKeyRows.forEachRow(consumer);
+        objectKeyRows.values().forEach(each -> each.forEach(consumer));
+    }
+    
+    /**
+     * Judge whether join key never matches.
+     *
+     * @param key join key
+     * @return null key or not
+     */
+    public static boolean isNullKey(final Object key) {
+        return null == key || key instanceof List && ((List<?>) key).contains(null);
+    }
+    
+    /**
+     * Hash join key, consistent with key matching of hash join table.
+     *
+     * @param key join key
+     * @return hash code
+     */
+    public static int hash(final Object key) {
+        return isIntegral(key) ? LongKeyRowIndex.hash(((Number) key).longValue()) : LongKeyRowIndex.hash(key.hashCode());
+    }
+    
+    private static boolean isIntegral(final Object key) {
+        return key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte;
+    }
+}
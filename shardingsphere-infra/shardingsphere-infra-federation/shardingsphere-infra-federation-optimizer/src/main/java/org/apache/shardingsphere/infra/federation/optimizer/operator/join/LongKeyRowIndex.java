@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.operator.join;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Row index keyed by primitive long, backed by open addressing arrays to avoid boxing keys and per entry objects.
+ */
+public final class LongKeyRowIndex {
+    
+    private static final int INITIAL_CAPACITY = 64;
+    
+    private long[] keys = new long[INITIAL_CAPACITY];
+    
+    private int[] heads = new int[INITIAL_CAPACITY];
+    
+    private Object[] rows = new Object[INITIAL_CAPACITY];
+    
+    private int[] nextRows = new int[INITIAL_CAPACITY];
+    
+    private int keyCount;
+    
+    private int rowCount;
+    
+    /**
+     * Put row.
+     *
+     * @param key key
+     * @param row row
+     */
+    public void put(final long key, final Object row) {
+        if ((keyCount + 1) * 4 > heads.length * 3) {
+            rehash(heads.length * 2);
+        }
+        if (rowCount == rows.length) {
+            rows = Arrays.copyOf(rows, rowCount * 2);
+            nextRows = Arrays.copyOf(nextRows, rowCount * 2);
+        }
+        int slot = findSlot(keys, heads, key);
+        if (0 == heads[slot]) {
+            keys[slot] = key;
+            keyCount++;
+        }
+        rows[rowCount] = row;
+        nextRows[rowCount] = heads[slot];
+        rowCount++;
+        heads[slot] = rowCount;
+    }
+    
+    /**
+     * Find rows.
+     *
+     * @param key key
+     * @return found rows
+     */
+    public List<Object> find(final long key) {
+        int head = heads[findSlot(keys, heads, key)];
+        if (0 == head) {
+            return Collections.emptyList();
+        }
+        List<Object> result = new LinkedList<>();
+        for (int i = head; 0 != i; i = nextRows[i - 1]) {
+            result.add(rows[i - 1]);
+        }
+        return result;
+    }
+    
+    /**
+     * Visit all rows.
+     *
+     * @param consumer row consumer
+     */
+    public void forEachRow(final Consumer<Object> consumer) {
+        for (int i = 0; i < rowCount; i++) {
+            consumer.accept(rows[i]);
+        }
+    }
+    
+    /**
+     * Get row count.
+     *
+     * @return row count
+     */
+    public int size() {
+        return rowCount;
+    }
+    
+    private void rehash(final int capacity) {
+        long[] newKeys = new long[capacity];
+        int[] newHeads = new int[capacity];
+        for (int i = 0; i < heads.length; i++) {
+            if (0 != heads[i]) {
+                int slot = findSlot(newKeys, newHeads, keys[i]);
+                newKeys[slot] = keys[i];
+                newHeads[slot] = heads[i];
+            }
+        }
+        keys = newKeys;
+        heads = newHeads;
+    }
+    
+    private static int findSlot(final long[] keys, final int[] heads, final long key) {
+        int mask = heads.length - 1;
+        int result = hash(key) & mask;
+        while (0 != heads[result] && keys[result] != key) {
+            result = (result + 1) & mask;
+        }
+        return result;
+    }
+    
+    /**
+     * Hash long key.
+     *
+     * @param key key
+     * @return hash code
+     */
+    public static int hash(final long key) {
+        long result = key * 0x9E3779B97F4A7C15L;
+        return (int) (result ^ (result >>> 32));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.operator.join;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Row size estimator.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RowSizeEstimator {
+    
+    private static final long ENTRY_OVERHEAD_BYTES = 32L;
+    
+    private static final long OBJECT_HEADER_BYTES = 16L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    /**
+     * Estimate heap bytes retained by row in hash join table.
+     *
+     * @param row row
+     * @return estimated bytes
+     */
+    public static long estimate(final Object row) {
+        if (!(row instanceof Object[])) {
+            return ENTRY_OVERHEAD_BYTES + estimateValue(row);
+        }
+        Object[] values = (Object[]) row;
+        long result = ENTRY_OVERHEAD_BYTES + OBJECT_HEADER_BYTES + REFERENCE_BYTES * values.length;
+        for (Object each : values) {
+            result += estimateValue(each);
+        }
+        return result;
+    }
+    
+    private static long estimateValue(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_HEADER_BYTES * 2 + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_HEADER_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return OBJECT_HEADER_BYTES * 4;
+        }
+        return OBJECT_HEADER_BYTES;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.operator.join;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+
+/**
+ * ShardingSphere enumerables, called by code generated from ShardingSphere physical operators.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingSphereEnumerables {
+    
+    /**
+     * Inner hash join with bounded memory budget.
+     *
+     * @param left left input
+     * @param right right input
+     * @param leftKeySelector left key selector
+     * @param rightKeySelector right key selector
+     * @param resultSelector result selector
+     * @param buildLeft whether build hash table from left input
+     * @param memoryBudget memory budget of hash table in bytes
+     * @param <TLeft> type of left row
+     * @param <TRight> type of right row
+     * @param <TKey> type of join key
+     * @param <TResult> type of result row
+     * @return joined enumerable
+     */
+    public static <TLeft, TRight, TKey, TResult> Enumerable<TResult> hashJoin(final Enumerable<TLeft> left, final Enumerable<TRight> right,
+                                                                              final Function1<TLeft, TKey> leftKeySelector, final Function1<TRight, TKey> rightKeySelector,
+                                                                              final Function2<TLeft, TRight, TResult> resultSelector, final boolean buildLeft, final long memoryBudget) {
+        return new AbstractEnumerable<TResult>() {
+            
+            @Override
+            public Enumerator<TResult> enumerator() {
+                return new SpillableHashJoinEnumerator<>(left, right, leftKeySelector, rightKeySelector, resultSelector, buildLeft, memoryBudget);
+            }
+        };
+    }
+}
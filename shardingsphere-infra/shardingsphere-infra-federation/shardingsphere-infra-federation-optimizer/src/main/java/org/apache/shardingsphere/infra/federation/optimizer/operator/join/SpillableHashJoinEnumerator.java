@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.operator.join;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * Inner hash join enumerator with bounded memory budget.
+ *
+ * <p>Build side rows are kept in {@link HashJoinTable} while they fit the memory budget.
+ * Once the budget is exceeded, both sides are hash partitioned to local disk and joined partition by partition (grace hash join).
+ * Partitions still exceeding the budget are partitioned again with another hash seed, up to {@link #MAX_PARTITION_DEPTH} times.
+ * Joined partitions are kept on disk until the enumerator is closed, so {@link #reset()} replays them without reading inputs again.</p>
+ *
+ * @param <T> type of result row
+ */
+public final class SpillableHashJoinEnumerator<T> implements Enumerator<T> {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_PARTITION_DEPTH = 3;
+    
+    private final Enumerable<Object> buildInput;
+    
+    private final Enumerable<Object> probeInput;
+    
+    private final Function1<Object, Object> buildKeySelector;
+    
+    private final Function1<Object, Object> probeKeySelector;
+    
+    private final Function2<Object, Object, T> resultSelector;
+    
+    private final boolean buildLeft;
+    
+    private final long memoryBudget;
+    
+    private final Queue<Partition> pendingPartitions = new LinkedList<>();
+    
+    private final Queue<Partition> joinedPartitions = new LinkedList<>();
+    
+    private final Queue<HashJoinSpillFile> spillFiles = new LinkedList<>();
+    
+    private boolean started;
+    
+    private HashJoinTable table;
+    
+    private Enumerator<Object> probeEnumerator;
+    
+    private Partition currentPartition;
+    
+    private Iterator<Object> probeRows = Collections.emptyIterator();
+    
+    private Object probeRow;
+    
+    private Iterator<Object> matchedRows = Collections.emptyIterator();
+    
+    private T current;
+    
+    @SuppressWarnings("unchecked")
+    public SpillableHashJoinEnumerator(final Enumerable<?> left, final Enumerable<?> right, final Function1<?, ?> leftKeySelector, final Function1<?, ?> rightKeySelector,
+                                       final Function2<?, ?, T> resultSelector, final boolean buildLeft, final long memoryBudget) {
+        buildInput = (Enumerable<Object>) (buildLeft ? left : right);
+        probeInput = (Enumerable<Object>) (buildLeft ? right : left);
+        buildKeySelector = (Function1<Object, Object>) (buildLeft ? leftKeySelector : rightKeySelector);
+        probeKeySelector = (Function1<Object, Object>) (buildLeft ? rightKeySelector : leftKeySelector);
+        this.resultSelector = (Function2<Object, Object, T>) resultSelector;
+        this.buildLeft = buildLeft;
+        this.memoryBudget = memoryBudget;
+    }
+    
+    @Override
+    public T current() {
+        return current;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        try {
+            if (!started) {
+                started = true;
+                start();
+            }
+            while (true) {
+                if (matchedRows.hasNext()) {
+                    Object buildRow = matchedRows.next();
+                    current = buildLeft ? resultSelector.apply(buildRow, probeRow) : resultSelector.apply(probeRow, buildRow);
+                    return true;
+                }
+                if (probeRows.hasNext()) {
+                    probeRow = probeRows.next();
+                    Object key = probeKeySelector.apply(probeRow);
+                    matchedRows = HashJoinTable.isNullKey(key) ? Collections.emptyIterator() : table.find(key).iterator();
+                    continue;
+                }
+                if (!nextPartition()) {
+                    return false;
+                }
+            }
+        } catch (final IOException ex) {
+            throw new ShardingSphereException(ex);
+        }
+    }
+    
+    private void start() throws IOException {
+        HashJoinTable memoryTable = new HashJoinTable();
+        long usedBytes = 0L;
+        HashJoinSpillFile[] buildPartitions = null;
+        try (Enumerator<Object> enumerator = buildInput.enumerator()) {
+            while (enumerator.moveNext()) {
+                Object row = enumerator.current();
+                Object key = buildKeySelector.apply(row);
+                if (HashJoinTable.isNullKey(key)) {
+                    continue;
+                }
+                if (null != buildPartitions) {
+                    buildPartitions[getPartitionIndex(key, 0)].write(row);
+                    continue;
+                }
+                memoryTable.put(key, row);
+                usedBytes += RowSizeEstimator.estimate(row);
+                if (usedBytes > memoryBudget) {
+                    buildPartitions = spill(memoryTable);
+                    memoryTable = null;
+                }
+            }
+        }
+        if (null == buildPartitions) {
+            table = memoryTable;
+            probeEnumerator = probeInput.enumerator();
+            probeRows = Linq4j.enumeratorIterator(probeEnumerator);
+            return;
+        }
+        HashJoinSpillFile[] probePartitions = createPartitions();
+        try (Enumerator<Object> enumerator = probeInput.enumerator()) {
+            while (enumerator.moveNext()) {
+                Object row = enumerator.current();
+                Object key = probeKeySelector.apply(row);
+                if (!HashJoinTable.isNullKey(key)) {
+                    probePartitions[getPartitionIndex(key, 0)].write(row);
+                }
+            }
+        }
+        addPendingPartitions(buildPartitions, probePartitions, 1);
+    }
+    
+    private HashJoinSpillFile[] spill(final HashJoinTable memoryTable) throws IOException {
+        HashJoinSpillFile[] result = createPartitions();
+        memoryTable.forEachRow(each -> write(result[getPartitionIndex(buildKeySelector.apply(each), 0)], each));
+        return result;
+    }
+    
+    @SneakyThrows(IOException.class)
+    private void write(final HashJoinSpillFile spillFile, final Object row) {
+        spillFile.write(row);
+    }
+    
+    private HashJoinSpillFile[] createPartitions() throws IOException {
+        HashJoinSpillFile[] result = new HashJoinSpillFile[PARTITION_COUNT];
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            result[i] = new HashJoinSpillFile();
+            spillFiles.add(result[i]);
+        }
+        return result;
+    }
+    
+    private void addPendingPartitions(final HashJoinSpillFile[] buildPartitions, final HashJoinSpillFile[] probePartitions, final int depth) {
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            if (buildPartitions[i].getRowCount() > 0 && probePartitions[i].getRowCount() > 0) {
+                pendingPartitions.add(new Partition(buildPartitions[i], probePartitions[i], depth));
+            }
+        }
+    }
+    
+    private boolean nextPartition() throws IOException {
+        if (null != currentPartition) {
+            table = null;
+            joinedPartitions.add(currentPartition);
+            currentPartition = null;
+        }
+        while (!pendingPartitions.isEmpty()) {
+            Partition partition = pendingPartitions.poll();
+            if (partition.build.getEstimatedBytes() > memoryBudget && partition.depth < MAX_PARTITION_DEPTH) {
+                repartition(partition);
+                continue;
+            }
+            table = new HashJoinTable();
+            Iterator<Object> buildRows = partition.build.read();
+            while (buildRows.hasNext()) {
+                Object row = buildRows.next();
+                table.put(buildKeySelector.apply(row), row);
+            }
+            probeRows = partition.probe.read();
+            currentPartition = partition;
+            return true;
+        }
+        return false;
+    }
+    
+    private void repartition(final Partition partition) throws IOException {
+        HashJoinSpillFile[] buildPartitions = createPartitions();
+        Iterator<Object> buildRows = partition.build.read();
+        while (buildRows.hasNext()) {
+            Object row = buildRows.next();
+            buildPartitions[getPartitionIndex(buildKeySelector.apply(row), partition.depth)].write(row);
+        }
+        HashJoinSpillFile[] probePartitions = createPartitions();
+        Iterator<Object> probePartitionRows = partition.probe.read();
+        while (probePartitionRows.hasNext()) {
+            Object row = probePartitionRows.next();
+            probePartitions[getPartitionIndex(probeKeySelector.apply(row), partition.depth)].write(row);
+        }
+        partition.close();
+        addPendingPartitions(buildPartitions, probePartitions, partition.depth + 1);
+    }
+    
+    private int getPartitionIndex(final Object key, final int depth) {
+        long seededHash = (long) depth << 32 | HashJoinTable.hash(key) & 0xFFFFFFFFL;
+        return Math.floorMod(LongKeyRowIndex.hash(seededHash), PARTITION_COUNT);
+    }
+    
+    @Override
+    public void reset() {
+        current = null;
+        probeRow = null;
+        matchedRows = Collections.emptyIterator();
+        probeRows = Collections.emptyIterator();
+        if (!started) {
+            return;
+        }
+        if (null != probeEnumerator) {
+            probeEnumerator.close();
+            probeEnumerator = probeInput.enumerator();
+            probeRows = Linq4j.enumeratorIterator(probeEnumerator);
+            return;
+        }
+        if (null != currentPartition) {
+            table = null;
+            joinedPartitions.add(currentPartition);
+            currentPartition = null;
+        }
+        joinedPartitions.addAll(pendingPartitions);
+        pendingPartitions.clear();
+        pendingPartitions.addAll(joinedPartitions);
+        joinedPartitions.clear();
+    }
+    
+    @Override
+    public void close() {
+        table = null;
+        if (null != probeEnumerator) {
+            probeEnumerator.close();
+        }
+        pendingPartitions.clear();
+        joinedPartitions.clear();
+        currentPartition = null;
+        IOException exception = null;
+        for (HashJoinSpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException ex) {
+                exception = ex;
+            }
+        }
+        spillFiles.clear();
+        if (null != exception) {
+            throw new ShardingSphereException(exception);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Partition {
+        
+        private final HashJoinSpillFile build;
+        
+        private final HashJoinSpillFile probe;
+        
+        private final int depth;
+        
+        private void close() throws IOException {
+            try {
+                build.close();
+            } finally {
+                probe.close();
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.plan.volcano.VolcanoPlanner;
 import org.apache.calcite.rel.RelCollationTraitDef;
+import org.apache.shardingsphere.infra.federation.optimizer.planner.rule.ShardingSphereHashJoinRule;
 
 /**
  * Query optimize planner factory.
@@ -46,5 +47,6 @@ public final class QueryOptimizePlannerFactory {
         planner.addRelTraitDef(ConventionTraitDef.INSTANCE);
         planner.addRelTraitDef(RelCollationTraitDef.INSTANCE);
         RelOptUtil.registerDefaultRules(planner, false, true);
+        planner.addRule(ShardingSphereHashJoinRule.INSTANCE);
     }
 }
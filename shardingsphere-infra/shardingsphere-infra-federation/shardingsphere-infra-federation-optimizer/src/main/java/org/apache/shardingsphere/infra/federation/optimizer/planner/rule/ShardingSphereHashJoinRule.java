@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.planner.rule;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.convert.ConverterRule;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.shardingsphere.infra.federation.optimizer.operator.ShardingSphereHashJoin;
+
+/**
+ * Rule to convert inner equi {@link LogicalJoin} to {@link ShardingSphereHashJoin}.
+ */
+public final class ShardingSphereHashJoinRule extends ConverterRule {
+    
+    public static final Config DEFAULT_CONFIG = Config.INSTANCE.withConversion(LogicalJoin.class, ShardingSphereHashJoinRule::isInnerEquiJoin,
+            Convention.NONE, EnumerableConvention.INSTANCE, "ShardingSphereHashJoinRule").withRuleFactory(ShardingSphereHashJoinRule::new);
+    
+    public static final ShardingSphereHashJoinRule INSTANCE = DEFAULT_CONFIG.toRule(ShardingSphereHashJoinRule.class);
+    
+    private ShardingSphereHashJoinRule(final Config config) {
+        super(config);
+    }
+    
+    private static boolean isInnerEquiJoin(final LogicalJoin join) {
+        JoinInfo joinInfo = join.analyzeCondition();
+        return JoinRelType.INNER == join.getJoinType() && joinInfo.isEqui() && !joinInfo.leftKeys.isEmpty();
+    }
+    
+    @Override
+    public RelNode convert(final RelNode rel) {
+        LogicalJoin join = (LogicalJoin) rel;
+        RelNode left = convert(join.getLeft(), join.getLeft().getTraitSet().replace(EnumerableConvention.INSTANCE));
+        RelNode right = convert(join.getRight(), join.getRight().getTraitSet().replace(EnumerableConvention.INSTANCE));
+        return new ShardingSphereHashJoin(join.getCluster(), join.getCluster().traitSetOf(EnumerableConvention.INSTANCE),
+                left, right, join.getCondition(), join.getVariablesSet(), join.getJoinType(), ShardingSphereHashJoin.DEFAULT_MEMORY_BUDGET_BYTES);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer;
 
+import org.apache.calcite.rel.RelNode;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
@@ -45,6 +46,8 @@ import java.util.LinkedList;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -146,6 +149,15 @@ public final class ShardingSphereOptimizerTest {
         assertThat(actual.replaceAll("\\s*", ""), is(expected.replaceAll("\\s*", "")));
     }
     
+    @Test
+    public void assertOptimizeWithPlanCache() {
+        ShardingSphereSQLParserEngine sqlParserEngine = sqlParserRule.getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(new H2DatabaseType()));
+        SQLStatement sqlStatement = sqlParserEngine.parse(SELECT_WHERE_SINGLE_FIELD, false);
+        RelNode expected = optimizer.optimize(databaseName, schemaName, SELECT_WHERE_SINGLE_FIELD, sqlStatement);
+        assertThat(optimizer.optimize(databaseName, schemaName, SELECT_WHERE_SINGLE_FIELD, sqlStatement), sameInstance(expected));
+        assertThat(optimizer.optimize(databaseName, schemaName, SELECT_WHERE_ALL_FIELDS, sqlParserEngine.parse(SELECT_WHERE_ALL_FIELDS, false)), not(sameInstance(expected)));
+    }
+    
     @Test
     public void assertSelectWhereAllFields() {
         ShardingSphereSQLParserEngine sqlParserEngine = sqlParserRule.getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(new H2DatabaseType()));
@@ -188,15 +200,13 @@ public final class ShardingSphereOptimizerTest {
         String actual = optimizer.optimize(databaseName, schemaName, sqlStatement).explain();
         String expected =
                 "EnumerableCalc(expr#0..4=[{inputs}],proj#0..1=[{exprs}],user_id0=[$t3])"
-                        + "EnumerableMergeJoin(condition=[=($2,$4)],joinType=[inner])"
-                        + "     EnumerableSort(sort0=[$2],dir0=[ASC])"
-                        + "         EnumerableInterpreter"
-                        + "             BindableProject(order_id=[$0],user_id=[$1],user_id0=[CAST($1):VARCHAR])"
-                        + "                 BindableTableScan(table=[[federate_jdbc,t_order_federate]],projects=[[0,1]])"
-                        + "     EnumerableSort(sort0=[$1],dir0=[ASC])"
-                        + "         EnumerableInterpreter"
-                        + "             BindableProject(user_id=[$0],user_id0=[CAST($0):VARCHAR])"
-                        + "                 BindableTableScan(table=[[federate_jdbc,t_user_info]],projects=[[0]])";
+                        + "ShardingSphereHashJoin(condition=[=($2,$4)],joinType=[inner],memoryBudget=[67108864])"
+                        + "     EnumerableInterpreter"
+                        + "         BindableProject(order_id=[$0],user_id=[$1],user_id0=[CAST($1):VARCHAR])"
+                        + "             BindableTableScan(table=[[federate_jdbc,t_order_federate]],projects=[[0,1]])"
+                        + "     EnumerableInterpreter"
+                        + "         BindableProject(user_id=[$0],user_id0=[CAST($0):VARCHAR])"
+                        + "             BindableTableScan(table=[[federate_jdbc,t_user_info]],projects=[[0]])";
         assertThat(actual.replaceAll("\\s*", ""), is(expected.replaceAll("\\s*", "")));
     }
     
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.federation.optimizer.context.planner;
+
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationDatabaseMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class OptimizerPlannerContextFactoryTest {
+    
+    @Test
+    public void assertCreateScanPlanCachePerSchema() {
+        OptimizerPlannerContext actual = OptimizerPlannerContextFactory.create(createDatabaseMetaData());
+        assertThat(actual.getScanPlanCaches().size(), is(1));
+        FilterableTableScanPlan scanPlan = createScanPlan();
+        FilterableTableScanPlanKey key = createKey("[=($0, ?0)]");
+        actual.getScanPlanCaches().get("foo_db").put(key, scanPlan);
+        assertThat(actual.getScanPlanCaches().get("foo_db").getIfPresent(createKey("[=($0, ?0)]")), sameInstance(scanPlan));
+        assertNull(actual.getScanPlanCaches().get("foo_db").getIfPresent(createKey("[>($0, ?0)]")));
+    }
+    
+    @Test
+    public void assertCreateWithEmptyScanPlanCache() {
+        OptimizerPlannerContext originalContext = OptimizerPlannerContextFactory.create(createDatabaseMetaData());
+        originalContext.getScanPlanCaches().get("foo_db").put(createKey("[=($0, ?0)]"), createScanPlan());
+        OptimizerPlannerContext actual = OptimizerPlannerContextFactory.create(createDatabaseMetaData());
+        assertNull(actual.getScanPlanCaches().get("foo_db").getIfPresent(createKey("[=($0, ?0)]")));
+    }
+    
+    private FederationDatabaseMetaData createDatabaseMetaData() {
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        return new FederationDatabaseMetaData("foo_db", Collections.singletonMap("foo_db", new ShardingSphereSchema(Collections.singletonMap("t_order", table))));
+    }
+    
+    private FilterableTableScanPlanKey createKey(final String filters) {
+        return new FilterableTableScanPlanKey("t_order", Arrays.asList("order_id", "user_id"), new int[]{0, 1}, filters);
+    }
+    
+    private FilterableTableScanPlan createScanPlan() {
+        return new FilterableTableScanPlan("SELECT order_id, user_id FROM t_order WHERE order_id = ?", mock(SQLStatement.class), Collections.singletonList(0));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.federation.optimizer.operator.join;
+
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class HashJoinRowCodecTest {
+    
+    @Test
+    public void assertWriteAndReadArrayRow() throws IOException {
+        Timestamp timestamp = new Timestamp(1656000000123L);
+        timestamp.setNanos(123456789);
+        Object[] expected = {null, "foo_中", 1, 2L, (short) 3, (byte) 4, true, 5.5D, 6.5F, new BigDecimal("-7.890"), new BigInteger("12345678901234567890"),
+            new byte[]{1, 2}, 'c', new Date(1656000000000L), new Time(3600000L), timestamp, new java.util.Date(1656000000000L),
+            LocalDate.of(2022, 6, 23), LocalTime.of(12, 30, 1, 5), LocalDateTime.of(2022, 6, 23, 12, 30, 1, 5)};
+        assertThat(writeAndRead(expected), is((Object) expected));
+    }
+    
+    @Test
+    public void assertWriteAndReadSingleValueRow() throws IOException {
+        assertThat(writeAndRead(1L), is((Object) 1L));
+        assertThat(writeAndRead(null), is((Object) null));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertWriteUnsupportedValue() throws IOException {
+        HashJoinRowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object());
+    }
+    
+    private Object writeAndRead(final Object row) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            HashJoinRowCodec.write(output, row);
+        }
+        return HashJoinRowCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.operator.join;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HashJoinTableTest {
+    
+    @Test
+    public void assertFindWithIntegralKey() {
+        HashJoinTable table = new HashJoinTable();
+        for (int i = 0; i < 1000; i++) {
+            table.put(i % 10, i);
+        }
+        assertThat(table.find(3L).size(), is(100));
+        assertThat(table.find((short) 3).size(), is(100));
+        assertTrue(table.find(10).isEmpty());
+    }
+    
+    @Test
+    public void assertFindWithObjectKey() {
+        HashJoinTable table = new HashJoinTable();
+        table.put("foo", 1);
+        table.put(Arrays.asList("foo", 1), 2);
+        assertThat(table.find("foo"), is(Collections.<Object>singletonList(1)));
+        assertThat(table.find(Arrays.asList("foo", 1)), is(Collections.<Object>singletonList(2)));
+        assertTrue(table.find("bar").isEmpty());
+    }
+    
+    @Test
+    public void assertIsNullKey() {
+        assertTrue(HashJoinTable.isNullKey(null));
+        assertTrue(HashJoinTable.isNullKey(Arrays.asList("foo", null)));
+        assertThat(HashJoinTable.isNullKey("foo"), is(false));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.operator.join;
+
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingSphereEnumerablesTest {
+    
+    @Test
+    public void assertHashJoinInMemory() {
+        assertHashJoin(Long.MAX_VALUE, true);
+        assertHashJoin(Long.MAX_VALUE, false);
+    }
+    
+    @Test
+    public void assertHashJoinWithSpill() {
+        assertHashJoin(4096L, true);
+        assertHashJoin(4096L, false);
+    }
+    
+    @Test
+    public void assertHashJoinWithRepartition() {
+        assertHashJoin(1L, true);
+    }
+    
+    @Test
+    public void assertResetInMemory() {
+        assertReset(Long.MAX_VALUE);
+    }
+    
+    @Test
+    public void assertResetWithSpill() {
+        assertReset(4096L);
+        assertReset(1L);
+    }
+    
+    private void assertReset(final long memoryBudget) {
+        try (Enumerator<Object[]> enumerator = createHashJoin(memoryBudget, true).enumerator()) {
+            for (int i = 0; i < 10; i++) {
+                enumerator.moveNext();
+            }
+            enumerator.reset();
+            assertThat(collectJoinedRows(enumerator).size(), is(1000));
+            enumerator.reset();
+            assertThat(collectJoinedRows(enumerator).size(), is(1000));
+        }
+    }
+    
+    private void assertHashJoin(final long memoryBudget, final boolean buildLeft) {
+        try (Enumerator<Object[]> enumerator = createHashJoin(memoryBudget, buildLeft).enumerator()) {
+            assertThat(collectJoinedRows(enumerator).size(), is(1000));
+        }
+    }
+    
+    private Enumerable<Object[]> createHashJoin(final long memoryBudget, final boolean buildLeft) {
+        List<Object[]> leftRows = new ArrayList<>(1001);
+        for (int i = 0; i < 1000; i++) {
+            leftRows.add(new Object[]{(long) i % 100, "left_" + i});
+        }
+        leftRows.add(new Object[]{null, "left_null"});
+        List<Object[]> rightRows = new ArrayList<>(201);
+        for (int i = 0; i < 200; i++) {
+            rightRows.add(new Object[]{i, "right_" + i});
+        }
+        rightRows.add(new Object[]{null, "right_null"});
+        return ShardingSphereEnumerables.hashJoin(Linq4j.asEnumerable(leftRows), Linq4j.asEnumerable(rightRows),
+                each -> each[0], each -> each[0], (left, right) -> new Object[]{left[0], left[1], right[0], right[1]}, buildLeft, memoryBudget);
+    }
+    
+    private Set<String> collectJoinedRows(final Enumerator<Object[]> enumerator) {
+        Set<String> result = new HashSet<>();
+        while (enumerator.moveNext()) {
+            Object[] row = enumerator.current();
+            assertThat(((Number) row[0]).longValue(), is(((Number) row[2]).longValue()));
+            result.add(row[1] + "," + row[3]);
+        }
+        return result;
+    }
+}
@@ -72,4 +72,14 @@ public interface MergedResult {
      * @throws SQLException SQL exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Terminate merged result whose rest rows are not needed any more, underlying query results which are not exhausted will be cancelled.
+     * 
+     * <p>Merged result should not be iterated after terminated.</p>
+     *
+     * @throws SQLException SQL exception
+     */
+    default void terminate() throws SQLException {
+    }
 }
@@ -53,4 +53,9 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public final void terminate() throws SQLException {
+        mergedResult.terminate();
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.merge.result.impl.latency;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.statistics.KernelLatencyRecorder;
+import org.apache.shardingsphere.infra.statistics.KernelStage;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Latency recorded merged result.
+ *
+ * <p>Accumulates time spent in building and iterating merged result, and records it as {@link KernelStage#MERGE} latency once iteration finished or terminated.</p>
+ */
+public final class LatencyRecordedMergedResult implements MergedResult {
+    
+    private final MergedResult mergedResult;
+    
+    private final String databaseName;
+    
+    private long elapsedNanos;
+    
+    private boolean recorded;
+    
+    public LatencyRecordedMergedResult(final MergedResult mergedResult, final String databaseName, final long buildNanos) {
+        this.mergedResult = mergedResult;
+        this.databaseName = databaseName;
+        elapsedNanos = buildNanos;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        long startTime = System.nanoTime();
+        boolean result = false;
+        try {
+            result = mergedResult.next();
+            return result;
+        } finally {
+            elapsedNanos += System.nanoTime() - startTime;
+            if (!result) {
+                record();
+            }
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return mergedResult.getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return mergedResult.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return mergedResult.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return mergedResult.wasNull();
+    }
+    
+    @Override
+    public void terminate() throws SQLException {
+        try {
+            mergedResult.terminate();
+        } finally {
+            record();
+        }
+    }
+    
+    private void record() {
+        if (!recorded) {
+            recorded = true;
+            KernelLatencyRecorder.record(KernelStage.MERGE, databaseName, elapsedNanos);
+        }
+    }
+}
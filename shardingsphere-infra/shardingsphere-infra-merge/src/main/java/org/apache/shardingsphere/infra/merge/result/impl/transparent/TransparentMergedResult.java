@@ -57,4 +57,9 @@ public final class TransparentMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return queryResult.wasNull();
     }
+    
+    @Override
+    public void terminate() throws SQLException {
+        queryResult.cancel();
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.merge.result.impl.latency;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.statistics.KernelLatencyRecorder;
+import org.apache.shardingsphere.infra.statistics.KernelLatencyStatistics;
+import org.apache.shardingsphere.infra.statistics.KernelStage;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class LatencyRecordedMergedResultTest {
+    
+    @Test
+    public void assertRecordOnceAfterIterationFinished() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        LatencyRecordedMergedResult actual = new LatencyRecordedMergedResult(mergedResult, "iterated_db", 10L);
+        assertTrue(actual.next());
+        assertThat(getMergeCount("iterated_db"), is(0L));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        assertThat(getMergeCount("iterated_db"), is(1L));
+    }
+    
+    @Test
+    public void assertRecordAfterTerminated() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true);
+        LatencyRecordedMergedResult actual = new LatencyRecordedMergedResult(mergedResult, "terminated_db", 10L);
+        assertTrue(actual.next());
+        actual.terminate();
+        verify(mergedResult).terminate();
+        assertThat(getMergeCount("terminated_db"), is(1L));
+    }
+    
+    private long getMergeCount(final String databaseName) {
+        return KernelLatencyRecorder.getStatistics().stream().filter(each -> KernelStage.MERGE == each.getStage() && databaseName.equals(each.getScope()))
+                .map(KernelLatencyStatistics::getSnapshot).mapToLong(each -> each.getCount()).sum();
+    }
+}
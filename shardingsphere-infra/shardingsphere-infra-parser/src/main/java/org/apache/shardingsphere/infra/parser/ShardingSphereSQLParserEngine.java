@@ -21,6 +21,8 @@ import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.infra.statistics.KernelLatencyRecorder;
+import org.apache.shardingsphere.infra.statistics.KernelStage;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -31,13 +33,17 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
  */
 public final class ShardingSphereSQLParserEngine {
     
+    private final String databaseType;
+    
     private final SQLStatementParserEngine sqlStatementParserEngine;
     
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
-    public ShardingSphereSQLParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+    public ShardingSphereSQLParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment,
+                                         final boolean isFastPathParseEnabled) {
+        this.databaseType = databaseType;
         sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(
-                databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+                databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isFastPathParseEnabled);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
     }
     
@@ -54,6 +60,15 @@ public final class ShardingSphereSQLParserEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
+        long startTime = System.nanoTime();
+        try {
+            return parseStatement(sql, useCache);
+        } finally {
+            KernelLatencyRecorder.record(KernelStage.PARSE, databaseType, System.nanoTime() - startTime);
+        }
+    }
+    
+    private SQLStatement parseStatement(final String sql, final boolean useCache) {
         try {
             return sqlStatementParserEngine.parse(sql, useCache);
         } catch (final SQLParsingException | ParseCancellationException originalEx) {
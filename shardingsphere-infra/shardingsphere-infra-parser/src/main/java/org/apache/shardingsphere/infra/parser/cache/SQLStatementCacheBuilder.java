@@ -33,15 +33,22 @@ public final class SQLStatementCacheBuilder {
     /**
      * Build SQL statement cache.
      *
-     * @param sqlStatementCacheOption SQL statement cache option
+     * @param databaseType database type
+     * @param sqlStatementCacheOption SQL statement cache option, cache is bounded by maximum size if maximum weight is not positive
      * @param parseTreeCacheOption parse tree cache option
      * @param isParseComment is parse comment
-     * @param databaseType database type
+     * @param isFastPathParseEnabled is fast path parse enabled
      * @return built SQL statement cache
      */
     public static LoadingCache<String, SQLStatement> build(final String databaseType,
-                                                           final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
-                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment));
+                                                           final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment,
+                                                           final boolean isFastPathParseEnabled) {
+        SQLStatementCacheLoader cacheLoader = new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment, isFastPathParseEnabled);
+        if (sqlStatementCacheOption.getMaximumWeight() <= 0L) {
+            return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity())
+                    .maximumSize(sqlStatementCacheOption.getMaximumSize()).recordStats().build(cacheLoader);
+        }
+        return Caffeine.newBuilder().initialCapacity(sqlStatementCacheOption.getInitialCapacity())
+                .maximumWeight(sqlStatementCacheOption.getMaximumWeight()).weigher(new SQLStatementCacheWeigher()).recordStats().build(cacheLoader);
     }
 }
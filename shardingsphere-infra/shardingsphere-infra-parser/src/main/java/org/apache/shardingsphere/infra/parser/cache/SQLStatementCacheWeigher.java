@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * SQL statement cache weigher.
+ *
+ * <p>Weight is the estimated retained size of entry in KiB and at least 1, which is estimated from SQL length and segment count.</p>
+ */
+public final class SQLStatementCacheWeigher implements Weigher<String, SQLStatement> {
+    
+    private static final int BYTES_PER_SQL_CHAR = 2;
+    
+    private static final int BYTES_PER_SEGMENT = 128;
+    
+    private static final int BYTES_PER_WEIGHT = 1024;
+    
+    @ParametersAreNonnullByDefault
+    @Override
+    public int weigh(final String sql, final SQLStatement sqlStatement) {
+        long estimatedBytes = (long) sql.length() * BYTES_PER_SQL_CHAR + (long) getSegmentCount(sqlStatement) * BYTES_PER_SEGMENT;
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1L, estimatedBytes / BYTES_PER_WEIGHT));
+    }
+    
+    private long getSegmentCount(final SQLStatement sqlStatement) {
+        long result = 0L;
+        if (sqlStatement instanceof AbstractSQLStatement) {
+            result += ((AbstractSQLStatement) sqlStatement).getParameterMarkerSegments().size() + ((AbstractSQLStatement) sqlStatement).getCommentSegments().size();
+        }
+        if (sqlStatement instanceof InsertStatement) {
+            for (InsertValuesSegment each : ((InsertStatement) sqlStatement).getValues()) {
+                result += each.getValues().size();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.parameterized;
+
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal parameterizer.
+ *
+ * <p>
+ * Scans SQL at lexer level only and replaces string and number literals which appear as comparison operands in WHERE, ON and HAVING clauses,
+ * as assigned values in SET clauses or as items of value lists with parameter markers,
+ * so that SQL differing only in literal values share the same parameterized SQL and hit the same SQL statement cache entry.
+ * Literals in other positions (projections, limit, order by, function arguments, etc.) are kept untouched, because replacing them may change SQL semantics.
+ * </p>
+ */
+public final class SQLLiteralParameterizer {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = new HashSet<>(Arrays.asList("MySQL", "MariaDB", "PostgreSQL", "openGauss"));
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> PREDICATE_CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList("WHERE", "ON", "HAVING", "SET"));
+    
+    private static final Collection<String> NON_PREDICATE_CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "FROM", "JOIN", "GROUP", "ORDER", "LIMIT", "RETURNING", "UNION"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("=", "<>", "!=", "<", ">", "<=", ">=", "<=>"));
+    
+    private static final String OPERATOR_CHARACTERS = "=<>!:-@#~^|&";
+    
+    private static final String PARAMETER_MARKER = "?";
+    
+    private final boolean supported;
+    
+    private final boolean backslashEscape;
+    
+    private final char identifierQuote;
+    
+    public SQLLiteralParameterizer(final String databaseType) {
+        supported = SUPPORTED_DATABASE_TYPES.contains(databaseType);
+        backslashEscape = "MySQL".equals(databaseType) || "MariaDB".equals(databaseType);
+        identifierQuote = backslashEscape ? '`' : '"';
+    }
+    
+    /**
+     * Parameterize SQL.
+     *
+     * @param sql SQL to be parameterized
+     * @return parameterized SQL, empty if SQL is not DML or has no replaceable literal
+     */
+    public Optional<ParameterizedSQL> parameterize(final String sql) {
+        if (!supported) {
+            return Optional.empty();
+        }
+        try {
+            return new Scanner(sql).scan();
+        } catch (final UnsupportedLiteralException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private enum PreviousToken {
+        
+        NONE, VALUE_EXPECTED, BETWEEN_VALUE_EXPECTED, BETWEEN_LITERAL, VALUE_LIST_START, OTHER
+    }
+    
+    private final class Scanner {
+        
+        private final String sql;
+        
+        private final StringBuilder result;
+        
+        private final List<Object> parameters = new LinkedList<>();
+        
+        private final Deque<Boolean> valueListParentheses = new LinkedList<>();
+        
+        private final Deque<Boolean> predicateClauseParentheses = new LinkedList<>();
+        
+        private PreviousToken previousToken = PreviousToken.NONE;
+        
+        private boolean firstWord = true;
+        
+        private boolean inValuesClause;
+        
+        private boolean inPredicateClause;
+        
+        private int position;
+        
+        Scanner(final String sql) {
+            this.sql = sql;
+            result = new StringBuilder(sql.length());
+        }
+        
+        Optional<ParameterizedSQL> scan() {
+            while (position < sql.length()) {
+                char current = sql.charAt(position);
+                if (Character.isWhitespace(current)) {
+                    result.append(current);
+                    position++;
+                } else if (isCommentStart()) {
+                    scanComment();
+                } else if ('\'' == current) {
+                    scanStringLiteral();
+                } else if (Character.isDigit(current) || '.' == current && isDigitAt(position + 1)) {
+                    scanNumberLiteral(false);
+                } else if ('-' == current && isDigitAt(position + 1) && isValueExpected()) {
+                    scanNumberLiteral(true);
+                } else if ('$' == current) {
+                    throw new UnsupportedLiteralException();
+                } else if (identifierQuote == current || '"' == current) {
+                    scanQuoted(current);
+                } else if (isIdentifierCharacter(current)) {
+                    scanWord();
+                } else {
+                    scanSymbol(current);
+                }
+            }
+            return parameters.isEmpty() ? Optional.empty() : Optional.of(new ParameterizedSQL(result.toString(), parameters));
+        }
+        
+        private boolean isCommentStart() {
+            char current = sql.charAt(position);
+            if ('/' == current && position + 1 < sql.length() && '*' == sql.charAt(position + 1)) {
+                return true;
+            }
+            if ('-' == current && position + 1 < sql.length() && '-' == sql.charAt(position + 1)) {
+                return !backslashEscape || position + 2 >= sql.length() || Character.isWhitespace(sql.charAt(position + 2));
+            }
+            return '#' == current && backslashEscape;
+        }
+        
+        private void scanComment() {
+            int end;
+            if ('/' == sql.charAt(position)) {
+                if (position + 2 < sql.length() && '!' == sql.charAt(position + 2)) {
+                    throw new UnsupportedLiteralException();
+                }
+                end = sql.indexOf("*/", position + 2);
+                end = -1 == end ? sql.length() : end + 2;
+            } else {
+                end = sql.indexOf('\n', position);
+                end = -1 == end ? sql.length() : end;
+            }
+            result.append(sql, position, end);
+            position = end;
+        }
+        
+        private void scanStringLiteral() {
+            int start = position;
+            StringBuilder value = new StringBuilder();
+            boolean escaped = false;
+            position++;
+            while (true) {
+                if (position >= sql.length()) {
+                    throw new UnsupportedLiteralException();
+                }
+                char current = sql.charAt(position);
+                if ('\\' == current && backslashEscape) {
+                    escaped = true;
+                    position += 2;
+                    continue;
+                }
+                if ('\\' == current) {
+                    escaped = true;
+                }
+                position++;
+                if ('\'' == current) {
+                    if (position < sql.length() && '\'' == sql.charAt(position)) {
+                        value.append('\'');
+                        position++;
+                        continue;
+                    }
+                    break;
+                }
+                value.append(current);
+            }
+            if (!escaped && isValueExpected() && !isPrefixedLiteral(start) && !isFollowedByStringLiteral()) {
+                appendParameter(value.toString());
+            } else {
+                result.append(sql, start, position);
+                previousToken = PreviousToken.OTHER;
+            }
+        }
+        
+        private boolean isPrefixedLiteral(final int start) {
+            return start > 0 && (isIdentifierCharacter(sql.charAt(start - 1)) || '&' == sql.charAt(start - 1));
+        }
+        
+        private boolean isFollowedByStringLiteral() {
+            for (int i = position; i < sql.length(); i++) {
+                if (!Character.isWhitespace(sql.charAt(i))) {
+                    return '\'' == sql.charAt(i);
+                }
+            }
+            return false;
+        }
+        
+        private void scanNumberLiteral(final boolean negative) {
+            int start = position;
+            if (negative) {
+                position++;
+            }
+            while (position < sql.length() && (Character.isDigit(sql.charAt(position)) || '.' == sql.charAt(position))) {
+                position++;
+            }
+            if (position + 1 < sql.length() && ('e' == sql.charAt(position) || 'E' == sql.charAt(position))
+                    && (isDigitAt(position + 1) || ('+' == sql.charAt(position + 1) || '-' == sql.charAt(position + 1)) && isDigitAt(position + 2))) {
+                position += 2;
+                while (position < sql.length() && Character.isDigit(sql.charAt(position))) {
+                    position++;
+                }
+            }
+            if (position < sql.length() && isIdentifierCharacter(sql.charAt(position))) {
+                while (position < sql.length() && isIdentifierCharacter(sql.charAt(position))) {
+                    position++;
+                }
+                result.append(sql, start, position);
+                previousToken = PreviousToken.OTHER;
+                return;
+            }
+            String literal = sql.substring(start, position);
+            Optional<Number> value = isValueExpected() ? toNumber(literal) : Optional.empty();
+            if (value.isPresent()) {
+                appendParameter(value.get());
+            } else {
+                result.append(literal);
+                previousToken = PreviousToken.OTHER;
+            }
+        }
+        
+        private Optional<Number> toNumber(final String literal) {
+            try {
+                return Optional.of(new NumberLiteralValue(literal).getValue());
+            } catch (final NumberFormatException ignored) {
+                return Optional.empty();
+            }
+        }
+        
+        private void scanQuoted(final char quote) {
+            if (quote != identifierQuote && isValueExpected()) {
+                throw new UnsupportedLiteralException();
+            }
+            int end = sql.indexOf(quote, position + 1);
+            while (-1 != end && end + 1 < sql.length() && quote == sql.charAt(end + 1)) {
+                end = sql.indexOf(quote, end + 2);
+            }
+            if (-1 == end) {
+                throw new UnsupportedLiteralException();
+            }
+            result.append(sql, position, end + 1);
+            position = end + 1;
+            previousToken = PreviousToken.OTHER;
+        }
+        
+        private void scanWord() {
+            int start = position;
+            while (position < sql.length() && isIdentifierCharacter(sql.charAt(position))) {
+                position++;
+            }
+            String word = sql.substring(start, position);
+            result.append(word);
+            String upperCaseWord = word.toUpperCase();
+            if (firstWord) {
+                firstWord = false;
+                if (!DML_KEYWORDS.contains(upperCaseWord)) {
+                    throw new UnsupportedLiteralException();
+                }
+            }
+            if (valueListParentheses.isEmpty()) {
+                inValuesClause = "VALUES".equals(upperCaseWord) || "VALUE".equals(upperCaseWord);
+            } else if ("SELECT".equals(upperCaseWord) && valueListParentheses.peek()) {
+                valueListParentheses.pop();
+                valueListParentheses.push(false);
+            }
+            if (PREDICATE_CLAUSE_KEYWORDS.contains(upperCaseWord)) {
+                inPredicateClause = true;
+            } else if (NON_PREDICATE_CLAUSE_KEYWORDS.contains(upperCaseWord)) {
+                inPredicateClause = false;
+            }
+            if ("VALUES".equals(upperCaseWord) || "VALUE".equals(upperCaseWord) || inPredicateClause && "IN".equals(upperCaseWord)) {
+                previousToken = PreviousToken.VALUE_LIST_START;
+            } else if (inPredicateClause && "BETWEEN".equals(upperCaseWord)) {
+                previousToken = PreviousToken.BETWEEN_VALUE_EXPECTED;
+            } else if (inPredicateClause && "LIKE".equals(upperCaseWord) || "AND".equals(upperCaseWord) && PreviousToken.BETWEEN_LITERAL == previousToken) {
+                previousToken = PreviousToken.VALUE_EXPECTED;
+            } else {
+                previousToken = PreviousToken.OTHER;
+            }
+        }
+        
+        private void scanSymbol(final char current) {
+            if ('?' == current) {
+                throw new UnsupportedLiteralException();
+            }
+            if ('(' == current) {
+                boolean valueList = PreviousToken.VALUE_LIST_START == previousToken
+                        || inValuesClause && valueListParentheses.isEmpty() && PreviousToken.OTHER == previousToken && isPreviousSymbol(',');
+                valueListParentheses.push(valueList);
+                predicateClauseParentheses.push(inPredicateClause);
+                previousToken = valueList ? PreviousToken.VALUE_EXPECTED : PreviousToken.OTHER;
+                appendSymbol(current);
+                return;
+            }
+            if (')' == current) {
+                if (!valueListParentheses.isEmpty()) {
+                    valueListParentheses.pop();
+                }
+                if (!predicateClauseParentheses.isEmpty()) {
+                    inPredicateClause = predicateClauseParentheses.pop();
+                }
+                previousToken = PreviousToken.OTHER;
+                appendSymbol(current);
+                return;
+            }
+            if (',' == current) {
+                previousToken = !valueListParentheses.isEmpty() && valueListParentheses.peek() ? PreviousToken.VALUE_EXPECTED : PreviousToken.OTHER;
+                appendSymbol(current);
+                return;
+            }
+            int start = position;
+            while (position < sql.length() && isOperatorCharacter(sql.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                position++;
+            }
+            String symbol = sql.substring(start, position);
+            result.append(symbol);
+            previousToken = inPredicateClause && COMPARISON_OPERATORS.contains(symbol) ? PreviousToken.VALUE_EXPECTED : PreviousToken.OTHER;
+        }
+        
+        private boolean isPreviousSymbol(final char symbol) {
+            for (int i = result.length() - 1; i >= 0; i--) {
+                if (!Character.isWhitespace(result.charAt(i))) {
+                    return symbol == result.charAt(i);
+                }
+            }
+            return false;
+        }
+        
+        private void appendSymbol(final char symbol) {
+            result.append(symbol);
+            position++;
+        }
+        
+        private void appendParameter(final Object value) {
+            result.append(PARAMETER_MARKER);
+            parameters.add(value);
+            previousToken = PreviousToken.BETWEEN_VALUE_EXPECTED == previousToken ? PreviousToken.BETWEEN_LITERAL : PreviousToken.OTHER;
+        }
+        
+        private boolean isValueExpected() {
+            return PreviousToken.VALUE_EXPECTED == previousToken || PreviousToken.BETWEEN_VALUE_EXPECTED == previousToken;
+        }
+        
+        private boolean isDigitAt(final int index) {
+            return index < sql.length() && Character.isDigit(sql.charAt(index));
+        }
+        
+        private boolean isIdentifierCharacter(final char character) {
+            return Character.isLetterOrDigit(character) || '_' == character || '$' == character;
+        }
+        
+        private boolean isOperatorCharacter(final char character) {
+            return OPERATOR_CHARACTERS.indexOf(character) >= 0;
+        }
+    }
+    
+    private static final class UnsupportedLiteralException extends RuntimeException {
+        
+        private static final long serialVersionUID = -1398294768210487234L;
+    }
+}
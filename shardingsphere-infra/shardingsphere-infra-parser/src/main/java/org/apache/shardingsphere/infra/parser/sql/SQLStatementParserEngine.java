@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheStatistics;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -27,13 +29,17 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
  */
 public final class SQLStatementParserEngine {
     
+    private final String databaseType;
+    
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
-    public SQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment);
-        sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+    public SQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment,
+                                    final boolean isFastPathParseEnabled) {
+        this.databaseType = databaseType;
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment, isFastPathParseEnabled);
+        sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isFastPathParseEnabled);
     }
     
     /**
@@ -46,4 +52,15 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Get SQL statement cache statistics.
+     *
+     * @return SQL statement cache statistics
+     */
+    public SQLStatementCacheStatistics getSQLStatementCacheStatistics() {
+        CacheStats stats = sqlStatementCache.stats();
+        long weightedSize = sqlStatementCache.policy().eviction().map(each -> each.weightedSize().orElse(0L)).orElse(0L);
+        return new SQLStatementCacheStatistics(databaseType, stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.totalLoadTime(), sqlStatementCache.estimatedSize(), weightedSize);
+    }
 }
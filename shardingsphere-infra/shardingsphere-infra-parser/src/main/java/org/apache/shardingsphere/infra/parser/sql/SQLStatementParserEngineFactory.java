@@ -19,10 +19,13 @@ package org.apache.shardingsphere.infra.parser.sql;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheStatistics;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * SQL statement parser engine factory.
@@ -39,14 +42,25 @@ public final class SQLStatementParserEngineFactory {
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
      * @param isParseComment is parse comment
+     * @param isFastPathParseEnabled is fast path parse enabled
      * @return SQL statement parser engine
      */
     public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType,
-                                                                       final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+                                                                       final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment,
+                                                                       final boolean isFastPathParseEnabled) {
         SQLStatementParserEngine result = ENGINES.get(databaseType);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment));
+            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isFastPathParseEnabled));
         }
         return result;
     }
+    
+    /**
+     * Get SQL statement cache statistics of all database types.
+     *
+     * @return SQL statement cache statistics
+     */
+    public static Collection<SQLStatementCacheStatistics> getSQLStatementCacheStatistics() {
+        return ENGINES.values().stream().map(SQLStatementParserEngine::getSQLStatementCacheStatistics).collect(Collectors.toList());
+    }
 }
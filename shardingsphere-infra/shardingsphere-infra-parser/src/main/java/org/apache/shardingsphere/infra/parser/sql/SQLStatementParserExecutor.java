@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLFastPathParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -29,11 +30,14 @@ import java.util.Properties;
  */
 public final class SQLStatementParserExecutor {
     
+    private final SQLFastPathParserEngine fastPathParserEngine;
+    
     private final SQLParserEngine parserEngine;
     
     private final SQLVisitorEngine visitorEngine;
     
-    public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+    public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment, final boolean isFastPathParseEnabled) {
+        fastPathParserEngine = isFastPathParseEnabled ? new SQLFastPathParserEngine(databaseType) : null;
         parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", isParseComment, new Properties());
     }
@@ -45,6 +49,9 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        if (null == fastPathParserEngine) {
+            return visitorEngine.visit(parserEngine.parse(sql, false));
+        }
+        return fastPathParserEngine.parse(sql).orElseGet(() -> visitorEngine.visit(parserEngine.parse(sql, false)));
     }
 }
@@ -22,12 +22,32 @@ import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class SQLStatementCacheBuilderTest {
     
     @Test
     public void assertBuild() {
-        assertThat(SQLStatementCacheBuilder.build("MySQL", new CacheOption(2000, 65535L), new CacheOption(128, 1024L), false), isA(LoadingCache.class));
+        assertThat(SQLStatementCacheBuilder.build("MySQL", new CacheOption(2000, 65535L), new CacheOption(128, 1024L), false, false), isA(LoadingCache.class));
+    }
+    
+    @Test
+    public void assertBuildWithMaximumSize() {
+        LoadingCache<?, ?> actual = SQLStatementCacheBuilder.build("MySQL", new CacheOption(2000, 65535L), new CacheOption(128, 1024L), false, false);
+        assertFalse(actual.policy().eviction().orElseThrow(IllegalStateException::new).isWeighted());
+    }
+    
+    @Test
+    public void assertBuildWithMaximumWeight() {
+        LoadingCache<?, ?> actual = SQLStatementCacheBuilder.build("MySQL", new CacheOption(2000, 65535L, 65535L), new CacheOption(128, 1024L), false, false);
+        assertTrue(actual.policy().eviction().orElseThrow(IllegalStateException::new).isWeighted());
+    }
+    
+    @Test
+    public void assertBuildWithNegativeMaximumWeight() {
+        LoadingCache<?, ?> actual = SQLStatementCacheBuilder.build("MySQL", new CacheOption(2000, 65535L, -1L), new CacheOption(128, 1024L), false, false);
+        assertFalse(actual.policy().eviction().orElseThrow(IllegalStateException::new).isWeighted());
     }
 }
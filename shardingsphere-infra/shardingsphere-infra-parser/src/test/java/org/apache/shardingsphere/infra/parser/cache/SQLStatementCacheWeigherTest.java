@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLStatementCacheWeigherTest {
+    
+    @Test
+    public void assertWeighSimpleStatement() {
+        assertThat(new SQLStatementCacheWeigher().weigh("SELECT * FROM t_order WHERE order_id = ?", new MySQLSelectStatement()), is(1));
+    }
+    
+    @Test
+    public void assertWeighLargeInsertStatement() {
+        List<ExpressionSegment> values = new ArrayList<>(10000);
+        for (int i = 0; i < 10000; i++) {
+            values.add(new ParameterMarkerExpressionSegment(0, 0, i));
+        }
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.getValues().add(new InsertValuesSegment(0, 0, values));
+        assertTrue(new SQLStatementCacheWeigher().weigh("INSERT INTO t_order (order_id) VALUES (?)", insertStatement) > 1000);
+    }
+}
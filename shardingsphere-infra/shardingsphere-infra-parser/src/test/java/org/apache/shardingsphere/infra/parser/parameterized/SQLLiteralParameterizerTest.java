@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.parameterized;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLLiteralParameterizerTest {
+    
+    @Test
+    public void assertParameterizeComparisonOperands() {
+        Optional<ParameterizedSQL> actual = new SQLLiteralParameterizer("MySQL").parameterize("SELECT * FROM t_order WHERE order_id = 10 AND user_id = 'abc'");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND user_id = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "abc")));
+    }
+    
+    @Test
+    public void assertParameterizeValueListsAndBetween() {
+        Optional<ParameterizedSQL> actual = new SQLLiteralParameterizer("MySQL").parameterize(
+                "SELECT a, 1 FROM t_order WHERE order_id IN (1, 2, -3) AND status BETWEEN 5 AND 6 ORDER BY 1 LIMIT 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT a, 1 FROM t_order WHERE order_id IN (?, ?, ?) AND status BETWEEN ? AND ? ORDER BY 1 LIMIT 10"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, -3, 5, 6)));
+    }
+    
+    @Test
+    public void assertParameterizeWithProjectionPredicates() {
+        Optional<ParameterizedSQL> actual = new SQLLiteralParameterizer("MySQL").parameterize(
+                "SELECT a = 1, b IN (2, 3) FROM t_order WHERE order_id IN (SELECT order_id FROM t_order_item WHERE c = 4 AND d LIKE 'x') AND status = 5");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT a = 1, b IN (2, 3) FROM t_order WHERE order_id IN (SELECT order_id FROM t_order_item WHERE c = ? AND d LIKE ?) AND status = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(4, "x", 5)));
+    }
+    
+    @Test
+    public void assertParameterizeProjectionPredicatesOnly() {
+        assertFalse(new SQLLiteralParameterizer("MySQL").parameterize("SELECT a = 1 FROM t_order").isPresent());
+    }
+    
+    @Test
+    public void assertParameterizeInsertValues() {
+        Optional<ParameterizedSQL> actual = new SQLLiteralParameterizer("MySQL").parameterize("INSERT INTO t_order (order_id, status) VALUES (1, 'a'), (2, 'b''c')");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "a", 2, "b'c")));
+    }
+    
+    @Test
+    public void assertParameterizeWithUnreplaceableLiterals() {
+        Optional<ParameterizedSQL> actual = new SQLLiteralParameterizer("MySQL").parameterize("UPDATE t_order SET status = 'a\\'b', remark = _utf8'x' WHERE order_id = 1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("UPDATE t_order SET status = 'a\\'b', remark = _utf8'x' WHERE order_id = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1)));
+    }
+    
+    @Test
+    public void assertParameterizePostgreSQL() {
+        Optional<ParameterizedSQL> actual = new SQLLiteralParameterizer("PostgreSQL").parameterize("SELECT * FROM \"t_order\" WHERE order_id >= 3 AND CAST(status AS DECIMAL(10, 2)) = 4");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM \"t_order\" WHERE order_id >= ? AND CAST(status AS DECIMAL(10, 2)) = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(3, 4)));
+    }
+    
+    @Test
+    public void assertParameterizeWithParameterMarkers() {
+        assertFalse(new SQLLiteralParameterizer("MySQL").parameterize("SELECT * FROM t_order WHERE order_id = ? AND user_id = 1").isPresent());
+        assertFalse(new SQLLiteralParameterizer("PostgreSQL").parameterize("SELECT * FROM t_order WHERE order_id = $1 AND user_id = 1").isPresent());
+    }
+    
+    @Test
+    public void assertParameterizeNonDMLStatement() {
+        assertFalse(new SQLLiteralParameterizer("MySQL").parameterize("SET @a = 1").isPresent());
+    }
+    
+    @Test
+    public void assertParameterizeUnsupportedDatabaseType() {
+        assertFalse(new SQLLiteralParameterizer("Oracle").parameterize("SELECT * FROM t_order WHERE order_id = 1").isPresent());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLFastPathParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Test;
+import org.mockito.MockedConstruction;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SQLStatementParserExecutorTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = 1";
+    
+    @Test
+    public void assertParseWithFastPathDisabled() {
+        SQLStatement visitedStatement = mock(SQLStatement.class);
+        try (
+                MockedConstruction<SQLFastPathParserEngine> fastPathParserEngines = mockConstruction(SQLFastPathParserEngine.class);
+                MockedConstruction<SQLParserEngine> ignoredParserEngines = mockConstruction(SQLParserEngine.class,
+                        (mock, context) -> when(mock.parse(anyString(), anyBoolean())).thenReturn(mock(ParseASTNode.class)));
+                MockedConstruction<SQLVisitorEngine> ignoredVisitorEngines = mockConstruction(SQLVisitorEngine.class,
+                        (mock, context) -> when(mock.visit(any())).thenReturn(visitedStatement))) {
+            SQLStatementParserExecutor executor = new SQLStatementParserExecutor("MySQL", new CacheOption(128, 1024L), false, false);
+            assertThat(executor.parse(SQL), is(visitedStatement));
+            assertTrue(fastPathParserEngines.constructed().isEmpty());
+        }
+    }
+    
+    @Test
+    public void assertParseWithFastPathEnabled() {
+        SQLStatement fastPathStatement = mock(SQLStatement.class);
+        try (
+                MockedConstruction<SQLFastPathParserEngine> ignoredFastPathParserEngines = mockConstruction(SQLFastPathParserEngine.class,
+                        (mock, context) -> when(mock.parse(SQL)).thenReturn(Optional.of(fastPathStatement)));
+                MockedConstruction<SQLParserEngine> parserEngines = mockConstruction(SQLParserEngine.class);
+                MockedConstruction<SQLVisitorEngine> ignoredVisitorEngines = mockConstruction(SQLVisitorEngine.class)) {
+            SQLStatementParserExecutor executor = new SQLStatementParserExecutor("MySQL", new CacheOption(128, 1024L), false, true);
+            assertThat(executor.parse(SQL), is(fastPathStatement));
+            verify(parserEngines.constructed().get(0), never()).parse(anyString(), anyBoolean());
+        }
+    }
+}
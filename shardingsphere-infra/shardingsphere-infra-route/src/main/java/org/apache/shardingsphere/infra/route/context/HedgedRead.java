@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+/**
+ * Hedged read.
+ *
+ * <p>If the routed data source has not responded within delay, the same read is sent to hedge data source, whichever responds first wins.</p>
+ */
+public interface HedgedRead {
+    
+    /**
+     * Get hedge data source name.
+     *
+     * @return hedge data source name
+     */
+    String getHedgeDataSourceName();
+    
+    /**
+     * Get delay before sending hedged read.
+     *
+     * @return delay in nanoseconds, negative means not to hedge
+     */
+    long getDelayNanos();
+    
+    /**
+     * Add hedging budget for read which is executed and eligible to be hedged.
+     */
+    void addBudget();
+    
+    /**
+     * Try to acquire hedging budget when hedge is about to fire.
+     *
+     * @return acquired or not
+     */
+    boolean tryAcquire();
+    
+    /**
+     * Record latency of first response.
+     *
+     * @param dataSourceName data source name
+     * @param nanos latency in nanoseconds
+     */
+    void recordFirstResponse(String dataSourceName, long nanos);
+}
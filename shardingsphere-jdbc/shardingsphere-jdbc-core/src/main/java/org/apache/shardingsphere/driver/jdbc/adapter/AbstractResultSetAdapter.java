@@ -80,9 +80,17 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
+        terminateMergedResult();
         forceExecuteTemplate.execute(resultSets, ResultSet::close);
     }
     
+    /**
+     * Terminate merged result before closing, cancel shard queries whose rest rows are not needed.
+     *
+     * @throws SQLException SQL exception
+     */
+    protected abstract void terminateMergedResult() throws SQLException;
+    
     @Override
     public final boolean isClosed() {
         return closed;
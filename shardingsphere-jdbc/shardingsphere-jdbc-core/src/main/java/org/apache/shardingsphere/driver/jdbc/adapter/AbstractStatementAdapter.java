@@ -49,6 +49,9 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     
     private int fetchDirection;
     
+    @Getter(AccessLevel.PROTECTED)
+    private int queryTimeoutSeconds;
+    
     private boolean closed;
     
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -108,6 +111,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public final void setQueryTimeout(final int seconds) throws SQLException {
+        queryTimeoutSeconds = seconds;
         getMethodInvocationRecorder().record("setQueryTimeout", statement -> statement.setQueryTimeout(seconds));
         forceExecuteTemplate.execute((Collection) getRoutedStatements(), statement -> statement.setQueryTimeout(seconds));
     }
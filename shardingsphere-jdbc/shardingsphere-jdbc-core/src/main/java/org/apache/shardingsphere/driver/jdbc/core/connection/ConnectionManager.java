@@ -26,6 +26,7 @@ import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTempla
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
 import org.apache.shardingsphere.driver.jdbc.core.ShardingSphereSavepoint;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.infra.datasource.pool.destroyer.detector.DataSourcePoolActiveDetectorFactory;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
@@ -319,6 +320,12 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         return result;
     }
     
+    @Override
+    public double getPoolUtilization(final String dataSourceName) {
+        DataSource dataSource = dataSourceMap.get(dataSourceName);
+        return null == dataSource ? -1D : DataSourcePoolActiveDetectorFactory.getInstance(dataSource.getClass().getName()).getActiveConnectionRatio(dataSource);
+    }
+    
     @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     private List<Connection> createConnections(final String dataSourceName, final DataSource dataSource, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         if (1 == connectionSize) {
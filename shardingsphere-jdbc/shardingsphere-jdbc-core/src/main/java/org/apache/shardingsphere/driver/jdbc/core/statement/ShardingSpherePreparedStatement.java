@@ -61,6 +61,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.update.Update
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.executor.sql.prepare.pagination.SeekPaginationPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.raw.RawExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 import org.apache.shardingsphere.infra.hint.HintManager;
@@ -94,6 +95,8 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -269,6 +272,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             return executor.getRawExecutor().execute(createRawExecutionGroupContext(), executionContext.getLogicSQL(),
                     new RawSQLExecutorCallback()).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
         }
+        executionContext = prepareSeekPagination();
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
         cacheStatements(executionGroupContext.getInputGroups());
         return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(),
@@ -276,6 +280,16 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
                         sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown()));
     }
     
+    private ExecutionContext prepareSeekPagination() throws SQLException {
+        long offsetThreshold = metaDataContexts.getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.SEEK_PAGINATION_OFFSET_THRESHOLD);
+        if (offsetThreshold <= 0L) {
+            return executionContext;
+        }
+        Collection<ExecutionUnit> executionUnits = new SeekPaginationPrepareEngine(
+                metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName()), offsetThreshold, connection.getConnectionManager()).prepare(executionContext);
+        return executionUnits == executionContext.getExecutionUnits() ? executionContext : new ExecutionContext(executionContext.getLogicSQL(), executionUnits, executionContext.getRouteContext());
+    }
+    
     private ResultSet executeFederationQuery(final LogicSQL logicSQL) throws SQLException {
         PreparedStatementExecuteQueryCallback callback = new PreparedStatementExecuteQueryCallback(
                 metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName()).getResource().getDatabaseType(), sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown());
@@ -285,8 +299,9 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine() {
         int maxConnectionsSizePerQuery = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new DriverExecutionPrepareEngine<>(JDBCDriverType.PREPARED_STATEMENT, maxConnectionsSizePerQuery, connection.getConnectionManager(), statementManager,
-                statementOption, metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName()).getRuleMetaData().getRules());
+        boolean adaptiveConnectionModeEnabled = metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED);
+        return new DriverExecutionPrepareEngine<>(JDBCDriverType.PREPARED_STATEMENT, maxConnectionsSizePerQuery, adaptiveConnectionModeEnabled, UnaryOperator.identity(),
+                connection.getConnectionManager(), statementManager, statementOption, metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName()).getRuleMetaData().getRules());
     }
     
     @Override
@@ -391,13 +406,23 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private ExecutionGroupContext<RawSQLExecutionUnit> createRawExecutionGroupContext() throws SQLException {
         int maxConnectionsSizePerQuery = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new RawExecutionPrepareEngine(maxConnectionsSizePerQuery, metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName()).getRuleMetaData().getRules())
-                .prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        ExecutionGroupContext<RawSQLExecutionUnit> result = new RawExecutionPrepareEngine(maxConnectionsSizePerQuery,
+                metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName()).getRuleMetaData().getRules()).prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        result.setQueryTimeoutMillis(getQueryTimeoutMillis());
+        return result;
     }
     
     private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext() throws SQLException {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine();
-        return prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        result.setQueryTimeoutMillis(getQueryTimeoutMillis());
+        result.setDataSourceMaxConcurrency(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.DATA_SOURCE_MAX_CONCURRENCY));
+        result.setDataSourceConcurrencyQueueSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.DATA_SOURCE_CONCURRENCY_QUEUE_SIZE));
+        return result;
+    }
+    
+    private long getQueryTimeoutMillis() {
+        return getQueryTimeoutSeconds() > 0 ? TimeUnit.SECONDS.toMillis(getQueryTimeoutSeconds()) : metaDataContexts.getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.QUERY_TIMEOUT_MILLISECONDS);
     }
     
     private JDBCExecutorCallback<Boolean> createExecuteCallback() {
@@ -58,11 +58,15 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.update.Update
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.executor.sql.prepare.pagination.SeekPaginationPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.raw.RawExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.parser.parameterized.ParameterizedSQL;
+import org.apache.shardingsphere.infra.parser.parameterized.SQLLiteralParameterizer;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.RawExecutionRule;
@@ -85,6 +89,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -194,6 +199,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             return executor.getRawExecutor().execute(createRawExecutionContext(), executionContext.getLogicSQL(),
                     new RawSQLExecutorCallback()).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
         }
+        executionContext = prepareSeekPagination();
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionContext();
         cacheStatements(executionGroupContext.getInputGroups());
         StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName()).getResource().getDatabaseType(),
@@ -210,8 +216,12 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine() {
         int maxConnectionsSizePerQuery = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, maxConnectionsSizePerQuery, connection.getConnectionManager(), statementManager,
-                statementOption, metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName()).getRuleMetaData().getRules());
+        boolean adaptiveConnectionModeEnabled = metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED);
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName());
+        SQLLiteralParameterizer parameterizer = new SQLLiteralParameterizer(database.getResource().getDatabaseType().getType());
+        return new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, maxConnectionsSizePerQuery, adaptiveConnectionModeEnabled,
+                sql -> parameterizer.parameterize(sql).map(ParameterizedSQL::getSql).orElse(sql), connection.getConnectionManager(), statementManager, statementOption,
+                database.getRuleMetaData().getRules());
     }
     
     @Override
@@ -468,15 +478,35 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
                 metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName()), metaDataContexts.getMetaData().getGlobalRuleMetaData(), metaDataContexts.getMetaData().getProps());
     }
     
+    private ExecutionContext prepareSeekPagination() throws SQLException {
+        long offsetThreshold = metaDataContexts.getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.SEEK_PAGINATION_OFFSET_THRESHOLD);
+        if (offsetThreshold <= 0L) {
+            return executionContext;
+        }
+        Collection<ExecutionUnit> executionUnits = new SeekPaginationPrepareEngine(
+                metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName()), offsetThreshold, connection.getConnectionManager()).prepare(executionContext);
+        return executionUnits == executionContext.getExecutionUnits() ? executionContext : new ExecutionContext(executionContext.getLogicSQL(), executionUnits, executionContext.getRouteContext());
+    }
+    
     private ExecutionGroupContext<JDBCExecutionUnit> createExecutionContext() throws SQLException {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine();
-        return prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        result.setQueryTimeoutMillis(getQueryTimeoutMillis());
+        result.setDataSourceMaxConcurrency(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.DATA_SOURCE_MAX_CONCURRENCY));
+        result.setDataSourceConcurrencyQueueSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.DATA_SOURCE_CONCURRENCY_QUEUE_SIZE));
+        return result;
+    }
+    
+    private long getQueryTimeoutMillis() {
+        return getQueryTimeoutSeconds() > 0 ? TimeUnit.SECONDS.toMillis(getQueryTimeoutSeconds()) : metaDataContexts.getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.QUERY_TIMEOUT_MILLISECONDS);
     }
     
     private ExecutionGroupContext<RawSQLExecutionUnit> createRawExecutionContext() throws SQLException {
         int maxConnectionsSizePerQuery = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new RawExecutionPrepareEngine(maxConnectionsSizePerQuery, metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName()).getRuleMetaData().getRules())
-                .prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        ExecutionGroupContext<RawSQLExecutionUnit> result = new RawExecutionPrepareEngine(maxConnectionsSizePerQuery,
+                metaDataContexts.getMetaData().getDatabases().get(connection.getDatabaseName()).getRuleMetaData().getRules()).prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        result.setQueryTimeoutMillis(getQueryTimeoutMillis());
+        return result;
     }
     
     private void cacheStatements(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups) throws SQLException {
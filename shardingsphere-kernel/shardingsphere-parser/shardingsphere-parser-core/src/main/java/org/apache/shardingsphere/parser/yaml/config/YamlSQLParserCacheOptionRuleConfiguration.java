@@ -31,4 +31,6 @@ public final class YamlSQLParserCacheOptionRuleConfiguration implements YamlConf
     private int initialCapacity;
     
     private long maximumSize;
+    
+    private long maximumWeight;
 }
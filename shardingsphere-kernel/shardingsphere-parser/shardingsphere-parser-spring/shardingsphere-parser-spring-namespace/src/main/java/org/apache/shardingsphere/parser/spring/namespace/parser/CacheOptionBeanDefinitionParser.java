@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.parser.spring.namespace.parser;
 
+import com.google.common.base.Strings;
 import org.apache.shardingsphere.parser.spring.namespace.tag.SQLParserRuleBeanDefinitionTag;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
@@ -35,6 +36,8 @@ public final class CacheOptionBeanDefinitionParser extends AbstractBeanDefinitio
         BeanDefinitionBuilder factory = BeanDefinitionBuilder.rootBeanDefinition(CacheOption.class);
         factory.addConstructorArgValue(element.getAttribute(SQLParserRuleBeanDefinitionTag.INITIAL_CAPACITY));
         factory.addConstructorArgValue(element.getAttribute(SQLParserRuleBeanDefinitionTag.MAXIMUM_SIZE));
+        String maximumWeight = element.getAttribute(SQLParserRuleBeanDefinitionTag.MAXIMUM_WEIGHT);
+        factory.addConstructorArgValue(Strings.isNullOrEmpty(maximumWeight) ? 0L : maximumWeight);
         return factory.getBeanDefinition();
     }
 }
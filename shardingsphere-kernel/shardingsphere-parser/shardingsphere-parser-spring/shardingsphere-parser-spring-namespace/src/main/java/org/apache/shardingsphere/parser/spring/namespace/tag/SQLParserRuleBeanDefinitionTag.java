@@ -38,5 +38,7 @@ public final class SQLParserRuleBeanDefinitionTag {
     
     public static final String MAXIMUM_SIZE = "maximum-size";
     
+    public static final String MAXIMUM_WEIGHT = "maximum-weight";
+    
     public static final String CACHE_OPTION = "cache-option";
 }
@@ -38,12 +38,13 @@ public final class SQLParserSpringNamespaceTest extends AbstractJUnit4SpringCont
     @Test
     public void assertSQLParserRule() {
         assertTrue(sqlParserRuleConfig.isSqlCommentParseEnabled());
-        assertCacheOption(sqlParserRuleConfig.getSqlStatementCache());
-        assertCacheOption(sqlParserRuleConfig.getParseTreeCache());
+        assertCacheOption(sqlParserRuleConfig.getSqlStatementCache(), 2048L);
+        assertCacheOption(sqlParserRuleConfig.getParseTreeCache(), 0L);
     }
     
-    private void assertCacheOption(final CacheOption cacheOption) {
+    private void assertCacheOption(final CacheOption cacheOption, final long expectedMaximumWeight) {
         assertThat(cacheOption.getInitialCapacity(), is(1024));
         assertThat(cacheOption.getMaximumSize(), is(1024L));
+        assertThat(cacheOption.getMaximumWeight(), is(expectedMaximumWeight));
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.manager;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.infra.datasource.props.DataSourcePropertiesCrea
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationDatabaseMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -51,6 +53,7 @@ import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.MetaDataContextsBuilder;
+import org.apache.shardingsphere.mode.metadata.RuleAlteredTablesDetector;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
@@ -64,6 +67,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -79,6 +83,9 @@ public final class ContextManager implements AutoCloseable {
     
     private final ExecutorEngine executorEngine;
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<AutoCloseable> closeables = new CopyOnWriteArrayList<>();
+    
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
@@ -254,6 +261,7 @@ public final class ContextManager implements AutoCloseable {
         }
         FederationDatabaseMetaData federationDatabaseMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().get(databaseName);
         federationDatabaseMetaData.removeSchemaMetadata(schemaName);
+        metaDataContexts.getOptimizerContext().getPlannerContexts().put(databaseName, OptimizerPlannerContextFactory.create(federationDatabaseMetaData));
         database.getSchemas().remove(schemaName);
     }
     
@@ -300,16 +308,68 @@ public final class ContextManager implements AutoCloseable {
      */
     public void alterRuleConfiguration(final String databaseName, final Collection<RuleConfiguration> ruleConfigs) {
         try {
-            MetaDataContexts changedMetaDataContexts = buildChangedMetaDataContext(metaDataContexts.getMetaData().getDatabases().get(databaseName), ruleConfigs);
-            metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().putAll(changedMetaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases());
-            metaDataContexts.getMetaData().getDatabases().get(databaseName).getRuleMetaData().findRules(ResourceHeldRule.class).forEach(ResourceHeldRule::closeStaleResources);
-            metaDataContexts.getMetaData().getDatabases().putAll(changedMetaDataContexts.getMetaData().getDatabases());
+            ShardingSphereDatabase originalDatabase = metaDataContexts.getMetaData().getDatabases().get(databaseName);
+            Collection<ShardingSphereRule> alteredRules = DatabaseRulesBuilder.build(databaseName,
+                    new DataSourceProvidedDatabaseConfiguration(originalDatabase.getResource().getDataSources(), ruleConfigs), metaDataContexts.getMetaData().getProps());
+            Optional<Collection<String>> alteredTables = new RuleAlteredTablesDetector(originalDatabase.getRuleMetaData().getRules(), alteredRules).detect();
+            if (alteredTables.isPresent()) {
+                alterRuleConfiguration(originalDatabase, alteredRules, alteredTables.get());
+            } else {
+                MetaDataContexts changedMetaDataContexts = buildChangedMetaDataContext(originalDatabase, ruleConfigs);
+                metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().putAll(changedMetaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases());
+                metaDataContexts.getOptimizerContext().getPlannerContexts().putAll(changedMetaDataContexts.getOptimizerContext().getPlannerContexts());
+                originalDatabase.getRuleMetaData().findRules(ResourceHeldRule.class).forEach(ResourceHeldRule::closeStaleResources);
+                metaDataContexts.getMetaData().getDatabases().putAll(changedMetaDataContexts.getMetaData().getDatabases());
+            }
             setInstanceContext();
         } catch (final SQLException ex) {
             log.error("Alter database:{} rule configuration failed", databaseName, ex);
         }
     }
     
+    private void alterRuleConfiguration(final ShardingSphereDatabase originalDatabase, final Collection<ShardingSphereRule> alteredRules, final Collection<String> alteredTables) throws SQLException {
+        String databaseName = originalDatabase.getName();
+        Map<String, ShardingSphereSchema> alteredSchemas = reloadAlteredTables(originalDatabase, alteredRules, alteredTables);
+        ShardingSphereDatabase alteredDatabase = new ShardingSphereDatabase(
+                databaseName, originalDatabase.getProtocolType(), originalDatabase.getResource(), new ShardingSphereRuleMetaData(alteredRules), alteredSchemas);
+        Map<String, ShardingSphereDatabase> alteredDatabases = new HashMap<>(metaDataContexts.getMetaData().getDatabases());
+        alteredDatabases.put(databaseName, alteredDatabase);
+        if (!alteredTables.isEmpty()) {
+            FederationDatabaseMetaData alteredDatabaseMetaData = new FederationDatabaseMetaData(databaseName, alteredSchemas);
+            metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().put(databaseName, alteredDatabaseMetaData);
+            metaDataContexts.getOptimizerContext().getPlannerContexts().put(databaseName, OptimizerPlannerContextFactory.create(alteredDatabaseMetaData));
+        }
+        originalDatabase.getRuleMetaData().findRules(ResourceHeldRule.class).forEach(ResourceHeldRule::closeStaleResources);
+        renewMetaDataContexts(
+                rebuildMetaDataContexts(new ShardingSphereMetaData(alteredDatabases, metaDataContexts.getMetaData().getGlobalRuleMetaData(), metaDataContexts.getMetaData().getProps())));
+        persistAlteredTables(originalDatabase, alteredSchemas, alteredTables);
+    }
+    
+    private Map<String, ShardingSphereSchema> reloadAlteredTables(final ShardingSphereDatabase originalDatabase,
+                                                                  final Collection<ShardingSphereRule> alteredRules, final Collection<String> alteredTables) throws SQLException {
+        Map<String, ShardingSphereSchema> result = new ConcurrentHashMap<>(originalDatabase.getSchemas().size(), 1);
+        originalDatabase.getSchemas().forEach((key, value) -> result.put(key, new ShardingSphereSchema(value.getTables())));
+        if (alteredTables.isEmpty()) {
+            return result;
+        }
+        GenericSchemaBuilderMaterials materials = new GenericSchemaBuilderMaterials(originalDatabase.getProtocolType(), originalDatabase.getResource().getDatabaseType(),
+                originalDatabase.getResource().getDataSources(), alteredRules, metaDataContexts.getMetaData().getProps(), originalDatabase.getName());
+        Map<String, ShardingSphereSchema> reloadedSchemas = GenericSchemaBuilder.build(alteredTables, materials);
+        result.values().forEach(each -> alteredTables.forEach(each::remove));
+        reloadedSchemas.forEach((key, value) -> result.computeIfAbsent(key, unused -> new ShardingSphereSchema()).putAll(value.getTables()));
+        return result;
+    }
+    
+    private void persistAlteredTables(final ShardingSphereDatabase originalDatabase, final Map<String, ShardingSphereSchema> alteredSchemas, final Collection<String> alteredTables) {
+        metaDataContexts.getPersistService().ifPresent(optional -> alteredSchemas.forEach((schemaName, schema) -> alteredTables.forEach(each -> {
+            if (schema.containsTable(each)) {
+                optional.getSchemaMetaDataService().persistTable(originalDatabase.getName(), schemaName, schema.get(each));
+            } else if (originalDatabase.getSchemas().containsKey(schemaName) && originalDatabase.getSchemas().get(schemaName).containsTable(each)) {
+                optional.getSchemaMetaDataService().deleteTable(originalDatabase.getName(), schemaName, each);
+            }
+        })));
+    }
+    
     /**
      * Alter data source configuration.
      *
@@ -354,7 +414,7 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         MetaDataContexts newMetaDataContexts = rebuildMetaDataContexts(
-                new ShardingSphereRuleMetaData(GlobalRulesBuilder.buildRules(ruleConfigs, metaDataContexts.getMetaData().getDatabases())));
+                new ShardingSphereRuleMetaData(GlobalRulesBuilder.buildRules(ruleConfigs, metaDataContexts.getMetaData().getDatabases(), metaDataContexts.getMetaData().getProps())));
         metaDataContexts.getMetaData().getGlobalRuleMetaData().findRules(ResourceHeldRule.class).forEach(ResourceHeldRule::closeStaleResources);
         renewMetaDataContexts(newMetaDataContexts);
         setInstanceContext();
@@ -459,6 +519,9 @@ public final class ContextManager implements AutoCloseable {
         Map<String, ShardingSphereSchema> schemaMap = GenericSchemaBuilder.build(materials);
         if (schemaMap.containsKey(schemaName)) {
             metaDataContexts.getMetaData().getDatabases().get(databaseName).getSchemas().put(schemaName, schemaMap.get(schemaName));
+            FederationDatabaseMetaData federationDatabaseMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().get(databaseName);
+            federationDatabaseMetaData.putSchemaMetadata(schemaName, new FederationSchemaMetaData(schemaName, schemaMap.get(schemaName).getTables()));
+            metaDataContexts.getOptimizerContext().getPlannerContexts().put(databaseName, OptimizerPlannerContextFactory.create(federationDatabaseMetaData));
             metaDataContexts.getPersistService().ifPresent(optional -> optional.getSchemaMetaDataService()
                     .persistMetaData(databaseName, schemaName, metaDataContexts.getMetaData().getDatabases().get(databaseName).getSchemas().get(schemaName)));
         }
@@ -468,6 +531,9 @@ public final class ContextManager implements AutoCloseable {
         ShardingSphereSchema schema = GenericSchemaBuilder.build(Collections.singletonList(tableName), materials).getOrDefault(schemaName, new ShardingSphereSchema());
         if (schema.containsTable(tableName)) {
             metaDataContexts.getMetaData().getDatabases().get(databaseName).getSchemas().get(schemaName).put(tableName, schema.get(tableName));
+            FederationDatabaseMetaData federationDatabaseMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().get(databaseName);
+            federationDatabaseMetaData.putTable(schemaName, schema.get(tableName));
+            metaDataContexts.getOptimizerContext().getPlannerContexts().put(databaseName, OptimizerPlannerContextFactory.create(federationDatabaseMetaData));
             metaDataContexts.getPersistService().ifPresent(optional -> optional.getSchemaMetaDataService()
                     .persistMetaData(databaseName, schemaName, metaDataContexts.getMetaData().getDatabases().get(databaseName).getSchemas().get(schemaName)));
         }
@@ -540,6 +606,7 @@ public final class ContextManager implements AutoCloseable {
     
     private void refreshMetaDataContext(final String databaseName, final MetaDataContexts changedMetaDataContext, final Map<String, DataSourceProperties> dataSourcePropsMap) {
         metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases().putAll(changedMetaDataContext.getOptimizerContext().getFederationMetaData().getDatabases());
+        metaDataContexts.getOptimizerContext().getPlannerContexts().putAll(changedMetaDataContext.getOptimizerContext().getPlannerContexts());
         Map<String, ShardingSphereDatabase> databases = new HashMap<>(metaDataContexts.getMetaData().getDatabases());
         databases.putAll(changedMetaDataContext.getMetaData().getDatabases());
         final Collection<DataSource> pendingClosedDataSources = getPendingClosedDataSources(databaseName, dataSourcePropsMap);
@@ -640,8 +707,20 @@ public final class ContextManager implements AutoCloseable {
         metaDataContexts.getMetaData().getDatabases().forEach((key, value) -> value.getRuleMetaData().findRules(InstanceAwareRule.class).forEach(each -> each.setInstanceContext(instanceContext)));
     }
     
+    /**
+     * Register closeable which is closed with context manager.
+     *
+     * @param closeable closeable
+     */
+    public void registerCloseable(final AutoCloseable closeable) {
+        closeables.add(closeable);
+    }
+    
     @Override
     public void close() throws Exception {
+        for (AutoCloseable each : closeables) {
+            each.close();
+        }
         executorEngine.close();
         metaDataContexts.close();
     }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.mode.metadata;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Optional;
+import java.util.Properties;
 
 /**
  * Meta data contexts.
@@ -46,7 +48,8 @@ public final class MetaDataContexts implements AutoCloseable {
     
     public MetaDataContexts(final MetaDataPersistService persistService) {
         this(persistService, new ShardingSphereMetaData(),
-                OptimizerContextFactory.create(new HashMap<>(), new ShardingSphereRuleMetaData(GlobalRulesBuilder.buildRules(Collections.emptyList(), Collections.emptyMap()))));
+                OptimizerContextFactory.create(new HashMap<>(),
+                        new ShardingSphereRuleMetaData(GlobalRulesBuilder.buildRules(Collections.emptyList(), Collections.emptyMap(), new ConfigurationProperties(new Properties())))));
     }
     
     /**
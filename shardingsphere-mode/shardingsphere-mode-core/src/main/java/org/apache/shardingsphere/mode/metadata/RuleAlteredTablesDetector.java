@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.infra.yaml.config.swapper.YamlRuleConfigurationSwapperEngine;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Rule altered tables detector, to find out the tables whose meta data should be reloaded after database rules altered.
+ */
+@RequiredArgsConstructor
+public final class RuleAlteredTablesDetector {
+    
+    private final Collection<ShardingSphereRule> originalRules;
+    
+    private final Collection<ShardingSphereRule> alteredRules;
+    
+    /**
+     * Detect altered tables.
+     *
+     * @return altered tables, empty if the altered rules may affect meta data which can not be scoped to tables
+     */
+    public Optional<Collection<String>> detect() {
+        Map<String, ShardingSphereRule> originalRuleMap = getRuleMap(originalRules);
+        Map<String, ShardingSphereRule> alteredRuleMap = getRuleMap(alteredRules);
+        if (originalRuleMap.size() != originalRules.size() || alteredRuleMap.size() != alteredRules.size()) {
+            return Optional.empty();
+        }
+        Collection<String> ruleTypes = new LinkedHashSet<>(originalRuleMap.keySet());
+        ruleTypes.addAll(alteredRuleMap.keySet());
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String each : ruleTypes) {
+            ShardingSphereRule originalRule = originalRuleMap.get(each);
+            ShardingSphereRule alteredRule = alteredRuleMap.get(each);
+            if (isSameConfiguration(originalRule, alteredRule)) {
+                result.addAll(getContainedTablesDifference(originalRule, alteredRule));
+                continue;
+            }
+            if (!isTableContainedRule(originalRule) || !isTableContainedRule(alteredRule)) {
+                return Optional.empty();
+            }
+            result.addAll(getAlteredTables((TableContainedRule) originalRule, (TableContainedRule) alteredRule));
+        }
+        return Optional.of(result);
+    }
+    
+    private Map<String, ShardingSphereRule> getRuleMap(final Collection<ShardingSphereRule> rules) {
+        Map<String, ShardingSphereRule> result = new LinkedHashMap<>(rules.size(), 1);
+        for (ShardingSphereRule each : rules) {
+            result.put(each.getType(), each);
+        }
+        return result;
+    }
+    
+    private boolean isSameConfiguration(final ShardingSphereRule originalRule, final ShardingSphereRule alteredRule) {
+        if (null == originalRule || null == alteredRule) {
+            return false;
+        }
+        if (originalRule.getConfiguration() == alteredRule.getConfiguration()) {
+            return true;
+        }
+        Optional<String> originalRuleConfig = marshal(originalRule.getConfiguration());
+        return originalRuleConfig.isPresent() && originalRuleConfig.equals(marshal(alteredRule.getConfiguration()));
+    }
+    
+    private Optional<String> marshal(final RuleConfiguration ruleConfig) {
+        return new YamlRuleConfigurationSwapperEngine().swapToYamlRuleConfigurations(Collections.singleton(ruleConfig)).stream().findFirst().map(YamlEngine::marshal);
+    }
+    
+    private Collection<String> getContainedTablesDifference(final ShardingSphereRule originalRule, final ShardingSphereRule alteredRule) {
+        if (!(originalRule instanceof TableContainedRule) || !(alteredRule instanceof TableContainedRule)) {
+            return Collections.emptyList();
+        }
+        Collection<String> originalTables = createCaseInsensitiveTables(((TableContainedRule) originalRule).getTables());
+        Collection<String> alteredTables = createCaseInsensitiveTables(((TableContainedRule) alteredRule).getTables());
+        Collection<String> result = new LinkedHashSet<>();
+        originalTables.stream().filter(each -> !alteredTables.contains(each)).forEach(result::add);
+        alteredTables.stream().filter(each -> !originalTables.contains(each)).forEach(result::add);
+        return result;
+    }
+    
+    private Collection<String> createCaseInsensitiveTables(final Collection<String> tables) {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.addAll(tables);
+        return result;
+    }
+    
+    private boolean isTableContainedRule(final ShardingSphereRule rule) {
+        return null == rule || rule instanceof TableContainedRule;
+    }
+    
+    private Collection<String> getAlteredTables(final TableContainedRule originalRule, final TableContainedRule alteredRule) {
+        if (null == originalRule) {
+            return alteredRule.getTables();
+        }
+        return null == alteredRule ? originalRule.getTables() : alteredRule.getAlteredTables(originalRule);
+    }
+}
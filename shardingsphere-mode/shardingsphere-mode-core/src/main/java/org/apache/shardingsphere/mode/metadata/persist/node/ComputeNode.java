@@ -41,6 +41,8 @@ public final class ComputeNode {
     
     private static final String WORKER_ID = "worker_id";
     
+    private static final String SQL_DIGEST_STATISTICS_NODE = "sql_digest_statistics";
+    
     /**
      * Get online compute node path.
      * 
@@ -120,6 +122,25 @@ public final class ComputeNode {
         return String.join("/", "", ROOT_NODE, COMPUTE_NODE, WORKER_ID, instanceId);
     }
     
+    /**
+     * Get SQL digest statistics node path.
+     * 
+     * @return SQL digest statistics node path
+     */
+    public static String getSQLDigestStatisticsNodePath() {
+        return String.join("/", "", ROOT_NODE, COMPUTE_NODE, SQL_DIGEST_STATISTICS_NODE);
+    }
+    
+    /**
+     * Get instance SQL digest statistics node path.
+     * 
+     * @param instanceId instance id
+     * @return instance SQL digest statistics node path
+     */
+    public static String getInstanceSQLDigestStatisticsNodePath(final String instanceId) {
+        return String.join("/", "", ROOT_NODE, COMPUTE_NODE, SQL_DIGEST_STATISTICS_NODE, instanceId);
+    }
+    
     /**
      * Get instance id by compute node path.
      * 
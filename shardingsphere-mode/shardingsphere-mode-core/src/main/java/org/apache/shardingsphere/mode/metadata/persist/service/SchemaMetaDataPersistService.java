@@ -61,8 +61,10 @@ public final class SchemaMetaDataPersistService {
             persistSchema(databaseName, schemaName);
             return;
         }
-        tables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key),
+        Map<String, String> tableMetaDataNodes = new LinkedHashMap<>(tables.size(), 1);
+        tables.forEach((key, value) -> tableMetaDataNodes.put(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key),
                 YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(value))));
+        repository.batchPersist(tableMetaDataNodes);
     }
     
     /**
@@ -89,6 +91,7 @@ public final class SchemaMetaDataPersistService {
     
     private void compareAndPersist(final String databaseName, final String schemaName, final ShardingSphereSchema schema, final ShardingSphereSchema originalSchema) {
         Map<String, ShardingSphereTable> cachedLocalTables = new LinkedHashMap<>(schema.getTables());
+        Map<String, ShardingSphereTable> changedTables = new LinkedHashMap<>();
         for (Entry<String, ShardingSphereTable> entry : originalSchema.getTables().entrySet()) {
             String onlineTableName = entry.getKey();
             ShardingSphereTable localTableMetaData = cachedLocalTables.remove(onlineTableName);
@@ -97,11 +100,12 @@ public final class SchemaMetaDataPersistService {
                 continue;
             }
             if (!localTableMetaData.equals(entry.getValue())) {
-                persistTable(databaseName, schemaName, localTableMetaData);
+                changedTables.put(localTableMetaData.getName().toLowerCase(), localTableMetaData);
             }
         }
-        if (!cachedLocalTables.isEmpty()) {
-            persistMetaData(databaseName, schemaName, cachedLocalTables);
+        changedTables.putAll(cachedLocalTables);
+        if (!changedTables.isEmpty()) {
+            persistMetaData(databaseName, schemaName, changedTables);
         }
     }
     
@@ -156,11 +160,12 @@ public final class SchemaMetaDataPersistService {
         if (tables.isEmpty()) {
             return Optional.empty();
         }
+        Map<String, String> tableMetaDataPaths = new LinkedHashMap<>(tables.size(), 1);
+        tables.forEach(each -> tableMetaDataPaths.put(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each), each));
         ShardingSphereSchema schema = new ShardingSphereSchema();
-        tables.forEach(each -> {
-            String content = repository.get(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each));
-            ShardingSphereTable table = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(content, YamlTableMetaData.class));
-            schema.put(each, table);
+        repository.batchGet(tableMetaDataPaths.keySet()).forEach((key, value) -> {
+            ShardingSphereTable table = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(value, YamlTableMetaData.class));
+            schema.put(tableMetaDataPaths.get(key), table);
         });
         return Optional.of(schema);
     }
@@ -19,7 +19,10 @@ package org.apache.shardingsphere.mode.persist;
 
 import org.apache.shardingsphere.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -41,6 +44,25 @@ public interface PersistRepository extends TypedSPI {
      */
     String get(String key);
     
+    /**
+     * Get data of keys from registry center in batch.
+     *
+     * <p>Keys which do not exist are absent in the result.</p>
+     *
+     * @param keys keys of data
+     * @return values of data keyed by key
+     */
+    default Map<String, String> batchGet(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1);
+        for (String each : keys) {
+            String value = get(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get names of sub-node.
      *
@@ -57,6 +79,15 @@ public interface PersistRepository extends TypedSPI {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     *
+     * @param keyValues values of data keyed by key
+     */
+    default void batchPersist(final Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
     /**
      * Delete node.
      *
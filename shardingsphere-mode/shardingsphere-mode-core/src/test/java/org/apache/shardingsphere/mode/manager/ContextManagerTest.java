@@ -55,6 +55,7 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -132,6 +133,21 @@ public final class ContextManagerTest {
         assertFalse(contextManager.getMetaDataContexts().getOptimizerContext().getPlannerContexts().containsKey("foo_db"));
     }
     
+    @Test
+    public void assertDropSchema() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getSchemas()).thenReturn(new HashMap<>(Collections.singletonMap("foo_schema", new ShardingSphereSchema())));
+        when(metaDataContexts.getMetaData().getDatabases()).thenReturn(Collections.singletonMap("foo_db", database));
+        FederationDatabaseMetaData federationDatabaseMetaData = new FederationDatabaseMetaData("foo_db", Collections.singletonMap("foo_schema", new ShardingSphereSchema()));
+        when(metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabases()).thenReturn(Collections.singletonMap("foo_db", federationDatabaseMetaData));
+        OptimizerPlannerContext stalePlannerContext = mock(OptimizerPlannerContext.class);
+        when(metaDataContexts.getOptimizerContext().getPlannerContexts()).thenReturn(new HashMap<>(Collections.singletonMap("foo_db", stalePlannerContext)));
+        contextManager.dropSchema("foo_db", "foo_schema");
+        assertFalse(database.getSchemas().containsKey("foo_schema"));
+        assertFalse(federationDatabaseMetaData.getSchemaMetadata("foo_schema").isPresent());
+        assertNotSame(contextManager.getMetaDataContexts().getOptimizerContext().getPlannerContexts().get("foo_db"), stalePlannerContext);
+    }
+    
     @Test
     public void assertAddResource() throws SQLException {
         ShardingSphereResource resource = mock(ShardingSphereResource.class);
@@ -202,6 +218,18 @@ public final class ContextManagerTest {
         // assertTrue(contextManager.getMetaDataContexts().getMetaData().getDatabases().get("foo_db").getRuleMetaData().getConfigurations().contains(ruleConfig));
     }
     
+    @Test
+    public void assertAlterRuleConfigurationWithoutAlteredTables() {
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singletonMap("foo_tbl", mock(ShardingSphereTable.class)));
+        ShardingSphereDatabase originalDatabase = new ShardingSphereDatabase("foo_db", new MySQLDatabaseType(), mock(ShardingSphereResource.class),
+                new ShardingSphereRuleMetaData(new LinkedList<>()), Collections.singletonMap("foo_schema", schema));
+        when(metaDataContexts.getMetaData().getDatabases()).thenReturn(new HashMap<>(Collections.singletonMap("foo_db", originalDatabase)));
+        contextManager.alterRuleConfiguration("foo_db", Collections.singleton(new TransactionRuleConfiguration("LOCAL", null, new Properties())));
+        ShardingSphereDatabase actual = contextManager.getMetaDataContexts().getMetaData().getDatabases().get("foo_db");
+        assertNotSame(actual, originalDatabase);
+        assertTrue(actual.getSchemas().get("foo_schema").containsTable("foo_tbl"));
+    }
+    
     @Test
     public void assertAlterDataSourceConfiguration() {
         ShardingSphereDatabase originalDatabaseMetaData = new ShardingSphereDatabase(
@@ -266,7 +294,10 @@ public final class ContextManagerTest {
     
     @Test
     public void assertClose() throws Exception {
+        AutoCloseable closeable = mock(AutoCloseable.class);
+        contextManager.registerCloseable(closeable);
         contextManager.close();
+        verify(closeable).close();
         verify(metaDataContexts).close();
     }
 }
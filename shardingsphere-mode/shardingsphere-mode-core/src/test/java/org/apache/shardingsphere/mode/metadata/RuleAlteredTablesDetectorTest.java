@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata;
+
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.mode.metadata.persist.fixture.RuleConfigurationFixture;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class RuleAlteredTablesDetectorTest {
+    
+    @Test
+    public void assertDetectWithSameConfiguration() {
+        TableContainedRule originalRule = createTableContainedRule(createRuleConfiguration("foo"), "foo_tbl", "bar_tbl");
+        TableContainedRule alteredRule = createTableContainedRule(createRuleConfiguration("foo"), "foo_tbl");
+        Optional<Collection<String>> actual = new RuleAlteredTablesDetector(Collections.singleton(originalRule), Collections.singleton(alteredRule)).detect();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(1));
+        assertTrue(actual.get().contains("bar_tbl"));
+    }
+    
+    @Test
+    public void assertDetectWithAlteredTableContainedRule() {
+        TableContainedRule originalRule = createTableContainedRule(createRuleConfiguration("foo"));
+        TableContainedRule alteredRule = createTableContainedRule(createRuleConfiguration("bar"));
+        when(alteredRule.getAlteredTables(originalRule)).thenReturn(Collections.singleton("foo_tbl"));
+        Optional<Collection<String>> actual = new RuleAlteredTablesDetector(Collections.singleton(originalRule), Collections.singleton(alteredRule)).detect();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(1));
+        assertTrue(actual.get().contains("FOO_TBL"));
+    }
+    
+    @Test
+    public void assertDetectWithAddedTableContainedRule() {
+        TableContainedRule alteredRule = createTableContainedRule(createRuleConfiguration("foo"), "foo_tbl", "bar_tbl");
+        Optional<Collection<String>> actual = new RuleAlteredTablesDetector(Collections.emptyList(), Collections.singleton(alteredRule)).detect();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(2));
+    }
+    
+    @Test
+    public void assertDetectWithAlteredRuleNotContainedTable() {
+        ShardingSphereRule originalRule = mock(ShardingSphereRule.class);
+        when(originalRule.getType()).thenReturn("FIXTURE");
+        when(originalRule.getConfiguration()).thenReturn(createRuleConfiguration("foo"));
+        ShardingSphereRule alteredRule = mock(ShardingSphereRule.class);
+        when(alteredRule.getType()).thenReturn("FIXTURE");
+        when(alteredRule.getConfiguration()).thenReturn(createRuleConfiguration("bar"));
+        assertFalse(new RuleAlteredTablesDetector(Collections.singleton(originalRule), Collections.singleton(alteredRule)).detect().isPresent());
+    }
+    
+    private TableContainedRule createTableContainedRule(final RuleConfiguration ruleConfig, final String... tables) {
+        TableContainedRule result = mock(TableContainedRule.class);
+        when(result.getType()).thenReturn("FIXTURE");
+        when(result.getConfiguration()).thenReturn(ruleConfig);
+        when(result.getTables()).thenReturn(Arrays.asList(tables));
+        return result;
+    }
+    
+    private RuleConfiguration createRuleConfiguration(final String name) {
+        RuleConfigurationFixture result = new RuleConfigurationFixture();
+        result.setName(name);
+        return result;
+    }
+}
@@ -60,6 +60,12 @@ public final class ComputeNodeTest {
         assertThat(ComputeNode.getInstanceWorkerIdNodePath("foo_instance"), is("/nodes/compute_nodes/worker_id/foo_instance"));
     }
     
+    @Test
+    public void assertGetInstanceSQLDigestStatisticsNodePath() {
+        assertThat(ComputeNode.getSQLDigestStatisticsNodePath(), is("/nodes/compute_nodes/sql_digest_statistics"));
+        assertThat(ComputeNode.getInstanceSQLDigestStatisticsNodePath("foo_instance"), is("/nodes/compute_nodes/sql_digest_statistics/foo_instance"));
+    }
+    
     @Test
     public void assertGetInstanceIdByComputeNodePath() {
         assertThat(ComputeNode.getInstanceIdByComputeNode("/nodes/compute_nodes/status/foo_instance_1"), is("foo_instance_1"));
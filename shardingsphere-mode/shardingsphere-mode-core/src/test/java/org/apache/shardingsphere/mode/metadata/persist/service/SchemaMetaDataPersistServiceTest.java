@@ -33,8 +33,11 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -43,6 +46,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -59,7 +63,23 @@ public final class SchemaMetaDataPersistServiceTest {
         ShardingSphereSchema schema = new ShardingSphereSchema();
         schema.getTables().put("t_order", table);
         new SchemaMetaDataPersistService(repository).persistMetaData("foo_db", "foo_schema", schema);
-        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/t_order"), anyString());
+        verify(repository).batchPersist(argThat(argument -> argument.containsKey("/metadata/foo_db/schemas/foo_schema/tables/t_order")));
+    }
+    
+    @Test
+    public void assertPersistWithOriginalSchema() {
+        ShardingSphereTable table = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlTableMetaData.class));
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Arrays.asList("t_order", "t_order_item"));
+        Map<String, String> tableMetaDataNodes = new LinkedHashMap<>(2, 1);
+        tableMetaDataNodes.put("/metadata/foo_db/schemas/foo_schema/tables/t_order", readYAML());
+        tableMetaDataNodes.put("/metadata/foo_db/schemas/foo_schema/tables/t_order_item", readYAML());
+        when(repository.batchGet(tableMetaDataNodes.keySet())).thenReturn(tableMetaDataNodes);
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", table);
+        schema.getTables().put("t_user", new ShardingSphereTable("t_user", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        new SchemaMetaDataPersistService(repository).persistMetaData("foo_db", "foo_schema", schema);
+        verify(repository).delete("/metadata/foo_db/schemas/foo_schema/tables/t_order_item");
+        verify(repository).batchPersist(argThat(argument -> argument.keySet().equals(Collections.singleton("/metadata/foo_db/schemas/foo_schema/tables/t_user"))));
     }
     
     @Test
@@ -78,7 +98,8 @@ public final class SchemaMetaDataPersistServiceTest {
     public void assertLoad() {
         SchemaMetaDataPersistService schemaMetaDataPersistService = new SchemaMetaDataPersistService(repository);
         when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
-        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables/t_order")).thenReturn(readYAML());
+        when(repository.batchGet(Collections.singleton("/metadata/foo_db/schemas/foo_schema/tables/t_order")))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/t_order", readYAML()));
         Optional<ShardingSphereSchema> schema = schemaMetaDataPersistService.load("foo_db", "foo_schema");
         assertTrue(schema.isPresent());
         Optional<ShardingSphereSchema> empty = schemaMetaDataPersistService.load("test", "test");
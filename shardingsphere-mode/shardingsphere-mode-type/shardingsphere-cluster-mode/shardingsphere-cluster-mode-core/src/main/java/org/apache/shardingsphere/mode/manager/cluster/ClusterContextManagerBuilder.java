@@ -118,6 +118,7 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         contextManager.getInstanceContext().getComputeNodeInstances().addAll(registryCenter.getComputeNodeStatusService().loadAllComputeNodeInstances());
         new ClusterContextManagerCoordinator(metaDataPersistService, contextManager, registryCenter);
         registryCenter.onlineInstance(contextManager.getInstanceContext().getInstance());
+        contextManager.registerCloseable(registryCenter);
     }
     
     @Override
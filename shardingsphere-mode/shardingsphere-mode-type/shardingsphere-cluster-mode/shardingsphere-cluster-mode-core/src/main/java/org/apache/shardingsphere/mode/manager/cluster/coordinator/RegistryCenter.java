@@ -25,6 +25,7 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.Gover
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.subscriber.ScalingRegistrySubscriber;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.subscriber.SchemaMetaDataRegistrySubscriber;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.subscriber.ProcessRegistrySubscriber;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.statistics.service.SQLDigestStatisticsRegistryService;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.service.ComputeNodeStatusService;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.subscriber.ComputeNodeStatusSubscriber;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.service.StorageNodeStatusService;
@@ -34,7 +35,7 @@ import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositor
 /**
  * Registry center.
  */
-public final class RegistryCenter {
+public final class RegistryCenter implements AutoCloseable {
     
     @Getter
     private final ClusterPersistRepository repository;
@@ -48,6 +49,9 @@ public final class RegistryCenter {
     @Getter
     private final LockRegistryService lockService;
     
+    @Getter
+    private final SQLDigestStatisticsRegistryService sqlDigestStatisticsService;
+    
     private final GovernanceWatcherFactory listenerFactory;
     
     public RegistryCenter(final ClusterPersistRepository repository) {
@@ -55,6 +59,7 @@ public final class RegistryCenter {
         storageNodeStatusService = new StorageNodeStatusService(repository);
         computeNodeStatusService = new ComputeNodeStatusService(repository);
         lockService = new MutexLockRegistryService(repository);
+        sqlDigestStatisticsService = new SQLDigestStatisticsRegistryService(repository);
         listenerFactory = new GovernanceWatcherFactory(repository);
         createSubscribers(repository);
     }
@@ -76,5 +81,11 @@ public final class RegistryCenter {
         computeNodeStatusService.registerOnline(computeNodeInstance.getInstanceDefinition());
         computeNodeStatusService.persistInstanceLabels(computeNodeInstance.getCurrentInstanceId(), computeNodeInstance.getLabels());
         listenerFactory.watchListeners();
+        sqlDigestStatisticsService.startPersist(computeNodeInstance.getCurrentInstanceId());
+    }
+    
+    @Override
+    public void close() {
+        sqlDigestStatisticsService.stopPersist();
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.statistics.service;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.statistics.digest.SQLDigestStatisticsCollector;
+import org.apache.shardingsphere.infra.statistics.digest.SQLDigestStatisticsSnapshot;
+import org.apache.shardingsphere.infra.statistics.digest.yaml.SQLDigestStatisticsYamlSwapper;
+import org.apache.shardingsphere.infra.statistics.digest.yaml.YamlComputeNodeSQLDigestStatistics;
+import org.apache.shardingsphere.infra.statistics.digest.yaml.YamlSQLDigestStatistics;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.mode.metadata.persist.node.ComputeNode;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL digest statistics registry service.
+ *
+ * <p>Every compute node persists its top SQL digest statistics periodically as ephemeral node, so the statistics can be merged across compute nodes.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SQLDigestStatisticsRegistryService {
+    
+    private static final int PERSIST_TOP_SIZE = 100;
+    
+    private static final long PERSIST_INTERVAL_SECONDS = 30L;
+    
+    private final ClusterPersistRepository repository;
+    
+    private final SQLDigestStatisticsYamlSwapper swapper = new SQLDigestStatisticsYamlSwapper();
+    
+    private ScheduledExecutorService persistExecutor;
+    
+    /**
+     * Start to persist SQL digest statistics of current compute node periodically.
+     *
+     * @param instanceId instance id of current compute node
+     */
+    public synchronized void startPersist(final String instanceId) {
+        if (null != persistExecutor) {
+            return;
+        }
+        persistExecutor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("sql-digest-statistics-persist-%d"));
+        persistExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                persist(instanceId);
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.warn("Persist SQL digest statistics failed", ex);
+            }
+        }, PERSIST_INTERVAL_SECONDS, PERSIST_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Stop to persist SQL digest statistics.
+     */
+    public synchronized void stopPersist() {
+        if (null == persistExecutor) {
+            return;
+        }
+        persistExecutor.shutdownNow();
+        persistExecutor = null;
+    }
+    
+    /**
+     * Persist SQL digest statistics of current compute node.
+     *
+     * @param instanceId instance id of current compute node
+     */
+    public void persist(final String instanceId) {
+        YamlComputeNodeSQLDigestStatistics yamlStatistics = new YamlComputeNodeSQLDigestStatistics();
+        for (SQLDigestStatisticsSnapshot each : SQLDigestStatisticsCollector.getInstance().getTopStatistics(PERSIST_TOP_SIZE)) {
+            yamlStatistics.getStatistics().add(swapper.swapToYamlConfiguration(each));
+        }
+        repository.persistEphemeral(ComputeNode.getInstanceSQLDigestStatisticsNodePath(instanceId), YamlEngine.marshal(yamlStatistics));
+    }
+    
+    /**
+     * Load SQL digest statistics of all compute nodes.
+     *
+     * @return instance id and SQL digest statistics map
+     */
+    public Map<String, Collection<SQLDigestStatisticsSnapshot>> loadStatistics() {
+        Collection<String> instanceIds = repository.getChildrenKeys(ComputeNode.getSQLDigestStatisticsNodePath());
+        Map<String, Collection<SQLDigestStatisticsSnapshot>> result = new LinkedHashMap<>(instanceIds.size(), 1);
+        for (String each : instanceIds) {
+            String yamlContent = repository.get(ComputeNode.getInstanceSQLDigestStatisticsNodePath(each));
+            if (!Strings.isNullOrEmpty(yamlContent)) {
+                result.put(each, swapToSnapshots(YamlEngine.unmarshal(yamlContent, YamlComputeNodeSQLDigestStatistics.class)));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<SQLDigestStatisticsSnapshot> swapToSnapshots(final YamlComputeNodeSQLDigestStatistics yamlStatistics) {
+        Collection<SQLDigestStatisticsSnapshot> result = new LinkedList<>();
+        if (null != yamlStatistics.getStatistics()) {
+            for (YamlSQLDigestStatistics each : yamlStatistics.getStatistics()) {
+                result.add(swapper.swapToObject(each));
+            }
+        }
+        return result;
+    }
+}
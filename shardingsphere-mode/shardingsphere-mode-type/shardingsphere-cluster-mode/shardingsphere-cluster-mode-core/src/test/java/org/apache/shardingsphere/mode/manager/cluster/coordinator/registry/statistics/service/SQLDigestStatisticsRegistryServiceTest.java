@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.statistics.service;
+
+import org.apache.shardingsphere.infra.statistics.digest.SQLDigestStatisticsCollector;
+import org.apache.shardingsphere.infra.statistics.digest.SQLDigestStatisticsSnapshot;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class SQLDigestStatisticsRegistryServiceTest {
+    
+    @Mock
+    private ClusterPersistRepository repository;
+    
+    @After
+    public void tearDown() {
+        SQLDigestStatisticsCollector.getInstance().clear();
+    }
+    
+    @Test
+    public void assertPersistAndLoadStatistics() {
+        SQLDigestStatisticsCollector.getInstance().record("foo_db", "SELECT * FROM t_order WHERE order_id = ?", 1000L, 1L, 2, false);
+        SQLDigestStatisticsCollector.getInstance().record("foo_db", "SELECT * FROM t_order WHERE order_id = ?", 3000L, 0L, 2, true);
+        SQLDigestStatisticsRegistryService service = new SQLDigestStatisticsRegistryService(repository);
+        service.persist("foo_instance");
+        ArgumentCaptor<String> yamlContent = ArgumentCaptor.forClass(String.class);
+        verify(repository).persistEphemeral(eq("/nodes/compute_nodes/sql_digest_statistics/foo_instance"), yamlContent.capture());
+        when(repository.getChildrenKeys("/nodes/compute_nodes/sql_digest_statistics")).thenReturn(Collections.singletonList("foo_instance"));
+        when(repository.get("/nodes/compute_nodes/sql_digest_statistics/foo_instance")).thenReturn(yamlContent.getValue());
+        Map<String, Collection<SQLDigestStatisticsSnapshot>> actual = service.loadStatistics();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("foo_instance").size(), is(1));
+        SQLDigestStatisticsSnapshot snapshot = actual.get("foo_instance").iterator().next();
+        assertThat(snapshot.getDatabaseName(), is("foo_db"));
+        assertThat(snapshot.getDigest(), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(snapshot.getCount(), is(2L));
+        assertThat(snapshot.getErrorCount(), is(1L));
+        assertThat(snapshot.getRowCount(), is(1L));
+        assertThat(snapshot.getShardCount(), is(4L));
+        assertThat(snapshot.getMinNanos(), is(1000L));
+        assertThat(snapshot.getLatency().getCount(), is(2L));
+        assertThat(snapshot.getLatency().getMaxNanos(), is(3000L));
+    }
+    
+    @Test
+    public void assertStopPersist() {
+        SQLDigestStatisticsRegistryService service = new SQLDigestStatisticsRegistryService(repository);
+        service.startPersist("foo_instance");
+        service.stopPersist();
+        assertFalse(Thread.getAllStackTraces().keySet().stream().anyMatch(each -> each.isAlive() && each.getName().startsWith("ShardingSphere-sql-digest-statistics-persist")));
+    }
+}
@@ -18,12 +18,18 @@
 package org.apache.shardingsphere.mode.repository.cluster.etcd;
 
 import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
 import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Observers;
 import io.etcd.jetcd.Util;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.DeleteResponse;
+import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.kv.PutResponse;
+import io.etcd.jetcd.kv.TxnResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -42,7 +48,12 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
@@ -53,6 +64,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_OPERATIONS = 128;
+    
+    private final EtcdRepositoryCache cache = new EtcdRepositoryCache();
+    
     private Client client;
     
     private EtcdProperties etcdProps;
@@ -72,6 +87,9 @@ public final class EtcdRepository implements ClusterPersistRepository {
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public String get(final String key) {
+        if (cache.isCached(key)) {
+            return cache.get(key).orElse(null);
+        }
         List<KeyValue> keyValues = client.getKVClient().get(ByteSequence.from(key, StandardCharsets.UTF_8)).get().getKvs();
         return keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8);
     }
@@ -79,6 +97,9 @@ public final class EtcdRepository implements ClusterPersistRepository {
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public List<String> getChildrenKeys(final String key) {
+        if (cache.isCached(key + PATH_SEPARATOR)) {
+            return cache.getChildrenKeys(key);
+        }
         String prefix = key + PATH_SEPARATOR;
         ByteSequence prefixByteSequence = ByteSequence.from(prefix, StandardCharsets.UTF_8);
         GetOption getOption = GetOption.newBuilder().withPrefix(prefixByteSequence).withSortField(GetOption.SortTarget.KEY).withSortOrder(GetOption.SortOrder.ASCEND).build();
@@ -91,10 +112,47 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return pathWithoutPrefix.contains(PATH_SEPARATOR) ? pathWithoutPrefix.substring(0, pathWithoutPrefix.indexOf(PATH_SEPARATOR)) : pathWithoutPrefix;
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> batchGet(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1);
+        List<String> uncachedKeys = new ArrayList<>(keys.size());
+        for (String each : keys) {
+            if (cache.isCached(each)) {
+                cache.get(each).ifPresent(value -> result.put(each, value));
+            } else {
+                uncachedKeys.add(each);
+            }
+        }
+        for (List<String> each : Lists.partition(uncachedKeys, MAX_TRANSACTION_OPERATIONS)) {
+            Op[] ops = each.stream().map(key -> Op.get(ByteSequence.from(key, StandardCharsets.UTF_8), GetOption.DEFAULT)).toArray(Op[]::new);
+            for (GetResponse response : client.getKVClient().txn().Then(ops).commit().get().getGetResponses()) {
+                for (KeyValue keyValue : response.getKvs()) {
+                    result.put(keyValue.getKey().toString(StandardCharsets.UTF_8), keyValue.getValue().toString(StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return result;
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public void persist(final String key, final String value) {
-        client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
+        PutResponse response = client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
+        if (cache.isWatched(key)) {
+            cache.put(key, value, response.getHeader().getRevision());
+        }
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        for (List<Entry<String, String>> each : Lists.partition(new ArrayList<>(keyValues.entrySet()), MAX_TRANSACTION_OPERATIONS)) {
+            Op[] ops = each.stream().map(entry -> Op.put(ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8), ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8), PutOption.DEFAULT))
+                    .toArray(Op[]::new);
+            TxnResponse response = client.getKVClient().txn().Then(ops).commit().get();
+            each.stream().filter(entry -> cache.isWatched(entry.getKey())).forEach(entry -> cache.put(entry.getKey(), entry.getValue(), response.getHeader().getRevision()));
+        }
     }
     
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
@@ -103,7 +161,11 @@ public final class EtcdRepository implements ClusterPersistRepository {
         long leaseId = client.getLeaseClient().grant(etcdProps.getValue(EtcdPropertyKey.TIME_TO_LIVE_SECONDS)).get().getID();
         client.getLeaseClient().keepAlive(leaseId, Observers.observer(response -> {
         }));
-        client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8), PutOption.newBuilder().withLeaseId(leaseId).build()).get();
+        PutResponse response = client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8),
+                PutOption.newBuilder().withLeaseId(leaseId).build()).get();
+        if (cache.isWatched(key)) {
+            cache.put(key, value, response.getHeader().getRevision());
+        }
     }
     
     @Override
@@ -111,24 +173,46 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return null;
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public void delete(final String key) {
-        client.getKVClient().delete(ByteSequence.from(key, StandardCharsets.UTF_8), DeleteOption.newBuilder().withPrefix(ByteSequence.from(key, StandardCharsets.UTF_8)).build());
+        DeleteResponse response = client.getKVClient().delete(ByteSequence.from(key, StandardCharsets.UTF_8),
+                DeleteOption.newBuilder().withPrefix(ByteSequence.from(key, StandardCharsets.UTF_8)).build()).get();
+        if (cache.isWatched(key)) {
+            cache.removeWithPrefix(key, response.getHeader().getRevision());
+        }
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public void watch(final String key, final DataChangedEventListener dataChangedEventListener) {
+        cache.watch(key);
+        ByteSequence prefix = ByteSequence.from(key, StandardCharsets.UTF_8);
+        GetResponse loadedResponse = client.getKVClient().get(prefix, GetOption.newBuilder().withPrefix(prefix).build()).get();
+        for (KeyValue each : loadedResponse.getKvs()) {
+            cache.put(each.getKey().toString(StandardCharsets.UTF_8), each.getValue().toString(StandardCharsets.UTF_8), each.getModRevision());
+        }
+        cache.loaded(key);
         Watch.Listener listener = Watch.listener(response -> {
             for (WatchEvent each : response.getEvents()) {
                 Type type = getEventChangedType(each);
                 if (Type.IGNORED != type) {
+                    refreshCache(each, type);
                     dataChangedEventListener.onChange(new DataChangedEvent(each.getKeyValue().getKey().toString(StandardCharsets.UTF_8),
                             each.getKeyValue().getValue().toString(StandardCharsets.UTF_8), type));
                 }
             }
         });
-        client.getWatchClient().watch(ByteSequence.from(key, StandardCharsets.UTF_8),
-                WatchOption.newBuilder().withPrefix(ByteSequence.from(key, StandardCharsets.UTF_8)).build(), listener);
+        client.getWatchClient().watch(prefix, WatchOption.newBuilder().withPrefix(prefix).withRevision(loadedResponse.getHeader().getRevision() + 1).build(), listener);
+    }
+    
+    private void refreshCache(final WatchEvent event, final Type type) {
+        String key = event.getKeyValue().getKey().toString(StandardCharsets.UTF_8);
+        if (Type.DELETED == type) {
+            cache.remove(key, event.getKeyValue().getModRevision());
+        } else {
+            cache.put(key, event.getKeyValue().getValue().toString(StandardCharsets.UTF_8), event.getKeyValue().getModRevision());
+        }
     }
     
     private Type getEventChangedType(final WatchEvent event) {
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.etcd;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Local cache of ETCD repository, which is fed by watch events and ordered by ETCD revisions.
+ */
+final class EtcdRepositoryCache {
+    
+    private final Collection<String> watchedPrefixes = new CopyOnWriteArrayList<>();
+    
+    private final Collection<String> loadedPrefixes = new CopyOnWriteArrayList<>();
+    
+    private final NavigableMap<String, CachedValue> values = new ConcurrentSkipListMap<>();
+    
+    /**
+     * Start watching prefix, changes of keys under the prefix will be recorded from now on.
+     *
+     * @param prefix prefix
+     */
+    void watch(final String prefix) {
+        watchedPrefixes.add(prefix);
+    }
+    
+    /**
+     * Mark prefix as loaded, keys under the prefix can be read from cache from now on.
+     *
+     * @param prefix prefix
+     */
+    void loaded(final String prefix) {
+        loadedPrefixes.add(prefix);
+    }
+    
+    /**
+     * Judge whether key is watched or contains watched prefixes.
+     *
+     * @param key key
+     * @return is watched or not
+     */
+    boolean isWatched(final String key) {
+        return watchedPrefixes.stream().anyMatch(each -> key.startsWith(each) || each.startsWith(key));
+    }
+    
+    /**
+     * Judge whether key can be read from cache.
+     *
+     * @param key key
+     * @return is cached or not
+     */
+    boolean isCached(final String key) {
+        return loadedPrefixes.stream().anyMatch(key::startsWith);
+    }
+    
+    /**
+     * Put value, the value will be ignored if a newer revision of the key has been cached.
+     *
+     * @param key key
+     * @param value value
+     * @param revision revision
+     */
+    void put(final String key, final String value, final long revision) {
+        values.merge(key, new CachedValue(value, revision), (oldValue, newValue) -> newValue.revision >= oldValue.revision ? newValue : oldValue);
+    }
+    
+    /**
+     * Remove key.
+     *
+     * @param key key
+     * @param revision revision
+     */
+    void remove(final String key, final long revision) {
+        put(key, null, revision);
+    }
+    
+    /**
+     * Remove all keys start with prefix.
+     *
+     * @param prefix prefix
+     * @param revision revision
+     */
+    void removeWithPrefix(final String prefix, final long revision) {
+        for (String each : values.subMap(prefix, true, prefix + Character.MAX_VALUE, true).keySet()) {
+            remove(each, revision);
+        }
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param key key
+     * @return value
+     */
+    Optional<String> get(final String key) {
+        CachedValue result = values.get(key);
+        return null == result ? Optional.empty() : Optional.ofNullable(result.value);
+    }
+    
+    /**
+     * Get names of sub-nodes.
+     *
+     * @param key key
+     * @return names of sub-nodes
+     */
+    List<String> getChildrenKeys(final String key) {
+        String prefix = key + EtcdRepository.PATH_SEPARATOR;
+        return values.subMap(prefix, true, prefix + Character.MAX_VALUE, true).entrySet().stream().filter(each -> null != each.getValue().value)
+                .map(Entry::getKey).map(each -> getSubNodeKeyName(prefix, each)).distinct().collect(Collectors.toList());
+    }
+    
+    private String getSubNodeKeyName(final String prefix, final String fullPath) {
+        String pathWithoutPrefix = fullPath.substring(prefix.length());
+        return pathWithoutPrefix.contains(EtcdRepository.PATH_SEPARATOR) ? pathWithoutPrefix.substring(0, pathWithoutPrefix.indexOf(EtcdRepository.PATH_SEPARATOR)) : pathWithoutPrefix;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedValue {
+        
+        private final String value;
+        
+        private final long revision;
+    }
+}
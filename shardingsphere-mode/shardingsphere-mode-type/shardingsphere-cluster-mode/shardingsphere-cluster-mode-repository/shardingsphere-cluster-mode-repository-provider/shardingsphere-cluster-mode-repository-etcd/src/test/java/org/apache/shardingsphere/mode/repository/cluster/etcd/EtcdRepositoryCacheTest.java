@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.etcd;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class EtcdRepositoryCacheTest {
+    
+    @Test
+    public void assertIsCached() {
+        EtcdRepositoryCache cache = new EtcdRepositoryCache();
+        cache.watch("/key");
+        assertTrue(cache.isWatched("/key/key1"));
+        assertFalse(cache.isCached("/key/key1"));
+        cache.loaded("/key");
+        assertTrue(cache.isCached("/key/key1"));
+        assertFalse(cache.isCached("/other"));
+    }
+    
+    @Test
+    public void assertPutWithOlderRevision() {
+        EtcdRepositoryCache cache = new EtcdRepositoryCache();
+        cache.put("/key/key1", "value2", 2L);
+        cache.put("/key/key1", "value1", 1L);
+        assertThat(cache.get("/key/key1"), is(Optional.of("value2")));
+    }
+    
+    @Test
+    public void assertRemove() {
+        EtcdRepositoryCache cache = new EtcdRepositoryCache();
+        cache.put("/key/key1", "value1", 1L);
+        cache.remove("/key/key1", 2L);
+        cache.put("/key/key1", "value1", 1L);
+        assertThat(cache.get("/key/key1"), is(Optional.empty()));
+    }
+    
+    @Test
+    public void assertRemoveWithPrefix() {
+        EtcdRepositoryCache cache = new EtcdRepositoryCache();
+        cache.put("/key/key1", "value1", 1L);
+        cache.put("/key/key1/key1-1", "value1-1", 1L);
+        cache.put("/key/key2", "value2", 1L);
+        cache.removeWithPrefix("/key/key1", 2L);
+        assertThat(cache.getChildrenKeys("/key"), is(Collections.singletonList("key2")));
+    }
+    
+    @Test
+    public void assertGetChildrenKeys() {
+        EtcdRepositoryCache cache = new EtcdRepositoryCache();
+        cache.put("/key/key2", "value2", 1L);
+        cache.put("/key/key1/key1-1", "value1-1", 1L);
+        cache.put("/key/key1", "value1", 1L);
+        cache.put("/other/key3", "value3", 1L);
+        assertThat(cache.getChildrenKeys("/key"), is(Arrays.asList("key1", "key2")));
+    }
+}
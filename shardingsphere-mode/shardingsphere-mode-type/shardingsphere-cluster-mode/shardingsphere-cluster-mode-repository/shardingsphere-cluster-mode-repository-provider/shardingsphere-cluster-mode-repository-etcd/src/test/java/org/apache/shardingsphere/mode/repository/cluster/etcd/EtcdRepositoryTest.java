@@ -23,8 +23,11 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Response;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.kv.TxnResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
@@ -45,21 +48,26 @@ import org.mockito.plugins.MemberAccessor;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -95,6 +103,12 @@ public final class EtcdRepositoryTest {
     @Mock
     private CompletableFuture putFuture;
     
+    @Mock
+    private CompletableFuture deleteFuture;
+    
+    @Mock
+    private Response.Header header;
+    
     @Before
     public void setUp() {
         setClient();
@@ -167,6 +181,7 @@ public final class EtcdRepositoryTest {
     
     @Test
     public void assertWatchUpdate() {
+        when(getResponse.getHeader()).thenReturn(header);
         doAnswer(invocationOnMock -> {
             Watch.Listener listener = (Watch.Listener) invocationOnMock.getArguments()[2];
             listener.onNext(buildWatchResponse(WatchEvent.EventType.PUT));
@@ -179,6 +194,7 @@ public final class EtcdRepositoryTest {
     
     @Test
     public void assertWatchDelete() {
+        when(getResponse.getHeader()).thenReturn(header);
         doAnswer(invocationOnMock -> {
             Watch.Listener listener = (Watch.Listener) invocationOnMock.getArguments()[2];
             listener.onNext(buildWatchResponse(WatchEvent.EventType.DELETE));
@@ -191,6 +207,7 @@ public final class EtcdRepositoryTest {
     
     @Test
     public void assertWatchIgnored() {
+        when(getResponse.getHeader()).thenReturn(header);
         doAnswer(invocationOnMock -> {
             Watch.Listener listener = (Watch.Listener) invocationOnMock.getArguments()[2];
             listener.onNext(buildWatchResponse(WatchEvent.EventType.UNRECOGNIZED));
@@ -201,8 +218,62 @@ public final class EtcdRepositoryTest {
         verify(watch).watch(any(ByteSequence.class), any(WatchOption.class), any(Watch.Listener.class));
     }
     
+    @Test
+    public void assertGetFromCacheAfterWatch() {
+        when(getResponse.getHeader()).thenReturn(header);
+        io.etcd.jetcd.api.KeyValue keyValue = io.etcd.jetcd.api.KeyValue.newBuilder()
+                .setKey(ByteString.copyFromUtf8("/key/key1"))
+                .setValue(ByteString.copyFromUtf8("value1")).build();
+        when(getResponse.getKvs()).thenReturn(Collections.singletonList(new KeyValue(keyValue, ByteSequence.EMPTY)));
+        repository.watch("/key", event -> {
+        });
+        assertThat(repository.get("/key/key1"), is("value1"));
+        assertNull(repository.get("/key/key2"));
+        assertThat(repository.getChildrenKeys("/key"), is(Collections.singletonList("key1")));
+        verify(kv).get(any(ByteSequence.class), any(GetOption.class));
+        verify(kv, times(0)).get(any(ByteSequence.class));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    public void assertBatchGet() {
+        Txn txn = mock(Txn.class);
+        CompletableFuture<TxnResponse> txnFuture = mock(CompletableFuture.class);
+        TxnResponse txnResponse = mock(TxnResponse.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any())).thenReturn(txn);
+        when(txn.commit()).thenReturn(txnFuture);
+        when(txnFuture.get()).thenReturn(txnResponse);
+        io.etcd.jetcd.api.KeyValue keyValue = io.etcd.jetcd.api.KeyValue.newBuilder()
+                .setKey(ByteString.copyFromUtf8("key1"))
+                .setValue(ByteString.copyFromUtf8("value1")).build();
+        when(getResponse.getKvs()).thenReturn(Collections.singletonList(new KeyValue(keyValue, ByteSequence.EMPTY)));
+        when(txnResponse.getGetResponses()).thenReturn(Arrays.asList(getResponse, mock(GetResponse.class)));
+        Map<String, String> actual = repository.batchGet(Arrays.asList("key1", "key2"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("key1"), is("value1"));
+        verify(txn).commit();
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertBatchPersist() {
+        Txn txn = mock(Txn.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any())).thenReturn(txn);
+        when(txn.commit()).thenReturn(mock(CompletableFuture.class));
+        Map<String, String> keyValues = new LinkedHashMap<>(200, 1);
+        for (int i = 0; i < 200; i++) {
+            keyValues.put("key" + i, "value" + i);
+        }
+        repository.batchPersist(keyValues);
+        verify(txn, times(2)).commit();
+    }
+    
     @Test
     public void assertDelete() {
+        when(kv.delete(any(ByteSequence.class), any(DeleteOption.class))).thenReturn(deleteFuture);
         repository.delete("key");
         verify(kv).delete(any(ByteSequence.class), any(DeleteOption.class));
     }
@@ -18,15 +18,21 @@
 package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
 import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
+import org.apache.curator.framework.recipes.cache.CuratorCacheAccessor;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ZKPaths;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
@@ -39,25 +45,42 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.Zookeepe
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
 
 /**
  * Registry repository of ZooKeeper.
  */
 public final class CuratorZookeeperRepository implements ClusterPersistRepository {
     
-    private final Map<String, CuratorCache> caches = new HashMap<>();
+    private static final int MAX_TRANSACTION_BYTES = 512 * 1024;
+    
+    private static final long DEFAULT_SESSION_TIMEOUT_MILLISECONDS = 60 * 1000L;
+    
+    private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
+    
+    private final Collection<String> initializedCacheKeys = ConcurrentHashMap.newKeySet();
+    
+    private final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
     
     private final Builder builder = CuratorFrameworkFactory.builder();
     
@@ -65,6 +88,8 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
     
     private ZookeeperInternalLockHolder internalLockHolder;
     
+    private long sessionTimeoutMilliseconds;
+    
     @Override
     public void init(final ClusterPersistRepositoryConfiguration config) {
         ZookeeperProperties zookeeperProps = new ZookeeperProperties(config.getProps());
@@ -84,6 +109,7 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         if (0 != timeToLiveSeconds) {
             builder.sessionTimeoutMs(timeToLiveSeconds * 1000);
         }
+        sessionTimeoutMilliseconds = 0 != timeToLiveSeconds ? timeToLiveSeconds * 1000L : DEFAULT_SESSION_TIMEOUT_MILLISECONDS;
         if (0 != operationTimeoutMilliseconds) {
             builder.connectionTimeoutMs(operationTimeoutMilliseconds);
         }
@@ -122,11 +148,108 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
     
     @Override
     public String get(final String key) {
-        return getDirectly(key);
+        return getFromCache(key).orElseGet(() -> getDirectly(key));
+    }
+    
+    @Override
+    public Map<String, String> batchGet(final Collection<String> keys) {
+        Map<String, String> cachedValues = new LinkedHashMap<>(keys.size(), 1);
+        Collection<String> uncachedKeys = new LinkedList<>();
+        for (String each : keys) {
+            Optional<String> cachedValue = getFromCache(each);
+            if (cachedValue.isPresent()) {
+                cachedValues.put(each, cachedValue.get());
+            } else {
+                uncachedKeys.add(each);
+            }
+        }
+        Map<String, String> loadedValues = getDirectly(uncachedKeys);
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1);
+        for (String each : keys) {
+            String value = cachedValues.containsKey(each) ? cachedValues.get(each) : loadedValues.get(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
+    private Optional<String> getFromCache(final String key) {
+        Optional<ChildData> cachedData = findCache(key).flatMap(optional -> optional.get(key)).filter(each -> null != each.getData());
+        if (!cachedData.isPresent()) {
+            return Optional.empty();
+        }
+        String result = new String(cachedData.get().getData(), StandardCharsets.UTF_8);
+        return isConsistentWithPendingWrites(key, result) ? Optional.of(result) : Optional.empty();
+    }
+    
+    private Optional<CuratorCache> findCache(final String key) {
+        for (Entry<String, CuratorCache> entry : caches.entrySet()) {
+            if (isSameOrSubPath(key, entry.getKey())) {
+                return Optional.of(entry.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isSameOrSubPath(final String path, final String parentPath) {
+        return path.equals(parentPath) || path.startsWith(parentPath.endsWith(PATH_SEPARATOR) ? parentPath : parentPath + PATH_SEPARATOR);
+    }
+    
+    private boolean isConsistentWithPendingWrites(final String key, final String cachedValue) {
+        if (pendingWrites.isEmpty()) {
+            return true;
+        }
+        removeExpiredPendingWrites();
+        PendingWrite pendingWrite = pendingWrites.get(key);
+        if (null != pendingWrite) {
+            return pendingWrite.getValue().isPresent() && pendingWrite.getValue().get().equals(cachedValue);
+        }
+        return pendingWrites.entrySet().stream().noneMatch(entry -> !entry.getValue().getValue().isPresent() && isSameOrSubPath(key, entry.getKey()));
+    }
+    
+    private boolean hasPendingWrites(final String path) {
+        if (pendingWrites.isEmpty()) {
+            return false;
+        }
+        removeExpiredPendingWrites();
+        return pendingWrites.keySet().stream().anyMatch(each -> isSameOrSubPath(each, path) || isSameOrSubPath(path, each));
+    }
+    
+    private void removeExpiredPendingWrites() {
+        long currentNanos = System.nanoTime();
+        pendingWrites.values().removeIf(each -> currentNanos - each.getExpireNanos() >= 0L);
+    }
+    
+    private Optional<PendingWrite> addPendingWrite(final String key, final String value) {
+        if (!findCache(key).isPresent()) {
+            return Optional.empty();
+        }
+        PendingWrite result = new PendingWrite(Optional.ofNullable(value), System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sessionTimeoutMilliseconds));
+        pendingWrites.put(key, result);
+        return Optional.of(result);
+    }
+    
+    private void removePendingWrite(final String key, final Optional<PendingWrite> pendingWrite) {
+        pendingWrite.ifPresent(optional -> pendingWrites.remove(key, optional));
+    }
+    
+    private void observePendingWrite(final CuratorCacheListener.Type type, final ChildData oldData, final ChildData data) {
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+        Optional<String> observedValue = CuratorCacheListener.Type.NODE_DELETED == type || null == data.getData()
+                ? Optional.empty() : Optional.of(new String(data.getData(), StandardCharsets.UTF_8));
+        String key = CuratorCacheListener.Type.NODE_DELETED == type ? oldData.getPath() : data.getPath();
+        pendingWrites.computeIfPresent(key, (unused, pendingWrite) -> pendingWrite.getValue().equals(observedValue) ? null : pendingWrite);
     }
     
     @Override
     public List<String> getChildrenKeys(final String key) {
+        Optional<List<String>> cachedChildrenKeys = getChildrenKeysFromCache(key);
+        if (cachedChildrenKeys.isPresent()) {
+            return cachedChildrenKeys.get();
+        }
         try {
             List<String> result = client.getChildren().forPath(key);
             result.sort(Comparator.reverseOrder());
@@ -139,24 +262,102 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    private Optional<List<String>> getChildrenKeysFromCache(final String key) {
+        Optional<Entry<String, CuratorCache>> cacheEntry = caches.entrySet().stream().filter(entry -> isSameOrSubPath(key, entry.getKey())).findFirst();
+        if (!cacheEntry.isPresent() || !initializedCacheKeys.contains(cacheEntry.get().getKey()) || hasPendingWrites(key) || !cacheEntry.get().getValue().get(key).isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(cacheEntry.get().getValue().stream().filter(CuratorCacheAccessor.parentPathFilter(key))
+                .map(each -> ZKPaths.getNodeFromPath(each.getPath())).sorted(Comparator.reverseOrder()).collect(Collectors.toList()));
+    }
+    
     @Override
     public void persist(final String key, final String value) {
+        Optional<PendingWrite> pendingWrite = addPendingWrite(key, value);
         try {
             if (!isExisted(key)) {
                 client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(key, value.getBytes(StandardCharsets.UTF_8));
             } else {
-                update(key, value);
+                client.setData().forPath(key, value.getBytes(StandardCharsets.UTF_8));
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            removePendingWrite(key, pendingWrite);
+            CuratorZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        Map<String, String> sortedKeyValues = new TreeMap<>(keyValues);
+        Collection<String> existedKeys = getExistedKeys(sortedKeyValues.keySet());
+        createParentsIfNeeded(sortedKeyValues.keySet(), existedKeys);
+        Map<String, Optional<PendingWrite>> addedPendingWrites = new LinkedHashMap<>(sortedKeyValues.size(), 1);
+        sortedKeyValues.forEach((key, value) -> addedPendingWrites.put(key, addPendingWrite(key, value)));
+        Map<String, String> transactionKeyValues = new LinkedHashMap<>();
+        List<CuratorOp> transactionOps = new LinkedList<>();
+        int transactionBytes = 0;
+        try {
+            for (Entry<String, String> entry : sortedKeyValues.entrySet()) {
+                byte[] data = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                if (!transactionOps.isEmpty() && transactionBytes + entry.getKey().length() + data.length > MAX_TRANSACTION_BYTES) {
+                    commitTransaction(transactionOps, transactionKeyValues);
+                    transactionBytes = 0;
+                }
+                transactionOps.add(existedKeys.contains(entry.getKey())
+                        ? client.transactionOp().setData().forPath(entry.getKey(), data)
+                        : client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(entry.getKey(), data));
+                transactionKeyValues.put(entry.getKey(), entry.getValue());
+                transactionBytes += entry.getKey().length() + data.length;
+            }
+            if (!transactionOps.isEmpty()) {
+                commitTransaction(transactionOps, transactionKeyValues);
             }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
+            addedPendingWrites.forEach(this::removePendingWrite);
             CuratorZookeeperExceptionHandler.handleException(ex);
         }
     }
     
-    private void update(final String key, final String value) {
+    private Collection<String> getExistedKeys(final Collection<String> keys) {
+        Collection<String> result = ConcurrentHashMap.newKeySet();
+        Collection<String> failedKeys = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(keys.size());
         try {
-            client.setData().forPath(key, value.getBytes(StandardCharsets.UTF_8));
+            for (String each : keys) {
+                client.checkExists().inBackground((framework, event) -> {
+                    if (KeeperException.Code.OK.intValue() == event.getResultCode()) {
+                        result.add(each);
+                    } else if (KeeperException.Code.NONODE.intValue() != event.getResultCode()) {
+                        failedKeys.add(each);
+                    }
+                    latch.countDown();
+                }).forPath(each);
+            }
+            if (!latch.await(sessionTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+                throw new OperationTimeoutException();
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+        }
+        failedKeys.stream().filter(this::isExisted).forEach(result::add);
+        return result;
+    }
+    
+    private void createParentsIfNeeded(final Collection<String> keys, final Collection<String> existedKeys) {
+        Collection<String> parentPaths = keys.stream().filter(each -> !existedKeys.contains(each))
+                .map(each -> ZKPaths.getPathAndNode(each).getPath()).filter(each -> !keys.contains(each)).collect(Collectors.toSet());
+        try {
+            for (String each : parentPaths) {
+                if (!isExisted(each)) {
+                    client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(each);
+                }
+            }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -164,6 +365,18 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    private void commitTransaction(final List<CuratorOp> transactionOps, final Map<String, String> transactionKeyValues) {
+        try {
+            client.transaction().forOperations(transactionOps);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            transactionKeyValues.forEach(this::persist);
+        }
+        transactionOps.clear();
+        transactionKeyValues.clear();
+    }
+    
     private String getDirectly(final String key) {
         try {
             return new String(client.getData().forPath(key), StandardCharsets.UTF_8);
@@ -175,6 +388,35 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    private Map<String, String> getDirectly(final Collection<String> keys) {
+        Map<String, String> result = new ConcurrentHashMap<>(keys.size(), 1);
+        Collection<String> failedKeys = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(keys.size());
+        try {
+            for (String each : keys) {
+                client.getData().inBackground((framework, event) -> {
+                    if (KeeperException.Code.OK.intValue() == event.getResultCode() && null != event.getData()) {
+                        result.put(each, new String(event.getData(), StandardCharsets.UTF_8));
+                    } else if (KeeperException.Code.NONODE.intValue() != event.getResultCode()) {
+                        failedKeys.add(each);
+                    }
+                    latch.countDown();
+                }).forPath(each);
+            }
+            if (!latch.await(sessionTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+                throw new OperationTimeoutException();
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+        }
+        for (String each : failedKeys) {
+            Optional.ofNullable(getDirectly(each)).ifPresent(optional -> result.put(each, optional));
+        }
+        return result;
+    }
+    
     private boolean isExisted(final String key) {
         try {
             return null != client.checkExists().forPath(key);
@@ -188,6 +430,7 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
     
     @Override
     public void persistEphemeral(final String key, final String value) {
+        Optional<PendingWrite> pendingWrite = addPendingWrite(key, value);
         try {
             if (isExisted(key)) {
                 client.delete().deletingChildrenIfNeeded().forPath(key);
@@ -196,6 +439,7 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
+            removePendingWrite(key, pendingWrite);
             CuratorZookeeperExceptionHandler.handleException(ex);
         }
     }
@@ -215,6 +459,7 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
     
     @Override
     public void delete(final String key) {
+        Optional<PendingWrite> pendingWrite = addPendingWrite(key, null);
         try {
             if (isExisted(key)) {
                 client.delete().deletingChildrenIfNeeded().forPath(key);
@@ -222,6 +467,7 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
+            removePendingWrite(key, pendingWrite);
             CuratorZookeeperExceptionHandler.handleException(ex);
         }
     }
@@ -231,6 +477,9 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         CuratorCache cache = caches.get(key);
         if (null == cache) {
             cache = CuratorCache.build(client, key);
+            cache.listenable().addListener(CuratorCacheListener.builder()
+                    .forAll((type, oldData, data) -> observePendingWrite(type, oldData, data))
+                    .forInitialized(() -> initializedCacheKeys.add(key)).build());
             caches.put(key, cache);
         }
         CuratorCacheListener curatorCacheListener = CuratorCacheListener.builder()
@@ -306,4 +555,13 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
     public String getType() {
         return "ZooKeeper";
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PendingWrite {
+        
+        private final Optional<String> value;
+        
+        private final long expireNanos;
+    }
 }
@@ -23,11 +23,14 @@ import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
 import org.apache.curator.framework.api.DeleteBuilder;
+import org.apache.curator.framework.api.ErrorListenerPathable;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
 import org.apache.curator.framework.listen.Listenable;
@@ -36,11 +39,13 @@ import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.locks.InterProcessLock;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryException;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.ZookeeperInternalLockHolder;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.NoNodeException;
 import org.apache.zookeeper.data.Stat;
 import org.junit.Before;
 import org.junit.Test;
@@ -57,6 +62,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
@@ -67,6 +73,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -102,6 +109,9 @@ public final class CuratorZookeeperRepositoryTest {
     @Mock
     private GetChildrenBuilder getChildrenBuilder;
     
+    @Mock
+    private GetDataBuilder getDataBuilder;
+    
     @Mock
     private ProtectACLCreateModeStatPathAndBytesable<String> protect;
     
@@ -248,12 +258,83 @@ public final class CuratorZookeeperRepositoryTest {
     }
     
     private void mockCache(final String key) throws Exception {
+        setCache(key);
+        when(curatorCache.listenable()).thenReturn(listenable);
+    }
+    
+    private void setCache(final String key) throws Exception {
         Field cachesFiled = CuratorZookeeperRepository.class.getDeclaredField("caches");
         cachesFiled.setAccessible(true);
         Map<String, CuratorCache> caches = new HashMap<>();
         caches.put(key, curatorCache);
         cachesFiled.set(REPOSITORY, caches);
-        when(curatorCache.listenable()).thenReturn(listenable);
+    }
+    
+    @Test
+    public void assertGetFromCache() throws Exception {
+        setCache("/test/cached");
+        when(curatorCache.get("/test/cached/1")).thenReturn(Optional.of(new ChildData("/test/cached/1", null, "value1".getBytes())));
+        assertThat(REPOSITORY.get("/test/cached/1"), is("value1"));
+        verify(client, times(0)).getData();
+    }
+    
+    @Test
+    public void assertGetWithPendingWriteNotInCache() throws Exception {
+        setCache("/test/cached");
+        when(existsBuilder.forPath("/test/cached/2")).thenReturn(new Stat());
+        when(curatorCache.get("/test/cached/2")).thenReturn(Optional.of(new ChildData("/test/cached/2", null, "value1".getBytes())));
+        when(client.getData()).thenReturn(getDataBuilder);
+        when(getDataBuilder.forPath("/test/cached/2")).thenReturn("value2".getBytes());
+        REPOSITORY.persist("/test/cached/2", "value2");
+        assertThat(REPOSITORY.get("/test/cached/2"), is("value2"));
+    }
+    
+    @Test
+    public void assertBatchGetFromCache() throws Exception {
+        setCache("/test/batch");
+        when(curatorCache.get("/test/batch/1")).thenReturn(Optional.of(new ChildData("/test/batch/1", null, "value1".getBytes())));
+        when(curatorCache.get("/test/batch/2")).thenReturn(Optional.of(new ChildData("/test/batch/2", null, "value2".getBytes())));
+        Map<String, String> actual = REPOSITORY.batchGet(Arrays.asList("/test/batch/1", "/test/batch/2"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("/test/batch/1"), is("value1"));
+        assertThat(actual.get("/test/batch/2"), is("value2"));
+    }
+    
+    @Test
+    public void assertGetFromCacheAfterPersistFailed() throws Exception {
+        setCache("/test/cached");
+        when(existsBuilder.forPath("/test/cached/3")).thenReturn(new Stat());
+        when(curatorCache.get("/test/cached/3")).thenReturn(Optional.of(new ChildData("/test/cached/3", null, "value1".getBytes())));
+        when(setDataBuilder.forPath("/test/cached/3", "value2".getBytes(StandardCharsets.UTF_8))).thenThrow(new NoNodeException());
+        REPOSITORY.persist("/test/cached/3", "value2");
+        assertThat(REPOSITORY.get("/test/cached/3"), is("value1"));
+        verify(client, times(0)).getData();
+    }
+    
+    @Test
+    public void assertGetFromCacheAfterPendingWriteExpired() throws Exception {
+        setCache("/test/cached");
+        setSessionTimeoutMilliseconds(0L);
+        when(protect.withMode(CreateMode.PERSISTENT)).thenReturn(protect);
+        when(curatorCache.get("/test/cached/4")).thenReturn(Optional.of(new ChildData("/test/cached/4", null, "value1".getBytes())));
+        REPOSITORY.persist("/test/cached/4", "value2");
+        assertThat(REPOSITORY.get("/test/cached/4"), is("value1"));
+        verify(client, times(0)).getData();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test(expected = ClusterPersistRepositoryException.class)
+    public void assertBatchGetWithBackgroundCallbackTimeout() throws Exception {
+        setSessionTimeoutMilliseconds(0L);
+        when(client.getData()).thenReturn(getDataBuilder);
+        when(getDataBuilder.inBackground(any(BackgroundCallback.class))).thenReturn(mock(ErrorListenerPathable.class));
+        REPOSITORY.batchGet(Collections.singletonList("/test/batch/3"));
+    }
+    
+    private void setSessionTimeoutMilliseconds(final long sessionTimeoutMilliseconds) throws ReflectiveOperationException {
+        Field sessionTimeoutMillisecondsField = CuratorZookeeperRepository.class.getDeclaredField("sessionTimeoutMilliseconds");
+        sessionTimeoutMillisecondsField.setAccessible(true);
+        sessionTimeoutMillisecondsField.set(REPOSITORY, sessionTimeoutMilliseconds);
     }
     
     private VoidAnswer1<CuratorCacheListener> getListenerAnswer(final CuratorCacheListener.Type type, final ChildData oldData, final ChildData data) {
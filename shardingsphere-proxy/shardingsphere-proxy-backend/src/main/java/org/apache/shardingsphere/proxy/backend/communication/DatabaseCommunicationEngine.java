@@ -185,6 +185,12 @@ public abstract class DatabaseCommunicationEngine<T> {
         return null != mergedResult && mergedResult.next();
     }
     
+    protected final void terminateMergedResult() throws SQLException {
+        if (null != mergedResult) {
+            mergedResult.terminate();
+        }
+    }
+    
     /**
      * Get query response row.
      *
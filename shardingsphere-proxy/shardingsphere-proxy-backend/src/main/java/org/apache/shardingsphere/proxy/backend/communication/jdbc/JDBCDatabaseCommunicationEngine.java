@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
@@ -38,6 +40,9 @@ import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutorFactory;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtil;
+import org.apache.shardingsphere.infra.parser.parameterized.ParameterizedSQL;
+import org.apache.shardingsphere.infra.parser.parameterized.SQLLiteralParameterizer;
+import org.apache.shardingsphere.infra.statistics.digest.SQLDigestStatisticsCollector;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.ProxySQLExecutor;
@@ -52,6 +57,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
 
 import java.sql.Connection;
@@ -70,16 +76,34 @@ import java.util.concurrent.CopyOnWriteArrayList;
  */
 public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunicationEngine<ResponseHeader> {
     
+    private static final int SQL_DIGEST_CACHE_MAXIMUM_SIZE = 1000;
+    
+    private static final int MAX_CACHED_SQL_LENGTH = 1024;
+    
+    private static final Cache<String, String> SQL_DIGEST_CACHE = Caffeine.newBuilder().maximumSize(SQL_DIGEST_CACHE_MAXIMUM_SIZE).build();
+    
     private final ProxySQLExecutor proxySQLExecutor;
     
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<QueryResult> cachedQueryResults = new CopyOnWriteArrayList<>();
+    
     private final FederationExecutor federationExecutor;
     
     private final JDBCBackendConnection backendConnection;
     
+    private boolean sqlDigestStatisticsPending;
+    
+    private long elapsedNanos;
+    
+    private int touchedShards;
+    
+    private long rows;
+    
+    private boolean failed;
+    
     public JDBCDatabaseCommunicationEngine(final String driverType, final ShardingSphereDatabase database, final LogicSQL logicSQL, final JDBCBackendConnection backendConnection) {
         super(driverType, database, logicSQL, backendConnection);
         proxySQLExecutor = new ProxySQLExecutor(driverType, backendConnection, this);
@@ -110,18 +134,44 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add query result.
+     *
+     * @param queryResult query result to be added
+     */
+    public void add(final QueryResult queryResult) {
+        cachedQueryResults.add(queryResult);
+    }
+    
     /**
      * Execute to database.
      *
      * @return backend response
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @SneakyThrows(SQLException.class)
     public ResponseHeader execute() {
+        recordSQLDigestStatistics();
+        long startTime = System.nanoTime();
+        touchedShards = 0;
+        rows = 0L;
+        failed = true;
+        try {
+            ResponseHeader result = doExecute();
+            failed = false;
+            return result;
+        } finally {
+            elapsedNanos = System.nanoTime() - startTime;
+            sqlDigestStatisticsPending = true;
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ResponseHeader doExecute() throws SQLException {
         LogicSQL logicSQL = getLogicSQL();
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         ExecutionContext executionContext = getKernelProcessor().generateExecutionContext(
                 logicSQL, getDatabase(), metaDataContexts.getMetaData().getGlobalRuleMetaData(), metaDataContexts.getMetaData().getProps());
+        touchedShards = executionContext.getExecutionUnits().size();
         // TODO move federation route logic to binder
         SQLStatementContext<?> sqlStatementContext = logicSQL.getSqlStatementContext();
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabases().get(backendConnection.getConnectionSession().getDatabaseName());
@@ -136,11 +186,18 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
         checkLockedDatabase(executionContext);
         List result = proxySQLExecutor.execute(executionContext);
+        backendConnection.getConnectionSession().getConnectionPinningStatus().update(sqlStatementContext.getSqlStatement(), logicSQL.getSql());
+        if (sqlStatementContext.getSqlStatement() instanceof SetStatement) {
+            backendConnection.markSessionVariablesChanged();
+        }
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
-        return executeResultSample instanceof QueryResult
-                ? processExecuteQuery(executionContext, result, (QueryResult) executeResultSample)
-                : processExecuteUpdate(executionContext, result);
+        if (executeResultSample instanceof QueryResult) {
+            return processExecuteQuery(executionContext, result, (QueryResult) executeResultSample);
+        }
+        UpdateResponseHeader updateResponseHeader = processExecuteUpdate(executionContext, result);
+        rows = updateResponseHeader.getUpdateCount();
+        return updateResponseHeader;
     }
     
     private ResultSet doExecuteFederation(final LogicSQL logicSQL, final MetaDataContexts metaDataContexts) throws SQLException {
@@ -173,13 +230,25 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         return new QueryResponseHeader(getQueryHeaders());
     }
     
+    @Override
+    public boolean next() throws SQLException {
+        boolean result = super.next();
+        if (result) {
+            rows++;
+        }
+        return result;
+    }
+    
     /**
      * Close database communication engine.
      *
      * @throws SQLException SQL exception
      */
     public void close() throws SQLException {
+        recordSQLDigestStatistics();
         Collection<SQLException> result = new LinkedList<>();
+        result.addAll(terminate());
+        result.addAll(closeQueryResults());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         if (result.isEmpty()) {
@@ -190,6 +259,51 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         throw ex;
     }
     
+    private void recordSQLDigestStatistics() {
+        if (!sqlDigestStatisticsPending) {
+            return;
+        }
+        sqlDigestStatisticsPending = false;
+        SQLDigestStatisticsCollector.getInstance().record(backendConnection.getConnectionSession().getDatabaseName(), getSQLDigest(), elapsedNanos, rows, touchedShards, failed);
+    }
+    
+    private String getSQLDigest() {
+        String sql = getLogicSQL().getSql();
+        if (null == sql || null != getLogicSQL().getParameters() && !getLogicSQL().getParameters().isEmpty()) {
+            return sql;
+        }
+        if (sql.length() > MAX_CACHED_SQL_LENGTH) {
+            return parameterize(sql);
+        }
+        return SQL_DIGEST_CACHE.get(sql, this::parameterize);
+    }
+    
+    private String parameterize(final String sql) {
+        return new SQLLiteralParameterizer(getDatabase().getProtocolType().getType()).parameterize(sql).map(ParameterizedSQL::getSql).orElse(sql);
+    }
+    
+    private Collection<SQLException> terminate() {
+        try {
+            terminateMergedResult();
+        } catch (final SQLException ex) {
+            return Collections.singletonList(ex);
+        }
+        return Collections.emptyList();
+    }
+    
+    private Collection<SQLException> closeQueryResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (QueryResult each : cachedQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedQueryResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -20,8 +20,10 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.infra.datasource.pool.destroyer.detector.DataSourcePoolActiveDetectorFactory;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
@@ -31,9 +33,11 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.JD
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.SessionVariableRecorder;
 import org.apache.shardingsphere.proxy.backend.util.TransactionUtil;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -41,6 +45,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -64,6 +71,10 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     
     private final ResourceLock resourceLock = new ResourceLock();
     
+    private final Map<Connection, String> sessionVariableChangedConnections = new ConcurrentHashMap<>();
+    
+    private final Map<Connection, Integer> sessionVariableVersions = new ConcurrentHashMap<>();
+    
     private volatile int connectionReferenceCount;
     
     public JDBCBackendConnection(final ConnectionSession connectionSession) {
@@ -76,12 +87,17 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         synchronized (cachedConnections) {
             connections = cachedConnections.get(dataSourceName);
         }
+        if (!connections.isEmpty()) {
+            captureSessionVariables(dataSourceName, connections.iterator().next());
+        }
         List<Connection> result;
         if (connections.size() >= connectionSize) {
             result = new ArrayList<>(connections).subList(0, connectionSize);
+            replaySessionVariables(dataSourceName, result);
         } else if (!connections.isEmpty()) {
             result = new ArrayList<>(connectionSize);
             result.addAll(connections);
+            replaySessionVariables(dataSourceName, connections);
             List<Connection> newConnections = createNewConnections(dataSourceName, connectionSize - connections.size(), connectionMode);
             result.addAll(newConnections);
             synchronized (cachedConnections) {
@@ -96,12 +112,28 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         return result;
     }
     
+    @Override
+    public double getPoolUtilization(final String dataSourceName) {
+        return findDataSource(dataSourceName).map(optional -> DataSourcePoolActiveDetectorFactory.getInstance(optional.getClass().getName()).getActiveConnectionRatio(optional)).orElse(-1D);
+    }
+    
+    private Optional<DataSource> findDataSource(final String dataSourceName) {
+        if (null == connectionSession.getDatabaseName()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ProxyContext.getInstance().getDatabase(connectionSession.getDatabaseName()).getResource().getDataSources().get(dataSourceName));
+    }
+    
     private List<Connection> createNewConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         Preconditions.checkNotNull(connectionSession.getDatabaseName(), "Current schema is null.");
         List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName(), dataSourceName, connectionSize, connectionMode);
+        if (!result.isEmpty()) {
+            captureSessionVariables(dataSourceName, result.get(0));
+        }
         for (Connection each : result) {
             replayTransactionOption(each);
         }
+        replaySessionVariables(dataSourceName, result);
         if (connectionSession.getTransactionStatus().isInTransaction()) {
             for (Connection each : result) {
                 replayMethodsInvocation(each);
@@ -128,6 +160,48 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         }
     }
     
+    private void replaySessionVariables(final String dataSourceName, final Collection<Connection> connections) {
+        SessionVariableRecorder sessionVariableRecorder = connectionSession.getSessionVariableRecorder();
+        int version = sessionVariableRecorder.getVersion();
+        Optional<ConnectionPostProcessor<Connection>> sessionVariableReplayer = sessionVariableRecorder.findReplayer();
+        for (Connection each : connections) {
+            if (null == each) {
+                continue;
+            }
+            if (sessionVariableReplayer.isPresent() && sessionVariableRecorder.isReplayRequired(sessionVariableVersions.getOrDefault(each, 0))) {
+                sessionVariableReplayer.get().process(each);
+                sessionVariableChangedConnections.put(each, getDataSourceKey(dataSourceName));
+            }
+            sessionVariableVersions.put(each, version);
+        }
+    }
+    
+    private void captureSessionVariables(final String dataSourceName, final Connection connection) throws SQLException {
+        if (null != connection && !connectionSession.getSessionVariableRecorder().isEmpty()) {
+            connectionSession.getSessionVariableRecorder().capture(getDataSourceKey(dataSourceName), connection);
+        }
+    }
+    
+    private String getDataSourceKey(final String dataSourceName) {
+        return connectionSession.getDatabaseName() + "." + dataSourceName;
+    }
+    
+    /**
+     * Mark session variables of cached connections as changed, so that they are reset before returned to pool.
+     * 
+     * <p>Cached connections are pinned to session while session variables are changed,
+     * and recorded session variables are only replayed on connections which have not applied them yet.</p>
+     */
+    public void markSessionVariablesChanged() {
+        synchronized (cachedConnections) {
+            for (Entry<String, Connection> entry : cachedConnections.entries()) {
+                if (null != entry.getValue()) {
+                    sessionVariableChangedConnections.putIfAbsent(entry.getValue(), getDataSourceKey(entry.getKey()));
+                }
+            }
+        }
+    }
+    
     /**
      * Whether execute SQL serial or not.
      *
@@ -200,7 +274,8 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
             Collection<Exception> result = new LinkedList<>();
             result.addAll(closeDatabaseCommunicationEngines(false));
             result.addAll(closeFederationExecutor());
-            if (!connectionSession.getTransactionStatus().isInConnectionHeldTransaction()) {
+            if (!connectionSession.getTransactionStatus().isInConnectionHeldTransaction() && !connectionSession.getConnectionPinningStatus().isPinned()
+                    && connectionSession.getSessionVariableRecorder().isEmpty()) {
                 result.addAll(closeDatabaseCommunicationEngines(true));
                 result.addAll(closeConnections(false));
             }
@@ -249,27 +324,72 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     /**
      * Close connections.
      * 
+     * <p>Connections which fail to roll back or reset are evicted from pool instead of returned to it.</p>
+     * 
      * @param forceRollback is force rollback
      * @return SQL exception when connections close
      */
     public Collection<SQLException> closeConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : cachedConnections.values()) {
+        for (Entry<String, Connection> entry : cachedConnections.entries()) {
+            Connection each = entry.getValue();
+            boolean reset = false;
             try {
                 if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
                     each.rollback();
                 }
                 resetConnection(each);
-                each.close();
+                resetSessionVariables(each);
+                reset = true;
             } catch (final SQLException ex) {
                 result.add(ex);
+            } finally {
+                (reset ? closeConnection(each) : evictConnection(entry.getKey(), each)).ifPresent(result::add);
             }
         }
         cachedConnections.clear();
+        sessionVariableVersions.clear();
         connectionPostProcessors.clear();
         return result;
     }
     
+    private void resetSessionVariables(final Connection connection) throws SQLException {
+        if (null == connection) {
+            return;
+        }
+        String dataSourceKey = sessionVariableChangedConnections.remove(connection);
+        if (null != dataSourceKey) {
+            connectionSession.getSessionVariableRecorder().reset(dataSourceKey, connection);
+        }
+    }
+    
+    private Optional<SQLException> closeConnection(final Connection connection) {
+        try {
+            connection.close();
+            return Optional.empty();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+        }
+    }
+    
+    private Optional<SQLException> evictConnection(final String dataSourceName, final Connection connection) {
+        if (null == connection) {
+            return Optional.empty();
+        }
+        Optional<DataSource> dataSource = findDataSource(dataSourceName);
+        if (dataSource.isPresent() && dataSource.get() instanceof HikariDataSource) {
+            ((HikariDataSource) dataSource.get()).evictConnection(connection);
+            return Optional.empty();
+        }
+        try {
+            connection.abort(Runnable::run);
+        } catch (final SQLException ex) {
+            closeConnection(connection);
+            return Optional.of(ex);
+        }
+        return closeConnection(connection);
+    }
+    
     private void resetConnection(final Connection connection) throws SQLException {
         if (null == connection) {
             return;
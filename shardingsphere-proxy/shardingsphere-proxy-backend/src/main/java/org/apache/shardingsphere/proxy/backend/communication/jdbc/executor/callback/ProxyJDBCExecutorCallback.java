@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.dr
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -37,6 +38,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 /**
  * JDBC executor callback for proxy.
@@ -81,7 +83,12 @@ public abstract class ProxyJDBCExecutorCallback extends JDBCExecutorCallback<Exe
     protected abstract boolean execute(String sql, Statement statement, boolean isReturnGeneratedKeys) throws SQLException;
     
     private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new JDBCStreamQueryResult(resultSet) : new JDBCMemoryQueryResult(resultSet, getDatabaseType());
+        if (ConnectionMode.MEMORY_STRICTLY != connectionMode) {
+            return new JDBCMemoryQueryResult(resultSet, getDatabaseType());
+        }
+        QueryResult result = new JDBCStreamQueryResult(resultSet);
+        databaseCommunicationEngine.add(result);
+        return result;
     }
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
@@ -100,6 +107,16 @@ public abstract class ProxyJDBCExecutorCallback extends JDBCExecutorCallback<Exe
         }
     }
     
+    @Override
+    protected final boolean isStreamQueryResultClosedByCaller() {
+        return true;
+    }
+    
+    @Override
+    protected final Optional<ExecutorService> getHedgedReadExecutorService() {
+        return Optional.of(BackendExecutorContext.getInstance().getExecutorEngine().getExecutorServiceManager().getExecutorService());
+    }
+    
     @Override
     protected final Optional<ExecuteResult> getSaneResult(final SQLStatement sqlStatement) {
         return SaneQueryResultEngineFactory.getInstance(getProtocolTypeType()).getSaneQueryResult(sqlStatement);
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DropTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.LockStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.UnlockStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.MySQLStatement;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Connection pinning status of {@link ConnectionSession}.
+ * 
+ * <p>Table locks, temporary tables and session level locks are bound to backend connections and can not be replayed,
+ * so backend connections are pinned to session until all of them are released.</p>
+ */
+public final class ConnectionPinningStatus {
+    
+    private static final Pattern TEMPORARY_TABLE_PATTERN = Pattern.compile("^\\s*CREATE\\s+((GLOBAL|LOCAL)\\s+)?TEMP(ORARY)?\\s+TABLE\\s", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern SESSION_LOCK_FUNCTION_PATTERN = Pattern.compile("\\b(GET_LOCK|PG_(TRY_)?ADVISORY_LOCK(_SHARED)?)\\s*\\(", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern SESSION_UNLOCK_FUNCTION_PATTERN = Pattern.compile("\\b(RELEASE_LOCK|PG_ADVISORY_UNLOCK(_SHARED)?)\\s*\\(", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern SESSION_UNLOCK_ALL_FUNCTION_PATTERN = Pattern.compile("\\b(RELEASE_ALL_LOCKS|PG_ADVISORY_UNLOCK_ALL)\\s*\\(", Pattern.CASE_INSENSITIVE);
+    
+    private final Collection<String> temporaryTables = new HashSet<>();
+    
+    private boolean tablesLocked;
+    
+    private int sessionLockCount;
+    
+    /**
+     * Update pinning status by executed SQL statement.
+     *
+     * @param sqlStatement SQL statement
+     * @param sql SQL
+     */
+    public synchronized void update(final SQLStatement sqlStatement, final String sql) {
+        if (sqlStatement instanceof LockStatement && sqlStatement instanceof MySQLStatement) {
+            tablesLocked = true;
+        } else if (sqlStatement instanceof UnlockStatement) {
+            tablesLocked = false;
+        } else if (sqlStatement instanceof CreateTableStatement) {
+            if (TEMPORARY_TABLE_PATTERN.matcher(sql).find()) {
+                temporaryTables.add(getTableName(((CreateTableStatement) sqlStatement).getTable()));
+            }
+        } else if (sqlStatement instanceof DropTableStatement) {
+            for (SimpleTableSegment each : ((DropTableStatement) sqlStatement).getTables()) {
+                temporaryTables.remove(getTableName(each));
+            }
+        } else if (sqlStatement instanceof SelectStatement) {
+            updateSessionLockCount(sql);
+        }
+    }
+    
+    private String getTableName(final SimpleTableSegment table) {
+        return table.getTableName().getIdentifier().getValue().toLowerCase();
+    }
+    
+    private void updateSessionLockCount(final String sql) {
+        if (sessionLockCount > 0 && SESSION_UNLOCK_ALL_FUNCTION_PATTERN.matcher(sql).find()) {
+            sessionLockCount = 0;
+        }
+        if (sessionLockCount > 0) {
+            sessionLockCount = Math.max(sessionLockCount - count(SESSION_UNLOCK_FUNCTION_PATTERN, sql), 0);
+        }
+        sessionLockCount += count(SESSION_LOCK_FUNCTION_PATTERN, sql);
+    }
+    
+    private int count(final Pattern pattern, final String sql) {
+        int result = 0;
+        Matcher matcher = pattern.matcher(sql);
+        while (matcher.find()) {
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether backend connections are pinned to session.
+     *
+     * @return backend connections are pinned or not
+     */
+    public synchronized boolean isPinned() {
+        return tablesLocked || !temporaryTables.isEmpty() || sessionLockCount > 0;
+    }
+}
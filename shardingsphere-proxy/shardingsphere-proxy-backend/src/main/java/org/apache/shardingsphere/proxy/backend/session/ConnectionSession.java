@@ -80,6 +80,10 @@ public final class ConnectionSession {
     
     private final PreparedStatementRegistry preparedStatementRegistry = new PreparedStatementRegistry();
     
+    private final SessionVariableRecorder sessionVariableRecorder = new SessionVariableRecorder();
+    
+    private final ConnectionPinningStatus connectionPinningStatus = new ConnectionPinningStatus();
+    
     public ConnectionSession(final DatabaseType databaseType, final TransactionType initialTransactionType, final AttributeMap attributeMap) {
         this.databaseType = databaseType;
         transactionStatus = new TransactionStatus(initialTransactionType);
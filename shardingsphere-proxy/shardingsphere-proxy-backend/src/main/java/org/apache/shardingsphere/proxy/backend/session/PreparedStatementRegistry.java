@@ -27,6 +27,8 @@ public final class PreparedStatementRegistry {
     
     private final Map<Object, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
     
+    private final Map<Object, PreparedStatementTemplate> templates = new ConcurrentHashMap<>();
+    
     /**
      * Add {@link PreparedStatement} into registry.
      *
@@ -35,6 +37,19 @@ public final class PreparedStatementRegistry {
      */
     public void addPreparedStatement(final Object statementId, final PreparedStatement preparedStatement) {
         preparedStatements.put(statementId, preparedStatement);
+        releaseTemplate(templates.remove(statementId));
+    }
+    
+    /**
+     * Add {@link PreparedStatement} created from acquired {@link PreparedStatementTemplate} into registry.
+     *
+     * @param statementId statement ID
+     * @param preparedStatement prepared statement
+     * @param template prepared statement template
+     */
+    public void addPreparedStatement(final Object statementId, final PreparedStatement preparedStatement, final PreparedStatementTemplate template) {
+        preparedStatements.put(statementId, preparedStatement);
+        releaseTemplate(templates.put(statementId, template));
     }
     
     /**
@@ -56,5 +71,20 @@ public final class PreparedStatementRegistry {
      */
     public void removePreparedStatement(final Object statementId) {
         preparedStatements.remove(statementId);
+        releaseTemplate(templates.remove(statementId));
+    }
+    
+    /**
+     * Remove all {@link PreparedStatement} from registry.
+     */
+    public void clear() {
+        preparedStatements.clear();
+        templates.keySet().forEach(each -> releaseTemplate(templates.remove(each)));
+    }
+    
+    private void releaseTemplate(final PreparedStatementTemplate template) {
+        if (null != template) {
+            PreparedStatementTemplateRegistry.getInstance().release(template);
+        }
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Reference counted {@link PreparedStatementTemplate} registry shared by all sessions.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PreparedStatementTemplateRegistry {
+    
+    private static final PreparedStatementTemplateRegistry INSTANCE = new PreparedStatementTemplateRegistry();
+    
+    private final Map<PreparedStatementTemplateKey, TemplateReference> templates = new ConcurrentHashMap<>();
+    
+    /**
+     * Get prepared statement template registry instance.
+     *
+     * @return prepared statement template registry instance
+     */
+    public static PreparedStatementTemplateRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Acquire prepared statement template, create it when absent.
+     * Acquired template should be released by {@link #release(PreparedStatementTemplate)} when prepared statement closed.
+     *
+     * @param key key of prepared statement template
+     * @param templateFactory factory to create prepared statement template when absent
+     * @return acquired prepared statement template
+     */
+    public PreparedStatementTemplate acquire(final PreparedStatementTemplateKey key, final Supplier<PreparedStatementTemplate> templateFactory) {
+        TemplateReference result = templates.computeIfPresent(key, (unused, reference) -> reference.retain());
+        if (null != result) {
+            return result.template;
+        }
+        PreparedStatementTemplate created = templateFactory.get();
+        return templates.compute(key, (unused, reference) -> (null == reference ? new TemplateReference(created) : reference).retain()).template;
+    }
+    
+    /**
+     * Release prepared statement template, remove it when no prepared statement references it.
+     *
+     * @param template prepared statement template to be released
+     */
+    public void release(final PreparedStatementTemplate template) {
+        templates.computeIfPresent(template.getKey(), (unused, reference) -> reference.release() > 0 ? reference : null);
+    }
+    
+    int getReferenceCount(final PreparedStatementTemplateKey key) {
+        TemplateReference result = templates.get(key);
+        return null == result ? 0 : result.referenceCount;
+    }
+    
+    /**
+     * Get count of prepared statement templates.
+     *
+     * @return count of prepared statement templates
+     */
+    public int getTemplateCount() {
+        return templates.size();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class TemplateReference {
+        
+        private final PreparedStatementTemplate template;
+        
+        private int referenceCount;
+        
+        private TemplateReference retain() {
+            referenceCount++;
+            return this;
+        }
+        
+        private int release() {
+            return --referenceCount;
+        }
+    }
+}
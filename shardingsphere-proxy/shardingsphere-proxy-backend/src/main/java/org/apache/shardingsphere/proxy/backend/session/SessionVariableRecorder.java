@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionPostProcessor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.MySQLStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Session variable recorder for {@link ConnectionSession}.
+ * 
+ * <p>Backend connections are pinned to session once session variables are set by client, so session variables are recorded here,
+ * replayed only on backend connections which have not applied current version of them yet and reset before connections are returned to pool.
+ * MySQL system variables are reset to the values captured from backend connections before they were changed,
+ * because MySQL resets them to global values with DEFAULT, rather than the values the pool initialized connections with.</p>
+ */
+public final class SessionVariableRecorder {
+    
+    private static final Collection<String> NON_SESSION_SCOPES = Arrays.asList("GLOBAL", "PERSIST", "PERSIST_ONLY");
+    
+    private static final Collection<String> NON_SESSION_PREFIXES = Arrays.asList("@@global.", "@@persist.", "@@persist_only.");
+    
+    private static final Collection<String> SESSION_PREFIXES = Arrays.asList("@@session.", "@@local.", "@@");
+    
+    private final Map<String, ChangedVariable> changedVariables = new LinkedHashMap<>();
+    
+    private final Map<String, String> assignments = new LinkedHashMap<>();
+    
+    private final Map<String, Map<String, Object>> capturedValues = new HashMap<>();
+    
+    private int capturedVariableCount;
+    
+    private int version;
+    
+    private int recordedVersion;
+    
+    private ConnectionPostProcessor<Connection> replayer;
+    
+    /**
+     * Prepare to record session variables assigned by set statement, should be called before set statement executed.
+     *
+     * @param setStatement set statement
+     */
+    public synchronized void prepare(final SetStatement setStatement) {
+        boolean changed = false;
+        for (VariableAssignSegment each : setStatement.getVariableAssigns()) {
+            if (isSessionScope(setStatement, each)) {
+                addChangedVariable(setStatement, each.getVariable().getVariable());
+                changed = true;
+            }
+        }
+        if (changed) {
+            version++;
+        }
+    }
+    
+    /**
+     * Record session variables assigned by set statement.
+     *
+     * @param setStatement set statement
+     * @param sql SQL of set statement
+     */
+    public synchronized void record(final SetStatement setStatement, final String sql) {
+        for (VariableAssignSegment each : setStatement.getVariableAssigns()) {
+            if (isSessionScope(setStatement, each) && each.getStartIndex() < each.getStopIndex() && each.getStopIndex() < sql.length()) {
+                String key = addChangedVariable(setStatement, each.getVariable().getVariable());
+                assignments.remove(key);
+                assignments.put(key, sql.substring(each.getStartIndex(), each.getStopIndex() + 1));
+            }
+        }
+        replayer = null;
+        recordedVersion = version;
+    }
+    
+    private boolean isSessionScope(final SetStatement setStatement, final VariableAssignSegment variableAssign) {
+        String scope = variableAssign.getVariable().getScope();
+        if (null != scope && (NON_SESSION_SCOPES.contains(scope.toUpperCase()) || "LOCAL".equalsIgnoreCase(scope) && !(setStatement instanceof MySQLStatement))) {
+            return false;
+        }
+        String variableName = variableAssign.getVariable().getVariable().toLowerCase();
+        return NON_SESSION_PREFIXES.stream().noneMatch(variableName::startsWith);
+    }
+    
+    private String addChangedVariable(final SetStatement setStatement, final String variableName) {
+        boolean userVariable = variableName.startsWith("@") && !variableName.startsWith("@@");
+        String name = userVariable ? variableName : getSystemVariableName(variableName);
+        String result = name.toLowerCase();
+        if (!changedVariables.containsKey(result)) {
+            ChangedVariable changedVariable = new ChangedVariable(name, userVariable, setStatement instanceof MySQLStatement);
+            changedVariables.put(result, changedVariable);
+            if (changedVariable.isCaptureRequired()) {
+                capturedVariableCount++;
+            }
+        }
+        return result;
+    }
+    
+    private String getSystemVariableName(final String variableName) {
+        for (String each : SESSION_PREFIXES) {
+            if (variableName.regionMatches(true, 0, each, 0, each.length())) {
+                return variableName.substring(each.length());
+            }
+        }
+        return variableName;
+    }
+    
+    /**
+     * Judge whether no session variable changed.
+     *
+     * @return no session variable changed or not
+     */
+    public synchronized boolean isEmpty() {
+        return changedVariables.isEmpty();
+    }
+    
+    /**
+     * Get version of session variables, which is increased before session variables are changed by set statement.
+     *
+     * @return version of session variables
+     */
+    public synchronized int getVersion() {
+        return version;
+    }
+    
+    /**
+     * Judge whether recorded session variables are required to be replayed on backend connection which has applied session variables of version.
+     *
+     * @param appliedVersion version of session variables applied on backend connection
+     * @return recorded session variables are required to be replayed or not
+     */
+    public synchronized boolean isReplayRequired(final int appliedVersion) {
+        return appliedVersion < recordedVersion;
+    }
+    
+    /**
+     * Get SQLs to replay recorded session variables.
+     *
+     * @return SQLs to replay recorded session variables
+     */
+    public synchronized Collection<String> getReplaySQLs() {
+        if (assignments.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (assignments.keySet().stream().allMatch(each -> changedVariables.get(each).mySQL)) {
+            return Collections.singletonList("SET " + String.join(", ", assignments.values()));
+        }
+        Collection<String> result = new ArrayList<>(assignments.size());
+        assignments.values().forEach(each -> result.add("SET " + each));
+        return result;
+    }
+    
+    /**
+     * Find post processor to replay recorded session variables on backend connections which have not applied them yet.
+     *
+     * @return post processor to replay recorded session variables
+     */
+    public synchronized Optional<ConnectionPostProcessor<Connection>> findReplayer() {
+        if (assignments.isEmpty()) {
+            return Optional.empty();
+        }
+        if (null == replayer) {
+            Collection<String> replaySQLs = getReplaySQLs();
+            replayer = target -> {
+                try (Statement statement = target.createStatement()) {
+                    for (String each : replaySQLs) {
+                        statement.execute(each);
+                    }
+                } catch (final SQLException ex) {
+                    throw new RuntimeException(ex);
+                }
+            };
+        }
+        return Optional.of(replayer);
+    }
+    
+    /**
+     * Capture values of changed MySQL system variables which are not captured from backend connections of data source yet.
+     *
+     * @param dataSourceKey key of data source which backend connection belongs to
+     * @param connection backend connection which recorded session variables are not replayed on yet
+     * @throws SQLException SQL exception
+     */
+    public synchronized void capture(final String dataSourceKey, final Connection connection) throws SQLException {
+        Map<String, Object> values = capturedValues.computeIfAbsent(dataSourceKey, key -> new HashMap<>());
+        if (values.size() >= capturedVariableCount) {
+            return;
+        }
+        List<String> keys = new LinkedList<>();
+        Collection<String> selectItems = new LinkedList<>();
+        for (Entry<String, ChangedVariable> entry : changedVariables.entrySet()) {
+            if (entry.getValue().isCaptureRequired() && !values.containsKey(entry.getKey())) {
+                keys.add(entry.getKey());
+                selectItems.add("@@SESSION." + entry.getValue().name);
+            }
+        }
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT " + String.join(", ", selectItems))) {
+            if (resultSet.next()) {
+                for (int i = 0; i < keys.size(); i++) {
+                    values.put(keys.get(i), resultSet.getObject(i + 1));
+                }
+            }
+        }
+    }
+    
+    /**
+     * Reset changed session variables of backend connection before it is returned to pool.
+     *
+     * @param dataSourceKey key of data source which backend connection belongs to
+     * @param connection backend connection
+     * @throws SQLException SQL exception
+     */
+    public synchronized void reset(final String dataSourceKey, final Connection connection) throws SQLException {
+        Map<String, Object> values = capturedValues.getOrDefault(dataSourceKey, Collections.emptyMap());
+        Collection<String> mySQLAssignments = new LinkedList<>();
+        List<Object> parameters = new LinkedList<>();
+        Collection<String> resetSQLs = new LinkedList<>();
+        for (Entry<String, ChangedVariable> entry : changedVariables.entrySet()) {
+            ChangedVariable variable = entry.getValue();
+            if (!variable.mySQL) {
+                resetSQLs.add(String.format("SET %s = DEFAULT", variable.name));
+            } else if (variable.userVariable) {
+                mySQLAssignments.add(String.format("%s = NULL", variable.name));
+            } else if (null == values.get(entry.getKey())) {
+                mySQLAssignments.add(String.format("%s = DEFAULT", variable.name));
+            } else {
+                mySQLAssignments.add(String.format("@@SESSION.%s = ?", variable.name));
+                parameters.add(values.get(entry.getKey()));
+            }
+        }
+        if (!mySQLAssignments.isEmpty()) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement("SET " + String.join(", ", mySQLAssignments))) {
+                int index = 1;
+                for (Object each : parameters) {
+                    preparedStatement.setObject(index++, each);
+                }
+                preparedStatement.execute();
+            }
+        }
+        if (!resetSQLs.isEmpty()) {
+            try (Statement statement = connection.createStatement()) {
+                for (String each : resetSQLs) {
+                    statement.execute(each);
+                }
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ChangedVariable {
+        
+        private final String name;
+        
+        private final boolean userVariable;
+        
+        private final boolean mySQL;
+        
+        private boolean isCaptureRequired() {
+            return mySQL && !userVariable;
+        }
+    }
+}
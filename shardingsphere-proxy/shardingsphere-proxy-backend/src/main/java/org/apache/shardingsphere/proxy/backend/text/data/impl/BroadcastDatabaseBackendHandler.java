@@ -29,6 +29,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.text.data.DatabaseBackendHandler;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -72,6 +73,9 @@ public final class BroadcastDatabaseBackendHandler implements DatabaseBackendHan
     public ResponseHeader execute() throws SQLException {
         List<String> databaseNames = getDatabaseNamesWithDataSource().orElseThrow(ResourceNotExistedException::new);
         String originalDatabase = connectionSession.getDatabaseName();
+        if (sqlStatementContext.getSqlStatement() instanceof SetStatement) {
+            connectionSession.getSessionVariableRecorder().prepare((SetStatement) sqlStatementContext.getSqlStatement());
+        }
         try {
             for (String each : databaseNames) {
                 connectionSession.setCurrentDatabase(each);
@@ -80,6 +84,9 @@ public final class BroadcastDatabaseBackendHandler implements DatabaseBackendHan
         } finally {
             connectionSession.setCurrentDatabase(originalDatabase);
         }
+        if (sqlStatementContext.getSqlStatement() instanceof SetStatement) {
+            connectionSession.getSessionVariableRecorder().record((SetStatement) sqlStatementContext.getSqlStatement(), sql);
+        }
         return new UpdateResponseHeader(sqlStatementContext.getSqlStatement());
     }
     
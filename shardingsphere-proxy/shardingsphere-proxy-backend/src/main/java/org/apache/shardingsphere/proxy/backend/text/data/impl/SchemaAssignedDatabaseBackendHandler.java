@@ -40,6 +40,8 @@ import org.apache.shardingsphere.sharding.merge.ddl.fetch.FetchOrderByValueGroup
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Database backend handler with assigned schema.
@@ -53,10 +55,16 @@ public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBacke
     
     private final String sql;
     
+    private final List<Object> parameters;
+    
     private final ConnectionSession connectionSession;
     
     private DatabaseCommunicationEngine<?> databaseCommunicationEngine;
     
+    public SchemaAssignedDatabaseBackendHandler(final SQLStatementContext<?> sqlStatementContext, final String sql, final ConnectionSession connectionSession) {
+        this(sqlStatementContext, sql, Collections.emptyList(), connectionSession);
+    }
+    
     @Override
     public ResponseHeader execute() throws SQLException {
         prepareDatabaseCommunicationEngine();
@@ -87,7 +95,9 @@ public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBacke
         if (sqlStatementContext instanceof CursorAvailable) {
             prepareCursorStatementContext((CursorAvailable) sqlStatementContext, connectionSession);
         }
-        databaseCommunicationEngine = databaseCommunicationEngineFactory.newTextProtocolInstance(sqlStatementContext, sql, connectionSession.getBackendConnection());
+        databaseCommunicationEngine = parameters.isEmpty()
+                ? databaseCommunicationEngineFactory.newTextProtocolInstance(sqlStatementContext, sql, connectionSession.getBackendConnection())
+                : databaseCommunicationEngineFactory.newBinaryProtocolInstance(sqlStatementContext, sql, parameters, connectionSession.getBackendConnection());
     }
     
     private void prepareCursorStatementContext(final CursorAvailable statementContext, final ConnectionSession connectionSession) {
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowKernelLatencyStatisticsStatement;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.statistics.KernelLatencyRecorder;
+import org.apache.shardingsphere.infra.statistics.KernelLatencyStatistics;
+import org.apache.shardingsphere.infra.statistics.LatencyHistogramSnapshot;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.text.distsql.ral.QueryableRALBackendHandler;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
+/**
+ * Show kernel latency statistics handler.
+ */
+public final class ShowKernelLatencyStatisticsHandler extends QueryableRALBackendHandler<ShowKernelLatencyStatisticsStatement> {
+    
+    private static final String STAGE = "stage";
+    
+    private static final String SCOPE = "scope";
+    
+    private static final String COUNT = "count";
+    
+    private static final String MEAN_NANOS = "mean_nanos";
+    
+    private static final String P50_NANOS = "p50_nanos";
+    
+    private static final String P90_NANOS = "p90_nanos";
+    
+    private static final String P99_NANOS = "p99_nanos";
+    
+    private static final String P999_NANOS = "p999_nanos";
+    
+    private static final String MAX_NANOS = "max_nanos";
+    
+    @Override
+    protected Collection<String> getColumnNames() {
+        return Arrays.asList(STAGE, SCOPE, COUNT, MEAN_NANOS, P50_NANOS, P90_NANOS, P99_NANOS, P999_NANOS, MAX_NANOS);
+    }
+    
+    @Override
+    protected Collection<LocalDataQueryResultRow> getRows(final ContextManager contextManager) {
+        return KernelLatencyRecorder.getStatistics().stream()
+                .sorted(Comparator.comparing(KernelLatencyStatistics::getStage).thenComparing(KernelLatencyStatistics::getScope)).map(this::getRow).collect(Collectors.toList());
+    }
+    
+    private LocalDataQueryResultRow getRow(final KernelLatencyStatistics statistics) {
+        LatencyHistogramSnapshot snapshot = statistics.getSnapshot();
+        return new LocalDataQueryResultRow(statistics.getStage().name(), statistics.getScope(), snapshot.getCount(), snapshot.getMeanNanos(), snapshot.getValueAtPercentile(50D),
+                snapshot.getValueAtPercentile(90D), snapshot.getValueAtPercentile(99D), snapshot.getValueAtPercentile(99.9D), snapshot.getMaxNanos());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowSQLDigestStatisticsStatement;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.statistics.LatencyHistogramSnapshot;
+import org.apache.shardingsphere.infra.statistics.digest.SQLDigestKey;
+import org.apache.shardingsphere.infra.statistics.digest.SQLDigestStatisticsCollector;
+import org.apache.shardingsphere.infra.statistics.digest.SQLDigestStatisticsSnapshot;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.statistics.service.SQLDigestStatisticsRegistryService;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.proxy.backend.text.distsql.ral.QueryableRALBackendHandler;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+/**
+ * Show SQL digest statistics handler.
+ *
+ * <p>In cluster mode, statistics of current compute node are merged with statistics persisted by other compute nodes.</p>
+ */
+public final class ShowSQLDigestStatisticsHandler extends QueryableRALBackendHandler<ShowSQLDigestStatisticsStatement> {
+    
+    private static final String DATABASE = "database";
+    
+    private static final String DIGEST_ID = "digest_id";
+    
+    private static final String DIGEST = "digest";
+    
+    private static final String COUNT = "count";
+    
+    private static final String COUNT_OVERESTIMATION = "count_overestimation";
+    
+    private static final String ERROR_COUNT = "error_count";
+    
+    private static final String ROWS = "rows";
+    
+    private static final String SHARDS = "shards";
+    
+    private static final String TOTAL_NANOS = "total_nanos";
+    
+    private static final String MEAN_NANOS = "mean_nanos";
+    
+    private static final String MIN_NANOS = "min_nanos";
+    
+    private static final String P50_NANOS = "p50_nanos";
+    
+    private static final String P99_NANOS = "p99_nanos";
+    
+    private static final String MAX_NANOS = "max_nanos";
+    
+    @Override
+    protected Collection<String> getColumnNames() {
+        return Arrays.asList(DATABASE, DIGEST_ID, DIGEST, COUNT, COUNT_OVERESTIMATION, ERROR_COUNT, ROWS, SHARDS, TOTAL_NANOS, MEAN_NANOS, MIN_NANOS, P50_NANOS, P99_NANOS, MAX_NANOS);
+    }
+    
+    @Override
+    protected Collection<LocalDataQueryResultRow> getRows(final ContextManager contextManager) {
+        Map<SQLDigestKey, SQLDigestStatisticsSnapshot> statistics = new LinkedHashMap<>();
+        merge(statistics, SQLDigestStatisticsCollector.getInstance().getStatistics());
+        for (Entry<String, Collection<SQLDigestStatisticsSnapshot>> entry : loadPersistedStatistics(contextManager.getMetaDataContexts().getPersistService().orElse(null)).entrySet()) {
+            if (!entry.getKey().equals(contextManager.getInstanceContext().getInstance().getCurrentInstanceId())) {
+                merge(statistics, entry.getValue());
+            }
+        }
+        return statistics.values().stream().sorted(Comparator.comparingLong(SQLDigestStatisticsSnapshot::getCount).reversed()).map(this::getRow).collect(Collectors.toList());
+    }
+    
+    private Map<String, Collection<SQLDigestStatisticsSnapshot>> loadPersistedStatistics(final MetaDataPersistService persistService) {
+        if (null == persistService || !(persistService.getRepository() instanceof ClusterPersistRepository)) {
+            return Collections.emptyMap();
+        }
+        return new SQLDigestStatisticsRegistryService((ClusterPersistRepository) persistService.getRepository()).loadStatistics();
+    }
+    
+    private void merge(final Map<SQLDigestKey, SQLDigestStatisticsSnapshot> statistics, final Collection<SQLDigestStatisticsSnapshot> snapshots) {
+        for (SQLDigestStatisticsSnapshot each : snapshots) {
+            statistics.merge(new SQLDigestKey(each.getDatabaseName(), each.getDigest()), each, SQLDigestStatisticsSnapshot::merge);
+        }
+    }
+    
+    private LocalDataQueryResultRow getRow(final SQLDigestStatisticsSnapshot statistics) {
+        LatencyHistogramSnapshot latency = statistics.getLatency();
+        return new LocalDataQueryResultRow(statistics.getDatabaseName(), statistics.getDigestId(), statistics.getDigest(), statistics.getCount(), statistics.getOverestimation(),
+                statistics.getErrorCount(), statistics.getRowCount(), statistics.getShardCount(), latency.getTotalNanos(), latency.getMeanNanos(), statistics.getMinNanos(),
+                latency.getValueAtPercentile(50D), latency.getValueAtPercentile(99D), latency.getMaxNanos());
+    }
+}
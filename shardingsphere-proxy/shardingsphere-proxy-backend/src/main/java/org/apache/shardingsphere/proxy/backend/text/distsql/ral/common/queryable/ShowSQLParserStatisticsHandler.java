@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowSQLParserStatisticsStatement;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheStatistics;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.text.distsql.ral.QueryableRALBackendHandler;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Show SQL parser statistics handler.
+ */
+public final class ShowSQLParserStatisticsHandler extends QueryableRALBackendHandler<ShowSQLParserStatisticsStatement> {
+    
+    private static final String DATABASE_TYPE = "database_type";
+    
+    private static final String HIT_COUNT = "hit_count";
+    
+    private static final String MISS_COUNT = "miss_count";
+    
+    private static final String HIT_RATE = "hit_rate";
+    
+    private static final String EVICTION_COUNT = "eviction_count";
+    
+    private static final String TOTAL_LOAD_TIME_MILLIS = "total_load_time_millis";
+    
+    private static final String ENTRY_COUNT = "entry_count";
+    
+    private static final String WEIGHTED_SIZE = "weighted_size";
+    
+    @Override
+    protected Collection<String> getColumnNames() {
+        return Arrays.asList(DATABASE_TYPE, HIT_COUNT, MISS_COUNT, HIT_RATE, EVICTION_COUNT, TOTAL_LOAD_TIME_MILLIS, ENTRY_COUNT, WEIGHTED_SIZE);
+    }
+    
+    @Override
+    protected Collection<LocalDataQueryResultRow> getRows(final ContextManager contextManager) {
+        return SQLStatementParserEngineFactory.getSQLStatementCacheStatistics().stream()
+                .sorted(Comparator.comparing(SQLStatementCacheStatistics::getDatabaseType)).map(this::getRow).collect(Collectors.toList());
+    }
+    
+    private LocalDataQueryResultRow getRow(final SQLStatementCacheStatistics statistics) {
+        return new LocalDataQueryResultRow(statistics.getDatabaseType(), statistics.getHitCount(), statistics.getMissCount(), String.format("%.4f", statistics.getHitRate()),
+                statistics.getEvictionCount(), TimeUnit.NANOSECONDS.toMillis(statistics.getTotalLoadTime()), statistics.getEntryCount(), statistics.getWeightedSize());
+    }
+}
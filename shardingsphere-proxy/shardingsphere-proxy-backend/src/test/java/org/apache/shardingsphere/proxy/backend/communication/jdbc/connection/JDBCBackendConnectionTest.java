@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 
 import com.google.common.collect.Multimap;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
@@ -53,10 +54,12 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -194,6 +197,50 @@ public final class JDBCBackendConnectionTest extends ProxyContextRestorer {
         assertTrue(connectionSession.getTransactionStatus().isInTransaction());
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertGetConnectionWithSessionVariablesReplayed() throws SQLException {
+        List<Connection> connections = MockConnectionUtil.mockNewConnections(1);
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(connections);
+        ConnectionPostProcessor<Connection> sessionVariableReplayer = mock(ConnectionPostProcessor.class);
+        when(connectionSession.getSessionVariableRecorder().isEmpty()).thenReturn(false);
+        when(connectionSession.getSessionVariableRecorder().findReplayer()).thenReturn(Optional.of(sessionVariableReplayer));
+        when(connectionSession.getSessionVariableRecorder().isReplayRequired(0)).thenReturn(true);
+        backendConnection.getConnections("ds1", 1, ConnectionMode.MEMORY_STRICTLY);
+        verify(connectionSession.getSessionVariableRecorder()).capture("schema_0.ds1", connections.get(0));
+        verify(sessionVariableReplayer).process(connections.get(0));
+        backendConnection.closeConnections(false);
+        verify(connectionSession.getSessionVariableRecorder()).reset("schema_0.ds1", connections.get(0));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertGetCachedConnectionWithSessionVariablesApplied() throws SQLException {
+        List<Connection> connections = MockConnectionUtil.mockNewConnections(1);
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(connections);
+        ConnectionPostProcessor<Connection> sessionVariableReplayer = mock(ConnectionPostProcessor.class);
+        when(connectionSession.getSessionVariableRecorder().findReplayer()).thenReturn(Optional.of(sessionVariableReplayer));
+        when(connectionSession.getSessionVariableRecorder().getVersion()).thenReturn(1);
+        when(connectionSession.getSessionVariableRecorder().isReplayRequired(0)).thenReturn(true);
+        backendConnection.getConnections("ds1", 1, ConnectionMode.MEMORY_STRICTLY);
+        backendConnection.getConnections("ds1", 1, ConnectionMode.MEMORY_STRICTLY);
+        verify(sessionVariableReplayer).process(connections.get(0));
+        verify(connectionSession.getSessionVariableRecorder()).isReplayRequired(1);
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertGetCachedConnectionWithSessionVariablesReplayedAfterChanged() throws SQLException {
+        List<Connection> connections = MockConnectionUtil.mockNewConnections(1);
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(1), any())).thenReturn(connections);
+        ConnectionPostProcessor<Connection> sessionVariableReplayer = mock(ConnectionPostProcessor.class);
+        when(connectionSession.getSessionVariableRecorder().findReplayer()).thenReturn(Optional.of(sessionVariableReplayer));
+        backendConnection.getConnections("ds1", 1, ConnectionMode.MEMORY_STRICTLY);
+        when(connectionSession.getSessionVariableRecorder().isReplayRequired(0)).thenReturn(true);
+        backendConnection.getConnections("ds1", 1, ConnectionMode.MEMORY_STRICTLY);
+        verify(sessionVariableReplayer).process(connections.get(0));
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private void setConnectionPostProcessors() {
         ConnectionPostProcessor<?> connectionPostProcessor = mock(ConnectionPostProcessor.class);
@@ -261,6 +308,47 @@ public final class JDBCBackendConnectionTest extends ProxyContextRestorer {
         verify(connection, times(1)).rollback();
     }
     
+    @Test
+    public void assertCloseConnectionsWithSessionVariablesReset() throws SQLException {
+        Connection connection = prepareCachedConnections();
+        backendConnection.markSessionVariablesChanged();
+        backendConnection.closeConnections(false);
+        verify(connectionSession.getSessionVariableRecorder()).reset("schema_0.ignoredDataSourceName", connection);
+        verify(connection).close();
+    }
+    
+    @Test
+    public void assertCloseConnectionsWithoutSessionVariablesChanged() throws SQLException {
+        Connection connection = prepareCachedConnections();
+        backendConnection.closeConnections(false);
+        verify(connectionSession.getSessionVariableRecorder(), never()).reset(anyString(), any());
+        verify(connection).close();
+    }
+    
+    @Test
+    public void assertCloseConnectionsWhenSessionVariablesResetFailed() throws SQLException {
+        Connection connection = prepareCachedConnections();
+        backendConnection.markSessionVariablesChanged();
+        SQLException sqlException = new SQLException("");
+        doThrow(sqlException).when(connectionSession.getSessionVariableRecorder()).reset(anyString(), any());
+        assertTrue(backendConnection.closeConnections(false).contains(sqlException));
+        verify(connection).abort(any());
+        verify(connection).close();
+    }
+    
+    @Test
+    public void assertCloseConnectionsWhenRollbackFailedWithHikariDataSource() throws SQLException {
+        connectionSession.getTransactionStatus().setInTransaction(true);
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(ProxyContext.getInstance().getDatabase("schema_0").getResource().getDataSources()).thenReturn(Collections.singletonMap("ignoredDataSourceName", dataSource));
+        Connection connection = prepareCachedConnections();
+        SQLException sqlException = new SQLException("");
+        doThrow(sqlException).when(connection).rollback();
+        assertTrue(backendConnection.closeConnections(true).contains(sqlException));
+        verify(dataSource).evictConnection(connection);
+        verify(connection, never()).close();
+    }
+    
     @Test
     public void assertCloseConnectionsCorrectlyWhenSQLExceptionThrown() throws SQLException {
         Connection connection = prepareCachedConnections();
@@ -394,6 +482,7 @@ public final class JDBCBackendConnectionTest extends ProxyContextRestorer {
     
     @Test
     public void assertCloseExecutionResources() throws BackendConnectionException {
+        when(connectionSession.getSessionVariableRecorder().isEmpty()).thenReturn(true);
         backendConnection.closeExecutionResources();
         verify(backendConnection).closeDatabaseCommunicationEngines(false);
         verify(backendConnection).closeFederationExecutor();
@@ -401,6 +490,22 @@ public final class JDBCBackendConnectionTest extends ProxyContextRestorer {
         verify(backendConnection).closeConnections(false);
     }
     
+    @Test
+    public void assertCloseExecutionResourcesWhenConnectionPinned() throws BackendConnectionException {
+        when(connectionSession.getConnectionPinningStatus().isPinned()).thenReturn(true);
+        backendConnection.closeExecutionResources();
+        verify(backendConnection).closeDatabaseCommunicationEngines(false);
+        verify(backendConnection, never()).closeConnections(false);
+    }
+    
+    @Test
+    public void assertCloseExecutionResourcesWhenSessionVariablesChanged() throws BackendConnectionException {
+        when(connectionSession.getSessionVariableRecorder().isEmpty()).thenReturn(false);
+        backendConnection.closeExecutionResources();
+        verify(backendConnection).closeDatabaseCommunicationEngines(false);
+        verify(backendConnection, never()).closeConnections(false);
+    }
+    
     @Test
     public void assertCloseAllResources() {
         backendConnection.closeAllResources();
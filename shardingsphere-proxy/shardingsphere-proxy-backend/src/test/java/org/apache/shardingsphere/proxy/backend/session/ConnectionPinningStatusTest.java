@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.ddl.MySQLCreateTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.ddl.MySQLDropTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.tcl.MySQLLockStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.tcl.MySQLUnlockStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLSelectStatement;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ConnectionPinningStatusTest {
+    
+    @Test
+    public void assertPinnedUntilTablesUnlocked() {
+        ConnectionPinningStatus status = new ConnectionPinningStatus();
+        status.update(new MySQLLockStatement(), "LOCK TABLES t_order READ");
+        assertTrue(status.isPinned());
+        status.update(new MySQLUnlockStatement(), "UNLOCK TABLES");
+        assertFalse(status.isPinned());
+    }
+    
+    @Test
+    public void assertPinnedUntilTemporaryTableDropped() {
+        ConnectionPinningStatus status = new ConnectionPinningStatus();
+        MySQLCreateTableStatement createTableStatement = new MySQLCreateTableStatement(false);
+        createTableStatement.setTable(createTable("t_tmp"));
+        status.update(createTableStatement, "CREATE TEMPORARY TABLE t_tmp (id INT)");
+        assertTrue(status.isPinned());
+        MySQLDropTableStatement dropTableStatement = new MySQLDropTableStatement(false);
+        dropTableStatement.getTables().add(createTable("T_TMP"));
+        status.update(dropTableStatement, "DROP TEMPORARY TABLE T_TMP");
+        assertFalse(status.isPinned());
+    }
+    
+    @Test
+    public void assertNotPinnedWithNormalTable() {
+        ConnectionPinningStatus status = new ConnectionPinningStatus();
+        MySQLCreateTableStatement createTableStatement = new MySQLCreateTableStatement(false);
+        createTableStatement.setTable(createTable("t_temporary"));
+        status.update(createTableStatement, "CREATE TABLE t_temporary (id INT)");
+        assertFalse(status.isPinned());
+    }
+    
+    @Test
+    public void assertPinnedUntilSessionLocksReleased() {
+        ConnectionPinningStatus status = new ConnectionPinningStatus();
+        status.update(new MySQLSelectStatement(), "SELECT GET_LOCK('foo', 10), GET_LOCK('bar', 10)");
+        status.update(new MySQLSelectStatement(), "SELECT RELEASE_LOCK('foo')");
+        assertTrue(status.isPinned());
+        status.update(new MySQLSelectStatement(), "SELECT RELEASE_LOCK('bar')");
+        assertFalse(status.isPinned());
+    }
+    
+    @Test
+    public void assertPinnedUntilAllAdvisoryLocksReleased() {
+        ConnectionPinningStatus status = new ConnectionPinningStatus();
+        status.update(new PostgreSQLSelectStatement(), "SELECT pg_try_advisory_lock(1), pg_advisory_lock_shared(2)");
+        assertTrue(status.isPinned());
+        status.update(new PostgreSQLSelectStatement(), "SELECT pg_advisory_unlock_all()");
+        assertFalse(status.isPinned());
+    }
+    
+    @Test
+    public void assertNotPinnedWithOtherStatement() {
+        ConnectionPinningStatus status = new ConnectionPinningStatus();
+        status.update(new MySQLSelectStatement(), "SELECT * FROM t_order");
+        status.update(new MySQLUpdateStatement(), "UPDATE t_order SET status = 'LOCK'");
+        assertFalse(status.isPinned());
+    }
+    
+    private SimpleTableSegment createTable(final String tableName) {
+        return new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue(tableName)));
+    }
+}
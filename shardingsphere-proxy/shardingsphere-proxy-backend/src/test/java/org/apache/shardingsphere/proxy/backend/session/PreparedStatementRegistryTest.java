@@ -21,9 +21,12 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 
 public final class PreparedStatementRegistryTest {
     
@@ -37,6 +40,30 @@ public final class PreparedStatementRegistryTest {
         assertNull(registry.getPreparedStatement(1));
     }
     
+    @Test
+    public void assertReleaseTemplateWhenRemovePreparedStatement() {
+        PreparedStatementTemplateKey key = new PreparedStatementTemplateKey("foo_db", "SELECT 3", Collections.emptyList());
+        PreparedStatementTemplate template = PreparedStatementTemplateRegistry.getInstance().acquire(key, () -> new PreparedStatementTemplate(key, key.getSql(), mock(SQLStatement.class)));
+        PreparedStatementRegistry registry = new PreparedStatementRegistry();
+        registry.addPreparedStatement(1, new DummyPreparedStatement(), template);
+        assertThat(PreparedStatementTemplateRegistry.getInstance().getReferenceCount(key), is(1));
+        registry.removePreparedStatement(1);
+        assertThat(PreparedStatementTemplateRegistry.getInstance().getReferenceCount(key), is(0));
+    }
+    
+    @Test
+    public void assertReleaseTemplatesWhenClear() {
+        PreparedStatementTemplateKey key = new PreparedStatementTemplateKey("foo_db", "SELECT 4", Collections.emptyList());
+        PreparedStatementTemplate template = PreparedStatementTemplateRegistry.getInstance().acquire(key, () -> new PreparedStatementTemplate(key, key.getSql(), mock(SQLStatement.class)));
+        PreparedStatementTemplateRegistry.getInstance().acquire(key, () -> new PreparedStatementTemplate(key, key.getSql(), mock(SQLStatement.class)));
+        PreparedStatementRegistry registry = new PreparedStatementRegistry();
+        registry.addPreparedStatement(1, new DummyPreparedStatement(), template);
+        registry.addPreparedStatement(2, new DummyPreparedStatement(), template);
+        registry.clear();
+        assertNull(registry.getPreparedStatement(1));
+        assertThat(PreparedStatementTemplateRegistry.getInstance().getReferenceCount(key), is(0));
+    }
+    
     private static class DummyPreparedStatement implements PreparedStatement {
         
         @Override
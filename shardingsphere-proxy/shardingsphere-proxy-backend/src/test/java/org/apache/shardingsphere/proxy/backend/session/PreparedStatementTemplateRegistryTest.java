@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class PreparedStatementTemplateRegistryTest {
+    
+    @Test
+    public void assertAcquireSameTemplate() {
+        PreparedStatementTemplateKey key = new PreparedStatementTemplateKey("foo_db", "SELECT 1", Collections.emptyList());
+        PreparedStatementTemplate expected = PreparedStatementTemplateRegistry.getInstance().acquire(key, () -> createTemplate(key));
+        PreparedStatementTemplate actual = PreparedStatementTemplateRegistry.getInstance().acquire(
+                new PreparedStatementTemplateKey("foo_db", "SELECT 1", Collections.emptyList()), () -> createTemplate(key));
+        assertThat(actual, sameInstance(expected));
+        assertThat(PreparedStatementTemplateRegistry.getInstance().getReferenceCount(key), is(2));
+        PreparedStatementTemplateRegistry.getInstance().release(expected);
+        PreparedStatementTemplateRegistry.getInstance().release(actual);
+    }
+    
+    @Test
+    public void assertAcquireDifferentTemplatesWithDifferentParameterTypes() {
+        PreparedStatementTemplateKey key = new PreparedStatementTemplateKey("foo_db", "SELECT ?", Collections.singletonList(1));
+        PreparedStatementTemplateKey anotherKey = new PreparedStatementTemplateKey("foo_db", "SELECT ?", Collections.singletonList(2));
+        PreparedStatementTemplate template = PreparedStatementTemplateRegistry.getInstance().acquire(key, () -> createTemplate(key));
+        PreparedStatementTemplate anotherTemplate = PreparedStatementTemplateRegistry.getInstance().acquire(anotherKey, () -> createTemplate(anotherKey));
+        assertThat(anotherTemplate, not(sameInstance(template)));
+        PreparedStatementTemplateRegistry.getInstance().release(template);
+        PreparedStatementTemplateRegistry.getInstance().release(anotherTemplate);
+    }
+    
+    @Test
+    public void assertReleaseTemplate() {
+        int originalCount = PreparedStatementTemplateRegistry.getInstance().getTemplateCount();
+        PreparedStatementTemplateKey key = new PreparedStatementTemplateKey("foo_db", "SELECT 2", Collections.emptyList());
+        PreparedStatementTemplate template = PreparedStatementTemplateRegistry.getInstance().acquire(key, () -> createTemplate(key));
+        PreparedStatementTemplateRegistry.getInstance().acquire(key, () -> createTemplate(key));
+        assertThat(PreparedStatementTemplateRegistry.getInstance().getTemplateCount(), is(originalCount + 1));
+        PreparedStatementTemplateRegistry.getInstance().release(template);
+        assertThat(PreparedStatementTemplateRegistry.getInstance().getTemplateCount(), is(originalCount + 1));
+        PreparedStatementTemplateRegistry.getInstance().release(template);
+        assertThat(PreparedStatementTemplateRegistry.getInstance().getTemplateCount(), is(originalCount));
+    }
+    
+    private PreparedStatementTemplate createTemplate(final PreparedStatementTemplateKey key) {
+        return new PreparedStatementTemplate(key, key.getSql(), mock(SQLStatement.class));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionPostProcessor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLSetStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLSetStatement;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SessionVariableRecorderTest {
+    
+    @Test
+    public void assertRecordSessionVariables() {
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        String sql = "SET sql_mode = 'ANSI', @user_id = 1";
+        recorder.record(createSetStatement(new MySQLSetStatement(), createVariableAssign(sql, "sql_mode = 'ANSI'", null, "sql_mode", "'ANSI'"),
+                createVariableAssign(sql, "@user_id = 1", null, "@user_id", "1")), sql);
+        assertThat(recorder.getReplaySQLs(), is(Collections.singletonList("SET sql_mode = 'ANSI', @user_id = 1")));
+    }
+    
+    @Test
+    public void assertRecordSameVariableWithDifferentSyntax() {
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        String sql = "SET sql_mode = 'ANSI'";
+        recorder.record(createSetStatement(new MySQLSetStatement(), createVariableAssign(sql, "sql_mode = 'ANSI'", null, "sql_mode", "'ANSI'")), sql);
+        sql = "SET @@session.sql_mode = 'TRADITIONAL'";
+        recorder.record(createSetStatement(new MySQLSetStatement(), createVariableAssign(sql, "@@session.sql_mode = 'TRADITIONAL'", null, "@@session.sql_mode", "'TRADITIONAL'")), sql);
+        assertThat(recorder.getReplaySQLs(), is(Collections.singletonList("SET @@session.sql_mode = 'TRADITIONAL'")));
+    }
+    
+    @Test
+    public void assertRecordDefaultValue() {
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        String sql = "SET sql_mode = 'ANSI'";
+        recorder.record(createSetStatement(new MySQLSetStatement(), createVariableAssign(sql, "sql_mode = 'ANSI'", null, "sql_mode", "'ANSI'")), sql);
+        sql = "SET sql_mode = DEFAULT";
+        recorder.record(createSetStatement(new MySQLSetStatement(), createVariableAssign(sql, "sql_mode = DEFAULT", null, "sql_mode", "DEFAULT")), sql);
+        assertFalse(recorder.isEmpty());
+        assertThat(recorder.getReplaySQLs(), is(Collections.singletonList("SET sql_mode = DEFAULT")));
+    }
+    
+    @Test
+    public void assertRecordPostgreSQLSessionVariables() {
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        String sql = "SET search_path TO public";
+        recorder.record(createSetStatement(new PostgreSQLSetStatement(), createVariableAssign(sql, "search_path TO public", null, "search_path", "public")), sql);
+        sql = "SET statement_timeout TO 1000";
+        recorder.record(createSetStatement(new PostgreSQLSetStatement(), createVariableAssign(sql, "statement_timeout TO 1000", null, "statement_timeout", "1000")), sql);
+        assertThat(recorder.getReplaySQLs(), is(Arrays.asList("SET search_path TO public", "SET statement_timeout TO 1000")));
+    }
+    
+    @Test
+    public void assertFindReplayer() throws SQLException {
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        assertFalse(recorder.findReplayer().isPresent());
+        String sql = "SET sql_mode = 'ANSI'";
+        recorder.record(createSetStatement(new MySQLSetStatement(), createVariableAssign(sql, "sql_mode = 'ANSI'", null, "sql_mode", "'ANSI'")), sql);
+        Optional<ConnectionPostProcessor<Connection>> actual = recorder.findReplayer();
+        assertTrue(actual.isPresent());
+        assertThat(recorder.findReplayer().get(), is(actual.get()));
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        actual.get().process(connection);
+        verify(statement).execute("SET sql_mode = 'ANSI'");
+    }
+    
+    @Test
+    public void assertReplayRequired() {
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        assertFalse(recorder.isReplayRequired(0));
+        String sql = "SET sql_mode = 'ANSI'";
+        SetStatement setStatement = createSetStatement(new MySQLSetStatement(), createVariableAssign(sql, "sql_mode = 'ANSI'", null, "sql_mode", "'ANSI'"));
+        recorder.prepare(setStatement);
+        assertThat(recorder.getVersion(), is(1));
+        assertFalse(recorder.isReplayRequired(0));
+        recorder.record(setStatement, sql);
+        assertTrue(recorder.isReplayRequired(0));
+        assertFalse(recorder.isReplayRequired(1));
+    }
+    
+    @Test
+    public void assertResetToCapturedValues() throws SQLException {
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        String sql = "SET sql_mode = 'ANSI', @user_id = 1";
+        SetStatement setStatement = createSetStatement(new MySQLSetStatement(), createVariableAssign(sql, "sql_mode = 'ANSI'", null, "sql_mode", "'ANSI'"),
+                createVariableAssign(sql, "@user_id = 1", null, "@user_id", "1"));
+        recorder.prepare(setStatement);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SELECT @@SESSION.sql_mode")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getObject(1)).thenReturn("STRICT_TRANS_TABLES");
+        recorder.capture("foo_db.ds_0", connection);
+        recorder.record(setStatement, sql);
+        recorder.capture("foo_db.ds_0", connection);
+        verify(statement).executeQuery("SELECT @@SESSION.sql_mode");
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SET @@SESSION.sql_mode = ?, @user_id = NULL")).thenReturn(preparedStatement);
+        recorder.reset("foo_db.ds_0", connection);
+        verify(preparedStatement).setObject(1, "STRICT_TRANS_TABLES");
+        verify(preparedStatement).execute();
+    }
+    
+    @Test
+    public void assertResetWithoutCapturedValues() throws SQLException {
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        String sql = "SET sql_mode = 'ANSI'";
+        recorder.record(createSetStatement(new MySQLSetStatement(), createVariableAssign(sql, "sql_mode = 'ANSI'", null, "sql_mode", "'ANSI'")), sql);
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SET sql_mode = DEFAULT")).thenReturn(preparedStatement);
+        recorder.reset("foo_db.ds_0", connection);
+        verify(preparedStatement).execute();
+    }
+    
+    @Test
+    public void assertResetPostgreSQLSessionVariables() throws SQLException {
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        String sql = "SET search_path TO public";
+        recorder.record(createSetStatement(new PostgreSQLSetStatement(), createVariableAssign(sql, "search_path TO public", null, "search_path", "public")), sql);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        recorder.reset("foo_db.ds_0", connection);
+        verify(statement).execute("SET search_path = DEFAULT");
+        verify(connection, never()).prepareStatement(anyString());
+    }
+    
+    @Test
+    public void assertNotRecordNonSessionVariables() {
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        String sql = "SET GLOBAL max_connections = 100";
+        recorder.record(createSetStatement(new MySQLSetStatement(), createVariableAssign(sql, "GLOBAL max_connections = 100", "GLOBAL", "max_connections", "100")), sql);
+        sql = "SET @@global.max_connections = 100";
+        recorder.record(createSetStatement(new MySQLSetStatement(), createVariableAssign(sql, "@@global.max_connections = 100", null, "@@global.max_connections", "100")), sql);
+        sql = "SET LOCAL search_path TO public";
+        recorder.record(createSetStatement(new PostgreSQLSetStatement(), createVariableAssign(sql, "search_path TO public", "LOCAL", "search_path", "public")), sql);
+        assertTrue(recorder.isEmpty());
+    }
+    
+    private SetStatement createSetStatement(final SetStatement setStatement, final VariableAssignSegment... variableAssigns) {
+        setStatement.getVariableAssigns().addAll(Arrays.asList(variableAssigns));
+        return setStatement;
+    }
+    
+    private VariableAssignSegment createVariableAssign(final String sql, final String assignment, final String scope, final String variableName, final String assignValue) {
+        VariableAssignSegment result = new VariableAssignSegment();
+        result.setStartIndex(sql.indexOf(assignment));
+        result.setStopIndex(sql.indexOf(assignment) + assignment.length() - 1);
+        VariableSegment variable = new VariableSegment();
+        variable.setScope(scope);
+        variable.setVariable(variableName);
+        result.setVariable(variable);
+        result.setAssignValue(assignValue);
+        return result;
+    }
+}
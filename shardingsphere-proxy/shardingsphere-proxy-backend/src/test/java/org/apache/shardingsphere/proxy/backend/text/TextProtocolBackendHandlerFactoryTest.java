@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.text;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
@@ -54,6 +55,7 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashSet;
@@ -61,6 +63,7 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -230,6 +233,34 @@ public final class TextProtocolBackendHandlerFactoryTest extends ProxyContextRes
         assertThat(actual, instanceOf(DatabaseAdminQueryBackendHandler.class));
     }
     
+    @Test
+    public void assertNewInstanceWithParameterizedQuery() throws SQLException, ReflectiveOperationException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_SQL_PARAMETERIZE_ENABLED.getKey(), Boolean.TRUE.toString());
+        ProxyContext proxyContext = ProxyContext.getInstance();
+        when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(props));
+        when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getDatabases().get("db").getProtocolType()).thenReturn(databaseType);
+        when(proxyContext.getAllDatabaseNames()).thenReturn(new HashSet<>(Collections.singletonList("db")));
+        when(proxyContext.getDatabase("db").hasDataSource()).thenReturn(true);
+        when(connectionSession.getDatabaseName()).thenReturn("db");
+        TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, "select * from t_order where order_id = 1", Optional::empty, connectionSession);
+        assertThat(actual, instanceOf(SchemaAssignedDatabaseBackendHandler.class));
+        assertThat(getFieldValue(actual, "sql"), is("select * from t_order where order_id = ?"));
+        assertThat(getFieldValue(actual, "parameters"), is(Collections.singletonList(1)));
+    }
+    
+    @Test
+    public void assertNewInstanceWithParameterizeDisabled() throws SQLException, ReflectiveOperationException {
+        ProxyContext proxyContext = ProxyContext.getInstance();
+        when(proxyContext.getAllDatabaseNames()).thenReturn(new HashSet<>(Collections.singletonList("db")));
+        when(proxyContext.getDatabase("db").hasDataSource()).thenReturn(true);
+        String sql = "select * from t_order where order_id = 1";
+        TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, Optional::empty, connectionSession);
+        assertThat(actual, instanceOf(SchemaAssignedDatabaseBackendHandler.class));
+        assertThat(getFieldValue(actual, "sql"), is(sql));
+        assertThat(getFieldValue(actual, "parameters"), is(Collections.emptyList()));
+    }
+    
     @Test
     public void assertNewInstanceWithEmptyString() throws SQLException {
         String sql = "";
@@ -271,4 +302,10 @@ public final class TextProtocolBackendHandlerFactoryTest extends ProxyContextRes
         TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, Optional::empty, connectionSession);
         assertThat(actual, instanceOf(RQLBackendHandler.class));
     }
+    
+    private Object getFieldValue(final TextProtocolBackendHandler backendHandler, final String fieldName) throws ReflectiveOperationException {
+        Field field = backendHandler.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(backendHandler);
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowKernelLatencyStatisticsStatement;
+import org.apache.shardingsphere.infra.statistics.KernelLatencyRecorder;
+import org.apache.shardingsphere.infra.statistics.KernelStage;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+public final class ShowKernelLatencyStatisticsHandlerTest extends ProxyContextRestorer {
+    
+    @Test
+    public void assertKernelLatencyStatistics() throws SQLException {
+        ProxyContext.init(mock(ContextManager.class, RETURNS_DEEP_STUBS));
+        KernelLatencyRecorder.record(KernelStage.EXECUTE, "kernel_latency_ds", 1000L);
+        ShowKernelLatencyStatisticsHandler handler = new ShowKernelLatencyStatisticsHandler();
+        handler.init(new ShowKernelLatencyStatisticsStatement(), null);
+        handler.execute();
+        boolean found = false;
+        while (handler.next()) {
+            List<Object> data = new ArrayList<>(handler.getRowData());
+            assertThat(data.size(), is(9));
+            if ("EXECUTE".equals(data.get(0)) && "kernel_latency_ds".equals(data.get(1))) {
+                found = true;
+                assertTrue((long) data.get(2) >= 1L);
+                assertThat(data.get(8), is(1000L));
+            }
+        }
+        assertTrue(found);
+    }
+}
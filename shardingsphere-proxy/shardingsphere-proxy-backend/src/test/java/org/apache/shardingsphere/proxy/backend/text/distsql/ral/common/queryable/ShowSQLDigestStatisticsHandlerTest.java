@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.common.queryable;
+
+import org.apache.shardingsphere.distsql.parser.statement.ral.common.queryable.ShowSQLDigestStatisticsStatement;
+import org.apache.shardingsphere.infra.statistics.digest.SQLDigestStatisticsCollector;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+public final class ShowSQLDigestStatisticsHandlerTest extends ProxyContextRestorer {
+    
+    @After
+    public void tearDown() {
+        SQLDigestStatisticsCollector.getInstance().clear();
+    }
+    
+    @Test
+    public void assertSQLDigestStatistics() throws SQLException {
+        ProxyContext.init(mock(ContextManager.class, RETURNS_DEEP_STUBS));
+        SQLDigestStatisticsCollector.getInstance().record("foo_db", "SELECT * FROM t_order WHERE order_id IN (?)", 1000L, 3L, 2, false);
+        SQLDigestStatisticsCollector.getInstance().record("foo_db", "SELECT * FROM t_order WHERE order_id IN (?)", 2000L, 1L, 1, false);
+        SQLDigestStatisticsCollector.getInstance().record("foo_db", "SELECT * FROM t_user", 3000L, 5L, 4, true);
+        ShowSQLDigestStatisticsHandler handler = new ShowSQLDigestStatisticsHandler();
+        handler.init(new ShowSQLDigestStatisticsStatement(), null);
+        handler.execute();
+        handler.next();
+        List<Object> data = new ArrayList<>(handler.getRowData());
+        assertThat(data.size(), is(14));
+        assertThat(data.get(0), is("foo_db"));
+        assertThat(data.get(2), is("SELECT * FROM t_order WHERE order_id IN (?)"));
+        assertThat(data.get(3), is(2L));
+        assertThat(data.get(5), is(0L));
+        assertThat(data.get(6), is(4L));
+        assertThat(data.get(7), is(3L));
+        assertThat(data.get(8), is(3000L));
+        assertThat(data.get(10), is(1000L));
+        assertThat(data.get(13), is(2000L));
+        assertTrue(handler.next());
+        assertFalse(handler.next());
+    }
+}
@@ -96,6 +96,7 @@ public final class CommandExecutorTask implements Runnable {
             if (sqlShowEnabled) {
                 clearLogMDC();
             }
+            PendingCommandCounter.get(context.channel()).decrease();
         }
     }
     
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Pending command counter of frontend channel.
+ *
+ * <p>Commands are read by event loop and executed by executor threads, so they pile up in memory when backend is slower than client,
+ * e.g. CopyData messages of COPY FROM STDIN or file packets of LOAD DATA LOCAL INFILE.
+ * Auto read of channel is paused once pending commands reach the high water mark, and resumed after they drain to the low water mark.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PendingCommandCounter {
+    
+    private static final AttributeKey<PendingCommandCounter> ATTRIBUTE_KEY = AttributeKey.valueOf(PendingCommandCounter.class.getName());
+    
+    private static final int HIGH_WATER_MARK = 64;
+    
+    private static final int LOW_WATER_MARK = 16;
+    
+    private final Channel channel;
+    
+    private int pendingCount;
+    
+    private boolean readPaused;
+    
+    /**
+     * Get pending command counter of channel, create it when absent.
+     *
+     * @param channel frontend channel
+     * @return pending command counter
+     */
+    public static PendingCommandCounter get(final Channel channel) {
+        Attribute<PendingCommandCounter> attribute = channel.attr(ATTRIBUTE_KEY);
+        PendingCommandCounter result = attribute.get();
+        if (null != result) {
+            return result;
+        }
+        result = new PendingCommandCounter(channel);
+        PendingCommandCounter existed = attribute.setIfAbsent(result);
+        return null == existed ? result : existed;
+    }
+    
+    /**
+     * Increase pending commands when command is submitted, pause auto read of channel when they reach high water mark.
+     */
+    public synchronized void increase() {
+        pendingCount++;
+        if (!readPaused && pendingCount >= HIGH_WATER_MARK) {
+            readPaused = true;
+            channel.config().setAutoRead(false);
+        }
+    }
+    
+    /**
+     * Decrease pending commands when command is executed, resume auto read of channel when they drain to low water mark.
+     */
+    public synchronized void decrease() {
+        if (pendingCount > 0) {
+            pendingCount--;
+        }
+        if (readPaused && pendingCount <= LOW_WATER_MARK) {
+            readPaused = false;
+            channel.config().setAutoRead(true);
+        }
+    }
+    
+    /**
+     * Judge whether auto read of channel is paused.
+     *
+     * @return auto read of channel is paused or not
+     */
+    public synchronized boolean isReadPaused() {
+        return readPaused;
+    }
+}
@@ -102,6 +102,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
         } catch (final BackendConnectionException ex) {
             log.error("Exception occurred when frontend connection [{}] disconnected", connectionSession.getConnectionId(), ex);
         }
+        connectionSession.getPreparedStatementRegistry().clear();
         databaseProtocolFrontendEngine.release(connectionSession);
     }
     
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PendingCommandCounterTest {
+    
+    @Test
+    public void assertGetSameCounterOfChannel() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        assertThat(PendingCommandCounter.get(channel), is(PendingCommandCounter.get(channel)));
+    }
+    
+    @Test
+    public void assertPauseAndResumeAutoRead() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        PendingCommandCounter counter = PendingCommandCounter.get(channel);
+        for (int i = 0; i < 63; i++) {
+            counter.increase();
+        }
+        assertTrue(channel.config().isAutoRead());
+        counter.increase();
+        assertFalse(channel.config().isAutoRead());
+        assertTrue(counter.isReadPaused());
+        for (int i = 0; i < 47; i++) {
+            counter.decrease();
+        }
+        assertFalse(channel.config().isAutoRead());
+        counter.decrease();
+        assertTrue(channel.config().isAutoRead());
+        assertFalse(counter.isReadPaused());
+    }
+    
+    @Test
+    public void assertDecreaseWithoutPendingCommand() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        PendingCommandCounter counter = PendingCommandCounter.get(channel);
+        counter.decrease();
+        assertTrue(channel.config().isAutoRead());
+        assertFalse(counter.isReadPaused());
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.state.impl;
 
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.util.concurrent.EventExecutor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
@@ -61,6 +62,7 @@ public final class JDBCOKProxyStateTest extends ProxyContextRestorer {
     
     @Before
     public void setup() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
         when(connectionSession.getConnectionId()).thenReturn(1);
         when(connectionSession.getBackendConnection()).thenReturn(mock(JDBCBackendConnection.class));
         ProxyContext.init(mock(ContextManager.class, RETURNS_DEEP_STUBS));
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.proxy.frontend.mysql.authentication.MySQLAuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.MySQLCommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.MySQLConnectionContext;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
 /**
@@ -41,9 +42,13 @@ public final class MySQLFrontendEngine implements DatabaseProtocolFrontendEngine
     
     private final FrontendContext frontendContext = new FrontendContext(false);
     
+    private final FrontendContext loadDataFrontendContext = new FrontendContext(true);
+    
+    private final MySQLConnectionContext connectionContext = new MySQLConnectionContext();
+    
     private final AuthenticationEngine authenticationEngine = new MySQLAuthenticationEngine();
     
-    private final CommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine();
+    private final CommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine(connectionContext);
     
     private final DatabasePacketCodecEngine<MySQLPacket> codecEngine = new MySQLPacketCodecEngine();
     
@@ -52,6 +57,11 @@ public final class MySQLFrontendEngine implements DatabaseProtocolFrontendEngine
                 .getContextManager().getMetaDataContexts().getMetaData().getProps().<String>getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION));
     }
     
+    @Override
+    public FrontendContext getFrontendContext() {
+        return connectionContext.isLoadingData() ? loadDataFrontendContext : frontendContext;
+    }
+    
     @Override
     public void setDatabaseVersion(final String databaseName, final String databaseVersion) {
         MySQLServerInfo.setServerVersion(databaseName, databaseVersion);
@@ -60,6 +70,7 @@ public final class MySQLFrontendEngine implements DatabaseProtocolFrontendEngine
     @Override
     public void release(final ConnectionSession connectionSession) {
         MySQLStatementIDGenerator.getInstance().unregisterConnection(connectionSession.getConnectionId());
+        connectionContext.closeLoadData();
     }
     
     @Override
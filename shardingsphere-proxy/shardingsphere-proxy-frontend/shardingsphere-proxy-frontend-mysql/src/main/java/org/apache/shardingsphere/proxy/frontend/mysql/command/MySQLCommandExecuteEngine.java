@@ -18,9 +18,10 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketTypeLoader;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
@@ -44,21 +45,27 @@ import java.util.Optional;
 /**
  * Command execute engine for MySQL.
  */
+@RequiredArgsConstructor
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private final MySQLConnectionContext connectionContext;
+    
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
-        return MySQLCommandPacketTypeLoader.getCommandPacketType((MySQLPacketPayload) payload);
+        return connectionContext.isLoadingData() ? MySQLCommandPacketType.COM_QUERY : MySQLCommandPacketTypeLoader.getCommandPacketType((MySQLPacketPayload) payload);
     }
     
     @Override
-    public MySQLCommandPacket getCommandPacket(final PacketPayload payload, final CommandPacketType type, final ConnectionSession connectionSession) throws SQLException {
+    public CommandPacket getCommandPacket(final PacketPayload payload, final CommandPacketType type, final ConnectionSession connectionSession) throws SQLException {
+        if (connectionContext.isLoadingData()) {
+            return new MySQLLocalInfileDataPacket((MySQLPacketPayload) payload);
+        }
         return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload, connectionSession);
     }
     
     @Override
     public CommandExecutor getCommandExecutor(final CommandPacketType type, final CommandPacket packet, final ConnectionSession connectionSession) throws SQLException {
-        return MySQLCommandExecutorFactory.newInstance((MySQLCommandPacketType) type, packet, connectionSession);
+        return MySQLCommandExecutorFactory.newInstance((MySQLCommandPacketType) type, packet, connectionSession, connectionContext);
     }
     
     @Override
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.p
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
@@ -42,6 +43,9 @@ import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.execu
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prepare.MySQLComStmtPrepareExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.reset.MySQLComStmtResetExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.fieldlist.MySQLComFieldListPacketExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLComLoadDataExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataOptions;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLocalInfileDataExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
 
 import java.sql.SQLException;
@@ -59,11 +63,16 @@ public final class MySQLCommandExecutorFactory {
      * @param commandPacketType command packet type for MySQL
      * @param commandPacket command packet for MySQL
      * @param connectionSession connection session
+     * @param connectionContext MySQL connection context
      * @return created instance
      * @throws SQLException SQL exception
      */
-    public static CommandExecutor newInstance(final MySQLCommandPacketType commandPacketType, final CommandPacket commandPacket, final ConnectionSession connectionSession) throws SQLException {
+    public static CommandExecutor newInstance(final MySQLCommandPacketType commandPacketType, final CommandPacket commandPacket,
+                                              final ConnectionSession connectionSession, final MySQLConnectionContext connectionContext) throws SQLException {
         log.debug("Execute packet type: {}, value: {}", commandPacketType, commandPacket);
+        if (commandPacket instanceof MySQLLocalInfileDataPacket) {
+            return new MySQLLocalInfileDataExecutor(connectionContext, (MySQLLocalInfileDataPacket) commandPacket, connectionSession);
+        }
         switch (commandPacketType) {
             case COM_QUIT:
                 return new MySQLComQuitExecutor();
@@ -72,6 +81,9 @@ public final class MySQLCommandExecutorFactory {
             case COM_FIELD_LIST:
                 return new MySQLComFieldListPacketExecutor((MySQLComFieldListPacket) commandPacket, connectionSession);
             case COM_QUERY:
+                if (MySQLLoadDataOptions.isLoadDataLocalInfile(((MySQLComQueryPacket) commandPacket).getSql())) {
+                    return new MySQLComLoadDataExecutor(connectionContext, (MySQLComQueryPacket) commandPacket, connectionSession);
+                }
                 return new MySQLComQueryPacketExecutor((MySQLComQueryPacket) commandPacket, connectionSession);
             case COM_PING:
                 return new MySQLComPingExecutor(connectionSession);
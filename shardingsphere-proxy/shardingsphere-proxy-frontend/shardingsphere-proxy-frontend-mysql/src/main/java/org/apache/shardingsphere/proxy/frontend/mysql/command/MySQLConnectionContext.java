@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataContext;
+
+import java.util.Optional;
+
+/**
+ * MySQL connection context.
+ */
+public final class MySQLConnectionContext {
+    
+    private volatile MySQLLoadDataContext loadDataContext;
+    
+    /**
+     * Start LOAD DATA LOCAL INFILE, previous LOAD DATA context will be closed.
+     *
+     * @param loadDataContext LOAD DATA context
+     */
+    public void startLoadData(final MySQLLoadDataContext loadDataContext) {
+        closeLoadData();
+        this.loadDataContext = loadDataContext;
+    }
+    
+    /**
+     * Judge whether LOAD DATA LOCAL INFILE is waiting for file content.
+     *
+     * <p>Client sends file packets without waiting for response, so they are read as part of the COM_QUERY and executed in order by the connection thread.</p>
+     *
+     * @return is loading data or not
+     */
+    public boolean isLoadingData() {
+        return null != loadDataContext;
+    }
+    
+    /**
+     * Get LOAD DATA context.
+     *
+     * @return LOAD DATA context
+     */
+    public Optional<MySQLLoadDataContext> getLoadDataContext() {
+        return Optional.ofNullable(loadDataContext);
+    }
+    
+    /**
+     * Remove LOAD DATA context.
+     *
+     * @return removed LOAD DATA context
+     */
+    public Optional<MySQLLoadDataContext> removeLoadDataContext() {
+        Optional<MySQLLoadDataContext> result = Optional.ofNullable(loadDataContext);
+        loadDataContext = null;
+        return result;
+    }
+    
+    /**
+     * Cancel and close LOAD DATA if exists.
+     */
+    public void closeLoadData() {
+        removeLoadDataContext().ifPresent(each -> {
+            each.cancel();
+            each.close();
+        });
+    }
+}
@@ -31,22 +31,23 @@ import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
-import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.PreparedStatementTemplate;
+import org.apache.shardingsphere.proxy.backend.session.PreparedStatementTemplateKey;
+import org.apache.shardingsphere.proxy.backend.session.PreparedStatementTemplateRegistry;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.exception.UnsupportedPreparedStatementException;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLPreparedStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
-import java.util.Map;
 
 /**
  * COM_STMT_PREPARE command executor for MySQL.
@@ -63,20 +64,34 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
         failedIfContainsMultiStatements();
+        PreparedStatementTemplateKey templateKey = new PreparedStatementTemplateKey(connectionSession.getDatabaseName(), packet.getSql(), Collections.emptyList());
+        PreparedStatementTemplate template = PreparedStatementTemplateRegistry.getInstance().acquire(templateKey, () -> new PreparedStatementTemplate(templateKey, packet.getSql(), parseSQL(packet.getSql())));
+        try {
+            return prepare(template);
+        } catch (final SQLException | RuntimeException ex) {
+            PreparedStatementTemplateRegistry.getInstance().release(template);
+            throw ex;
+        }
+    }
+    
+    private SQLStatement parseSQL(final String sql) {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
-        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(
-                DatabaseTypeEngine.getTrunkDatabaseTypeName(metaDataContexts.getMetaData().getDatabases().get(connectionSession.getDatabaseName()).getProtocolType())).parse(packet.getSql(), true);
+        return sqlParserRule.getSQLParserEngine(
+                DatabaseTypeEngine.getTrunkDatabaseTypeName(metaDataContexts.getMetaData().getDatabases().get(connectionSession.getDatabaseName()).getProtocolType())).parse(sql, true);
+    }
+    
+    private Collection<DatabasePacket<?>> prepare(final PreparedStatementTemplate template) throws SQLException {
+        SQLStatement sqlStatement = template.getSqlStatement();
         connectionSession.getBackendConnection().handleAutoCommit();
         if (!MySQLComStmtPrepareChecker.isStatementAllowed(sqlStatement)) {
             throw new UnsupportedPreparedStatementException();
         }
-        int projectionCount = getProjectionCount(sqlStatement);
         int statementId = MySQLStatementIDGenerator.getInstance().nextStatementId(connectionSession.getConnectionId());
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases(),
                 sqlStatement, connectionSession.getDefaultDatabaseName());
-        connectionSession.getPreparedStatementRegistry().addPreparedStatement(statementId, new MySQLPreparedStatement(packet.getSql(), sqlStatement, sqlStatementContext));
-        return createPackets(statementId, projectionCount, sqlStatement.getParameterCount());
+        connectionSession.getPreparedStatementRegistry().addPreparedStatement(statementId, new MySQLPreparedStatement(template.getSql(), sqlStatement, sqlStatementContext), template);
+        return createPackets(statementId, getProjectionCount(sqlStatementContext), sqlStatement.getParameterCount());
     }
     
     private void failedIfContainsMultiStatements() {
@@ -88,14 +103,8 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
         }
     }
     
-    private int getProjectionCount(final SQLStatement sqlStatement) {
-        if (sqlStatement instanceof SelectStatement) {
-            Map<String, ShardingSphereDatabase> databases = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases();
-            String databaseName = connectionSession.getDatabaseName();
-            SelectStatementContext sqlStatementContext = (SelectStatementContext) SQLStatementContextFactory.newInstance(databases, sqlStatement, databaseName);
-            return sqlStatementContext.getProjectionsContext().getExpandProjections().size();
-        }
-        return 0;
+    private int getProjectionCount(final SQLStatementContext<?> sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext ? ((SelectStatementContext) sqlStatementContext).getProjectionsContext().getExpandProjections().size() : 0;
     }
     
     private Collection<DatabasePacket<?>> createPackets(final int statementId, final int projectionCount, final int parameterCount) {
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileRequestPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.exception.NoDatabaseSelectedException;
+import org.apache.shardingsphere.proxy.backend.exception.UnknownDatabaseException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.MySQLConnectionContext;
+
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * LOAD DATA LOCAL INFILE executor for MySQL.
+ *
+ * <p>Client is asked to send the file after the request packet, the file content is routed and streamed to data nodes by independent LOAD DATA of each data node,
+ * so LOAD DATA LOCAL INFILE is not allowed in transaction.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLComLoadDataExecutor implements CommandExecutor {
+    
+    private final MySQLConnectionContext connectionContext;
+    
+    private final MySQLComQueryPacket packet;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        if (connectionSession.getTransactionStatus().isInTransaction()) {
+            throw new MySQLLoadDataException(MySQLServerErrorCode.ER_NOT_SUPPORTED_YET, "LOAD DATA LOCAL INFILE in transaction");
+        }
+        MySQLLoadDataOptions options = MySQLLoadDataOptions.parse(packet.getSql());
+        String databaseName = null == options.getTableOwner() ? connectionSession.getDatabaseName() : options.getTableOwner();
+        if (null == databaseName) {
+            throw new NoDatabaseSelectedException();
+        }
+        if (!ProxyContext.getInstance().databaseExists(databaseName) || !SQLCheckEngine.check(databaseName, getRules(databaseName), connectionSession.getGrantee())) {
+            throw new UnknownDatabaseException(databaseName);
+        }
+        ShardingSphereDatabase database = ProxyContext.getInstance().getDatabase(databaseName);
+        String schemaName = DatabaseTypeEngine.getDefaultSchemaName(database.getProtocolType(), databaseName);
+        List<String> columnNames = options.getColumnNames();
+        ShardingSphereTable table = findTable(database, schemaName, options.getTableName(), columnNames.isEmpty());
+        if (columnNames.isEmpty()) {
+            columnNames = table.getColumnNames();
+        }
+        Charset charset = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getCharset();
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        MySQLLoadDataRowRouter rowRouter = new MySQLLoadDataRowRouter(database, schemaName, table, columnNames, options, charset, props);
+        connectionContext.startLoadData(new MySQLLoadDataContext(databaseName, options, rowRouter, charset,
+                props.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), database.getResource().getDataSources().size()));
+        return Collections.singletonList(new MySQLLocalInfileRequestPacket(1, options.getFileName()));
+    }
+    
+    private Collection<ShardingSphereRule> getRules(final String databaseName) {
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        Collection<ShardingSphereRule> result = new LinkedList<>(metaData.getDatabases().get(databaseName).getRuleMetaData().getRules());
+        result.addAll(metaData.getGlobalRuleMetaData().getRules());
+        return result;
+    }
+    
+    private ShardingSphereTable findTable(final ShardingSphereDatabase database, final String schemaName, final String tableName, final boolean required) throws SQLException {
+        ShardingSphereSchema schema = database.getSchemas().get(schemaName);
+        ShardingSphereTable result = null == schema ? null : schema.get(tableName);
+        if (null != result) {
+            return result;
+        }
+        if (required) {
+            throw new MySQLLoadDataException(MySQLServerErrorCode.ER_NO_SUCH_TABLE, tableName);
+        }
+        return new ShardingSphereTable(tableName, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.nio.charset.Charset;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * LOAD DATA context of MySQL.
+ *
+ * <p>Rows of LOAD DATA LOCAL INFILE are split from file packets, routed in batches and streamed to one LOAD DATA per data node.
+ * At most max connections size per query LOAD DATA streams are open to each data source at once, so that tables with more data nodes than pool size do not exhaust the pool,
+ * the least recently used LOAD DATA of the data source is ended and its connection is reused once the limit is reached.
+ * Memory held by a LOAD DATA context is bounded by route batch size and stream buffer size of each open LOAD DATA stream.
+ * Each stream occupies one loader thread of the context until it ends, loader threads are bounded by the open streams of all data sources
+ * and shut down when the context is closed.
+ * Client keeps sending the file after an error, so the first error is kept and reported when the file ends.</p>
+ */
+@Slf4j
+public final class MySQLLoadDataContext {
+    
+    private static final int ROUTE_BATCH_SIZE = 1024;
+    
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    
+    private static final int STREAM_QUEUE_CAPACITY = 4;
+    
+    private final String databaseName;
+    
+    private final MySQLLoadDataOptions options;
+    
+    private final MySQLLoadDataRowSplitter rowSplitter;
+    
+    private final MySQLLoadDataRowRouter rowRouter;
+    
+    private final int maxConnectionsSizePerQuery;
+    
+    private final int maxLoaderThreadSize;
+    
+    private final List<byte[]> ignoredRows = new LinkedList<>();
+    
+    private final List<byte[]> pendingRows = new ArrayList<>(ROUTE_BATCH_SIZE);
+    
+    private final Map<DataNode, MySQLLoadDataStream> loadDataStreams = new LinkedHashMap<>(16, 0.75F, true);
+    
+    private ExecutorService loaderExecutor;
+    
+    private Exception failure;
+    
+    private long affectedRows;
+    
+    private int warnings;
+    
+    public MySQLLoadDataContext(final String databaseName, final MySQLLoadDataOptions options, final MySQLLoadDataRowRouter rowRouter, final Charset charset,
+                                final int maxConnectionsSizePerQuery, final int dataSourceSize) {
+        this.databaseName = databaseName;
+        this.options = options;
+        rowSplitter = new MySQLLoadDataRowSplitter(options, charset);
+        this.rowRouter = rowRouter;
+        this.maxConnectionsSizePerQuery = Math.max(maxConnectionsSizePerQuery, 1);
+        maxLoaderThreadSize = this.maxConnectionsSizePerQuery * Math.max(dataSourceSize, 1);
+    }
+    
+    /**
+     * Write content of file packet.
+     *
+     * @param data content of file packet
+     */
+    public void write(final byte[] data) {
+        if (null != failure) {
+            return;
+        }
+        try {
+            for (byte[] each : rowSplitter.split(data)) {
+                addRow(each);
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            failure = ex;
+            cancel();
+        }
+    }
+    
+    private void addRow(final byte[] row) throws SQLException {
+        if (ignoredRows.size() < options.getIgnoreLines()) {
+            ignoredRows.add(row);
+            return;
+        }
+        pendingRows.add(row);
+        if (ROUTE_BATCH_SIZE == pendingRows.size()) {
+            routePendingRows();
+        }
+    }
+    
+    private void routePendingRows() throws SQLException {
+        if (pendingRows.isEmpty()) {
+            return;
+        }
+        List<Collection<DataNode>> dataNodes = rowRouter.route(pendingRows);
+        Map<DataNode, Collection<byte[]>> routedRows = new LinkedHashMap<>();
+        for (int i = 0; i < pendingRows.size(); i++) {
+            for (DataNode each : dataNodes.get(i)) {
+                routedRows.computeIfAbsent(each, key -> new LinkedList<>()).add(pendingRows.get(i));
+            }
+        }
+        for (Entry<DataNode, Collection<byte[]>> entry : routedRows.entrySet()) {
+            MySQLLoadDataStream loadDataStream = getLoadDataStream(entry.getKey());
+            for (byte[] each : entry.getValue()) {
+                loadDataStream.write(each);
+            }
+        }
+        pendingRows.clear();
+    }
+    
+    private MySQLLoadDataStream getLoadDataStream(final DataNode dataNode) throws SQLException {
+        MySQLLoadDataStream result = loadDataStreams.get(dataNode);
+        if (null != result) {
+            return result;
+        }
+        result = new MySQLLoadDataStream(getConnection(dataNode.getDataSourceName()), options.createActualSQL(dataNode.getTableName()),
+                STREAM_BUFFER_SIZE, STREAM_QUEUE_CAPACITY, getLoaderExecutor());
+        loadDataStreams.put(dataNode, result);
+        for (byte[] each : ignoredRows) {
+            result.write(each);
+        }
+        return result;
+    }
+    
+    private Connection getConnection(final String dataSourceName) throws SQLException {
+        List<DataNode> openedDataNodes = loadDataStreams.keySet().stream().filter(each -> each.getDataSourceName().equals(dataSourceName)).collect(Collectors.toList());
+        if (openedDataNodes.size() < maxConnectionsSizePerQuery) {
+            return ProxyContext.getInstance().getBackendDataSource().getConnections(databaseName, dataSourceName, 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+        }
+        DataNode leastRecentlyUsedDataNode = openedDataNodes.get(0);
+        MySQLLoadDataResult loadDataResult = loadDataStreams.get(leastRecentlyUsedDataNode).end();
+        affectedRows += loadDataResult.getAffectedRows();
+        warnings += loadDataResult.getWarnings();
+        return loadDataStreams.remove(leastRecentlyUsedDataNode).getConnection();
+    }
+    
+    private ExecutorService getLoaderExecutor() {
+        if (null == loaderExecutor) {
+            loaderExecutor = Executors.newFixedThreadPool(maxLoaderThreadSize, ExecutorThreadFactoryBuilder.build("MySQL-Load-Data-%d"));
+        }
+        return loaderExecutor;
+    }
+    
+    /**
+     * Finish LOAD DATA, all LOAD DATA streams to data nodes will be ended and closed.
+     *
+     * @return aggregated result of LOAD DATA
+     * @throws SQLException SQL exception
+     */
+    public MySQLLoadDataResult finish() throws SQLException {
+        try {
+            checkFailure();
+            Optional<byte[]> lastRow = rowSplitter.finish();
+            if (lastRow.isPresent()) {
+                addRow(lastRow.get());
+            }
+            routePendingRows();
+            for (MySQLLoadDataStream each : loadDataStreams.values()) {
+                MySQLLoadDataResult result = each.end();
+                affectedRows += result.getAffectedRows();
+                warnings += result.getWarnings();
+            }
+            return new MySQLLoadDataResult(affectedRows, warnings);
+        } catch (final SQLException | RuntimeException ex) {
+            cancel();
+            throw ex;
+        } finally {
+            close();
+        }
+    }
+    
+    private void checkFailure() throws SQLException {
+        if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        }
+        if (null != failure) {
+            throw (RuntimeException) failure;
+        }
+    }
+    
+    /**
+     * Cancel LOAD DATA streams which are still active.
+     */
+    public void cancel() {
+        pendingRows.clear();
+        loadDataStreams.values().forEach(MySQLLoadDataStream::cancel);
+    }
+    
+    /**
+     * Close connections of LOAD DATA streams and shut down their loader threads.
+     */
+    public void close() {
+        for (MySQLLoadDataStream each : loadDataStreams.values()) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                log.warn("Close LOAD DATA connection of database `{}` failed", databaseName, ex);
+            }
+        }
+        loadDataStreams.clear();
+        if (null != loaderExecutor) {
+            loaderExecutor.shutdownNow();
+            loaderExecutor = null;
+        }
+    }
+}
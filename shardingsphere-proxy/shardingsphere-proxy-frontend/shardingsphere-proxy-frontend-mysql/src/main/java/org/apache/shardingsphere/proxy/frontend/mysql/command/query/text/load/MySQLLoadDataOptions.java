@@ -0,0 +1,397 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Options of MySQL LOAD DATA LOCAL INFILE.
+ *
+ * <p>Only the clauses affecting how the file is split into rows and fields are recognized, the original SQL is forwarded to the storage nodes with the actual table name.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class MySQLLoadDataOptions {
+    
+    private static final Pattern LOAD_DATA_LOCAL_INFILE_PATTERN = Pattern.compile("^\\s*LOAD\\s+DATA\\s+((LOW_PRIORITY|CONCURRENT)\\s+)?LOCAL\\s+INFILE\\b", Pattern.CASE_INSENSITIVE);
+    
+    private final String sql;
+    
+    private final String fileName;
+    
+    private final String tableOwner;
+    
+    private final String tableName;
+    
+    private final int tableStartIndex;
+    
+    private final int tableStopIndex;
+    
+    private final String fieldsTerminatedBy;
+    
+    private final String fieldsEnclosedBy;
+    
+    private final String fieldsEscapedBy;
+    
+    private final String linesStartingBy;
+    
+    private final String linesTerminatedBy;
+    
+    private final long ignoreLines;
+    
+    private final List<String> columnNames;
+    
+    /**
+     * Judge whether SQL is LOAD DATA LOCAL INFILE.
+     *
+     * @param sql SQL
+     * @return is LOAD DATA LOCAL INFILE or not
+     */
+    public static boolean isLoadDataLocalInfile(final String sql) {
+        return LOAD_DATA_LOCAL_INFILE_PATTERN.matcher(sql).find();
+    }
+    
+    /**
+     * Parse options of LOAD DATA LOCAL INFILE.
+     *
+     * @param sql SQL of LOAD DATA LOCAL INFILE
+     * @return LOAD DATA options
+     * @throws SQLException SQL exception
+     */
+    public static MySQLLoadDataOptions parse(final String sql) throws SQLException {
+        return new Parser(sql).parse();
+    }
+    
+    /**
+     * Create SQL of LOAD DATA LOCAL INFILE for actual table.
+     *
+     * @param actualTableName actual table name
+     * @return SQL of LOAD DATA LOCAL INFILE for actual table
+     */
+    public String createActualSQL(final String actualTableName) {
+        return sql.substring(0, tableStartIndex) + '`' + actualTableName.replace("`", "``") + '`' + sql.substring(tableStopIndex);
+    }
+    
+    private static final class Parser {
+        
+        private final String sql;
+        
+        private final List<Token> tokens;
+        
+        private int index;
+        
+        Parser(final String sql) throws SQLException {
+            this.sql = sql;
+            tokens = new Tokenizer(sql).tokenize();
+        }
+        
+        MySQLLoadDataOptions parse() throws SQLException {
+            skipKeywords("LOAD", "DATA");
+            skipOptionalKeyword("LOW_PRIORITY", "CONCURRENT");
+            skipKeywords("LOCAL", "INFILE");
+            String fileName = nextString();
+            skipOptionalKeyword("REPLACE", "IGNORE");
+            skipKeywords("INTO", "TABLE");
+            Token tableStart = next(TokenType.IDENTIFIER);
+            String tableOwner = null;
+            Token tableStop = tableStart;
+            if (isSymbol('.')) {
+                index++;
+                tableOwner = tableStart.getValue();
+                tableStop = next(TokenType.IDENTIFIER);
+            }
+            if (isKeyword("PARTITION")) {
+                index++;
+                skipParentheses();
+            }
+            if (isKeyword("CHARACTER") || isKeyword("CHARSET")) {
+                skipOptionalKeyword("CHARACTER");
+                skipOptionalKeyword("CHARSET", "SET");
+                next(TokenType.IDENTIFIER);
+            }
+            String fieldsTerminatedBy = "\t";
+            String fieldsEnclosedBy = "";
+            String fieldsEscapedBy = "\\";
+            if (isKeyword("FIELDS") || isKeyword("COLUMNS")) {
+                index++;
+                while (true) {
+                    if (isKeyword("TERMINATED")) {
+                        skipKeywords("TERMINATED", "BY");
+                        fieldsTerminatedBy = nextString();
+                    } else if (isKeyword("OPTIONALLY") || isKeyword("ENCLOSED")) {
+                        skipOptionalKeyword("OPTIONALLY");
+                        skipKeywords("ENCLOSED", "BY");
+                        fieldsEnclosedBy = nextString();
+                    } else if (isKeyword("ESCAPED")) {
+                        skipKeywords("ESCAPED", "BY");
+                        fieldsEscapedBy = nextString();
+                    } else {
+                        break;
+                    }
+                }
+            }
+            String linesStartingBy = "";
+            String linesTerminatedBy = "\n";
+            if (isKeyword("LINES")) {
+                index++;
+                while (true) {
+                    if (isKeyword("STARTING")) {
+                        skipKeywords("STARTING", "BY");
+                        linesStartingBy = nextString();
+                    } else if (isKeyword("TERMINATED")) {
+                        skipKeywords("TERMINATED", "BY");
+                        linesTerminatedBy = nextString();
+                    } else {
+                        break;
+                    }
+                }
+            }
+            long ignoreLines = 0L;
+            if (isKeyword("IGNORE")) {
+                index++;
+                ignoreLines = parseIgnoreLines(next(TokenType.IDENTIFIER).getValue());
+                skipOptionalKeyword("LINES", "ROWS");
+            }
+            List<String> columnNames = isSymbol('(') ? parseColumnNames() : Collections.emptyList();
+            if (fieldsTerminatedBy.isEmpty() || linesTerminatedBy.isEmpty()) {
+                throw unsupported();
+            }
+            return new MySQLLoadDataOptions(sql, fileName, tableOwner, tableStop.getValue(), tableStart.getStartIndex(), tableStop.getStopIndex(),
+                    fieldsTerminatedBy, fieldsEnclosedBy, fieldsEscapedBy, linesStartingBy, linesTerminatedBy, ignoreLines, columnNames);
+        }
+        
+        private long parseIgnoreLines(final String value) throws SQLException {
+            try {
+                return Long.parseLong(value);
+            } catch (final NumberFormatException ex) {
+                throw unsupported();
+            }
+        }
+        
+        private List<String> parseColumnNames() throws SQLException {
+            index++;
+            List<String> result = new ArrayList<>();
+            while (!isSymbol(')')) {
+                result.add(next(TokenType.IDENTIFIER).getValue());
+                if (isSymbol(',')) {
+                    index++;
+                }
+            }
+            index++;
+            return result;
+        }
+        
+        private void skipParentheses() throws SQLException {
+            if (!isSymbol('(')) {
+                throw unsupported();
+            }
+            while (!isSymbol(')')) {
+                next();
+            }
+            index++;
+        }
+        
+        private void skipKeywords(final String... keywords) throws SQLException {
+            for (String each : keywords) {
+                if (!isKeyword(each)) {
+                    throw unsupported();
+                }
+                index++;
+            }
+        }
+        
+        private void skipOptionalKeyword(final String... keywords) {
+            for (String each : keywords) {
+                if (isKeyword(each)) {
+                    index++;
+                    return;
+                }
+            }
+        }
+        
+        private boolean isKeyword(final String keyword) {
+            return index < tokens.size() && TokenType.IDENTIFIER == tokens.get(index).getType() && !tokens.get(index).isQuoted() && keyword.equalsIgnoreCase(tokens.get(index).getValue());
+        }
+        
+        private boolean isSymbol(final char symbol) {
+            return index < tokens.size() && TokenType.SYMBOL == tokens.get(index).getType() && tokens.get(index).getValue().charAt(0) == symbol;
+        }
+        
+        private String nextString() throws SQLException {
+            return next(TokenType.STRING).getValue();
+        }
+        
+        private Token next(final TokenType type) throws SQLException {
+            Token result = next();
+            if (type != result.getType()) {
+                throw unsupported();
+            }
+            return result;
+        }
+        
+        private Token next() throws SQLException {
+            if (index >= tokens.size()) {
+                throw unsupported();
+            }
+            return tokens.get(index++);
+        }
+        
+        private SQLException unsupported() {
+            return new MySQLLoadDataException(MySQLServerErrorCode.ER_NOT_SUPPORTED_YET, sql);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Tokenizer {
+        
+        private final String sql;
+        
+        private int index;
+        
+        List<Token> tokenize() throws SQLException {
+            List<Token> result = new ArrayList<>();
+            while (skipWhitespacesAndComments()) {
+                char current = sql.charAt(index);
+                if ('\'' == current || '"' == current) {
+                    result.add(readString(current));
+                } else if ('`' == current) {
+                    result.add(readQuotedIdentifier());
+                } else if (isIdentifierPart(current)) {
+                    int startIndex = index;
+                    while (index < sql.length() && isIdentifierPart(sql.charAt(index))) {
+                        index++;
+                    }
+                    result.add(new Token(TokenType.IDENTIFIER, sql.substring(startIndex, index), false, startIndex, index));
+                } else {
+                    result.add(new Token(TokenType.SYMBOL, String.valueOf(current), false, index, ++index));
+                }
+            }
+            return result;
+        }
+        
+        private boolean skipWhitespacesAndComments() throws SQLException {
+            while (index < sql.length()) {
+                if (Character.isWhitespace(sql.charAt(index))) {
+                    index++;
+                } else if (sql.startsWith("/*", index)) {
+                    int stopIndex = sql.indexOf("*/", index + 2);
+                    if (stopIndex < 0) {
+                        throw new MySQLLoadDataException(MySQLServerErrorCode.ER_NOT_SUPPORTED_YET, sql);
+                    }
+                    index = stopIndex + 2;
+                } else if (sql.startsWith("#", index) || sql.startsWith("-- ", index)) {
+                    int stopIndex = sql.indexOf('\n', index);
+                    index = stopIndex < 0 ? sql.length() : stopIndex + 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        private boolean isIdentifierPart(final char ch) {
+            return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch || '@' == ch;
+        }
+        
+        private Token readString(final char quote) throws SQLException {
+            int startIndex = index++;
+            StringBuilder value = new StringBuilder();
+            while (index < sql.length()) {
+                char current = sql.charAt(index++);
+                if ('\\' == current && index < sql.length()) {
+                    value.append(unescape(sql.charAt(index++)));
+                } else if (quote == current) {
+                    if (index < sql.length() && quote == sql.charAt(index)) {
+                        value.append(quote);
+                        index++;
+                    } else {
+                        return new Token(TokenType.STRING, value.toString(), true, startIndex, index);
+                    }
+                } else {
+                    value.append(current);
+                }
+            }
+            throw new MySQLLoadDataException(MySQLServerErrorCode.ER_NOT_SUPPORTED_YET, sql);
+        }
+        
+        private Token readQuotedIdentifier() throws SQLException {
+            int startIndex = index++;
+            StringBuilder value = new StringBuilder();
+            while (index < sql.length()) {
+                char current = sql.charAt(index++);
+                if ('`' != current) {
+                    value.append(current);
+                } else if (index < sql.length() && '`' == sql.charAt(index)) {
+                    value.append('`');
+                    index++;
+                } else {
+                    return new Token(TokenType.IDENTIFIER, value.toString(), true, startIndex, index);
+                }
+            }
+            throw new MySQLLoadDataException(MySQLServerErrorCode.ER_NOT_SUPPORTED_YET, sql);
+        }
+        
+        private char unescape(final char escaped) {
+            switch (escaped) {
+                case '0':
+                    return '\0';
+                case 'b':
+                    return '\b';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'Z':
+                    return '\032';
+                default:
+                    return escaped;
+            }
+        }
+    }
+    
+    private enum TokenType {
+        
+        IDENTIFIER, STRING, SYMBOL
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Token {
+        
+        private final TokenType type;
+        
+        private final String value;
+        
+        private final boolean quoted;
+        
+        private final int startIndex;
+        
+        private final int stopIndex;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Row parser of MySQL LOAD DATA file content.
+ */
+public final class MySQLLoadDataRowParser {
+    
+    private static final String NULL_WORD = "NULL";
+    
+    private final String fieldTerminator;
+    
+    private final String lineTerminator;
+    
+    private final String linePrefix;
+    
+    private final String enclosure;
+    
+    private final String escape;
+    
+    public MySQLLoadDataRowParser(final MySQLLoadDataOptions options) {
+        fieldTerminator = options.getFieldsTerminatedBy();
+        lineTerminator = options.getLinesTerminatedBy();
+        linePrefix = options.getLinesStartingBy();
+        enclosure = options.getFieldsEnclosedBy();
+        escape = options.getFieldsEscapedBy();
+    }
+    
+    /**
+     * Parse leading fields of row.
+     *
+     * @param row row with or without line terminator
+     * @param fieldCount count of leading fields to be parsed
+     * @return parsed fields, null field means NULL value, empty if the row does not contain line prefix and will be skipped by MySQL
+     */
+    public Optional<List<String>> parse(final String row, final int fieldCount) {
+        int startIndex = 0;
+        if (!linePrefix.isEmpty()) {
+            startIndex = row.indexOf(linePrefix);
+            if (startIndex < 0) {
+                return Optional.empty();
+            }
+            startIndex += linePrefix.length();
+        }
+        int stopIndex = row.endsWith(lineTerminator) && row.length() - lineTerminator.length() >= startIndex ? row.length() - lineTerminator.length() : row.length();
+        List<String> result = new ArrayList<>(fieldCount);
+        RowCursor cursor = new RowCursor(row, startIndex, stopIndex);
+        while (result.size() < fieldCount && cursor.getIndex() <= stopIndex) {
+            result.add(!enclosure.isEmpty() && row.startsWith(enclosure, cursor.getIndex()) ? readEnclosedField(cursor) : readField(cursor));
+            cursor.skip(fieldTerminator.length());
+        }
+        return Optional.of(result);
+    }
+    
+    private String readEnclosedField(final RowCursor cursor) {
+        cursor.skip(enclosure.length());
+        StringBuilder result = new StringBuilder();
+        while (!cursor.isEnd()) {
+            if (cursor.startsWith(escape) && cursor.hasNext(escape.length())) {
+                cursor.skip(escape.length());
+                result.append(unescape(cursor.next()));
+            } else if (cursor.startsWith(enclosure)) {
+                cursor.skip(enclosure.length());
+                if (cursor.isEnd() || cursor.startsWith(fieldTerminator)) {
+                    break;
+                }
+                if (cursor.startsWith(enclosure)) {
+                    cursor.skip(enclosure.length());
+                }
+                result.append(enclosure);
+            } else {
+                result.append(cursor.next());
+            }
+        }
+        return result.toString();
+    }
+    
+    private String readField(final RowCursor cursor) {
+        int startIndex = cursor.getIndex();
+        StringBuilder result = new StringBuilder();
+        boolean escapedNull = false;
+        while (!cursor.isEnd() && !cursor.startsWith(fieldTerminator)) {
+            if (cursor.startsWith(escape) && cursor.hasNext(escape.length())) {
+                escapedNull = cursor.getIndex() == startIndex;
+                cursor.skip(escape.length());
+                char escaped = cursor.next();
+                escapedNull = escapedNull && 'N' == escaped;
+                result.append(unescape(escaped));
+            } else {
+                escapedNull = false;
+                result.append(cursor.next());
+            }
+        }
+        if (escapedNull && 1 == result.length() || !enclosure.isEmpty() && NULL_WORD.contentEquals(result)) {
+            return null;
+        }
+        return result.toString();
+    }
+    
+    private char unescape(final char escaped) {
+        switch (escaped) {
+            case '0':
+                return '\0';
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'Z':
+                return '\032';
+            default:
+                return escaped;
+        }
+    }
+    
+    private static final class RowCursor {
+        
+        private final String row;
+        
+        @Getter
+        private int index;
+        
+        private final int stopIndex;
+        
+        RowCursor(final String row, final int index, final int stopIndex) {
+            this.row = row;
+            this.index = index;
+            this.stopIndex = stopIndex;
+        }
+        
+        boolean isEnd() {
+            return index >= stopIndex;
+        }
+        
+        boolean hasNext(final int offset) {
+            return index + offset < stopIndex;
+        }
+        
+        boolean startsWith(final String prefix) {
+            return !prefix.isEmpty() && row.startsWith(prefix, index);
+        }
+        
+        char next() {
+            return row.charAt(index++);
+        }
+        
+        void skip(final int length) {
+            index += length;
+        }
+    }
+}
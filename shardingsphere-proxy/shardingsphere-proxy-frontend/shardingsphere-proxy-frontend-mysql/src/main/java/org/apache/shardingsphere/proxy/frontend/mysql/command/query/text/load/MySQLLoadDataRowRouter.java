@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingStandardRoutingEngine;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Row router of MySQL LOAD DATA file content.
+ *
+ * <p>Rows of sharding table are routed in batches by the values of sharding columns with the configured sharding algorithms,
+ * rows of other tables go to the fixed data nodes of the table.</p>
+ */
+public final class MySQLLoadDataRowRouter {
+    
+    private final String logicTableName;
+    
+    private final ShardingRule shardingRule;
+    
+    private final Collection<DataNode> fixedDataNodes;
+    
+    private final List<ShardingColumn> shardingColumns = new LinkedList<>();
+    
+    private final MySQLLoadDataRowParser rowParser;
+    
+    private final Charset charset;
+    
+    private final ConfigurationProperties props;
+    
+    private int parsedFieldCount;
+    
+    public MySQLLoadDataRowRouter(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereTable table, final List<String> columnNames,
+                                  final MySQLLoadDataOptions options, final Charset charset, final ConfigurationProperties props) throws SQLException {
+        Optional<ShardingRule> rule = database.getRuleMetaData().findSingleRule(ShardingRule.class);
+        shardingRule = rule.filter(each -> each.isShardingTable(table.getName())).orElse(null);
+        logicTableName = null == shardingRule ? table.getName() : shardingRule.getTableRule(table.getName()).getLogicTable();
+        fixedDataNodes = null == shardingRule ? findFixedDataNodes(database, rule.orElse(null), schemaName, table.getName()) : Collections.emptyList();
+        rowParser = new MySQLLoadDataRowParser(options);
+        this.charset = charset;
+        this.props = props;
+        if (null != shardingRule) {
+            initShardingColumns(table, columnNames);
+        }
+    }
+    
+    private Collection<DataNode> findFixedDataNodes(final ShardingSphereDatabase database, final ShardingRule rule, final String schemaName, final String tableName) throws SQLException {
+        if (null != rule && rule.isBroadcastTable(tableName)) {
+            return rule.getDataSourceNames().stream().map(each -> new DataNode(each, tableName)).collect(Collectors.toList());
+        }
+        for (MutableDataNodeRule each : database.getRuleMetaData().findRules(MutableDataNodeRule.class)) {
+            Optional<DataNode> dataNode = each.findSingleTableDataNode(schemaName, tableName);
+            if (dataNode.isPresent()) {
+                return Collections.singletonList(dataNode.get());
+            }
+        }
+        if (1 == database.getResource().getDataSources().size()) {
+            return Collections.singletonList(new DataNode(database.getResource().getDataSources().keySet().iterator().next(), tableName));
+        }
+        throw new MySQLLoadDataException(MySQLServerErrorCode.ER_NO_SUCH_TABLE, tableName);
+    }
+    
+    private void initShardingColumns(final ShardingSphereTable table, final List<String> columnNames) throws SQLException {
+        for (int i = 0; i < columnNames.size(); i++) {
+            Optional<String> shardingColumn = shardingRule.findShardingColumn(columnNames.get(i), logicTableName);
+            if (shardingColumn.isPresent()) {
+                ShardingSphereColumn column = table.getColumns().get(columnNames.get(i).toLowerCase());
+                shardingColumns.add(new ShardingColumn(i, shardingColumn.get(), null == column ? Types.VARCHAR : column.getDataType()));
+                parsedFieldCount = i + 1;
+            }
+        }
+        if (shardingColumns.isEmpty()) {
+            throw new MySQLLoadDataException(MySQLServerErrorCode.ER_NOT_SUPPORTED_YET,
+                    String.format("LOAD DATA into sharding table `%s` requires its sharding columns in column list", logicTableName));
+        }
+    }
+    
+    /**
+     * Route rows to data nodes.
+     *
+     * @param rows rows to be routed
+     * @return data nodes of each row, empty if the row will be skipped by MySQL
+     * @throws SQLException SQL exception
+     */
+    public List<Collection<DataNode>> route(final List<byte[]> rows) throws SQLException {
+        if (null == shardingRule) {
+            return Collections.nCopies(rows.size(), fixedDataNodes);
+        }
+        List<Collection<DataNode>> result = new ArrayList<>(Collections.nCopies(rows.size(), Collections.emptyList()));
+        List<Integer> routedRowIndexes = new ArrayList<>(rows.size());
+        List<ShardingCondition> conditions = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Optional<List<String>> fields = rowParser.parse(new String(rows.get(i), charset), parsedFieldCount);
+            if (fields.isPresent()) {
+                routedRowIndexes.add(i);
+                conditions.add(createShardingCondition(fields.get()));
+            }
+        }
+        if (conditions.isEmpty()) {
+            return result;
+        }
+        RouteContext routeContext = new ShardingStandardRoutingEngine(logicTableName, new ShardingConditions(conditions, null, shardingRule), props).route(shardingRule);
+        List<Collection<DataNode>> dataNodes = new ArrayList<>(routeContext.getOriginalDataNodes());
+        if (dataNodes.size() != conditions.size() || dataNodes.stream().anyMatch(each -> 1 != each.size())) {
+            throw new MySQLLoadDataException(MySQLServerErrorCode.ER_NOT_SUPPORTED_YET, String.format("Can not route LOAD DATA rows of `%s` to single data node by sharding columns", logicTableName));
+        }
+        for (int i = 0; i < routedRowIndexes.size(); i++) {
+            result.set(routedRowIndexes.get(i), dataNodes.get(i));
+        }
+        return result;
+    }
+    
+    private ShardingCondition createShardingCondition(final List<String> fields) throws SQLException {
+        ShardingCondition result = new ShardingCondition();
+        for (ShardingColumn each : shardingColumns) {
+            String value = each.getIndex() < fields.size() ? fields.get(each.getIndex()) : null;
+            if (null == value) {
+                throw new MySQLLoadDataException(MySQLServerErrorCode.ER_BAD_NULL_ERROR, each.getName());
+            }
+            result.getValues().add(new ListShardingConditionValue<>(each.getName(), logicTableName, Collections.singletonList(convert(value, each))));
+        }
+        return result;
+    }
+    
+    private Comparable<?> convert(final String value, final ShardingColumn column) throws SQLException {
+        try {
+            switch (column.getDataType()) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                    return Integer.parseInt(value.trim());
+                case Types.BIGINT:
+                    return Long.parseLong(value.trim());
+                case Types.NUMERIC:
+                case Types.DECIMAL:
+                    return new BigDecimal(value.trim());
+                default:
+                    return value;
+            }
+        } catch (final NumberFormatException ex) {
+            String typeName = Types.NUMERIC == column.getDataType() || Types.DECIMAL == column.getDataType() ? "DECIMAL" : "INTEGER";
+            throw new MySQLLoadDataException(MySQLServerErrorCode.ER_TRUNCATED_WRONG_VALUE, typeName, value);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ShardingColumn {
+        
+        private final int index;
+        
+        private final String name;
+        
+        private final int dataType;
+    }
+}
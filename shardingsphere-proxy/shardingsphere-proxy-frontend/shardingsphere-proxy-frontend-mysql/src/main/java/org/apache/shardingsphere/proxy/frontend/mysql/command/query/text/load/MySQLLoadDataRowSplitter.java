@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Row splitter of MySQL LOAD DATA file content.
+ *
+ * <p>File content arrives in packets which may end in the middle of a row, the incomplete tail is kept until the rest of the row arrives.
+ * Line terminators inside enclosed fields or following escape character are not treated as the end of row.</p>
+ */
+public final class MySQLLoadDataRowSplitter {
+    
+    private static final int MATCHED = 1;
+    
+    private static final int NOT_MATCHED = 0;
+    
+    private static final int NEED_MORE_DATA = -1;
+    
+    private final byte[] fieldTerminator;
+    
+    private final byte[] lineTerminator;
+    
+    private final byte[] enclosure;
+    
+    private final byte[] escape;
+    
+    private byte[] pending = new byte[0];
+    
+    private int pendingLength;
+    
+    private int scanIndex;
+    
+    private boolean fieldStart = true;
+    
+    private boolean enclosed;
+    
+    private boolean lineEnded;
+    
+    public MySQLLoadDataRowSplitter(final MySQLLoadDataOptions options, final Charset charset) {
+        fieldTerminator = options.getFieldsTerminatedBy().getBytes(charset);
+        lineTerminator = options.getLinesTerminatedBy().getBytes(charset);
+        enclosure = options.getFieldsEnclosedBy().getBytes(charset);
+        escape = options.getFieldsEscapedBy().getBytes(charset);
+    }
+    
+    /**
+     * Split rows from file content.
+     *
+     * @param data file content
+     * @return completed rows with line terminator
+     */
+    public List<byte[]> split(final byte[] data) {
+        append(data);
+        List<byte[]> result = new LinkedList<>();
+        int rowStartIndex = 0;
+        int index = scanIndex;
+        while (index < pendingLength) {
+            int step = enclosed ? scanEnclosed(index) : scanUnenclosed(index);
+            if (NEED_MORE_DATA == step) {
+                break;
+            }
+            index += step;
+            if (lineEnded) {
+                lineEnded = false;
+                result.add(Arrays.copyOfRange(pending, rowStartIndex, index));
+                rowStartIndex = index;
+            }
+        }
+        pendingLength -= rowStartIndex;
+        System.arraycopy(pending, rowStartIndex, pending, 0, pendingLength);
+        scanIndex = index - rowStartIndex;
+        return result;
+    }
+    
+    private void append(final byte[] data) {
+        if (pending.length < pendingLength + data.length) {
+            pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLength + data.length));
+        }
+        System.arraycopy(data, 0, pending, pendingLength, data.length);
+        pendingLength += data.length;
+    }
+    
+    private int scanEnclosed(final int index) {
+        int escapeMatched = match(escape, index);
+        if (MATCHED == escapeMatched) {
+            return index + escape.length < pendingLength ? escape.length + 1 : NEED_MORE_DATA;
+        }
+        int enclosureMatched = match(enclosure, index);
+        if (NEED_MORE_DATA == escapeMatched || NEED_MORE_DATA == enclosureMatched) {
+            return NEED_MORE_DATA;
+        }
+        if (NOT_MATCHED == enclosureMatched) {
+            return 1;
+        }
+        int nextIndex = index + enclosure.length;
+        int doubledEnclosureMatched = match(enclosure, nextIndex);
+        if (MATCHED == doubledEnclosureMatched) {
+            return enclosure.length * 2;
+        }
+        int fieldTerminatorMatched = match(fieldTerminator, nextIndex);
+        int lineTerminatorMatched = match(lineTerminator, nextIndex);
+        if (NEED_MORE_DATA == doubledEnclosureMatched || NEED_MORE_DATA == fieldTerminatorMatched || NEED_MORE_DATA == lineTerminatorMatched) {
+            return NEED_MORE_DATA;
+        }
+        if (MATCHED == fieldTerminatorMatched || MATCHED == lineTerminatorMatched) {
+            enclosed = false;
+        }
+        return enclosure.length;
+    }
+    
+    private int scanUnenclosed(final int index) {
+        if (fieldStart && MATCHED == match(enclosure, index)) {
+            fieldStart = false;
+            enclosed = true;
+            return enclosure.length;
+        }
+        int escapeMatched = match(escape, index);
+        if (MATCHED == escapeMatched) {
+            if (index + escape.length >= pendingLength) {
+                return NEED_MORE_DATA;
+            }
+            fieldStart = false;
+            return escape.length + 1;
+        }
+        int lineTerminatorMatched = match(lineTerminator, index);
+        if (MATCHED == lineTerminatorMatched) {
+            fieldStart = true;
+            lineEnded = true;
+            return lineTerminator.length;
+        }
+        int fieldTerminatorMatched = match(fieldTerminator, index);
+        if (MATCHED == fieldTerminatorMatched) {
+            fieldStart = true;
+            return fieldTerminator.length;
+        }
+        if (NEED_MORE_DATA == escapeMatched || NEED_MORE_DATA == lineTerminatorMatched || NEED_MORE_DATA == fieldTerminatorMatched
+                || fieldStart && NEED_MORE_DATA == match(enclosure, index)) {
+            return NEED_MORE_DATA;
+        }
+        fieldStart = false;
+        return 1;
+    }
+    
+    private int match(final byte[] pattern, final int index) {
+        if (0 == pattern.length) {
+            return NOT_MATCHED;
+        }
+        for (int i = 0; i < pattern.length; i++) {
+            if (index + i >= pendingLength) {
+                return NEED_MORE_DATA;
+            }
+            if (pending[index + i] != pattern[i]) {
+                return NOT_MATCHED;
+            }
+        }
+        return MATCHED;
+    }
+    
+    /**
+     * Finish splitting, the rest content without line terminator is the last row.
+     *
+     * @return last row
+     */
+    public Optional<byte[]> finish() {
+        if (0 == pendingLength) {
+            return Optional.empty();
+        }
+        byte[] result = Arrays.copyOf(pending, pendingLength);
+        pendingLength = 0;
+        scanIndex = 0;
+        return Optional.of(result);
+    }
+}
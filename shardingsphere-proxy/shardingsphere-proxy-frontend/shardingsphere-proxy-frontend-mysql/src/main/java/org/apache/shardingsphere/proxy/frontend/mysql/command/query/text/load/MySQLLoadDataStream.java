@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LOAD DATA LOCAL INFILE stream to one data node.
+ *
+ * <p>MySQL Connector/J pulls the file content from an input stream while executing LOAD DATA, so the statement is executed on a loader thread
+ * and rows are handed over through a bounded queue of chunks. Writing blocks when the queue is full, which applies the backpressure of the data node
+ * to the client connection. Data source of the data node must allow LOCAL INFILE with {@code allowLoadLocalInfile=true}.
+ * The input stream is handed to MySQL Connector/J by reflection, so both Connector/J 8 and 5 are supported without compiling against either.</p>
+ */
+public final class MySQLLoadDataStream implements AutoCloseable {
+    
+    private static final byte[] END_OF_FILE = new byte[0];
+    
+    private static final long OFFER_TIMEOUT_MILLISECONDS = 100L;
+    
+    private static final Collection<String> LOCAL_INFILE_STATEMENT_CLASS_NAMES = Arrays.asList("com.mysql.cj.jdbc.JdbcStatement", "com.mysql.jdbc.Statement");
+    
+    private static final String SET_LOCAL_INFILE_INPUT_STREAM_METHOD_NAME = "setLocalInfileInputStream";
+    
+    @Getter
+    private final Connection connection;
+    
+    private final Statement statement;
+    
+    private final BlockingQueue<byte[]> chunks;
+    
+    private final Future<MySQLLoadDataResult> loader;
+    
+    private final byte[] buffer;
+    
+    private int bufferedLength;
+    
+    private volatile boolean canceled;
+    
+    public MySQLLoadDataStream(final Connection connection, final String loadDataSQL, final int bufferSize, final int queueCapacity, final ExecutorService loaderExecutor) throws SQLException {
+        this.connection = connection;
+        try {
+            statement = connection.createStatement();
+            setLocalInfileInputStream(statement, new ChunkInputStream());
+        } catch (final SQLException ex) {
+            connection.close();
+            throw ex;
+        }
+        chunks = new ArrayBlockingQueue<>(queueCapacity);
+        buffer = new byte[bufferSize];
+        loader = loaderExecutor.submit(() -> load(loadDataSQL));
+    }
+    
+    private static void setLocalInfileInputStream(final Statement statement, final InputStream inputStream) throws SQLException {
+        for (String each : LOCAL_INFILE_STATEMENT_CLASS_NAMES) {
+            Optional<Class<?>> statementClass = loadClass(each);
+            if (statementClass.isPresent() && statement.isWrapperFor(statementClass.get())) {
+                try {
+                    statementClass.get().getMethod(SET_LOCAL_INFILE_INPUT_STREAM_METHOD_NAME, InputStream.class).invoke(statement.unwrap(statementClass.get()), inputStream);
+                    return;
+                } catch (final ReflectiveOperationException ex) {
+                    throw new SQLException(ex);
+                }
+            }
+        }
+        throw new SQLException("LOAD DATA LOCAL INFILE requires MySQL Connector/J to connect data node");
+    }
+    
+    private static Optional<Class<?>> loadClass(final String className) {
+        try {
+            return Optional.of(Class.forName(className));
+        } catch (final ClassNotFoundException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    private MySQLLoadDataResult load(final String loadDataSQL) throws SQLException {
+        long affectedRows = statement.executeUpdate(loadDataSQL);
+        try (ResultSet resultSet = statement.executeQuery("SHOW COUNT(*) WARNINGS")) {
+            return new MySQLLoadDataResult(affectedRows, resultSet.next() ? resultSet.getInt(1) : 0);
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row with line terminator
+     * @throws SQLException SQL exception
+     */
+    public void write(final byte[] row) throws SQLException {
+        if (bufferedLength + row.length > buffer.length) {
+            flush();
+        }
+        if (row.length > buffer.length) {
+            put(row);
+            return;
+        }
+        System.arraycopy(row, 0, buffer, bufferedLength, row.length);
+        bufferedLength += row.length;
+    }
+    
+    private void flush() throws SQLException {
+        if (bufferedLength > 0) {
+            put(Arrays.copyOf(buffer, bufferedLength));
+            bufferedLength = 0;
+        }
+    }
+    
+    private void put(final byte[] chunk) throws SQLException {
+        try {
+            while (!chunks.offer(chunk, OFFER_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                if (loader.isDone()) {
+                    getResult();
+                    throw new SQLException("LOAD DATA of data node finished before the end of file");
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * End LOAD DATA.
+     *
+     * @return result of LOAD DATA
+     * @throws SQLException SQL exception
+     */
+    public MySQLLoadDataResult end() throws SQLException {
+        flush();
+        put(END_OF_FILE);
+        return getResult();
+    }
+    
+    private MySQLLoadDataResult getResult() throws SQLException {
+        try {
+            return loader.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new SQLException(ex.getCause());
+        }
+    }
+    
+    /**
+     * Cancel LOAD DATA if it is still active, content sent to data node will not be rolled back.
+     */
+    public void cancel() {
+        canceled = true;
+        bufferedLength = 0;
+        chunks.clear();
+        chunks.offer(END_OF_FILE);
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (!loader.isDone()) {
+            cancel();
+        }
+        connection.close();
+    }
+    
+    private final class ChunkInputStream extends InputStream {
+        
+        private byte[] currentChunk = new byte[0];
+        
+        private int position;
+        
+        @Override
+        public int read() throws IOException {
+            byte[] singleByte = new byte[1];
+            return -1 == read(singleByte, 0, 1) ? -1 : singleByte[0] & 0xff;
+        }
+        
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            if (0 == length) {
+                return 0;
+            }
+            if (position == currentChunk.length) {
+                if (END_OF_FILE == currentChunk) {
+                    return -1;
+                }
+                currentChunk = takeChunk();
+                position = 0;
+                if (END_OF_FILE == currentChunk) {
+                    return -1;
+                }
+            }
+            int result = Math.min(length, currentChunk.length - position);
+            System.arraycopy(currentChunk, position, bytes, offset, result);
+            position += result;
+            return result;
+        }
+        
+        private byte[] takeChunk() throws IOException {
+            try {
+                byte[] result = chunks.take();
+                if (canceled) {
+                    throw new IOException("LOAD DATA is canceled");
+                }
+                return result;
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+        }
+    }
+}
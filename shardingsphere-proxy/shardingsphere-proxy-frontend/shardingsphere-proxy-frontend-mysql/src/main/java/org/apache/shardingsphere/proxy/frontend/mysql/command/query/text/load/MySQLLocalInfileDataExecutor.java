@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.MySQLConnectionContext;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
+import org.apache.shardingsphere.proxy.frontend.mysql.err.MySQLErrPacketFactory;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * LOCAL INFILE data executor for MySQL.
+ *
+ * <p>Nothing is responded until the end of file, then OK packet with aggregated affected rows and warnings or ERR packet follows the empty packet from client.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLLocalInfileDataExecutor implements CommandExecutor {
+    
+    private static final int MAX_WARNINGS = 0xffff;
+    
+    private final MySQLConnectionContext connectionContext;
+    
+    private final MySQLLocalInfileDataPacket packet;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() {
+        if (!packet.isEndOfFile()) {
+            connectionContext.getLoadDataContext().ifPresent(each -> each.write(packet.getData()));
+            return Collections.emptyList();
+        }
+        Optional<MySQLLoadDataContext> loadDataContext = connectionContext.removeLoadDataContext();
+        if (!loadDataContext.isPresent()) {
+            return Collections.emptyList();
+        }
+        int sequenceId = packet.getSequenceId() + 1;
+        try {
+            MySQLLoadDataResult result = loadDataContext.get().finish();
+            return Collections.singletonList(new MySQLOKPacket(sequenceId, result.getAffectedRows(), 0L,
+                    ServerStatusFlagCalculator.calculateFor(connectionSession), Math.min(result.getWarnings(), MAX_WARNINGS), ""));
+        } catch (final SQLException | RuntimeException ex) {
+            MySQLErrPacket errPacket = MySQLErrPacketFactory.newInstance(ex);
+            return Collections.singletonList(new MySQLErrPacket(sequenceId, errPacket.getErrorCode(), errPacket.getSqlState(), errPacket.getErrorMessage()));
+        }
+    }
+}
@@ -72,9 +72,11 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         this.connectionSession = connectionSession;
         DatabaseType databaseType = DatabaseTypeFactory.getInstance("MySQL");
-        SQLStatement sqlStatement = parseSql(packet.getSql(), databaseType);
-        textProtocolBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
-                : TextProtocolBackendHandlerFactory.newInstance(databaseType, packet.getSql(), () -> Optional.of(sqlStatement), connectionSession);
+        Optional<SQLStatement> multiStatementsCandidate = isMultiStatementsCandidate(connectionSession, packet.getSql()) ? Optional.of(parseSql(packet.getSql(), databaseType)) : Optional.empty();
+        textProtocolBackendHandler = multiStatementsCandidate.isPresent() && areMultiStatements(multiStatementsCandidate.get())
+                ? new MySQLMultiStatementsHandler(connectionSession, multiStatementsCandidate.get(), packet.getSql())
+                : TextProtocolBackendHandlerFactory.newInstance(databaseType, packet.getSql(),
+                        () -> Optional.of(multiStatementsCandidate.orElseGet(() -> parseSql(packet.getSql(), databaseType))), connectionSession);
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
     }
     
@@ -87,11 +89,14 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         return sqlParserRule.getSQLParserEngine(databaseType.getType()).parse(sql, false);
     }
     
-    private boolean areMultiStatements(final ConnectionSession connectionSession, final SQLStatement sqlStatement, final String sql) {
+    private boolean isMultiStatementsCandidate(final ConnectionSession connectionSession, final String sql) {
         // TODO Multi statements should be identified by SQL Parser instead of checking if sql contains ";".
         return connectionSession.getAttributeMap().hasAttr(MySQLConstants.MYSQL_OPTION_MULTI_STATEMENTS)
-                && MySQLComSetOptionPacket.MYSQL_OPTION_MULTI_STATEMENTS_ON == connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_OPTION_MULTI_STATEMENTS).get()
-                && (sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement) && sql.contains(";");
+                && MySQLComSetOptionPacket.MYSQL_OPTION_MULTI_STATEMENTS_ON == connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_OPTION_MULTI_STATEMENTS).get() && sql.contains(";");
+    }
+    
+    private boolean areMultiStatements(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
     }
     
     @Override
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.p
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLLocalInfileDataPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
@@ -54,6 +55,8 @@ import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.execu
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prepare.MySQLComStmtPrepareExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.reset.MySQLComStmtResetExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.fieldlist.MySQLComFieldListPacketExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLComLoadDataExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLocalInfileDataExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
 import org.junit.Before;
 import org.junit.Test;
@@ -81,6 +84,8 @@ public final class MySQLCommandExecutorFactoryTest extends ProxyContextRestorer
     @Mock
     private JDBCBackendConnection backendConnection;
     
+    private final MySQLConnectionContext connectionContext = new MySQLConnectionContext();
+    
     @Before
     public void setUp() {
         when(connectionSession.getDatabaseName()).thenReturn("logic_db");
@@ -109,64 +114,80 @@ public final class MySQLCommandExecutorFactoryTest extends ProxyContextRestorer
     
     @Test
     public void assertNewInstanceWithComQuit() throws SQLException {
-        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_QUIT, mock(CommandPacket.class), connectionSession), instanceOf(MySQLComQuitExecutor.class));
+        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_QUIT, mock(CommandPacket.class), connectionSession, connectionContext), instanceOf(MySQLComQuitExecutor.class));
     }
     
     @Test
     public void assertNewInstanceWithComInitDb() throws SQLException {
-        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_INIT_DB, mock(MySQLComInitDbPacket.class), connectionSession), instanceOf(MySQLComInitDbExecutor.class));
+        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_INIT_DB, mock(MySQLComInitDbPacket.class), connectionSession, connectionContext),
+                instanceOf(MySQLComInitDbExecutor.class));
     }
     
     @Test
     public void assertNewInstanceWithComFieldList() throws SQLException {
         MySQLComFieldListPacket packet = mock(MySQLComFieldListPacket.class);
         when(packet.getTable()).thenReturn("test");
-        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_FIELD_LIST, packet, connectionSession), instanceOf(MySQLComFieldListPacketExecutor.class));
+        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_FIELD_LIST, packet, connectionSession, connectionContext), instanceOf(MySQLComFieldListPacketExecutor.class));
     }
     
     @Test
     public void assertNewInstanceWithComQuery() throws SQLException {
         MySQLComQueryPacket packet = mock(MySQLComQueryPacket.class);
         when(packet.getSql()).thenReturn("");
-        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_QUERY, packet, connectionSession), instanceOf(MySQLComQueryPacketExecutor.class));
+        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_QUERY, packet, connectionSession, connectionContext), instanceOf(MySQLComQueryPacketExecutor.class));
+    }
+    
+    @Test
+    public void assertNewInstanceWithLoadDataLocalInfile() throws SQLException {
+        MySQLComQueryPacket packet = mock(MySQLComQueryPacket.class);
+        when(packet.getSql()).thenReturn("LOAD DATA LOCAL INFILE '/tmp/t_order.txt' INTO TABLE t_order");
+        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_QUERY, packet, connectionSession, connectionContext), instanceOf(MySQLComLoadDataExecutor.class));
+    }
+    
+    @Test
+    public void assertNewInstanceWithLocalInfileData() throws SQLException {
+        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_QUERY, new MySQLLocalInfileDataPacket(2, new byte[0]), connectionSession, connectionContext),
+                instanceOf(MySQLLocalInfileDataExecutor.class));
     }
     
     @Test
     public void assertNewInstanceWithComPing() throws SQLException {
-        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_PING, mock(CommandPacket.class), connectionSession), instanceOf(MySQLComPingExecutor.class));
+        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_PING, mock(CommandPacket.class), connectionSession, connectionContext), instanceOf(MySQLComPingExecutor.class));
     }
     
     @Test
     public void assertNewInstanceWithComStmtPrepare() throws SQLException {
         assertThat(MySQLCommandExecutorFactory.newInstance(
-                MySQLCommandPacketType.COM_STMT_PREPARE, mock(MySQLComStmtPreparePacket.class), connectionSession), instanceOf(MySQLComStmtPrepareExecutor.class));
+                MySQLCommandPacketType.COM_STMT_PREPARE, mock(MySQLComStmtPreparePacket.class), connectionSession, connectionContext), instanceOf(MySQLComStmtPrepareExecutor.class));
     }
     
     @Test
     public void assertNewInstanceWithComStmtExecute() throws SQLException {
-        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_STMT_EXECUTE, mock(MySQLComStmtExecutePacket.class), connectionSession),
+        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_STMT_EXECUTE, mock(MySQLComStmtExecutePacket.class), connectionSession, connectionContext),
                 instanceOf(MySQLComStmtExecuteExecutor.class));
     }
     
     @Test
     public void assertNewInstanceWithComStmtReset() throws SQLException {
         assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_STMT_RESET,
-                mock(MySQLComStmtResetPacket.class), connectionSession), instanceOf(MySQLComStmtResetExecutor.class));
+                mock(MySQLComStmtResetPacket.class), connectionSession, connectionContext), instanceOf(MySQLComStmtResetExecutor.class));
     }
     
     @Test
     public void assertNewInstanceWithComStmtClose() throws SQLException {
         assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_STMT_CLOSE,
-                mock(MySQLComStmtClosePacket.class), connectionSession), instanceOf(MySQLComStmtCloseExecutor.class));
+                mock(MySQLComStmtClosePacket.class), connectionSession, connectionContext), instanceOf(MySQLComStmtCloseExecutor.class));
     }
     
     @Test
     public void assertNewInstanceWithComSetOption() throws SQLException {
-        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_SET_OPTION, mock(MySQLComSetOptionPacket.class), connectionSession), instanceOf(MySQLComSetOptionExecutor.class));
+        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_SET_OPTION, mock(MySQLComSetOptionPacket.class), connectionSession, connectionContext),
+                instanceOf(MySQLComSetOptionExecutor.class));
     }
     
     @Test
     public void assertNewInstanceWithUnsupportedCommand() throws SQLException {
-        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_REFRESH, mock(CommandPacket.class), connectionSession), instanceOf(MySQLUnsupportedCommandExecutor.class));
+        assertThat(MySQLCommandExecutorFactory.newInstance(MySQLCommandPacketType.COM_REFRESH, mock(CommandPacket.class), connectionSession, connectionContext),
+                instanceOf(MySQLUnsupportedCommandExecutor.class));
     }
 }
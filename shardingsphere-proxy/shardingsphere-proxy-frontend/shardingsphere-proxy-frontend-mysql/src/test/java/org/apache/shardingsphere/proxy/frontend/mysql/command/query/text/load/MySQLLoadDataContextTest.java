@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import com.mysql.jdbc.Statement;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLLoadDataContextTest {
+    
+    @Mock
+    private JDBCBackendDataSource backendDataSource;
+    
+    @Mock
+    private MySQLLoadDataRowRouter rowRouter;
+    
+    private JDBCBackendDataSource originalBackendDataSource;
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException {
+        originalBackendDataSource = ProxyContext.getInstance().getBackendDataSource();
+        setBackendDataSource(backendDataSource);
+    }
+    
+    @After
+    public void tearDown() throws ReflectiveOperationException {
+        setBackendDataSource(originalBackendDataSource);
+    }
+    
+    private void setBackendDataSource(final JDBCBackendDataSource backendDataSource) throws ReflectiveOperationException {
+        Field field = ProxyContext.class.getDeclaredField("backendDataSource");
+        field.setAccessible(true);
+        field.set(ProxyContext.getInstance(), backendDataSource);
+    }
+    
+    @Test
+    public void assertLoadToMoreDataNodesThanMaxConnectionsSizePerQuery() throws SQLException {
+        Statement statement0 = mockStatement();
+        Statement statement1 = mockStatement();
+        Statement statement2 = mockStatement();
+        Connection connection0 = mock(Connection.class);
+        Connection connection1 = mock(Connection.class);
+        when(connection0.createStatement()).thenReturn(statement0, statement2);
+        when(connection1.createStatement()).thenReturn(statement1);
+        when(backendDataSource.getConnections("foo_db", "ds_0", 1, ConnectionMode.MEMORY_STRICTLY)).thenReturn(Collections.singletonList(connection0), Collections.singletonList(connection1));
+        when(rowRouter.route(anyList())).thenReturn(Arrays.asList(
+                Collections.singletonList(new DataNode("ds_0.t_order_0")), Collections.singletonList(new DataNode("ds_0.t_order_1")), Collections.singletonList(new DataNode("ds_0.t_order_2"))));
+        MySQLLoadDataContext loadDataContext = new MySQLLoadDataContext("foo_db", MySQLLoadDataOptions.parse("LOAD DATA LOCAL INFILE '/tmp/order.txt' INTO TABLE t_order"),
+                rowRouter, StandardCharsets.UTF_8, 2, 1);
+        loadDataContext.write("1\tfoo\n2\tbar\n3\tbaz\n".getBytes(StandardCharsets.UTF_8));
+        MySQLLoadDataResult actual = loadDataContext.finish();
+        assertThat(actual.getAffectedRows(), is(3L));
+        assertThat(actual.getWarnings(), is(0));
+        verify(backendDataSource, times(2)).getConnections("foo_db", "ds_0", 1, ConnectionMode.MEMORY_STRICTLY);
+        verify(statement0).executeUpdate("LOAD DATA LOCAL INFILE '/tmp/order.txt' INTO TABLE `t_order_0`");
+        verify(statement1).executeUpdate("LOAD DATA LOCAL INFILE '/tmp/order.txt' INTO TABLE `t_order_1`");
+        InOrder inOrder = inOrder(statement0, statement2);
+        inOrder.verify(statement0).executeQuery("SHOW COUNT(*) WARNINGS");
+        inOrder.verify(statement2).executeUpdate("LOAD DATA LOCAL INFILE '/tmp/order.txt' INTO TABLE `t_order_2`");
+        verify(connection0).close();
+        verify(connection1).close();
+    }
+    
+    private Statement mockStatement() throws SQLException {
+        Statement result = mock(Statement.class, RETURNS_DEEP_STUBS);
+        when(result.isWrapperFor(Statement.class)).thenReturn(true);
+        when(result.unwrap(Statement.class)).thenReturn(result);
+        when(result.executeUpdate(anyString())).thenReturn(1);
+        return result;
+    }
+}
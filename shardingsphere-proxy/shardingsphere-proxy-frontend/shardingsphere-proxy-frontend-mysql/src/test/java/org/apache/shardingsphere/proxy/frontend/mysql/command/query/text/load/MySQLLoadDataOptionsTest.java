@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLLoadDataOptionsTest {
+    
+    @Test
+    public void assertIsLoadDataLocalInfile() {
+        assertTrue(MySQLLoadDataOptions.isLoadDataLocalInfile("load data local infile 'a.csv' into table t_order"));
+        assertTrue(MySQLLoadDataOptions.isLoadDataLocalInfile("  LOAD DATA CONCURRENT LOCAL INFILE 'a.csv' INTO TABLE t_order"));
+        assertFalse(MySQLLoadDataOptions.isLoadDataLocalInfile("LOAD DATA INFILE 'a.csv' INTO TABLE t_order"));
+        assertFalse(MySQLLoadDataOptions.isLoadDataLocalInfile("SELECT 'LOAD DATA LOCAL INFILE'"));
+    }
+    
+    @Test
+    public void assertParseWithDefaultOptions() throws SQLException {
+        MySQLLoadDataOptions actual = MySQLLoadDataOptions.parse("LOAD DATA LOCAL INFILE '/tmp/order.txt' INTO TABLE t_order");
+        assertThat(actual.getFileName(), is("/tmp/order.txt"));
+        assertThat(actual.getTableOwner(), nullValue());
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getFieldsTerminatedBy(), is("\t"));
+        assertThat(actual.getFieldsEnclosedBy(), is(""));
+        assertThat(actual.getFieldsEscapedBy(), is("\\"));
+        assertThat(actual.getLinesStartingBy(), is(""));
+        assertThat(actual.getLinesTerminatedBy(), is("\n"));
+        assertThat(actual.getIgnoreLines(), is(0L));
+        assertThat(actual.getColumnNames(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertParseWithAllOptions() throws SQLException {
+        MySQLLoadDataOptions actual = MySQLLoadDataOptions.parse("LOAD DATA LOCAL INFILE 'order.csv' REPLACE INTO TABLE `sharding_db`.`t_order` CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '\\\\' LINES STARTING BY 'xxx' TERMINATED BY '\\r\\n' IGNORE 1 LINES (order_id, @var, status)");
+        assertThat(actual.getFileName(), is("order.csv"));
+        assertThat(actual.getTableOwner(), is("sharding_db"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getFieldsTerminatedBy(), is(","));
+        assertThat(actual.getFieldsEnclosedBy(), is("\""));
+        assertThat(actual.getFieldsEscapedBy(), is("\\"));
+        assertThat(actual.getLinesStartingBy(), is("xxx"));
+        assertThat(actual.getLinesTerminatedBy(), is("\r\n"));
+        assertThat(actual.getIgnoreLines(), is(1L));
+        assertThat(actual.getColumnNames(), is(Arrays.asList("order_id", "@var", "status")));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertParseWithoutTable() throws SQLException {
+        MySQLLoadDataOptions.parse("LOAD DATA LOCAL INFILE 'order.csv' INTO");
+    }
+    
+    @Test
+    public void assertCreateActualSQL() throws SQLException {
+        MySQLLoadDataOptions options = MySQLLoadDataOptions.parse("LOAD DATA LOCAL INFILE 'order.csv' INTO TABLE sharding_db.t_order FIELDS TERMINATED BY ','");
+        assertThat(options.createActualSQL("t_order_1"), is("LOAD DATA LOCAL INFILE 'order.csv' INTO TABLE `t_order_1` FIELDS TERMINATED BY ','"));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLLoadDataRowParserTest {
+    
+    @Test
+    public void assertParseWithDefaultOptions() throws SQLException {
+        MySQLLoadDataRowParser parser = createParser("LOAD DATA LOCAL INFILE 'a' INTO TABLE t_order");
+        assertThat(parser.parse("1\t\\N\tfoo\\tbar\n", 3).get(), is(Arrays.asList("1", null, "foo\tbar")));
+        assertThat(parser.parse("1\t2\t3\n", 2).get(), is(Arrays.asList("1", "2")));
+    }
+    
+    @Test
+    public void assertParseWithEnclosedFields() throws SQLException {
+        MySQLLoadDataRowParser parser = createParser("LOAD DATA LOCAL INFILE 'a' INTO TABLE t_order FIELDS TERMINATED BY ',' ENCLOSED BY '\"'");
+        assertThat(parser.parse("\"1\",NULL,\"a,\"\"b\"\"\"\n", 3).get(), is(Arrays.asList("1", null, "a,\"b\"")));
+        assertThat(parser.parse("\"NULL\",2\n", 2).get(), is(Arrays.asList("NULL", "2")));
+    }
+    
+    @Test
+    public void assertParseWithLinePrefix() throws SQLException {
+        MySQLLoadDataRowParser parser = createParser("LOAD DATA LOCAL INFILE 'a' INTO TABLE t_order FIELDS TERMINATED BY ',' LINES STARTING BY 'xxx'");
+        assertThat(parser.parse("abcxxx1,2\n", 2).get(), is(Arrays.asList("1", "2")));
+        assertFalse(parser.parse("1,2\n", 2).isPresent());
+    }
+    
+    private MySQLLoadDataRowParser createParser(final String sql) throws SQLException {
+        return new MySQLLoadDataRowParser(MySQLLoadDataOptions.parse(sql));
+    }
+}
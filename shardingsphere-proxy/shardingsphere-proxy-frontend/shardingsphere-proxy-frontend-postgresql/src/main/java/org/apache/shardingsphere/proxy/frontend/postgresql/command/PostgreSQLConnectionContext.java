@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyInContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.Portal;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * PostgreSQL connection context.
@@ -29,6 +31,8 @@ public final class PostgreSQLConnectionContext {
     
     private final Map<String, Portal<?>> portals = new LinkedHashMap<>();
     
+    private PostgreSQLCopyInContext copyInContext;
+    
     /**
      * Create a portal.
      *
@@ -77,4 +81,45 @@ public final class PostgreSQLConnectionContext {
         }
         portals.clear();
     }
+    
+    /**
+     * Start copy in.
+     *
+     * @param copyInContext copy in context
+     */
+    public void startCopyIn(final PostgreSQLCopyInContext copyInContext) {
+        closeCopyIn();
+        this.copyInContext = copyInContext;
+    }
+    
+    /**
+     * Get copy in context.
+     *
+     * @return copy in context
+     */
+    public Optional<PostgreSQLCopyInContext> getCopyInContext() {
+        return Optional.ofNullable(copyInContext);
+    }
+    
+    /**
+     * Remove copy in context.
+     *
+     * @return removed copy in context
+     */
+    public Optional<PostgreSQLCopyInContext> removeCopyInContext() {
+        Optional<PostgreSQLCopyInContext> result = Optional.ofNullable(copyInContext);
+        copyInContext = null;
+        return result;
+    }
+    
+    /**
+     * Cancel and close copy in context if exists.
+     */
+    public void closeCopyIn() {
+        if (null != copyInContext) {
+            copyInContext.cancel();
+            copyInContext.close();
+            copyInContext = null;
+        }
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyInResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Command COPY FROM STDIN executor for PostgreSQL.
+ *
+ * <p>Rows are streamed to data nodes by independent COPY of each data node, so COPY FROM STDIN is not allowed in transaction.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLComCopyInExecutor implements CommandExecutor {
+    
+    private final PostgreSQLConnectionContext connectionContext;
+    
+    private final PostgreSQLComQueryPacket packet;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        if (connectionSession.getTransactionStatus().isInTransaction()) {
+            throw new SQLException("COPY FROM STDIN is not supported in transaction", PostgreSQLErrorCode.ACTIVE_SQL_TRANSACTION.getErrorCode());
+        }
+        PostgreSQLCopyOptions options = PostgreSQLCopyOptions.parse(packet.getSql());
+        if (options.isBinary()) {
+            throw new SQLException("COPY FROM STDIN with binary format is not supported", PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+        }
+        String databaseName = connectionSession.getDatabaseName();
+        if (null == databaseName) {
+            throw new SQLException("No database selected", PostgreSQLErrorCode.INVALID_CATALOG_NAME.getErrorCode());
+        }
+        ShardingSphereDatabase database = ProxyContext.getInstance().getDatabase(databaseName);
+        PostgreSQLCopyStatement sqlStatement = parseCopyStatement(database);
+        SimpleTableSegment tableSegment = sqlStatement.getTableSegment();
+        String tableName = tableSegment.getTableName().getIdentifier().getValue();
+        Optional<IdentifierValue> tableOwner = tableSegment.getOwner().map(OwnerSegment::getIdentifier);
+        String schemaName = tableOwner.map(IdentifierValue::getValue).orElseGet(() -> DatabaseTypeEngine.getDefaultSchemaName(database.getProtocolType(), databaseName));
+        List<String> columnNames = sqlStatement.getColumns().stream().map(each -> each.getIdentifier().getValue()).collect(Collectors.toList());
+        ShardingSphereTable table = findTable(database, schemaName, tableName, columnNames.isEmpty());
+        if (columnNames.isEmpty()) {
+            columnNames = table.getColumnNames();
+        }
+        String columnList = sqlStatement.getColumns().isEmpty() ? ""
+                : sqlStatement.getColumns().stream().map(ColumnSegment::getIdentifier).map(IdentifierValue::getValueWithQuoteCharacters).collect(Collectors.joining(", ", "(", ")"));
+        Charset charset = connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        PostgreSQLCopyRowRouter rowRouter = new PostgreSQLCopyRowRouter(database, schemaName, table, columnNames, options, charset, props);
+        connectionContext.startCopyIn(new PostgreSQLCopyInContext(databaseName, tableOwner.map(IdentifierValue::getValueWithQuoteCharacters).orElse(null), columnList, columnNames.size(),
+                options, rowRouter, props.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY)));
+        return Collections.singletonList(new PostgreSQLCopyInResponsePacket(columnNames.size()));
+    }
+    
+    private PostgreSQLCopyStatement parseCopyStatement(final ShardingSphereDatabase database) throws SQLException {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        SQLStatement result = sqlParserRule.getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(database.getProtocolType())).parse(packet.getSql(), false);
+        if (!(result instanceof PostgreSQLCopyStatement) || null == ((PostgreSQLCopyStatement) result).getTableSegment()) {
+            throw new SQLException("COPY FROM STDIN requires a table", PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+        }
+        return (PostgreSQLCopyStatement) result;
+    }
+    
+    private ShardingSphereTable findTable(final ShardingSphereDatabase database, final String schemaName, final String tableName, final boolean required) throws SQLException {
+        ShardingSphereSchema schema = database.getSchemas().get(schemaName);
+        ShardingSphereTable result = null == schema ? null : schema.get(tableName);
+        if (null != result) {
+            return result;
+        }
+        if (required) {
+            throw new SQLException(String.format("relation \"%s\" does not exist", tableName), PostgreSQLErrorCode.UNDEFINED_TABLE.getErrorCode());
+        }
+        return new ShardingSphereTable(tableName, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Copy in context of PostgreSQL.
+ *
+ * <p>Rows of COPY FROM STDIN are split from CopyData messages, routed in batches and streamed to one COPY per data node.
+ * At most max connections size per query COPY streams are open to each data source at once, so that tables with more data nodes than pool size do not exhaust the pool,
+ * the least recently used COPY of the data source is ended and its connection is reused once the limit is reached.
+ * Memory held by a copy in context is bounded by route batch size and stream buffer size of each open COPY stream.
+ * CopyData messages waiting for a slow data node are bounded as well, because frontend channel stops reading once too many commands are pending.</p>
+ */
+@Slf4j
+public final class PostgreSQLCopyInContext {
+    
+    private static final int ROUTE_BATCH_SIZE = 1024;
+    
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    
+    private final String databaseName;
+    
+    private final String qualifiedTableOwner;
+    
+    private final String columnList;
+    
+    private final PostgreSQLCopyOptions options;
+    
+    private final PostgreSQLCopyRowSplitter rowSplitter;
+    
+    private final PostgreSQLCopyRowRouter rowRouter;
+    
+    private final int maxConnectionsSizePerQuery;
+    
+    @Getter
+    private final int columnCount;
+    
+    private final List<byte[]> pendingRows = new ArrayList<>(ROUTE_BATCH_SIZE);
+    
+    private final Map<DataNode, PostgreSQLCopyInStream> copyInStreams = new LinkedHashMap<>(16, 0.75F, true);
+    
+    private byte[] headerRow;
+    
+    private long rowCount;
+    
+    public PostgreSQLCopyInContext(final String databaseName, final String qualifiedTableOwner, final String columnList, final int columnCount,
+                                   final PostgreSQLCopyOptions options, final PostgreSQLCopyRowRouter rowRouter, final int maxConnectionsSizePerQuery) {
+        this.databaseName = databaseName;
+        this.qualifiedTableOwner = qualifiedTableOwner;
+        this.columnList = columnList;
+        this.columnCount = columnCount;
+        this.options = options;
+        rowSplitter = new PostgreSQLCopyRowSplitter(options);
+        this.rowRouter = rowRouter;
+        this.maxConnectionsSizePerQuery = Math.max(maxConnectionsSizePerQuery, 1);
+    }
+    
+    /**
+     * Write data of CopyData message.
+     *
+     * @param data data of CopyData message
+     * @throws SQLException SQL exception
+     */
+    public void write(final ByteBuf data) throws SQLException {
+        byte[] bytes = new byte[data.readableBytes()];
+        data.readBytes(bytes);
+        for (byte[] each : rowSplitter.split(bytes)) {
+            addRow(each);
+        }
+    }
+    
+    private void addRow(final byte[] row) throws SQLException {
+        if (options.isHeader() && null == headerRow) {
+            headerRow = row;
+            return;
+        }
+        pendingRows.add(row);
+        rowCount++;
+        if (ROUTE_BATCH_SIZE == pendingRows.size()) {
+            routePendingRows();
+        }
+    }
+    
+    private void routePendingRows() throws SQLException {
+        if (pendingRows.isEmpty()) {
+            return;
+        }
+        List<Collection<DataNode>> dataNodes = rowRouter.route(pendingRows);
+        Map<DataNode, Collection<byte[]>> routedRows = new LinkedHashMap<>();
+        for (int i = 0; i < pendingRows.size(); i++) {
+            for (DataNode each : dataNodes.get(i)) {
+                routedRows.computeIfAbsent(each, key -> new LinkedList<>()).add(pendingRows.get(i));
+            }
+        }
+        for (Entry<DataNode, Collection<byte[]>> entry : routedRows.entrySet()) {
+            PostgreSQLCopyInStream copyInStream = getCopyInStream(entry.getKey());
+            for (byte[] each : entry.getValue()) {
+                copyInStream.write(each);
+            }
+        }
+        pendingRows.clear();
+    }
+    
+    private PostgreSQLCopyInStream getCopyInStream(final DataNode dataNode) throws SQLException {
+        PostgreSQLCopyInStream result = copyInStreams.get(dataNode);
+        if (null != result) {
+            return result;
+        }
+        result = new PostgreSQLCopyInStream(getConnection(dataNode.getDataSourceName()), createCopySQL(dataNode.getTableName()), STREAM_BUFFER_SIZE);
+        copyInStreams.put(dataNode, result);
+        if (null != headerRow) {
+            result.write(headerRow);
+        }
+        return result;
+    }
+    
+    private Connection getConnection(final String dataSourceName) throws SQLException {
+        List<DataNode> openedDataNodes = copyInStreams.keySet().stream().filter(each -> each.getDataSourceName().equals(dataSourceName)).collect(Collectors.toList());
+        if (openedDataNodes.size() < maxConnectionsSizePerQuery) {
+            return ProxyContext.getInstance().getBackendDataSource().getConnections(databaseName, dataSourceName, 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+        }
+        DataNode leastRecentlyUsedDataNode = openedDataNodes.get(0);
+        copyInStreams.get(leastRecentlyUsedDataNode).end();
+        return copyInStreams.remove(leastRecentlyUsedDataNode).getConnection();
+    }
+    
+    private String createCopySQL(final String actualTableName) {
+        StringBuilder result = new StringBuilder("COPY ");
+        if (null != qualifiedTableOwner) {
+            result.append(qualifiedTableOwner).append('.');
+        }
+        result.append(actualTableName);
+        if (!columnList.isEmpty()) {
+            result.append(' ').append(columnList);
+        }
+        result.append(" FROM STDIN");
+        if (!options.getText().isEmpty()) {
+            result.append(' ').append(options.getText());
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Finish COPY, all COPY streams to data nodes will be ended and closed.
+     *
+     * @return count of copied rows
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        try {
+            Optional<byte[]> lastRow = rowSplitter.finish();
+            if (lastRow.isPresent()) {
+                addRow(lastRow.get());
+            }
+            routePendingRows();
+            for (PostgreSQLCopyInStream each : copyInStreams.values()) {
+                each.end();
+            }
+            return rowCount;
+        } catch (final SQLException ex) {
+            cancel();
+            throw ex;
+        } finally {
+            close();
+        }
+    }
+    
+    /**
+     * Cancel COPY streams which are still active.
+     */
+    public void cancel() {
+        pendingRows.clear();
+        for (PostgreSQLCopyInStream each : copyInStreams.values()) {
+            try {
+                each.cancel();
+            } catch (final SQLException ex) {
+                log.warn("Cancel COPY of database `{}` failed", databaseName, ex);
+            }
+        }
+    }
+    
+    /**
+     * Close connections of COPY streams.
+     */
+    public void close() {
+        for (PostgreSQLCopyInStream each : copyInStreams.values()) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                log.warn("Close COPY connection of database `{}` failed", databaseName, ex);
+            }
+        }
+        copyInStreams.clear();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * COPY FROM STDIN stream to one data node, rows are buffered up to the buffer size before written to storage node.
+ */
+public final class PostgreSQLCopyInStream implements AutoCloseable {
+    
+    @Getter
+    private final Connection connection;
+    
+    private final CopyIn copyIn;
+    
+    private final byte[] buffer;
+    
+    private int bufferedLength;
+    
+    public PostgreSQLCopyInStream(final Connection connection, final String copySQL, final int bufferSize) throws SQLException {
+        this.connection = connection;
+        try {
+            copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySQL);
+        } catch (final SQLException ex) {
+            connection.close();
+            throw ex;
+        }
+        buffer = new byte[bufferSize];
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row with line terminator
+     * @throws SQLException SQL exception
+     */
+    public void write(final byte[] row) throws SQLException {
+        if (bufferedLength + row.length > buffer.length) {
+            flush();
+        }
+        if (row.length > buffer.length) {
+            copyIn.writeToCopy(row, 0, row.length);
+            return;
+        }
+        System.arraycopy(row, 0, buffer, bufferedLength, row.length);
+        bufferedLength += row.length;
+    }
+    
+    private void flush() throws SQLException {
+        if (bufferedLength > 0) {
+            copyIn.writeToCopy(buffer, 0, bufferedLength);
+            bufferedLength = 0;
+        }
+    }
+    
+    /**
+     * End COPY.
+     *
+     * @return count of copied rows
+     * @throws SQLException SQL exception
+     */
+    public long end() throws SQLException {
+        flush();
+        return copyIn.endCopy();
+    }
+    
+    /**
+     * Cancel COPY if it is still active.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void cancel() throws SQLException {
+        bufferedLength = 0;
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        connection.close();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Options of PostgreSQL COPY FROM STDIN.
+ *
+ * <p>Only the options affecting how rows and fields are delimited are recognized, the original options text is forwarded to the storage nodes as it is.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class PostgreSQLCopyOptions {
+    
+    private static final Pattern COPY_FROM_STDIN_PATTERN = Pattern.compile("^\\s*COPY\\s+.+?\\s+FROM\\s+STDIN\\b(.*)$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private static final Pattern BINARY_PATTERN = Pattern.compile("\\bFORMAT\\s+'?BINARY\\b|\\bBINARY\\b", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern CSV_PATTERN = Pattern.compile("\\bFORMAT\\s+'?CSV\\b|\\bCSV\\b", Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern HEADER_PATTERN = Pattern.compile("\\bHEADER\\b(?!\\s+'?(FALSE|OFF|0)\\b)", Pattern.CASE_INSENSITIVE);
+    
+    private static final String CHARACTER_OPTION_REGEX = "\\b%s\\s+(?:AS\\s+)?(E?)'((?:[^']|'')+)'";
+    
+    private static final Pattern DELIMITER_PATTERN = Pattern.compile(String.format(CHARACTER_OPTION_REGEX, "DELIMITER"), Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern QUOTE_PATTERN = Pattern.compile(String.format(CHARACTER_OPTION_REGEX, "QUOTE"), Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern ESCAPE_PATTERN = Pattern.compile(String.format(CHARACTER_OPTION_REGEX, "ESCAPE"), Pattern.CASE_INSENSITIVE);
+    
+    private static final Pattern NULL_PATTERN = Pattern.compile("\\bNULL\\s+(?:AS\\s+)?E?'((?:[^']|'')*)'", Pattern.CASE_INSENSITIVE);
+    
+    private final String text;
+    
+    private final boolean binary;
+    
+    private final boolean csv;
+    
+    private final boolean header;
+    
+    private final char delimiter;
+    
+    private final char quote;
+    
+    private final char escape;
+    
+    private final String nullString;
+    
+    /**
+     * Judge whether SQL is COPY FROM STDIN.
+     *
+     * @param sql SQL
+     * @return is COPY FROM STDIN or not
+     */
+    public static boolean isCopyFromStdin(final String sql) {
+        return COPY_FROM_STDIN_PATTERN.matcher(sql).matches();
+    }
+    
+    /**
+     * Parse options of COPY FROM STDIN.
+     *
+     * @param sql SQL of COPY FROM STDIN
+     * @return COPY options
+     */
+    public static PostgreSQLCopyOptions parse(final String sql) {
+        Matcher matcher = COPY_FROM_STDIN_PATTERN.matcher(sql);
+        String text = matcher.matches() ? trimStatementTerminator(matcher.group(1).trim()) : "";
+        boolean binary = BINARY_PATTERN.matcher(text).find();
+        boolean csv = CSV_PATTERN.matcher(text).find();
+        char delimiter = findCharacterOption(DELIMITER_PATTERN, text, csv ? ',' : '\t');
+        char quote = findCharacterOption(QUOTE_PATTERN, text, '"');
+        char escape = findCharacterOption(ESCAPE_PATTERN, text, quote);
+        return new PostgreSQLCopyOptions(text, binary, csv, csv && HEADER_PATTERN.matcher(text).find(), delimiter, quote, escape, findNullString(text, csv ? "" : "\\N"));
+    }
+    
+    private static String findNullString(final String text, final String defaultValue) {
+        Matcher matcher = NULL_PATTERN.matcher(text);
+        return matcher.find() ? matcher.group(1).replace("''", "'") : defaultValue;
+    }
+    
+    private static String trimStatementTerminator(final String text) {
+        return text.endsWith(";") ? text.substring(0, text.length() - 1).trim() : text;
+    }
+    
+    private static char findCharacterOption(final Pattern pattern, final String text, final char defaultValue) {
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+            return defaultValue;
+        }
+        String value = matcher.group(2).replace("''", "'");
+        if (!matcher.group(1).isEmpty() && value.length() > 1 && '\\' == value.charAt(0)) {
+            return unescape(value.charAt(1));
+        }
+        return value.charAt(0);
+    }
+    
+    private static char unescape(final char escaped) {
+        switch (escaped) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            default:
+                return escaped;
+        }
+    }
+}
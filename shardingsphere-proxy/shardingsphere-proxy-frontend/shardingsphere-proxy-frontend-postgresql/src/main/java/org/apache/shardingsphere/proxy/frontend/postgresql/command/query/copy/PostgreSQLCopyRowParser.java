@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Row parser of PostgreSQL COPY data.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyRowParser {
+    
+    private final PostgreSQLCopyOptions options;
+    
+    /**
+     * Parse leading fields of row, {@code null} stands for NULL value.
+     *
+     * @param row row with or without line terminator
+     * @param fieldCount count of leading fields to be parsed
+     * @return parsed fields
+     * @throws SQLException SQL exception
+     */
+    public List<String> parse(final String row, final int fieldCount) throws SQLException {
+        String line = trimLineTerminator(row);
+        List<String> result = new ArrayList<>(fieldCount);
+        int position = 0;
+        while (result.size() < fieldCount) {
+            if (position > line.length()) {
+                throw new SQLException(String.format("missing data for column %d", result.size() + 1), PostgreSQLErrorCode.BAD_COPY_FILE_FORMAT.getErrorCode());
+            }
+            StringBuilder field = new StringBuilder();
+            int fieldStart = position;
+            position = options.isCsv() ? parseCSVField(line, position, field) : parseTextField(line, position, field);
+            result.add(isNull(line.substring(fieldStart, position), field) ? null : field.toString());
+            position++;
+        }
+        return result;
+    }
+    
+    private String trimLineTerminator(final String row) {
+        int end = row.length();
+        if (end > 0 && '\n' == row.charAt(end - 1)) {
+            end--;
+        }
+        if (end > 0 && '\r' == row.charAt(end - 1)) {
+            end--;
+        }
+        return row.substring(0, end);
+    }
+    
+    private int parseTextField(final String line, final int start, final StringBuilder field) {
+        int result = start;
+        while (result < line.length() && options.getDelimiter() != line.charAt(result)) {
+            char each = line.charAt(result);
+            if ('\\' == each && result + 1 < line.length()) {
+                field.append(unescape(line.charAt(++result)));
+            } else {
+                field.append(each);
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    private char unescape(final char escaped) {
+        switch (escaped) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'v':
+                return '\u000B';
+            default:
+                return escaped;
+        }
+    }
+    
+    private int parseCSVField(final String line, final int start, final StringBuilder field) {
+        int result = start;
+        boolean quoted = false;
+        while (result < line.length()) {
+            char each = line.charAt(result);
+            if (!quoted && options.getDelimiter() == each) {
+                break;
+            }
+            if (!quoted && options.getQuote() == each) {
+                quoted = true;
+            } else if (quoted && options.getEscape() == each && result + 1 < line.length()
+                    && (options.getQuote() == line.charAt(result + 1) || options.getEscape() == line.charAt(result + 1))) {
+                field.append(line.charAt(++result));
+            } else if (quoted && options.getQuote() == each) {
+                quoted = false;
+            } else {
+                field.append(each);
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    private boolean isNull(final String rawField, final StringBuilder field) {
+        if (!options.isCsv()) {
+            return options.getNullString().equals(rawField);
+        }
+        return options.getNullString().equals(rawField) && rawField.equals(field.toString());
+    }
+}
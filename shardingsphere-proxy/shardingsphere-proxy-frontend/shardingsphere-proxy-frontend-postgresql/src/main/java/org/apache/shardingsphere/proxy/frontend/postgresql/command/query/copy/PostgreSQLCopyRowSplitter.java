@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Row splitter of PostgreSQL COPY data.
+ *
+ * <p>CopyData messages are not aligned with rows, the splitter keeps the incomplete tail of a message until the rest of the row arrives.</p>
+ */
+public final class PostgreSQLCopyRowSplitter {
+    
+    private static final int INITIAL_PENDING_CAPACITY = 256;
+    
+    private final boolean csv;
+    
+    private final byte quote;
+    
+    private final byte escape;
+    
+    private byte[] pending = new byte[INITIAL_PENDING_CAPACITY];
+    
+    private int pendingLength;
+    
+    private boolean quoted;
+    
+    private boolean escaping;
+    
+    private boolean endOfData;
+    
+    public PostgreSQLCopyRowSplitter(final PostgreSQLCopyOptions options) {
+        csv = options.isCsv();
+        quote = (byte) options.getQuote();
+        escape = (byte) options.getEscape();
+    }
+    
+    /**
+     * Split data into complete rows, each row includes its line terminator.
+     *
+     * @param data data of CopyData message
+     * @return complete rows
+     */
+    public List<byte[]> split(final byte[] data) {
+        List<byte[]> result = new LinkedList<>();
+        int rowStart = 0;
+        for (int i = 0; i < data.length && !endOfData; i++) {
+            if (isRowEnd(data[i])) {
+                addRow(result, data, rowStart, i + 1);
+                rowStart = i + 1;
+            }
+        }
+        if (!endOfData) {
+            appendPending(data, rowStart, data.length);
+        }
+        return result;
+    }
+    
+    private boolean isRowEnd(final byte value) {
+        if (escaping) {
+            escaping = false;
+            return false;
+        }
+        if (!csv) {
+            escaping = '\\' == value;
+            return '\n' == value;
+        }
+        if (!quoted) {
+            quoted = quote == value;
+            return '\n' == value;
+        }
+        if (escape != quote && escape == value) {
+            escaping = true;
+        } else if (quote == value) {
+            quoted = false;
+        }
+        return false;
+    }
+    
+    private void addRow(final List<byte[]> rows, final byte[] data, final int from, final int to) {
+        byte[] row;
+        if (0 == pendingLength) {
+            row = Arrays.copyOfRange(data, from, to);
+        } else {
+            row = new byte[pendingLength + to - from];
+            System.arraycopy(pending, 0, row, 0, pendingLength);
+            System.arraycopy(data, from, row, pendingLength, to - from);
+            pendingLength = 0;
+        }
+        if (isEndOfDataMarker(row)) {
+            endOfData = true;
+            return;
+        }
+        rows.add(row);
+    }
+    
+    private boolean isEndOfDataMarker(final byte[] row) {
+        int length = row.length;
+        if (length > 0 && '\n' == row[length - 1]) {
+            length--;
+        }
+        if (length > 0 && '\r' == row[length - 1]) {
+            length--;
+        }
+        return 2 == length && '\\' == row[0] && '.' == row[1];
+    }
+    
+    private void appendPending(final byte[] data, final int from, final int to) {
+        int length = to - from;
+        if (0 == length) {
+            return;
+        }
+        if (pendingLength + length > pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(pending.length << 1, pendingLength + length));
+        }
+        System.arraycopy(data, from, pending, pendingLength, length);
+        pendingLength += length;
+    }
+    
+    /**
+     * Finish splitting and get the last row which is not terminated by line terminator.
+     *
+     * @return last row
+     * @throws SQLException SQL exception
+     */
+    public Optional<byte[]> finish() throws SQLException {
+        if (quoted) {
+            throw new SQLException("unterminated CSV quoted field", PostgreSQLErrorCode.BAD_COPY_FILE_FORMAT.getErrorCode());
+        }
+        if (endOfData || 0 == pendingLength) {
+            return Optional.empty();
+        }
+        byte[] result = Arrays.copyOf(pending, pendingLength + 1);
+        result[pendingLength] = '\n';
+        pendingLength = 0;
+        return isEndOfDataMarker(result) ? Optional.empty() : Optional.of(result);
+    }
+}
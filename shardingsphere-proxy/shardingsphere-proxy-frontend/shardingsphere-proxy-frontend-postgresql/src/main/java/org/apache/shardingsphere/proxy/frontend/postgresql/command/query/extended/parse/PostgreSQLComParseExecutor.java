@@ -31,6 +31,9 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.PreparedStatementTemplate;
+import org.apache.shardingsphere.proxy.backend.session.PreparedStatementTemplateKey;
+import org.apache.shardingsphere.proxy.backend.session.PreparedStatementTemplateRegistry;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLPreparedStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.ParameterMarkerType;
@@ -58,22 +61,39 @@ public final class PostgreSQLComParseExecutor implements CommandExecutor {
     
     @Override
     public Collection<DatabasePacket<?>> execute() {
-        ShardingSphereSQLParserEngine sqlParserEngine = null;
-        String sql = packet.getSql();
-        SQLStatement sqlStatement = sql.trim().isEmpty() ? new EmptyStatement() : (sqlParserEngine = createShardingSphereSQLParserEngine(connectionSession.getDatabaseName())).parse(sql, true);
-        if (sqlStatement.getParameterCount() > 0) {
-            sql = convertSQLToJDBCStyle(sqlStatement, sql);
-            sqlStatement = sqlParserEngine.parse(sql, true);
+        List<PostgreSQLColumnType> specifiedColumnTypes = packet.readParameterTypes();
+        PreparedStatementTemplateKey templateKey = new PreparedStatementTemplateKey(connectionSession.getDatabaseName(), packet.getSql(), specifiedColumnTypes);
+        PreparedStatementTemplate template = PreparedStatementTemplateRegistry.getInstance().acquire(templateKey, () -> createTemplate(templateKey));
+        try {
+            SQLStatement sqlStatement = template.getSqlStatement();
+            List<PostgreSQLColumnType> paddedColumnTypes = paddingColumnTypes(sqlStatement.getParameterCount(), specifiedColumnTypes);
+            SQLStatementContext<?> sqlStatementContext = !(sqlStatement instanceof DistSQLStatement)
+                    ? SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases(),
+                            sqlStatement, connectionSession.getDefaultDatabaseName())
+                    : null;
+            connectionSession.getPreparedStatementRegistry().addPreparedStatement(packet.getStatementId(),
+                    new PostgreSQLPreparedStatement(template.getSql(), sqlStatement, sqlStatementContext, paddedColumnTypes), template);
+        } catch (final RuntimeException ex) {
+            PreparedStatementTemplateRegistry.getInstance().release(template);
+            throw ex;
         }
-        List<PostgreSQLColumnType> paddedColumnTypes = paddingColumnTypes(sqlStatement.getParameterCount(), packet.readParameterTypes());
-        SQLStatementContext<?> sqlStatementContext = !(sqlStatement instanceof DistSQLStatement)
-                ? SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases(),
-                        sqlStatement, connectionSession.getDefaultDatabaseName())
-                : null;
-        connectionSession.getPreparedStatementRegistry().addPreparedStatement(packet.getStatementId(), new PostgreSQLPreparedStatement(sql, sqlStatement, sqlStatementContext, paddedColumnTypes));
         return Collections.singletonList(PostgreSQLParseCompletePacket.getInstance());
     }
     
+    private PreparedStatementTemplate createTemplate(final PreparedStatementTemplateKey templateKey) {
+        String sql = templateKey.getSql();
+        if (sql.trim().isEmpty()) {
+            return new PreparedStatementTemplate(templateKey, sql, new EmptyStatement());
+        }
+        ShardingSphereSQLParserEngine sqlParserEngine = createShardingSphereSQLParserEngine(templateKey.getDatabaseName());
+        SQLStatement sqlStatement = sqlParserEngine.parse(sql, true);
+        if (0 == sqlStatement.getParameterCount()) {
+            return new PreparedStatementTemplate(templateKey, sql, sqlStatement);
+        }
+        String jdbcStyleSQL = convertSQLToJDBCStyle(sqlStatement, sql);
+        return new PreparedStatementTemplate(templateKey, jdbcStyleSQL, jdbcStyleSQL.equals(sql) ? sqlStatement : sqlParserEngine.parse(jdbcStyleSQL, true));
+    }
+    
     private ShardingSphereSQLParserEngine createShardingSphereSQLParserEngine(final String databaseName) {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
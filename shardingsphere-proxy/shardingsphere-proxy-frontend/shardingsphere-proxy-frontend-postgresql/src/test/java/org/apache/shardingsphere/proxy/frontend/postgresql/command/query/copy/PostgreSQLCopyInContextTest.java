@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLCopyInContextTest {
+    
+    @Mock
+    private JDBCBackendDataSource backendDataSource;
+    
+    @Mock
+    private PostgreSQLCopyRowRouter rowRouter;
+    
+    private JDBCBackendDataSource originalBackendDataSource;
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException {
+        originalBackendDataSource = ProxyContext.getInstance().getBackendDataSource();
+        setBackendDataSource(backendDataSource);
+    }
+    
+    @After
+    public void tearDown() throws ReflectiveOperationException {
+        setBackendDataSource(originalBackendDataSource);
+    }
+    
+    private void setBackendDataSource(final JDBCBackendDataSource backendDataSource) throws ReflectiveOperationException {
+        Field field = ProxyContext.class.getDeclaredField("backendDataSource");
+        field.setAccessible(true);
+        field.set(ProxyContext.getInstance(), backendDataSource);
+    }
+    
+    @Test
+    public void assertCopyToMoreDataNodesThanMaxConnectionsSizePerQuery() throws SQLException {
+        CopyManager copyManager0 = mock(CopyManager.class);
+        CopyManager copyManager1 = mock(CopyManager.class);
+        Connection connection0 = mockConnection(copyManager0);
+        Connection connection1 = mockConnection(copyManager1);
+        when(backendDataSource.getConnections("foo_db", "ds_0", 1, ConnectionMode.MEMORY_STRICTLY)).thenReturn(Collections.singletonList(connection0), Collections.singletonList(connection1));
+        CopyIn copyIn0 = mock(CopyIn.class);
+        CopyIn copyIn1 = mock(CopyIn.class);
+        CopyIn copyIn2 = mock(CopyIn.class);
+        when(copyManager0.copyIn("COPY t_order_0 FROM STDIN")).thenReturn(copyIn0);
+        when(copyManager1.copyIn("COPY t_order_1 FROM STDIN")).thenReturn(copyIn1);
+        when(copyManager0.copyIn("COPY t_order_2 FROM STDIN")).thenReturn(copyIn2);
+        when(rowRouter.route(anyList())).thenReturn(Arrays.asList(
+                Collections.singletonList(new DataNode("ds_0.t_order_0")), Collections.singletonList(new DataNode("ds_0.t_order_1")), Collections.singletonList(new DataNode("ds_0.t_order_2"))));
+        PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext("foo_db", null, "", 2, PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN"), rowRouter, 2);
+        copyInContext.write(Unpooled.wrappedBuffer("1\tfoo\n2\tbar\n3\tbaz\n".getBytes(StandardCharsets.UTF_8)));
+        assertThat(copyInContext.finish(), is(3L));
+        verify(backendDataSource, times(2)).getConnections("foo_db", "ds_0", 1, ConnectionMode.MEMORY_STRICTLY);
+        InOrder inOrder = inOrder(copyIn0, copyManager0, copyIn2);
+        inOrder.verify(copyIn0).endCopy();
+        inOrder.verify(copyManager0).copyIn("COPY t_order_2 FROM STDIN");
+        inOrder.verify(copyIn2).endCopy();
+        verify(copyIn1).endCopy();
+        verify(connection0).close();
+        verify(connection1).close();
+    }
+    
+    private Connection mockConnection(final CopyManager copyManager) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.unwrap(PGConnection.class).getCopyAPI()).thenReturn(copyManager);
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyOptionsTest {
+    
+    @Test
+    public void assertIsCopyFromStdin() {
+        assertTrue(PostgreSQLCopyOptions.isCopyFromStdin("copy t_order from stdin"));
+        assertTrue(PostgreSQLCopyOptions.isCopyFromStdin("COPY t_order (order_id, user_id)\nFROM STDIN WITH (FORMAT csv);"));
+        assertFalse(PostgreSQLCopyOptions.isCopyFromStdin("COPY t_order FROM '/tmp/t_order.csv'"));
+        assertFalse(PostgreSQLCopyOptions.isCopyFromStdin("COPY t_order TO STDOUT"));
+        assertFalse(PostgreSQLCopyOptions.isCopyFromStdin("SELECT 'COPY t FROM STDIN'"));
+    }
+    
+    @Test
+    public void assertParseDefaultTextOptions() {
+        PostgreSQLCopyOptions actual = PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN");
+        assertThat(actual.getText(), is(""));
+        assertFalse(actual.isCsv());
+        assertFalse(actual.isBinary());
+        assertFalse(actual.isHeader());
+        assertThat(actual.getDelimiter(), is('\t'));
+        assertThat(actual.getNullString(), is("\\N"));
+    }
+    
+    @Test
+    public void assertParseCSVOptions() {
+        PostgreSQLCopyOptions actual = PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN WITH (FORMAT csv, HEADER true, DELIMITER ';', QUOTE '''', NULL 'NULL');");
+        assertThat(actual.getText(), is("WITH (FORMAT csv, HEADER true, DELIMITER ';', QUOTE '''', NULL 'NULL')"));
+        assertTrue(actual.isCsv());
+        assertTrue(actual.isHeader());
+        assertThat(actual.getDelimiter(), is(';'));
+        assertThat(actual.getQuote(), is('\''));
+        assertThat(actual.getEscape(), is('\''));
+        assertThat(actual.getNullString(), is("NULL"));
+    }
+    
+    @Test
+    public void assertParseLegacyOptions() {
+        PostgreSQLCopyOptions actual = PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN DELIMITER AS E'\\t' CSV HEADER ESCAPE AS '\\'");
+        assertTrue(actual.isCsv());
+        assertTrue(actual.isHeader());
+        assertThat(actual.getDelimiter(), is('\t'));
+        assertThat(actual.getQuote(), is('"'));
+        assertThat(actual.getEscape(), is('\\'));
+        assertThat(actual.getNullString(), is(""));
+    }
+    
+    @Test
+    public void assertParseBinaryOptions() {
+        assertTrue(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN (FORMAT binary)").isBinary());
+    }
+    
+    @Test
+    public void assertParseHeaderFalse() {
+        assertFalse(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN (FORMAT csv, HEADER false)").isHeader());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLCopyRowParserTest {
+    
+    @Test
+    public void assertParseTextRow() throws SQLException {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN"));
+        assertThat(parser.parse("1\t\\N\tfoo\\tbar\tignored\r\n", 3), is(Arrays.asList("1", null, "foo\tbar")));
+    }
+    
+    @Test
+    public void assertParseCSVRow() throws SQLException {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN WITH (FORMAT csv)"));
+        assertThat(parser.parse("\"1,0\",,\"\",\"a\"\"b\"\n", 4), is(Arrays.asList("1,0", null, "", "a\"b")));
+    }
+    
+    @Test
+    public void assertParseCSVRowWithEscape() throws SQLException {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN WITH (FORMAT csv, DELIMITER '|', ESCAPE '\\')"));
+        assertThat(parser.parse("\"a\\\"b\"|c\n", 2), is(Arrays.asList("a\"b", "c")));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertParseWithMissingColumn() throws SQLException {
+        new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN")).parse("1\n", 2);
+    }
+}
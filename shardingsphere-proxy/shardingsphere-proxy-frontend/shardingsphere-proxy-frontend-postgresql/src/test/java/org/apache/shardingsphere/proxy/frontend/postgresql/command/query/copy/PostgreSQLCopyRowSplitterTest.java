@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLCopyRowSplitterTest {
+    
+    @Test
+    public void assertSplitTextRowsAcrossMessages() throws SQLException {
+        PostgreSQLCopyRowSplitter splitter = new PostgreSQLCopyRowSplitter(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN"));
+        assertThat(split(splitter, "1\tfoo\n2\tb"), is("1\tfoo\n"));
+        assertThat(split(splitter, "ar\\\nbaz\n3\tqux"), is("2\tbar\\\nbaz\n"));
+        assertThat(new String(splitter.finish().get(), StandardCharsets.UTF_8), is("3\tqux\n"));
+    }
+    
+    @Test
+    public void assertSplitCSVRowsWithQuotedLineTerminator() throws SQLException {
+        PostgreSQLCopyRowSplitter splitter = new PostgreSQLCopyRowSplitter(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN CSV"));
+        assertThat(split(splitter, "1,\"foo\n\"\"bar"), is(""));
+        assertThat(split(splitter, "\"\"\"\n2,baz\n"), is("1,\"foo\n\"\"bar\"\"\"\n|2,baz\n"));
+        assertFalse(splitter.finish().isPresent());
+    }
+    
+    @Test
+    public void assertSplitWithEndOfDataMarker() throws SQLException {
+        PostgreSQLCopyRowSplitter splitter = new PostgreSQLCopyRowSplitter(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN"));
+        assertThat(split(splitter, "1\tfoo\r\n\\.\r\n2\tbar\n"), is("1\tfoo\r\n"));
+        assertFalse(splitter.finish().isPresent());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertFinishWithUnterminatedQuotedField() throws SQLException {
+        PostgreSQLCopyRowSplitter splitter = new PostgreSQLCopyRowSplitter(PostgreSQLCopyOptions.parse("COPY t_order FROM STDIN CSV"));
+        split(splitter, "1,\"foo\n");
+        splitter.finish();
+    }
+    
+    private String split(final PostgreSQLCopyRowSplitter splitter, final String data) {
+        List<byte[]> rows = splitter.split(data.getBytes(StandardCharsets.UTF_8));
+        return rows.stream().map(each -> new String(each, StandardCharsets.UTF_8)).collect(Collectors.joining("|"));
+    }
+}
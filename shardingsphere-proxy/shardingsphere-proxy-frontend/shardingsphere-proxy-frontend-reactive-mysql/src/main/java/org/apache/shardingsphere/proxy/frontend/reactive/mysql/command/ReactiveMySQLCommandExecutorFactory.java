@@ -28,6 +28,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.que
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.MySQLCommandExecutorFactory;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.MySQLConnectionContext;
 import org.apache.shardingsphere.proxy.frontend.reactive.command.executor.ReactiveCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.reactive.mysql.command.query.binary.execute.ReactiveMySQLComStmtExecuteExecutor;
 import org.apache.shardingsphere.proxy.frontend.reactive.mysql.command.query.text.fieldlist.ReactiveMySQLComFieldListPacketExecutor;
@@ -49,10 +50,12 @@ public final class ReactiveMySQLCommandExecutorFactory {
      * @param commandPacketType command packet type for MySQL
      * @param commandPacket command packet for MySQL
      * @param connectionSession connection session
+     * @param connectionContext MySQL connection context
      * @return command executor
      */
     @SneakyThrows(SQLException.class)
-    public static ReactiveCommandExecutor newInstance(final MySQLCommandPacketType commandPacketType, final CommandPacket commandPacket, final ConnectionSession connectionSession) {
+    public static ReactiveCommandExecutor newInstance(final MySQLCommandPacketType commandPacketType, final CommandPacket commandPacket,
+                                                      final ConnectionSession connectionSession, final MySQLConnectionContext connectionContext) {
         log.debug("Execute packet type: {}, value: {}", commandPacketType, commandPacket);
         switch (commandPacketType) {
             case COM_FIELD_LIST:
@@ -62,7 +65,7 @@ public final class ReactiveMySQLCommandExecutorFactory {
             case COM_STMT_EXECUTE:
                 return new ReactiveMySQLComStmtExecuteExecutor((MySQLComStmtExecutePacket) commandPacket, connectionSession);
             default:
-                return new WrappedReactiveCommandExecutor(MySQLCommandExecutorFactory.newInstance(commandPacketType, commandPacket, connectionSession));
+                return new WrappedReactiveCommandExecutor(MySQLCommandExecutorFactory.newInstance(commandPacketType, commandPacket, connectionSession, connectionContext));
         }
     }
 }
@@ -30,4 +30,10 @@ public final class CacheOption {
     private final int initialCapacity;
     
     private final long maximumSize;
+    
+    private final long maximumWeight;
+    
+    public CacheOption(final int initialCapacity, final long maximumSize) {
+        this(initialCapacity, maximumSize, 0L);
+    }
 }
@@ -53,4 +53,13 @@ public final class ParseASTNode implements ASTNode {
     public Collection<Token> getHiddenTokens() {
         return tokenStream.getTokens().stream().filter(each -> Token.HIDDEN_CHANNEL == each.getChannel()).collect(Collectors.toList());
     }
+    
+    /**
+     * Get token count.
+     * 
+     * @return token count
+     */
+    public int getTokenCount() {
+        return tokenStream.size();
+    }
 }
@@ -33,12 +33,15 @@ public final class ParseTreeCacheBuilder {
     /**
      * Build parse tree cache.
      *
-     * @param option cache option
+     * @param option cache option, cache is bounded by maximum size if maximum weight is not positive
      * @param databaseType database type
      * @return built parse tree cache
      */
     public static LoadingCache<String, ParseASTNode> build(final CacheOption option, final String databaseType) {
-        return Caffeine.newBuilder().softValues().initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize())
-                .build(new ParseTreeCacheLoader(databaseType));
+        if (option.getMaximumWeight() <= 0L) {
+            return Caffeine.newBuilder().softValues().initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).recordStats().build(new ParseTreeCacheLoader(databaseType));
+        }
+        return Caffeine.newBuilder().initialCapacity(option.getInitialCapacity()).maximumWeight(option.getMaximumWeight()).weigher(new ParseTreeCacheWeigher())
+                .recordStats().build(new ParseTreeCacheLoader(databaseType));
     }
 }
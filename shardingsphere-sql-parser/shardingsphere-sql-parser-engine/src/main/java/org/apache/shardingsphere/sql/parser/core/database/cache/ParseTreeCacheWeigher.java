@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Parse tree cache weigher.
+ *
+ * <p>Weight is the estimated retained size of entry in KiB and at least 1, so the maximum weight of cache option bounds memory rather than entry count.</p>
+ */
+public final class ParseTreeCacheWeigher implements Weigher<String, ParseASTNode> {
+    
+    private static final int BYTES_PER_SQL_CHAR = 2;
+    
+    private static final int BYTES_PER_TOKEN = 256;
+    
+    private static final int BYTES_PER_WEIGHT = 1024;
+    
+    @ParametersAreNonnullByDefault
+    @Override
+    public int weigh(final String sql, final ParseASTNode parseASTNode) {
+        long estimatedBytes = (long) sql.length() * BYTES_PER_SQL_CHAR + (long) parseASTNode.getTokenCount() * BYTES_PER_TOKEN;
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1L, estimatedBytes / BYTES_PER_WEIGHT));
+    }
+}
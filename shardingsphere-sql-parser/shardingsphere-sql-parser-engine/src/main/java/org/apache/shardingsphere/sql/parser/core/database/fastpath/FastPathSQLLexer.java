@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fastpath;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fast path SQL lexer.
+ *
+ * <p>Only tokenizes plain identifiers, unsigned numbers, simple single quoted strings, parameter markers and comparison symbols.
+ * Any other character such as comment, semicolon, escape or arithmetic operator makes the whole SQL unsupported.</p>
+ */
+@RequiredArgsConstructor
+public final class FastPathSQLLexer {
+    
+    private final String sql;
+    
+    private final char identifierQuote;
+    
+    private final boolean dollarParameterSupported;
+    
+    private final boolean safeEqualSupported;
+    
+    private int position;
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @return tokens, empty if SQL contains anything out of the fast path subset
+     */
+    public Optional<List<FastPathToken>> tokenize() {
+        List<FastPathToken> result = new ArrayList<>(sql.length() / 4 + 1);
+        while (true) {
+            skipWhitespace();
+            if (position >= sql.length()) {
+                return Optional.of(result);
+            }
+            FastPathToken token = nextToken();
+            if (null == token) {
+                return Optional.empty();
+            }
+            result.add(token);
+        }
+    }
+    
+    private void skipWhitespace() {
+        while (position < sql.length() && isWhitespace(sql.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private boolean isWhitespace(final char ch) {
+        return ' ' == ch || '\t' == ch || '\n' == ch || '\r' == ch;
+    }
+    
+    private FastPathToken nextToken() {
+        char ch = sql.charAt(position);
+        if (isIdentifierStart(ch)) {
+            return scanIdentifier();
+        }
+        if (isDigit(ch)) {
+            return scanNumber();
+        }
+        if ('\'' == ch) {
+            return scanString();
+        }
+        if (identifierQuote == ch) {
+            return scanQuotedIdentifier();
+        }
+        if ('?' == ch) {
+            return createToken(FastPathTokenType.QUESTION_MARKER, position + 1);
+        }
+        if ('$' == ch && dollarParameterSupported) {
+            return scanDollarParameter();
+        }
+        return scanSymbol(ch);
+    }
+    
+    private FastPathToken scanIdentifier() {
+        int end = position + 1;
+        while (end < sql.length() && isIdentifierPart(sql.charAt(end))) {
+            end++;
+        }
+        if (end < sql.length() && ('$' == sql.charAt(end) || '\'' == sql.charAt(end))) {
+            return null;
+        }
+        return createToken(FastPathTokenType.IDENTIFIER, end);
+    }
+    
+    private FastPathToken scanQuotedIdentifier() {
+        int end = sql.indexOf(identifierQuote, position + 1);
+        if (end <= position + 1) {
+            return null;
+        }
+        return createToken(FastPathTokenType.IDENTIFIER, end + 1);
+    }
+    
+    private FastPathToken scanNumber() {
+        int end = skipDigits(position);
+        if (end < sql.length() && '.' == sql.charAt(end)) {
+            int fractionEnd = skipDigits(end + 1);
+            if (fractionEnd == end + 1) {
+                return null;
+            }
+            end = fractionEnd;
+        }
+        if (end < sql.length() && (isIdentifierPart(sql.charAt(end)) || '.' == sql.charAt(end) || '$' == sql.charAt(end))) {
+            return null;
+        }
+        return createToken(FastPathTokenType.NUMBER, end);
+    }
+    
+    private int skipDigits(final int start) {
+        int result = start;
+        while (result < sql.length() && isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private FastPathToken scanString() {
+        int end = position + 1;
+        while (end < sql.length()) {
+            char ch = sql.charAt(end);
+            if ('\\' == ch) {
+                return null;
+            }
+            if ('\'' == ch) {
+                break;
+            }
+            end++;
+        }
+        if (end >= sql.length() || end + 1 < sql.length() && '\'' == sql.charAt(end + 1)) {
+            return null;
+        }
+        return createToken(FastPathTokenType.STRING, end + 1);
+    }
+    
+    private FastPathToken scanDollarParameter() {
+        int end = skipDigits(position + 1);
+        if (end == position + 1 || end < sql.length() && isIdentifierPart(sql.charAt(end))) {
+            return null;
+        }
+        return createToken(FastPathTokenType.DOLLAR_MARKER, end);
+    }
+    
+    private FastPathToken scanSymbol(final char ch) {
+        switch (ch) {
+            case '(':
+            case ')':
+            case ',':
+            case '.':
+            case '*':
+            case '=':
+                return createToken(FastPathTokenType.SYMBOL, position + 1);
+            case '!':
+                return isNext('=') ? createToken(FastPathTokenType.SYMBOL, position + 2) : null;
+            case '>':
+                return createToken(FastPathTokenType.SYMBOL, isNext('=') ? position + 2 : position + 1);
+            case '<':
+                if (isNext('=')) {
+                    boolean safeEqual = position + 2 < sql.length() && '>' == sql.charAt(position + 2);
+                    if (safeEqual && !safeEqualSupported) {
+                        return null;
+                    }
+                    return createToken(FastPathTokenType.SYMBOL, safeEqual ? position + 3 : position + 2);
+                }
+                return createToken(FastPathTokenType.SYMBOL, isNext('>') ? position + 2 : position + 1);
+            default:
+                return null;
+        }
+    }
+    
+    private boolean isNext(final char expected) {
+        return position + 1 < sql.length() && expected == sql.charAt(position + 1);
+    }
+    
+    private FastPathToken createToken(final FastPathTokenType type, final int end) {
+        FastPathToken result = new FastPathToken(type, sql.substring(position, end), position, end - 1);
+        position = end;
+        return result;
+    }
+    
+    private boolean isIdentifierStart(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || '_' == ch;
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return isIdentifierStart(ch) || isDigit(ch);
+    }
+    
+    private boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+}
@@ -0,0 +1,460 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fastpath;
+
+import org.apache.shardingsphere.sql.parser.sql.common.constant.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLUpdateStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Fast path SQL parser.
+ *
+ * <p>Recursive descent parser for single table point DML, which builds the same SQL statement as ANTLR parser and visitor do:</p>
+ * <ul>
+ *     <li>SELECT * | column [, column ...] FROM [owner.]table [WHERE condition]</li>
+ *     <li>INSERT INTO [owner.]table (column [, column ...]) VALUES (value [, value ...]) [, (value [, value ...]) ...]</li>
+ *     <li>UPDATE [owner.]table SET column = value [, column = value ...] [WHERE condition]</li>
+ *     <li>DELETE FROM [owner.]table [WHERE condition]</li>
+ * </ul>
+ *
+ * <p>Condition is column comparison value joined by AND, value is parameter marker, unsigned number or simple string literal.
+ * Returns empty for anything else, then caller should fall back to ANTLR parser.</p>
+ */
+public final class FastPathSQLParser {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = new HashSet<>(Arrays.asList("MySQL", "PostgreSQL"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("=", "<>", "!=", "<", "<=", ">", ">=", "<=>"));
+    
+    private static final Collection<String> NON_IDENTIFIER_KEYWORDS = new HashSet<>(Arrays.asList(
+            "SELECT", "FROM", "WHERE", "AND", "OR", "XOR", "NOT", "INSERT", "INTO", "VALUES", "VALUE", "UPDATE", "SET", "DELETE", "NULL", "TRUE", "FALSE", "UNKNOWN",
+            "LIKE", "IN", "IS", "BETWEEN", "REGEXP", "RLIKE", "DIV", "MOD", "ORDER", "GROUP", "LIMIT", "OFFSET", "FETCH", "HAVING", "WINDOW", "UNION", "EXCEPT", "INTERSECT",
+            "JOIN", "AS", "ON", "USING", "DISTINCT", "DISTINCTROW", "ALL", "ANY", "SOME", "DEFAULT", "CASE", "WHEN", "EXISTS", "ONLY", "RETURNING", "FOR", "WITH",
+            "LOW_PRIORITY", "HIGH_PRIORITY", "DELAYED", "IGNORE", "QUICK", "PARTITION", "INTERVAL", "BINARY", "COLLATE", "ROW", "DUAL", "LATERAL", "STRAIGHT_JOIN",
+            "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "CURRENT_ROLE", "CURRENT_SCHEMA", "CURRENT_CATALOG", "SESSION_USER", "USER",
+            "LOCALTIME", "LOCALTIMESTAMP", "UTC_DATE", "UTC_TIME", "UTC_TIMESTAMP", "DATE", "TIME", "TIMESTAMP", "ARRAY", "CAST"));
+    
+    private final String sql;
+    
+    private final boolean postgreSQL;
+    
+    private final Collection<ParameterMarkerSegment> parameterMarkerSegments = new LinkedList<>();
+    
+    private List<FastPathToken> tokens;
+    
+    private int position;
+    
+    private int currentParameterIndex;
+    
+    public FastPathSQLParser(final String sql, final String databaseType) {
+        this.sql = sql;
+        postgreSQL = "PostgreSQL".equals(databaseType);
+    }
+    
+    /**
+     * Judge whether fast path parser supports the database type.
+     *
+     * @param databaseType database type
+     * @return supported or not
+     */
+    public static boolean isSupported(final String databaseType) {
+        return SUPPORTED_DATABASE_TYPES.contains(databaseType);
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @return SQL statement, empty if SQL is out of the fast path subset
+     */
+    public Optional<SQLStatement> parse() {
+        Optional<List<FastPathToken>> tokenized = new FastPathSQLLexer(sql, postgreSQL ? '"' : '`', postgreSQL, !postgreSQL).tokenize();
+        if (!tokenized.isPresent() || tokenized.get().isEmpty()) {
+            return Optional.empty();
+        }
+        tokens = tokenized.get();
+        AbstractSQLStatement result = parseStatement();
+        if (null == result || position != tokens.size()) {
+            return Optional.empty();
+        }
+        result.setParameterCount(currentParameterIndex);
+        result.getParameterMarkerSegments().addAll(parameterMarkerSegments);
+        return Optional.of(result);
+    }
+    
+    private AbstractSQLStatement parseStatement() {
+        FastPathToken first = next();
+        if (first.isKeyword("SELECT")) {
+            return parseSelect();
+        }
+        if (first.isKeyword("INSERT")) {
+            return parseInsert();
+        }
+        if (first.isKeyword("UPDATE")) {
+            return parseUpdate();
+        }
+        if (first.isKeyword("DELETE")) {
+            return parseDelete();
+        }
+        return null;
+    }
+    
+    private SelectStatement parseSelect() {
+        ProjectionsSegment projections = parseProjections();
+        if (null == projections || !acceptKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTable();
+        if (null == table) {
+            return null;
+        }
+        SelectStatement result = postgreSQL ? new PostgreSQLSelectStatement() : new MySQLSelectStatement();
+        result.setProjections(projections);
+        result.setFrom(table);
+        if (isKeyword("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private ProjectionsSegment parseProjections() {
+        if (isSymbol("*")) {
+            FastPathToken asterisk = next();
+            ProjectionsSegment result = new ProjectionsSegment(asterisk.getStartIndex(), asterisk.getStopIndex());
+            result.getProjections().add(new ShorthandProjectionSegment(asterisk.getStartIndex(), asterisk.getStopIndex()));
+            return result;
+        }
+        Collection<ColumnProjectionSegment> projections = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column) {
+                return null;
+            }
+            projections.add(new ColumnProjectionSegment(column));
+        } while (acceptSymbol(","));
+        ProjectionsSegment result = new ProjectionsSegment(projections.iterator().next().getStartIndex(), tokens.get(position - 1).getStopIndex());
+        result.getProjections().addAll(projections);
+        return result;
+    }
+    
+    private InsertStatement parseInsert() {
+        if (!acceptKeyword("INTO")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTable();
+        if (null == table) {
+            return null;
+        }
+        InsertColumnsSegment insertColumns = parseInsertColumns();
+        if (null == insertColumns || !(acceptKeyword("VALUES") || !postgreSQL && acceptKeyword("VALUE"))) {
+            return null;
+        }
+        InsertStatement result = postgreSQL ? new PostgreSQLInsertStatement() : new MySQLInsertStatement();
+        do {
+            InsertValuesSegment insertValues = parseInsertValues();
+            if (null == insertValues) {
+                return null;
+            }
+            result.getValues().add(insertValues);
+        } while (acceptSymbol(","));
+        result.setTable(table);
+        result.setInsertColumns(insertColumns);
+        return result;
+    }
+    
+    private InsertColumnsSegment parseInsertColumns() {
+        if (!isSymbol("(")) {
+            return null;
+        }
+        FastPathToken leftParen = next();
+        List<ColumnSegment> columns = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column) {
+                return null;
+            }
+            columns.add(column);
+        } while (acceptSymbol(","));
+        if (!isSymbol(")")) {
+            return null;
+        }
+        FastPathToken rightParen = next();
+        // PostgreSQL visitor locates insert columns by the first and last column instead of the parentheses
+        return postgreSQL
+                ? new InsertColumnsSegment(columns.get(0).getStartIndex() - 1, columns.get(columns.size() - 1).getStopIndex() + 1, columns)
+                : new InsertColumnsSegment(leftParen.getStartIndex(), rightParen.getStopIndex(), columns);
+    }
+    
+    private InsertValuesSegment parseInsertValues() {
+        if (!isSymbol("(")) {
+            return null;
+        }
+        FastPathToken leftParen = next();
+        List<ExpressionSegment> values = new LinkedList<>();
+        do {
+            ExpressionSegment value = parseValue();
+            if (null == value) {
+                return null;
+            }
+            values.add(value);
+        } while (acceptSymbol(","));
+        if (!isSymbol(")")) {
+            return null;
+        }
+        return new InsertValuesSegment(leftParen.getStartIndex(), next().getStopIndex(), values);
+    }
+    
+    private UpdateStatement parseUpdate() {
+        SimpleTableSegment table = parseTable();
+        if (null == table || !isKeyword("SET")) {
+            return null;
+        }
+        FastPathToken set = next();
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        do {
+            ColumnAssignmentSegment assignment = parseAssignment();
+            if (null == assignment) {
+                return null;
+            }
+            assignments.add(assignment);
+        } while (acceptSymbol(","));
+        // PostgreSQL visitor locates SET clause by the first assignment
+        int setStartIndex = postgreSQL ? assignments.iterator().next().getStartIndex() - 4 : set.getStartIndex();
+        UpdateStatement result = postgreSQL ? new PostgreSQLUpdateStatement() : new MySQLUpdateStatement();
+        result.setTableSegment(table);
+        result.setSetAssignment(new SetAssignmentSegment(setStartIndex, tokens.get(position - 1).getStopIndex(), assignments));
+        if (isKeyword("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private ColumnAssignmentSegment parseAssignment() {
+        ColumnSegment column = parseColumn();
+        if (null == column || !acceptSymbol("=")) {
+            return null;
+        }
+        ExpressionSegment value = parseValue();
+        if (null == value) {
+            return null;
+        }
+        List<ColumnSegment> columns = new LinkedList<>();
+        columns.add(column);
+        return new ColumnAssignmentSegment(column.getStartIndex(), value.getStopIndex(), columns, value);
+    }
+    
+    private DeleteStatement parseDelete() {
+        if (!acceptKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTable();
+        if (null == table) {
+            return null;
+        }
+        DeleteStatement result = postgreSQL ? new PostgreSQLDeleteStatement() : new MySQLDeleteStatement();
+        result.setTableSegment(table);
+        if (isKeyword("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private SimpleTableSegment parseTable() {
+        FastPathToken first = nextIdentifier();
+        if (null == first) {
+            return null;
+        }
+        if (!acceptSymbol(".")) {
+            return new SimpleTableSegment(new TableNameSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        }
+        FastPathToken second = nextIdentifier();
+        if (null == second) {
+            return null;
+        }
+        SimpleTableSegment result = new SimpleTableSegment(new TableNameSegment(second.getStartIndex(), second.getStopIndex(), new IdentifierValue(second.getText())));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private WhereSegment parseWhere() {
+        FastPathToken where = next();
+        ExpressionSegment expr = parseComparison();
+        while (null != expr && isKeyword("AND")) {
+            FastPathToken and = next();
+            ExpressionSegment right = parseComparison();
+            if (null == right) {
+                return null;
+            }
+            expr = new BinaryOperationExpression(expr.getStartIndex(), right.getStopIndex(), expr, right, and.getText(), getText(expr.getStartIndex(), right.getStopIndex()));
+        }
+        return null == expr ? null : new WhereSegment(where.getStartIndex(), expr.getStopIndex(), expr);
+    }
+    
+    private ExpressionSegment parseComparison() {
+        ColumnSegment column = parseColumn();
+        if (null == column || position >= tokens.size() || FastPathTokenType.SYMBOL != tokens.get(position).getType() || !COMPARISON_OPERATORS.contains(tokens.get(position).getText())) {
+            return null;
+        }
+        String operator = next().getText();
+        ExpressionSegment value = parseValue();
+        if (null == value) {
+            return null;
+        }
+        return new BinaryOperationExpression(column.getStartIndex(), value.getStopIndex(), column, value, operator, getText(column.getStartIndex(), value.getStopIndex()));
+    }
+    
+    private ColumnSegment parseColumn() {
+        FastPathToken identifier = nextIdentifier();
+        return null == identifier ? null : new ColumnSegment(identifier.getStartIndex(), identifier.getStopIndex(), new IdentifierValue(identifier.getText()));
+    }
+    
+    private ExpressionSegment parseValue() {
+        if (position >= tokens.size()) {
+            return null;
+        }
+        FastPathToken token = next();
+        switch (token.getType()) {
+            case QUESTION_MARKER:
+                return createParameterMarker(token, currentParameterIndex++, ParameterMarkerType.QUESTION);
+            case DOLLAR_MARKER:
+                return createDollarParameterMarker(token);
+            case NUMBER:
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+            case STRING:
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new StringLiteralValue(token.getText()).getValue());
+            default:
+                return null;
+        }
+    }
+    
+    private ExpressionSegment createDollarParameterMarker(final FastPathToken token) {
+        if (token.getText().length() > 10) {
+            return null;
+        }
+        int parameterIndex = Integer.parseInt(token.getText().substring(1));
+        if (parameterIndex < 1) {
+            return null;
+        }
+        if (parameterIndex > currentParameterIndex) {
+            currentParameterIndex = parameterIndex;
+        }
+        return createParameterMarker(token, parameterIndex - 1, ParameterMarkerType.DOLLAR);
+    }
+    
+    private ExpressionSegment createParameterMarker(final FastPathToken token, final int parameterIndex, final ParameterMarkerType parameterMarkerType) {
+        ParameterMarkerExpressionSegment result = new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterIndex, parameterMarkerType);
+        parameterMarkerSegments.add(result);
+        return result;
+    }
+    
+    private FastPathToken nextIdentifier() {
+        if (position >= tokens.size()) {
+            return null;
+        }
+        FastPathToken token = tokens.get(position);
+        if (FastPathTokenType.IDENTIFIER != token.getType() || NON_IDENTIFIER_KEYWORDS.contains(token.getText().toUpperCase(Locale.ENGLISH))) {
+            return null;
+        }
+        position++;
+        return token;
+    }
+    
+    private boolean isKeyword(final String keyword) {
+        return position < tokens.size() && tokens.get(position).isKeyword(keyword);
+    }
+    
+    private boolean isSymbol(final String symbol) {
+        return position < tokens.size() && tokens.get(position).isSymbol(symbol);
+    }
+    
+    private boolean acceptKeyword(final String keyword) {
+        if (isKeyword(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean acceptSymbol(final String symbol) {
+        if (isSymbol(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private FastPathToken next() {
+        return tokens.get(position++);
+    }
+    
+    private String getText(final int startIndex, final int stopIndex) {
+        return sql.substring(startIndex, stopIndex + 1);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fastpath;
+
+import org.apache.shardingsphere.sql.parser.sql.common.constant.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLUpdateStatement;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FastPathSQLParserTest {
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(FastPathSQLParser.isSupported("MySQL"));
+        assertTrue(FastPathSQLParser.isSupported("PostgreSQL"));
+        assertFalse(FastPathSQLParser.isSupported("Oracle"));
+    }
+    
+    @Test
+    public void assertParseMySQLSelect() {
+        String sql = "SELECT order_id, status FROM sharding_db.t_order WHERE user_id = ? and order_id >= 10";
+        Optional<SQLStatement> actual = new FastPathSQLParser(sql, "MySQL").parse();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(MySQLSelectStatement.class));
+        MySQLSelectStatement selectStatement = (MySQLSelectStatement) actual.get();
+        assertThat(selectStatement.getParameterCount(), is(1));
+        assertThat(selectStatement.getProjections().getStartIndex(), is(7));
+        assertThat(selectStatement.getProjections().getStopIndex(), is(22));
+        assertThat(selectStatement.getProjections().getProjections().size(), is(2));
+        SimpleTableSegment table = (SimpleTableSegment) selectStatement.getFrom();
+        assertThat(table.getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(table.getOwner().map(each -> each.getIdentifier().getValue()).orElse(null), is("sharding_db"));
+        assertTrue(selectStatement.getWhere().isPresent());
+        assertThat(selectStatement.getWhere().get().getStartIndex(), is(49));
+        BinaryOperationExpression and = (BinaryOperationExpression) selectStatement.getWhere().get().getExpr();
+        assertThat(and.getOperator(), is("and"));
+        assertThat(and.getText(), is("user_id = ? and order_id >= 10"));
+        ParameterMarkerExpressionSegment parameterMarker = (ParameterMarkerExpressionSegment) ((BinaryOperationExpression) and.getLeft()).getRight();
+        assertThat(parameterMarker.getParameterMarkerIndex(), is(0));
+        assertThat(((LiteralExpressionSegment) ((BinaryOperationExpression) and.getRight()).getRight()).getLiterals(), is(10));
+    }
+    
+    @Test
+    public void assertParsePostgreSQLInsert() {
+        String sql = "INSERT INTO t_order (order_id, status) VALUES ($2, 'init'), ($1, 'paid')";
+        Optional<SQLStatement> actual = new FastPathSQLParser(sql, "PostgreSQL").parse();
+        assertTrue(actual.isPresent());
+        PostgreSQLInsertStatement insertStatement = (PostgreSQLInsertStatement) actual.get();
+        assertThat(insertStatement.getParameterCount(), is(2));
+        assertThat(insertStatement.getInsertColumns().get().getStartIndex(), is(20));
+        assertThat(insertStatement.getInsertColumns().get().getStopIndex(), is(37));
+        assertThat(insertStatement.getValues().size(), is(2));
+        ParameterMarkerExpressionSegment parameterMarker = (ParameterMarkerExpressionSegment) insertStatement.getValues().iterator().next().getValues().get(0);
+        assertThat(parameterMarker.getParameterMarkerIndex(), is(1));
+        assertThat(parameterMarker.getParameterMarkerType(), is(ParameterMarkerType.DOLLAR));
+    }
+    
+    @Test
+    public void assertParsePostgreSQLUpdate() {
+        String sql = "UPDATE t_order SET status = 'paid' WHERE order_id = ?";
+        Optional<SQLStatement> actual = new FastPathSQLParser(sql, "PostgreSQL").parse();
+        assertTrue(actual.isPresent());
+        PostgreSQLUpdateStatement updateStatement = (PostgreSQLUpdateStatement) actual.get();
+        assertThat(updateStatement.getSetAssignment().getStartIndex(), is(15));
+        assertThat(updateStatement.getSetAssignment().getStopIndex(), is(33));
+        assertThat(updateStatement.getParameterCount(), is(1));
+    }
+    
+    @Test
+    public void assertParseUnsupportedSQL() {
+        assertFalse(new FastPathSQLParser("SELECT * FROM t_order o WHERE o.order_id = ?", "MySQL").parse().isPresent());
+        assertFalse(new FastPathSQLParser("SELECT * FROM t_order WHERE order_id = ? ORDER BY order_id", "MySQL").parse().isPresent());
+        assertFalse(new FastPathSQLParser("SELECT * FROM t_order WHERE order_id = ? OR user_id = ?", "MySQL").parse().isPresent());
+        assertFalse(new FastPathSQLParser("SELECT * FROM t_order WHERE order_id = -1", "MySQL").parse().isPresent());
+        assertFalse(new FastPathSQLParser("SELECT * FROM t_order WHERE status = 'a\\'b'", "MySQL").parse().isPresent());
+        assertFalse(new FastPathSQLParser("SELECT * FROM t_order /* comment */ WHERE order_id = ?", "MySQL").parse().isPresent());
+        assertFalse(new FastPathSQLParser("SELECT current_timestamp FROM t_order", "PostgreSQL").parse().isPresent());
+        assertFalse(new FastPathSQLParser("DELETE FROM t_order WHERE order_id = ?;", "PostgreSQL").parse().isPresent());
+        assertFalse(new FastPathSQLParser("SHOW TABLES", "MySQL").parse().isPresent());
+    }
+}
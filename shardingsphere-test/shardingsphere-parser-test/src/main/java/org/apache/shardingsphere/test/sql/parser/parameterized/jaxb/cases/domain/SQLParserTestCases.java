@@ -264,9 +264,12 @@ import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.SetVariableStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowAuthorityRuleStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowInstanceStatementTestCase;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowKernelLatencyStatisticsStatementTestCase;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowSQLDigestStatisticsStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowReadwriteSplittingHintStatusStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowReadwriteSplittingReadResourcesStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowSQLParserRuleStatementTestCase;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowSQLParserStatisticsStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowScalingListStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowShardingHintStatusStatementTestCase;
 import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.domain.statement.distsql.ral.ShowTableMetadataStatementTestCase;
@@ -1209,6 +1212,15 @@ public final class SQLParserTestCases {
     @XmlElement(name = "show-sql-parser-rule")
     private final List<ShowSQLParserRuleStatementTestCase> showSQLParserRuleTestCases = new LinkedList<>();
     
+    @XmlElement(name = "show-sql-parser-statistics")
+    private final List<ShowSQLParserStatisticsStatementTestCase> showSQLParserStatisticsTestCases = new LinkedList<>();
+    
+    @XmlElement(name = "show-kernel-latency-statistics")
+    private final List<ShowKernelLatencyStatisticsStatementTestCase> showKernelLatencyStatisticsTestCases = new LinkedList<>();
+    
+    @XmlElement(name = "show-sql-digest-statistics")
+    private final List<ShowSQLDigestStatisticsStatementTestCase> showSQLDigestStatisticsTestCases = new LinkedList<>();
+    
     @XmlElement(name = "show-authority-rule")
     private final List<ShowAuthorityRuleStatementTestCase> showAuthorityRuleTestCases = new LinkedList<>();
     
@@ -1746,6 +1758,9 @@ public final class SQLParserTestCases {
         putAll(delimiterTestCases, result);
         putAll(dropDomainTestCases, result);
         putAll(showSQLParserRuleTestCases, result);
+        putAll(showSQLParserStatisticsTestCases, result);
+        putAll(showKernelLatencyStatisticsTestCases, result);
+        putAll(showSQLDigestStatisticsTestCases, result);
         putAll(createDomainTestCases, result);
         putAll(createRuleTestCases, result);
         putAll(showAuthorityRuleTestCases, result);